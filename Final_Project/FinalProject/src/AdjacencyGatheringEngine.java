@@ -0,0 +1,401 @@
+import java.util.Arrays;
+
+/**
+ * {@code AdjacencyGatheringEngine} counts gatherings on an indexed adjacency structure of the contact graph.
+ * Individuals are mapped to dense indices in the order they first appear and every individual keeps its
+ * neighbours sorted by index, so the individuals completing a triangle with a queued pair are found
+ * by intersecting the two neighbour sets instead of scanning every individual and every pair.
+ * <p>
+ * It expands gatherings exactly like {@link LinkedListGatheringEngine}: pairs are seeded in order,
+ * a pair is only claimed by a gathering seeded before it and individuals are visited in the order they first appear,
+ * so both engines count the same gatherings for the same pairs.
+ * Pairs of an individual with itself are ignored.
+ *
+ * @author Dhrumil Amish Shah (B00857606)
+ * created on 2026-10-17
+ * @version 1.1.0
+ * @see LinkedListGatheringEngine
+ * @since 1.1.0
+ */
+public class AdjacencyGatheringEngine implements GatheringEngine {
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since 1.1.0
+     */
+    @Override
+    public int countGatherings(int[] personOneIds, int[] personTwoIds, int pairCount, int minSize, float density) {
+        final ContactGraph graph = new ContactGraph(personOneIds, personTwoIds, pairCount);
+        return graph.countGatherings(graph.allPairs(), 0, graph.pairCount, minSize, density);
+    }
+
+    /**
+     * {@code ContactGraph} holds the distinct pairs of a date and the neighbour sets of every individual.
+     * Individuals and pairs are identified by dense indices. Pairs keep the order in which they first appear.
+     *
+     * @author Dhrumil Amish Shah (B00857606)
+     * created on 2026-10-17
+     * @version 1.1.0
+     * @see AdjacencyGatheringEngine
+     * @since 1.1.0
+     */
+    static class ContactGraph {
+        // individualCount holds the number of distinct individuals.
+        final int individualCount;
+
+        // pairCount holds the number of distinct pairs.
+        final int pairCount;
+
+        // pairOne and pairTwo hold the individuals of each pair.
+        final int[] pairOne;
+        final int[] pairTwo;
+
+        // neighbourOffsets holds where the neighbours of each individual start in neighbours and neighbourPairs.
+        final int[] neighbourOffsets;
+
+        // neighbours holds the neighbours of each individual sorted by index.
+        final int[] neighbours;
+
+        // neighbourPairs holds the pair connecting each individual to the neighbour at the same position.
+        final int[] neighbourPairs;
+
+        // pairInGathering holds whether each pair is grouped in a gathering already.
+        final boolean[] pairInGathering;
+
+        // individualStamp holds the last gathering (seed pair + 1) each individual was counted in.
+        final int[] individualStamp;
+
+        /**
+         * Constructs this {@code ContactGraph} from the pairs returned by the gathering query.
+         *
+         * @param personOneIds ids of person one of each pair.
+         * @param personTwoIds ids of person two of each pair.
+         * @param rowCount     number of pairs stored in the arrays.
+         */
+        ContactGraph(int[] personOneIds, int[] personTwoIds, int rowCount) {
+            // Map ids to dense indices in the order they first appear and remove duplicate pairs.
+            final IntKeyIndex individualIndex = new IntKeyIndex(rowCount * 2);
+            final IntKeyIndex pairIndex = new IntKeyIndex(rowCount);
+            final int[] one = new int[rowCount];
+            final int[] two = new int[rowCount];
+            int pairs = 0;
+            for (int row = 0; row < rowCount; ++row) {
+                final int a = individualIndex.indexOf(personOneIds[row]);
+                final int b = individualIndex.indexOf(personTwoIds[row]);
+                if (a == b) {
+                    continue;
+                }
+                final long key = a < b ? ((long) a << 32) | b : ((long) b << 32) | a;
+                if (pairIndex.indexOf(key) == pairs) {
+                    one[pairs] = a;
+                    two[pairs] = b;
+                    pairs = pairs + 1;
+                }
+            }
+            this.individualCount = individualIndex.size();
+            this.pairCount = pairs;
+            this.pairOne = one;
+            this.pairTwo = two;
+
+            // Build the neighbour sets. (compressed sparse rows)
+            neighbourOffsets = new int[individualCount + 1];
+            for (int p = 0; p < pairCount; ++p) {
+                neighbourOffsets[pairOne[p] + 1]++;
+                neighbourOffsets[pairTwo[p] + 1]++;
+            }
+            for (int i = 0; i < individualCount; ++i) {
+                neighbourOffsets[i + 1] += neighbourOffsets[i];
+            }
+            final long[] entries = new long[pairCount * 2];
+            final int[] fill = Arrays.copyOf(neighbourOffsets, individualCount);
+            for (int p = 0; p < pairCount; ++p) {
+                entries[fill[pairOne[p]]++] = ((long) pairTwo[p] << 32) | p;
+                entries[fill[pairTwo[p]]++] = ((long) pairOne[p] << 32) | p;
+            }
+            neighbours = new int[entries.length];
+            neighbourPairs = new int[entries.length];
+            for (int i = 0; i < individualCount; ++i) {
+                Arrays.sort(entries, neighbourOffsets[i], neighbourOffsets[i + 1]);
+            }
+            for (int e = 0; e < entries.length; ++e) {
+                neighbours[e] = (int) (entries[e] >>> 32);
+                neighbourPairs[e] = (int) entries[e];
+            }
+
+            pairInGathering = new boolean[pairCount];
+            individualStamp = new int[individualCount];
+        }
+
+        /**
+         * Groups the pairs by connected component.
+         * Pairs of each component keep their ascending order.
+         *
+         * @return pair indices grouped by component followed by the offset of each component,
+         * i.e., {@code {pairs, offsets}} where component {@code c} holds {@code pairs[offsets[c]..offsets[c + 1])}.
+         */
+        int[][] pairsByComponent() {
+            // Union the individuals of every pair.
+            final int[] parent = new int[individualCount];
+            for (int i = 0; i < individualCount; ++i) {
+                parent[i] = i;
+            }
+            for (int p = 0; p < pairCount; ++p) {
+                final int rootOne = root(parent, pairOne[p]);
+                final int rootTwo = root(parent, pairTwo[p]);
+                if (rootOne != rootTwo) {
+                    parent[Math.max(rootOne, rootTwo)] = Math.min(rootOne, rootTwo);
+                }
+            }
+
+            // Number the components and count their pairs.
+            final int[] componentOfRoot = new int[individualCount];
+            Arrays.fill(componentOfRoot, -1);
+            final int[] componentOfPair = new int[pairCount];
+            int componentCount = 0;
+            int[] sizes = new int[16];
+            for (int p = 0; p < pairCount; ++p) {
+                final int root = root(parent, pairOne[p]);
+                if (componentOfRoot[root] == -1) {
+                    componentOfRoot[root] = componentCount;
+                    componentCount = componentCount + 1;
+                    if (componentCount == sizes.length) {
+                        sizes = Arrays.copyOf(sizes, sizes.length * 2);
+                    }
+                }
+                componentOfPair[p] = componentOfRoot[root];
+                sizes[componentOfPair[p]]++;
+            }
+
+            // Counting sort of the pairs by component.
+            final int[] offsets = new int[componentCount + 1];
+            for (int c = 0; c < componentCount; ++c) {
+                offsets[c + 1] = offsets[c] + sizes[c];
+            }
+            final int[] fill = Arrays.copyOf(offsets, componentCount);
+            final int[] pairs = new int[pairCount];
+            for (int p = 0; p < pairCount; ++p) {
+                pairs[fill[componentOfPair[p]]++] = p;
+            }
+            return new int[][]{pairs, offsets};
+        }
+
+        /**
+         * Finds the root of {@code individual} halving the path on the way.
+         *
+         * @param parent     parent of each individual.
+         * @param individual individual.
+         * @return root of the individual.
+         */
+        private static int root(int[] parent, int individual) {
+            while (parent[individual] != individual) {
+                parent[individual] = parent[parent[individual]];
+                individual = parent[individual];
+            }
+            return individual;
+        }
+
+        /**
+         * Gets every pair index in ascending order.
+         *
+         * @return every pair index.
+         */
+        int[] allPairs() {
+            final int[] all = new int[pairCount];
+            for (int p = 0; p < pairCount; ++p) {
+                all[p] = p;
+            }
+            return all;
+        }
+
+        /**
+         * Expands gatherings seeded by {@code seeds[from..to)} and counts the large ones.
+         * Seeds must be in ascending order and contain every pair reachable from them,
+         * e.g., all pairs or all pairs of a connected component.
+         * Calls on disjoint sets of individuals may run concurrently.
+         *
+         * @param seeds   pair indices in ascending order.
+         * @param from    index of the first seed. (inclusive)
+         * @param to      index of the last seed. (exclusive)
+         * @param minSize minimum number of individuals in a gathering.
+         * @param density gathering density.
+         * @return number of gatherings found.
+         */
+        int countGatherings(int[] seeds, int from, int to, int minSize, float density) {
+            final int[] queue = new int[to - from];
+            int totalGatherings = 0;
+
+            for (int s = from; s < to; ++s) {
+                final int seed = seeds[s];
+
+                // Ignore the pair if it is grouped already. (i.e., already part of a gathering)
+                if (pairInGathering[seed]) {
+                    continue;
+                }
+
+                final int stamp = seed + 1;
+                int head = 0;
+                int tail = 0;
+                int totalPairsInGathering = 1;
+                int totalIndividualsInGathering = 2;
+
+                queue[tail++] = seed;
+                pairInGathering[seed] = true;
+                individualStamp[pairOne[seed]] = stamp;
+                individualStamp[pairTwo[seed]] = stamp;
+
+                while (head < tail) {
+                    final int current = queue[head++];
+
+                    // Intersect the neighbour sets of both individuals of the current pair.
+                    int x = neighbourOffsets[pairOne[current]];
+                    final int xEnd = neighbourOffsets[pairOne[current] + 1];
+                    int y = neighbourOffsets[pairTwo[current]];
+                    final int yEnd = neighbourOffsets[pairTwo[current] + 1];
+                    while (x < xEnd && y < yEnd) {
+                        if (neighbours[x] < neighbours[y]) {
+                            x = x + 1;
+                        } else if (neighbours[x] > neighbours[y]) {
+                            y = y + 1;
+                        } else {
+                            final int individual = neighbours[x];
+                            final int pair1 = neighbourPairs[x];
+                            final int pair2 = neighbourPairs[y];
+                            x = x + 1;
+                            y = y + 1;
+
+                            // Only pairs after the seed can join the gathering.
+                            if (pair1 <= seed || pair2 <= seed) {
+                                continue;
+                            }
+
+                            // Add selected individuals and pairs in the gathering
+                            if (!pairInGathering[pair1] && !pairInGathering[pair2]) {
+                                queue[tail++] = pair1;
+                                queue[tail++] = pair2;
+                                pairInGathering[pair1] = true;
+                                pairInGathering[pair2] = true;
+                                totalPairsInGathering = totalPairsInGathering + 2;
+                                if (individualStamp[individual] != stamp) {
+                                    individualStamp[individual] = stamp;
+                                    totalIndividualsInGathering = totalIndividualsInGathering + 1;
+                                }
+                            } else if (!pairInGathering[pair1] || !pairInGathering[pair2]) {
+                                final int pair = pairInGathering[pair1] ? pair2 : pair1;
+                                queue[tail++] = pair;
+                                pairInGathering[pair] = true;
+                                totalPairsInGathering = totalPairsInGathering + 1;
+                            }
+                        }
+                    }
+                }
+
+                // Check whether the gathering is worth reporting.
+                if (totalIndividualsInGathering >= minSize) {
+                    final int totalPossiblePairsInGathering = (totalIndividualsInGathering * (totalIndividualsInGathering - 1)) / 2;
+                    if (((float) totalPairsInGathering) / totalPossiblePairsInGathering >= density) {
+                        totalGatherings = totalGatherings + 1;
+                    }
+                }
+            }
+
+            return totalGatherings;
+        }
+    }
+
+    /**
+     * {@code IntKeyIndex} assigns dense indices to primitive keys in the order they are first seen.
+     * It is an open addressing hash table so no key is boxed.
+     *
+     * @author Dhrumil Amish Shah (B00857606)
+     * created on 2026-10-17
+     * @version 1.1.0
+     * @see ContactGraph
+     * @since 1.1.0
+     */
+    static class IntKeyIndex {
+        private long[] keys;
+        private int[] values;
+        private int size;
+
+        /**
+         * Constructs this {@code IntKeyIndex} sized for {@code expectedKeys} keys.
+         *
+         * @param expectedKeys expected number of keys.
+         */
+        IntKeyIndex(int expectedKeys) {
+            int capacity = 16;
+            while (capacity < expectedKeys * 2) {
+                capacity = capacity << 1;
+            }
+            keys = new long[capacity];
+            values = new int[capacity];
+            Arrays.fill(values, -1);
+        }
+
+        /**
+         * Gets the index of {@code key}, assigning the next index if the key is new.
+         *
+         * @param key key to look up.
+         * @return index of the key.
+         */
+        int indexOf(long key) {
+            int slot = slot(key, keys.length);
+            while (values[slot] != -1) {
+                if (keys[slot] == key) {
+                    return values[slot];
+                }
+                slot = (slot + 1) & (keys.length - 1);
+            }
+            keys[slot] = key;
+            values[slot] = size;
+            size = size + 1;
+            if (size * 2 > keys.length) {
+                grow();
+            }
+            return size - 1;
+        }
+
+        /**
+         * Gets the number of keys.
+         *
+         * @return number of keys.
+         */
+        int size() {
+            return size;
+        }
+
+        /**
+         * Doubles the capacity of the table.
+         */
+        private void grow() {
+            final long[] oldKeys = keys;
+            final int[] oldValues = values;
+            keys = new long[oldKeys.length * 2];
+            values = new int[oldValues.length * 2];
+            Arrays.fill(values, -1);
+            for (int i = 0; i < oldKeys.length; ++i) {
+                if (oldValues[i] != -1) {
+                    int slot = slot(oldKeys[i], keys.length);
+                    while (values[slot] != -1) {
+                        slot = (slot + 1) & (keys.length - 1);
+                    }
+                    keys[slot] = oldKeys[i];
+                    values[slot] = oldValues[i];
+                }
+            }
+        }
+
+        /**
+         * Gets the home slot of {@code key}.
+         *
+         * @param key      key.
+         * @param capacity table capacity. (power of two)
+         * @return home slot of the key.
+         */
+        private static int slot(long key, int capacity) {
+            final long h = key * 0x9E3779B97F4A7C15L;
+            return (int) (h ^ (h >>> 32)) & (capacity - 1);
+        }
+    }
+}
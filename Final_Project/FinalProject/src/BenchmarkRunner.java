@@ -0,0 +1,497 @@
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * {@code BenchmarkRunner} measures the average time per operation of benchmarks the way JMH does in its
+ * {@code AverageTime} mode and writes the results in the JSON format of JMH, so they can be compared across versions
+ * with the usual JMH tools.
+ * <p>
+ * Every benchmark runs once for each combination of the values of its parameters. A trial is set up for the combination,
+ * invoked repeatedly during the warmup iterations and then during the measurement iterations, each iteration lasting
+ * at least the iteration time, and closed. Results returned by the operations are consumed so the JIT compiler cannot
+ * remove them. Trials run in the same JVM, one after the other, on the calling thread.
+ *
+ * @author Dhrumil Amish Shah (B00857606)
+ * created on 2026-10-17
+ * @version 1.1.0
+ * @see ContactTracingBenchmark
+ * @since 1.1.0
+ */
+public class BenchmarkRunner {
+    // warmupIterations, measurementIterations and iterationMillis hold the shape of every trial.
+    private final int warmupIterations;
+    private final int measurementIterations;
+    private final int iterationMillis;
+
+    // parameters holds the values of each parameter.
+    private final Map<String, List<String>> parameters = new LinkedHashMap<>();
+
+    // benchmarks holds the benchmarks registered in the order they run.
+    private final List<Benchmark> benchmarks = new ArrayList<>();
+
+    // sink consumes the results of the operations.
+    private volatile int sink;
+
+    /**
+     * Constructs this {@code BenchmarkRunner}.
+     *
+     * @param warmupIterations      number of iterations run before measuring.
+     * @param measurementIterations number of iterations measured.
+     * @param iterationMillis       minimum duration of an iteration in milliseconds.
+     * @throws IllegalArgumentException if arguments passed are illegal or inappropriate.
+     * @since 1.1.0
+     */
+    public BenchmarkRunner(int warmupIterations, int measurementIterations, int iterationMillis) {
+        // Throw exception if warmupIterations is invalid.
+        if (warmupIterations < 0) {
+            throw new IllegalArgumentException("Invalid argument \"warmupIterations\" - " + warmupIterations + ".");
+        }
+
+        // Throw exception if measurementIterations is invalid.
+        if (measurementIterations < 1) {
+            throw new IllegalArgumentException("Invalid argument \"measurementIterations\" - " + measurementIterations + ".");
+        }
+
+        // Throw exception if iterationMillis is invalid.
+        if (iterationMillis < 1) {
+            throw new IllegalArgumentException("Invalid argument \"iterationMillis\" - " + iterationMillis + ".");
+        }
+
+        this.warmupIterations = warmupIterations;
+        this.measurementIterations = measurementIterations;
+        this.iterationMillis = iterationMillis;
+    }
+
+    /**
+     * Sets the values of the parameter {@code name} used by the benchmarks.
+     *
+     * @param name   name of the parameter.
+     * @param values values of the parameter.
+     * @throws IllegalArgumentException if arguments passed are illegal or inappropriate.
+     * @since 1.1.0
+     */
+    public void setParameter(String name, List<String> values) {
+        // Throw exception if values is invalid.
+        if (values == null || values.isEmpty()) {
+            throw new IllegalArgumentException("Invalid argument \"values\" - \"" + values + "\".");
+        }
+        parameters.put(name, List.copyOf(values));
+    }
+
+    /**
+     * Registers the benchmark {@code name} which runs for each combination of the values of {@code parameterNames}.
+     *
+     * @param name           name of the benchmark.
+     * @param parameterNames names of the parameters of the benchmark, each set by {@link #setParameter(String, List)}.
+     * @param trialFactory   factory of the trial of each combination.
+     * @throws IllegalArgumentException if arguments passed are illegal or inappropriate.
+     * @since 1.1.0
+     */
+    public void addBenchmark(String name, List<String> parameterNames, TrialFactory trialFactory) {
+        // Throw exception if a parameter is not set.
+        for (String parameterName : parameterNames) {
+            if (!parameters.containsKey(parameterName)) {
+                throw new IllegalArgumentException("Invalid argument \"parameterNames\" - \"" + parameterName + "\" is not set.");
+            }
+        }
+        benchmarks.add(new Benchmark(name, List.copyOf(parameterNames), trialFactory));
+    }
+
+    /**
+     * Runs the benchmarks whose name matches {@code include}.
+     *
+     * @param include  regular expression found in the names of the benchmarks to run.
+     * @param progress stream to which the progress is printed.
+     * @return result of each trial.
+     * @throws RuntimeException if a trial fails.
+     * @since 1.1.0
+     */
+    public List<Result> run(String include, PrintStream progress) {
+        final Pattern includePattern = Pattern.compile(include);
+        final List<Result> results = new ArrayList<>();
+        for (Benchmark benchmark : benchmarks) {
+            if (!includePattern.matcher(benchmark.name).find()) {
+                continue;
+            }
+            for (Map<String, String> combination : getCombinations(benchmark.parameterNames)) {
+                progress.println("# Benchmark: " + benchmark.name + " " + combination);
+                try (final Trial trial = benchmark.trialFactory.create(combination)) {
+                    for (int i = 1; i <= warmupIterations; ++i) {
+                        progress.printf("# Warmup Iteration %d: %.3f us/op%n", i, runIteration(trial));
+                    }
+                    final double[] scores = new double[measurementIterations];
+                    for (int i = 0; i < measurementIterations; ++i) {
+                        scores[i] = runIteration(trial);
+                        progress.printf("Iteration %d: %.3f us/op%n", i + 1, scores[i]);
+                    }
+                    results.add(new Result(benchmark.name, combination, scores));
+                } catch (Exception e) {
+                    // Throw exception if the trial fails.
+                    throw new RuntimeException(benchmark.name + " " + combination + ": " + e.getMessage());
+                }
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Invokes the trial repeatedly for at least the iteration time.
+     *
+     * @param trial trial to be invoked.
+     * @return average time per operation in microseconds.
+     * @throws Exception if an operation fails.
+     */
+    private double runIteration(Trial trial) throws Exception {
+        final long iterationNanos = iterationMillis * 1_000_000L;
+        final long start = System.nanoTime();
+        long operations = 0;
+        long elapsed;
+        int consumed = 0;
+        do {
+            final Object result = trial.invoke();
+            consumed = 31 * consumed + (result == null ? 0 : result.hashCode());
+            operations = operations + 1;
+            elapsed = System.nanoTime() - start;
+        } while (elapsed < iterationNanos);
+        sink = sink ^ consumed;
+        return elapsed / 1000.0 / operations;
+    }
+
+    /**
+     * Gets every combination of the values of the parameters {@code parameterNames}, the last parameter changing first.
+     *
+     * @param parameterNames names of the parameters.
+     * @return combinations of the values of the parameters.
+     */
+    private List<Map<String, String>> getCombinations(List<String> parameterNames) {
+        List<Map<String, String>> combinations = List.of(Collections.emptyMap());
+        for (String parameterName : parameterNames) {
+            final List<Map<String, String>> extendedCombinations = new ArrayList<>();
+            for (Map<String, String> combination : combinations) {
+                for (String value : parameters.get(parameterName)) {
+                    final Map<String, String> extendedCombination = new LinkedHashMap<>(combination);
+                    extendedCombination.put(parameterName, value);
+                    extendedCombinations.add(extendedCombination);
+                }
+            }
+            combinations = extendedCombinations;
+        }
+        return combinations;
+    }
+
+    /**
+     * Writes {@code results} to {@code outputFile} in the JSON format of JMH.
+     *
+     * @param results    results of the trials.
+     * @param outputFile file to be written.
+     * @throws RuntimeException if the file cannot be written.
+     * @since 1.1.0
+     */
+    public void writeJson(List<Result> results, Path outputFile) {
+        try {
+            Files.writeString(outputFile, toJson(results), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new RuntimeException(e.getMessage());
+        }
+    }
+
+    /**
+     * Formats {@code results} in the JSON format of JMH.
+     *
+     * @param results results of the trials.
+     * @return JSON array of the results.
+     * @since 1.1.0
+     */
+    public String toJson(List<Result> results) {
+        final StringBuilder json = new StringBuilder("[\n");
+        for (int r = 0; r < results.size(); ++r) {
+            final Result result = results.get(r);
+            json.append("    {\n");
+            json.append("        \"benchmark\" : ").append(quote(result.benchmark)).append(",\n");
+            json.append("        \"mode\" : \"avgt\",\n");
+            json.append("        \"threads\" : 1,\n");
+            json.append("        \"forks\" : 0,\n");
+            json.append("        \"jvm\" : ").append(quote(System.getProperty("java.home"))).append(",\n");
+            json.append("        \"jdkVersion\" : ").append(quote(System.getProperty("java.version"))).append(",\n");
+            json.append("        \"vmName\" : ").append(quote(System.getProperty("java.vm.name"))).append(",\n");
+            json.append("        \"vmVersion\" : ").append(quote(System.getProperty("java.vm.version"))).append(",\n");
+            json.append("        \"warmupIterations\" : ").append(warmupIterations).append(",\n");
+            json.append("        \"warmupTime\" : \"").append(iterationMillis).append(" ms\",\n");
+            json.append("        \"measurementIterations\" : ").append(measurementIterations).append(",\n");
+            json.append("        \"measurementTime\" : \"").append(iterationMillis).append(" ms\",\n");
+            json.append("        \"params\" : {");
+            String separator = "\n";
+            for (Map.Entry<String, String> parameter : result.parameters.entrySet()) {
+                json.append(separator).append("            ").append(quote(parameter.getKey())).append(" : ").append(quote(parameter.getValue()));
+                separator = ",\n";
+            }
+            json.append(result.parameters.isEmpty() ? "},\n" : "\n        },\n");
+            json.append("        \"primaryMetric\" : {\n");
+            json.append("            \"score\" : ").append(number(result.getScore())).append(",\n");
+            json.append("            \"scoreError\" : ").append(number(result.getScoreError())).append(",\n");
+            json.append("            \"scoreConfidence\" : [").append(number(result.getScore() - result.getScoreError()))
+                    .append(", ").append(number(result.getScore() + result.getScoreError())).append("],\n");
+            json.append("            \"scoreUnit\" : \"us/op\",\n");
+            json.append("            \"rawData\" : [[");
+            for (int i = 0; i < result.scores.length; ++i) {
+                json.append(i == 0 ? "" : ", ").append(number(result.scores[i]));
+            }
+            json.append("]]\n");
+            json.append("        },\n");
+            json.append("        \"secondaryMetrics\" : {}\n");
+            json.append(r == results.size() - 1 ? "    }\n" : "    },\n");
+        }
+        return json.append("]\n").toString();
+    }
+
+    /**
+     * Formats {@code value} as a JSON number, or as a JSON string like JMH if it is {@code NaN} or infinite.
+     *
+     * @param value number to be formatted.
+     * @return JSON number or string.
+     */
+    private static String number(double value) {
+        return Double.isFinite(value) ? String.valueOf(value) : quote(String.valueOf(value));
+    }
+
+    /**
+     * Quotes {@code value} as a JSON string.
+     *
+     * @param value string to be quoted.
+     * @return JSON string.
+     */
+    private static String quote(String value) {
+        if (value == null) {
+            return "null";
+        }
+        final StringBuilder quoted = new StringBuilder("\"");
+        for (int i = 0; i < value.length(); ++i) {
+            final char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                quoted.append('\\').append(c);
+            } else if (c < 0x20) {
+                quoted.append(String.format("\\u%04x", (int) c));
+            } else {
+                quoted.append(c);
+            }
+        }
+        return quoted.append('"').toString();
+    }
+
+    /**
+     * {@code Trial} is a benchmark set up for a combination of its parameters.
+     *
+     * @author Dhrumil Amish Shah (B00857606)
+     * created on 2026-10-17
+     * @version 1.1.0
+     * @see BenchmarkRunner
+     * @since 1.1.0
+     */
+    public interface Trial extends AutoCloseable {
+        /**
+         * Runs one operation of the benchmark.
+         *
+         * @return result of the operation, consumed by the runner.
+         * @throws Exception if the operation fails.
+         * @since 1.1.0
+         */
+        Object invoke() throws Exception;
+
+        /**
+         * Releases the resources set up for the trial.
+         *
+         * @throws IOException if the resources cannot be released.
+         * @since 1.1.0
+         */
+        @Override
+        default void close() throws IOException {
+        }
+    }
+
+    /**
+     * {@code TrialFactory} sets up the trial of a benchmark for a combination of its parameters.
+     *
+     * @author Dhrumil Amish Shah (B00857606)
+     * created on 2026-10-17
+     * @version 1.1.0
+     * @see BenchmarkRunner
+     * @since 1.1.0
+     */
+    @FunctionalInterface
+    public interface TrialFactory {
+        /**
+         * Sets up the trial for {@code parameters}.
+         *
+         * @param parameters value of each parameter of the benchmark.
+         * @return trial set up.
+         * @throws Exception if the trial cannot be set up.
+         * @since 1.1.0
+         */
+        Trial create(Map<String, String> parameters) throws Exception;
+    }
+
+    /**
+     * {@code Benchmark} holds a benchmark registered in the runner.
+     *
+     * @author Dhrumil Amish Shah (B00857606)
+     * created on 2026-10-17
+     * @version 1.1.0
+     * @see BenchmarkRunner
+     * @since 1.1.0
+     */
+    private static class Benchmark {
+        // name holds the name of the benchmark.
+        private final String name;
+
+        // parameterNames holds the names of the parameters of the benchmark.
+        private final List<String> parameterNames;
+
+        // trialFactory sets up the trial of each combination of the parameters.
+        private final TrialFactory trialFactory;
+
+        /**
+         * Constructs this {@code Benchmark}.
+         *
+         * @param name           name of the benchmark.
+         * @param parameterNames names of the parameters of the benchmark.
+         * @param trialFactory   factory of the trial of each combination.
+         */
+        private Benchmark(String name, List<String> parameterNames, TrialFactory trialFactory) {
+            this.name = name;
+            this.parameterNames = parameterNames;
+            this.trialFactory = trialFactory;
+        }
+    }
+
+    /**
+     * {@code Result} holds the average time per operation measured in each iteration of a trial.
+     *
+     * @author Dhrumil Amish Shah (B00857606)
+     * created on 2026-10-17
+     * @version 1.1.0
+     * @see BenchmarkRunner
+     * @since 1.1.0
+     */
+    public static class Result {
+        // benchmark and parameters identify the trial.
+        private final String benchmark;
+        private final Map<String, String> parameters;
+
+        // scores holds the average time per operation of each measurement iteration in microseconds.
+        private final double[] scores;
+
+        /**
+         * Constructs this {@code Result}.
+         *
+         * @param benchmark  name of the benchmark.
+         * @param parameters value of each parameter of the trial.
+         * @param scores     average time per operation of each measurement iteration in microseconds.
+         */
+        Result(String benchmark, Map<String, String> parameters, double[] scores) {
+            this.benchmark = benchmark;
+            this.parameters = parameters;
+            this.scores = scores;
+        }
+
+        /**
+         * Gets the name of the benchmark.
+         *
+         * @return name of the benchmark.
+         * @since 1.1.0
+         */
+        public String getBenchmark() {
+            return benchmark;
+        }
+
+        /**
+         * Gets the value of each parameter of the trial.
+         *
+         * @return value of each parameter.
+         * @since 1.1.0
+         */
+        public Map<String, String> getParameters() {
+            return Collections.unmodifiableMap(parameters);
+        }
+
+        /**
+         * Gets the mean of the average times per operation of the measurement iterations.
+         *
+         * @return mean time per operation in microseconds.
+         * @since 1.1.0
+         */
+        public double getScore() {
+            double sum = 0;
+            for (double score : scores) {
+                sum = sum + score;
+            }
+            return sum / scores.length;
+        }
+
+        /**
+         * Gets the half width of the 99.9% confidence interval of the score, as reported by JMH.
+         * Student's t quantiles are taken from a table up to 11 iterations and computed from the normal quantile beyond.
+         *
+         * @return error of the score in microseconds, {@code NaN} if there is a single iteration.
+         * @since 1.1.0
+         */
+        public double getScoreError() {
+            if (scores.length < 2) {
+                return Double.NaN;
+            }
+            final double mean = getScore();
+            double squares = 0;
+            for (double score : scores) {
+                squares = squares + (score - mean) * (score - mean);
+            }
+            final double standardDeviation = Math.sqrt(squares / (scores.length - 1));
+            final int degreesOfFreedom = scores.length - 1;
+            return getTQuantile(degreesOfFreedom) * standardDeviation / Math.sqrt(scores.length);
+        }
+
+        /**
+         * Gets the two-sided 99.9% quantile of Student's t distribution with {@code degreesOfFreedom} degrees of freedom.
+         * Beyond the table the Cornish-Fisher expansion of the normal quantile is used, within 0.001 of the exact quantile.
+         *
+         * @param degreesOfFreedom degrees of freedom, at least 1.
+         * @return quantile of the distribution.
+         */
+        private static double getTQuantile(int degreesOfFreedom) {
+            if (degreesOfFreedom < ResultConstant.T_QUANTILES.length) {
+                return ResultConstant.T_QUANTILES[degreesOfFreedom];
+            }
+            final double z = ResultConstant.NORMAL_QUANTILE;
+            final double z2 = z * z;
+            final double g1 = (z2 + 1) * z / 4;
+            final double g2 = ((5 * z2 + 16) * z2 + 3) * z / 96;
+            final double g3 = (((3 * z2 + 19) * z2 + 17) * z2 - 15) * z / 384;
+            final double g4 = ((((79 * z2 + 776) * z2 + 1482) * z2 - 1920) * z2 - 945) * z / 92160;
+            final double v = degreesOfFreedom;
+            return z + g1 / v + g2 / (v * v) + g3 / (v * v * v) + g4 / (v * v * v * v);
+        }
+
+        /**
+         * {@code ResultConstant} holds all the constants used by {@code Result}.
+         *
+         * @author Dhrumil Amish Shah (B00857606)
+         * created on 2026-10-17
+         * @version 1.1.0
+         * @see Result
+         * @since 1.1.0
+         */
+        private static class ResultConstant {
+            // T_QUANTILES holds the two-sided 99.9% quantile of Student's t distribution by degrees of freedom.
+            private static final double[] T_QUANTILES = {Double.NaN, 636.619, 31.599, 12.924, 8.610, 6.869, 5.959, 5.408, 5.041, 4.781, 4.587};
+            // NORMAL_QUANTILE holds the two-sided 99.9% quantile of the standard normal distribution.
+            private static final double NORMAL_QUANTILE = 3.2905267314919255;
+        }
+    }
+}
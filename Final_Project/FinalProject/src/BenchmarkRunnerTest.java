@@ -0,0 +1,206 @@
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+@DisplayName("Benchmark runner test")
+public class BenchmarkRunnerTest {
+    @DisplayName("Run every combination of the parameters and write JMH results")
+    @Test
+    public void runCombinations() {
+        final BenchmarkRunner benchmarkRunner = new BenchmarkRunner(1, 3, 5);
+        benchmarkRunner.setParameter("size", List.of("1", "2"));
+        benchmarkRunner.setParameter("name", List.of("a\"b"));
+        benchmarkRunner.addBenchmark("Test.concat", List.of("size", "name"), parameters -> {
+            final int size = Integer.parseInt(parameters.get("size"));
+            return () -> parameters.get("name").repeat(size);
+        });
+        benchmarkRunner.addBenchmark("Other.skipped", List.of(), parameters -> Assertions::fail);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> benchmarkRunner.addBenchmark("Test.unknown", List.of("unknown"), parameters -> null));
+
+        final List<BenchmarkRunner.Result> results = benchmarkRunner.run("^Test\\.", new PrintStream(new ByteArrayOutputStream()));
+        Assertions.assertEquals(2, results.size());
+        Assertions.assertEquals("2", results.get(1).getParameters().get("size"));
+        Assertions.assertTrue(results.get(0).getScore() > 0);
+        Assertions.assertTrue(results.get(0).getScoreError() >= 0);
+
+        final String json = benchmarkRunner.toJson(results);
+        Assertions.assertTrue(json.startsWith("[\n    {\n        \"benchmark\" : \"Test.concat\""));
+        Assertions.assertTrue(json.contains("\"mode\" : \"avgt\""));
+        Assertions.assertTrue(json.contains("\"name\" : \"a\\\"b\""));
+        Assertions.assertTrue(json.contains("\"scoreUnit\" : \"us/op\""));
+        Assertions.assertTrue(json.trim().endsWith("]"));
+    }
+
+    @DisplayName("Every contact tracing benchmark runs")
+    @Test
+    public void contactTracingBenchmarks() {
+        final Properties benchmarkProperties = new Properties();
+        benchmarkProperties.setProperty("warmupIterations", "0");
+        benchmarkProperties.setProperty("measurementIterations", "1");
+        benchmarkProperties.setProperty("iterationTime", "1");
+        benchmarkProperties.setProperty("contactsPerSync", "5");
+        benchmarkProperties.setProperty("graphDensity", "0.1");
+        benchmarkProperties.setProperty("gatheringPeople", "50");
+        benchmarkProperties.setProperty("gatheringEngine", "adjacency,parallel,linkedList");
+        benchmarkProperties.setProperty("durability", "buffered");
+        final BenchmarkRunner benchmarkRunner = ContactTracingBenchmark.createRunner(benchmarkProperties);
+        final List<BenchmarkRunner.Result> results = benchmarkRunner.run("", new PrintStream(new ByteArrayOutputStream()));
+        Assertions.assertEquals(11, results.size());
+        Assertions.assertEquals(11, ((List<?>) new JsonParser(benchmarkRunner.toJson(results)).parse()).size());
+    }
+
+    @DisplayName("Write valid JSON with the error of a single iteration quoted like JMH")
+    @Test
+    public void parseJson() {
+        final BenchmarkRunner benchmarkRunner = new BenchmarkRunner(0, 1, 1);
+        benchmarkRunner.setParameter("size", List.of("1", "2"));
+        benchmarkRunner.addBenchmark("Test.repeat", List.of("size"), parameters -> () -> "a".repeat(Integer.parseInt(parameters.get("size"))));
+        final List<BenchmarkRunner.Result> results = benchmarkRunner.run("", new PrintStream(new ByteArrayOutputStream()));
+
+        final List<?> json = (List<?>) new JsonParser(benchmarkRunner.toJson(results)).parse();
+        Assertions.assertEquals(2, json.size());
+        for (int r = 0; r < json.size(); ++r) {
+            final Map<?, ?> result = (Map<?, ?>) json.get(r);
+            Assertions.assertEquals("Test.repeat", result.get("benchmark"));
+            Assertions.assertEquals(String.valueOf(r + 1), ((Map<?, ?>) result.get("params")).get("size"));
+            final Map<?, ?> primaryMetric = (Map<?, ?>) result.get("primaryMetric");
+            Assertions.assertEquals(results.get(r).getScore(), (Double) primaryMetric.get("score"));
+            Assertions.assertEquals("NaN", primaryMetric.get("scoreError"));
+            Assertions.assertEquals(List.of("NaN", "NaN"), primaryMetric.get("scoreConfidence"));
+            Assertions.assertEquals(1, ((List<?>) ((List<?>) primaryMetric.get("rawData")).get(0)).size());
+        }
+    }
+
+    @DisplayName("Score error uses Student's t quantile for any number of iterations")
+    @Test
+    public void scoreError() {
+        // Two-sided 99.9% quantiles of Student's t distribution for 2, 11, 13, 31 and 121 iterations.
+        final int[] iterations = {2, 11, 13, 31, 121};
+        final double[] quantiles = {636.619, 4.587, 4.318, 3.646, 3.373};
+        for (int i = 0; i < iterations.length; ++i) {
+            final double[] scores = new double[iterations[i]];
+            for (int j = 0; j < scores.length; ++j) {
+                scores[j] = j % 2 == 0 ? 1 : 3;
+            }
+            final BenchmarkRunner.Result result = new BenchmarkRunner.Result("Test.error", Map.of(), scores);
+            double squares = 0;
+            for (double score : scores) {
+                squares = squares + (score - result.getScore()) * (score - result.getScore());
+            }
+            final double standardError = Math.sqrt(squares / (scores.length - 1)) / Math.sqrt(scores.length);
+            Assertions.assertEquals(quantiles[i], result.getScoreError() / standardError, 1e-3, "iterations " + iterations[i]);
+        }
+        Assertions.assertTrue(Double.isNaN(new BenchmarkRunner.Result("Test.error", Map.of(), new double[]{1}).getScoreError()));
+    }
+
+    /**
+     * Parses the JSON values written by the runner into maps, lists, strings, doubles and nulls.
+     */
+    private static class JsonParser {
+        private final String json;
+        private int position;
+
+        private JsonParser(String json) {
+            this.json = json;
+        }
+
+        private Object parse() {
+            final Object value = parseValue();
+            skipWhitespace();
+            Assertions.assertEquals(json.length(), position, "trailing data");
+            return value;
+        }
+
+        private Object parseValue() {
+            skipWhitespace();
+            final char c = json.charAt(position);
+            if (c == '{') {
+                final Map<String, Object> object = new LinkedHashMap<>();
+                position = position + 1;
+                skipWhitespace();
+                if (json.charAt(position) == '}') {
+                    position = position + 1;
+                    return object;
+                }
+                do {
+                    skipWhitespace();
+                    final String key = parseString();
+                    skipWhitespace();
+                    expect(':');
+                    object.put(key, parseValue());
+                    skipWhitespace();
+                } while (next() == ',');
+                Assertions.assertEquals('}', json.charAt(position - 1));
+                return object;
+            }
+            if (c == '[') {
+                final List<Object> array = new ArrayList<>();
+                position = position + 1;
+                skipWhitespace();
+                if (json.charAt(position) == ']') {
+                    position = position + 1;
+                    return array;
+                }
+                do {
+                    array.add(parseValue());
+                    skipWhitespace();
+                } while (next() == ',');
+                Assertions.assertEquals(']', json.charAt(position - 1));
+                return array;
+            }
+            if (c == '"') {
+                return parseString();
+            }
+            if (json.startsWith("null", position)) {
+                position = position + 4;
+                return null;
+            }
+            final int start = position;
+            while (position < json.length() && "+-.0123456789eE".indexOf(json.charAt(position)) >= 0) {
+                position = position + 1;
+            }
+            Assertions.assertTrue(position > start, "value expected at " + start);
+            return Double.parseDouble(json.substring(start, position));
+        }
+
+        private String parseString() {
+            expect('"');
+            final StringBuilder value = new StringBuilder();
+            for (char c = next(); c != '"'; c = next()) {
+                if (c == '\\') {
+                    c = next();
+                    if (c == 'u') {
+                        c = (char) Integer.parseInt(json.substring(position, position + 4), 16);
+                        position = position + 4;
+                    }
+                }
+                value.append(c);
+            }
+            return value.toString();
+        }
+
+        private void expect(char expected) {
+            Assertions.assertEquals(expected, next(), "at " + position);
+        }
+
+        private char next() {
+            final char c = json.charAt(position);
+            position = position + 1;
+            return c;
+        }
+
+        private void skipWhitespace() {
+            while (position < json.length() && Character.isWhitespace(json.charAt(position))) {
+                position = position + 1;
+            }
+        }
+    }
+}
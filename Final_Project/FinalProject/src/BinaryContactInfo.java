@@ -0,0 +1,478 @@
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * {@code BinaryContactInfo} defines the compact binary format of the contact information sent by
+ * {@code MobileDevice.synchronizeData()}, an alternative to the XML string.
+ * A payload starts with the magic bytes {@code CT} and the format version, followed by the contacts section
+ * and the test hashes section. Version 2 adds the sequence number of the last record sent by the device after the version,
+ * payloads without a sequence number are still written in version 1. Each section is prefixed by its length in bytes and holds the number of records
+ * followed by the records. A contact is the individual hash, the number of days since January 1, 2021 and the duration,
+ * a test hash section holds the positive test hashes.
+ * Numbers are unsigned variable length integers of 7 bits per byte. (least significant group first)
+ * Hashes of 64 lowercase hexadecimal digits, such as the SHA-256 device hashes, are sent as 32 raw bytes after a 0 header,
+ * any other hash is sent as its UTF-8 bytes after a header holding the number of bytes plus 1.
+ *
+ * @author Dhrumil Amish Shah (B00857606)
+ * created on 2026-10-17
+ * @version 1.1.0
+ * @see Government#mobileContactBinary(String, byte[])
+ * @see MobileDevice
+ * @since 1.1.0
+ */
+public class BinaryContactInfo {
+    // Magic bytes and version starting every payload.
+    private static final byte[] HEADER = {'C', 'T', 1};
+
+    // Version of the payloads holding a sequence number.
+    private static final byte SEQUENCE_VERSION = 2;
+
+    // Number of raw bytes of a hexadecimal hash.
+    private static final int RAW_HASH_LENGTH = 32;
+
+    // Lowercase hexadecimal digits.
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    private BinaryContactInfo() {
+    }
+
+    /**
+     * {@code Writer} builds a binary contact information payload.
+     *
+     * @author Dhrumil Amish Shah (B00857606)
+     * created on 2026-10-17
+     * @version 1.1.0
+     * @see BinaryContactInfo
+     * @since 1.1.0
+     */
+    public static class Writer {
+        private final ByteArrayOutputStream contacts = new ByteArrayOutputStream();
+        private final ByteArrayOutputStream testHashes = new ByteArrayOutputStream();
+        private int contactCount;
+        private int testHashCount;
+        private long sequence;
+
+        /**
+         * Sets the sequence number of the last record of the payload.
+         *
+         * @param sequence sequence number, 0 if the records are not numbered.
+         * @return this {@code Writer}.
+         * @throws IllegalArgumentException if arguments passed are illegal or inappropriate.
+         * @since 1.1.0
+         */
+        public Writer setSequence(long sequence) {
+            // Throw exception if sequence is invalid.
+            if (sequence < 0) {
+                throw new IllegalArgumentException("Invalid argument \"sequence\" - " + sequence + ".");
+            }
+            this.sequence = sequence;
+            return this;
+        }
+
+        /**
+         * Adds a contact to the payload.
+         *
+         * @param individual alphanumeric string of the device in contact.
+         * @param date       number of days since January 1, 2021.
+         * @param duration   number of minutes for which devices contacted.
+         * @return this {@code Writer}.
+         * @throws IllegalArgumentException if arguments passed are illegal or inappropriate.
+         * @since 1.1.0
+         */
+        public Writer addContact(String individual, int date, int duration) {
+            // Throw exception if individual is invalid.
+            if (individual == null || individual.isEmpty()) {
+                throw new IllegalArgumentException("Invalid argument \"individual\". - \"" + individual + "\".");
+            }
+
+            // Throw exception if date is invalid.
+            if (date < 0 || date > ContactStore.MAX_CONTACT_DATE) {
+                throw new IllegalArgumentException("Invalid argument \"date\" - " + date + ".");
+            }
+
+            // Throw exception if duration is invalid.
+            if (duration <= 0) {
+                throw new IllegalArgumentException("Invalid argument \"duration\" - " + duration + ".");
+            }
+
+            writeHash(contacts, individual);
+            writeVarInt(contacts, date);
+            writeVarInt(contacts, duration);
+            contactCount = contactCount + 1;
+            return this;
+        }
+
+        /**
+         * Adds a positive test hash to the payload.
+         *
+         * @param testHash alphanumeric string that identifies the positive COVID-19 test.
+         * @return this {@code Writer}.
+         * @throws IllegalArgumentException if arguments passed are illegal or inappropriate.
+         * @since 1.1.0
+         */
+        public Writer addTestHash(String testHash) {
+            // Throw exception if testHash is invalid.
+            if (testHash == null || testHash.isEmpty()) {
+                throw new IllegalArgumentException("Invalid argument \"testHash\". - \"" + testHash + "\".");
+            }
+
+            writeHash(testHashes, testHash);
+            testHashCount = testHashCount + 1;
+            return this;
+        }
+
+        /**
+         * Gets the payload of the contacts and test hashes added.
+         *
+         * @return binary contact information.
+         * @since 1.1.0
+         */
+        public byte[] toByteArray() {
+            final ByteArrayOutputStream payload = new ByteArrayOutputStream(HEADER.length + contacts.size() + testHashes.size() + 20);
+            if (sequence == 0) {
+                payload.write(HEADER, 0, HEADER.length);
+            } else {
+                payload.write(HEADER, 0, HEADER.length - 1);
+                payload.write(SEQUENCE_VERSION);
+                writeVarLong(payload, sequence);
+            }
+            writeSection(payload, contactCount, contacts);
+            writeSection(payload, testHashCount, testHashes);
+            return payload.toByteArray();
+        }
+
+        /**
+         * Writes a section of {@code count} records prefixed by its length.
+         *
+         * @param payload payload to be written.
+         * @param count   number of records of the section.
+         * @param records records of the section.
+         */
+        private static void writeSection(ByteArrayOutputStream payload, int count, ByteArrayOutputStream records) {
+            final ByteArrayOutputStream countBytes = new ByteArrayOutputStream(5);
+            writeVarInt(countBytes, count);
+            writeVarInt(payload, countBytes.size() + records.size());
+            payload.write(countBytes.toByteArray(), 0, countBytes.size());
+            payload.write(records.toByteArray(), 0, records.size());
+        }
+
+        /**
+         * Writes a hash, as raw bytes if it is made of 64 lowercase hexadecimal digits.
+         *
+         * @param out  stream to be written.
+         * @param hash hash to be written.
+         */
+        private static void writeHash(ByteArrayOutputStream out, String hash) {
+            if (isHexHash(hash)) {
+                out.write(0);
+                for (int i = 0; i < hash.length(); i += 2) {
+                    out.write(Character.digit(hash.charAt(i), 16) << 4 | Character.digit(hash.charAt(i + 1), 16));
+                }
+                return;
+            }
+            final byte[] bytes = hash.getBytes(StandardCharsets.UTF_8);
+            writeVarInt(out, bytes.length + 1);
+            out.write(bytes, 0, bytes.length);
+        }
+
+        /**
+         * Checks if {@code hash} is made of 64 lowercase hexadecimal digits.
+         *
+         * @param hash hash to be checked.
+         * @return {@code true} if the hash can be sent as raw bytes otherwise {@code false}.
+         */
+        private static boolean isHexHash(String hash) {
+            if (hash.length() != RAW_HASH_LENGTH * 2) {
+                return false;
+            }
+            for (int i = 0; i < hash.length(); ++i) {
+                final char c = hash.charAt(i);
+                if ((c < '0' || c > '9') && (c < 'a' || c > 'f')) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Writes a non-negative integer as a variable length integer.
+         *
+         * @param out   stream to be written.
+         * @param value non-negative integer.
+         */
+        private static void writeVarInt(ByteArrayOutputStream out, int value) {
+            writeVarLong(out, value);
+        }
+
+        /**
+         * Writes a non-negative long integer as a variable length integer.
+         *
+         * @param out   stream to be written.
+         * @param value non-negative long integer.
+         */
+        private static void writeVarLong(ByteArrayOutputStream out, long value) {
+            while ((value & ~0x7FL) != 0) {
+                out.write((int) (value & 0x7F) | 0x80);
+                value = value >>> 7;
+            }
+            out.write((int) value);
+        }
+    }
+
+    /**
+     * {@code Reader} reads a binary contact information payload one record at a time,
+     * returning the same records as {@link ContactInfoReader}.
+     *
+     * @author Dhrumil Amish Shah (B00857606)
+     * created on 2026-10-17
+     * @version 1.1.0
+     * @see BinaryContactInfo
+     * @see ContactInfoReader
+     * @since 1.1.0
+     */
+    public static class Reader {
+        private final byte[] payload;
+        private int position;
+
+        // Records left in the sections and end of the section being read. (-1 outside of a section)
+        private int contactsLeft;
+        private int testHashesLeft;
+        private int sectionEnd = -1;
+        private boolean testHashesSectionRead;
+
+        // sequence holds the sequence number of the payload, 0 if it has none.
+        private long sequence;
+
+        // Values of the record read last.
+        private String testHash;
+        private String individual;
+        private int date;
+        private int duration;
+
+        /**
+         * Constructs this {@code Reader} reading {@code contactInfo}.
+         *
+         * @param contactInfo binary contact information.
+         * @throws IllegalArgumentException if arguments passed are illegal or inappropriate.
+         * @throws IOException              if the payload does not start with the magic bytes and the supported version.
+         * @since 1.1.0
+         */
+        public Reader(byte[] contactInfo) throws IOException {
+            // Throw exception if contactInfo is invalid.
+            if (contactInfo == null) {
+                throw new IllegalArgumentException("Invalid argument \"contactInfo\" - \"null\".");
+            }
+            payload = contactInfo;
+
+            // Throw exception if the payload is not a supported binary contact information.
+            if (payload.length < HEADER.length) {
+                throw new EOFException("Truncated binary contact information.");
+            }
+            for (int i = 0; i < HEADER.length - 1; ++i) {
+                if (payload[i] != HEADER[i]) {
+                    throw new IOException("Unsupported binary contact information.");
+                }
+            }
+            final byte version = payload[HEADER.length - 1];
+            if (version != HEADER[HEADER.length - 1] && version != SEQUENCE_VERSION) {
+                throw new IOException("Unsupported binary contact information.");
+            }
+            position = HEADER.length;
+            if (version == SEQUENCE_VERSION) {
+                sequence = readVarLong();
+            }
+
+            // Open the contacts section.
+            contactsLeft = openSection();
+        }
+
+        /**
+         * Reads the next record of the payload.
+         *
+         * @return {@link ContactInfoReader#TEST_HASH} or {@link ContactInfoReader#CONTACT} for the record read,
+         * {@link ContactInfoReader#END} when there are no more records.
+         * @throws IOException if the payload is truncated or malformed.
+         * @since 1.1.0
+         */
+        public int next() throws IOException {
+            if (contactsLeft > 0) {
+                individual = readHash();
+                date = readVarInt();
+                duration = readVarInt();
+
+                // Throw exception if date or duration is out of range.
+                if (date > ContactStore.MAX_CONTACT_DATE || duration <= 0) {
+                    throw new IOException("Invalid binary contact information contact.");
+                }
+                contactsLeft = contactsLeft - 1;
+                if (contactsLeft == 0) {
+                    closeSection();
+                }
+                return ContactInfoReader.CONTACT;
+            }
+
+            // Open the test hashes section once all the contacts are read.
+            if (!testHashesSectionRead) {
+                testHashesSectionRead = true;
+                testHashesLeft = openSection();
+            }
+            if (testHashesLeft > 0) {
+                testHash = readHash();
+                testHashesLeft = testHashesLeft - 1;
+                if (testHashesLeft == 0) {
+                    closeSection();
+                }
+                return ContactInfoReader.TEST_HASH;
+            }
+
+            // Throw exception if anything follows the sections.
+            if (position != payload.length) {
+                throw new IOException("Unexpected data after the binary contact information.");
+            }
+            return ContactInfoReader.END;
+        }
+
+        /**
+         * Reads the length and the number of records of the next section.
+         *
+         * @return number of records of the section.
+         * @throws IOException if the payload is truncated or malformed.
+         */
+        private int openSection() throws IOException {
+            final int length = readVarInt();
+            if (length > payload.length - position) {
+                throw new EOFException("Truncated binary contact information.");
+            }
+            sectionEnd = position + length;
+            final int count = readVarInt();
+            if (count == 0) {
+                closeSection();
+            }
+            return count;
+        }
+
+        /**
+         * Checks that the current section is read up to its length.
+         *
+         * @throws IOException if the records do not match the length of the section.
+         */
+        private void closeSection() throws IOException {
+            if (position != sectionEnd) {
+                throw new IOException("Invalid binary contact information section length.");
+            }
+            sectionEnd = -1;
+        }
+
+        /**
+         * Reads a hash, raw bytes are returned as 64 lowercase hexadecimal digits.
+         *
+         * @return hash read.
+         * @throws IOException if the payload is truncated or malformed.
+         */
+        private String readHash() throws IOException {
+            final int header = readVarInt();
+            if (header == 0) {
+                checkAvailable(RAW_HASH_LENGTH);
+                final char[] digits = new char[RAW_HASH_LENGTH * 2];
+                for (int i = 0; i < RAW_HASH_LENGTH; ++i) {
+                    final int b = payload[position + i] & 0xFF;
+                    digits[i * 2] = HEX_DIGITS[b >>> 4];
+                    digits[i * 2 + 1] = HEX_DIGITS[b & 0x0F];
+                }
+                position = position + RAW_HASH_LENGTH;
+                return new String(digits);
+            }
+            checkAvailable(header - 1);
+            final String hash = new String(payload, position, header - 1, StandardCharsets.UTF_8);
+            position = position + header - 1;
+            return hash;
+        }
+
+        /**
+         * Reads a non-negative variable length integer.
+         *
+         * @return integer read.
+         * @throws IOException if the payload is truncated or the integer does not fit.
+         */
+        private int readVarInt() throws IOException {
+            final long value = readVarLong();
+            if (value > Integer.MAX_VALUE) {
+                throw new IOException("Invalid binary contact information number.");
+            }
+            return (int) value;
+        }
+
+        /**
+         * Reads a non-negative variable length long integer.
+         *
+         * @return long integer read.
+         * @throws IOException if the payload is truncated or the integer does not fit.
+         */
+        private long readVarLong() throws IOException {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                checkAvailable(1);
+                final int b = payload[position];
+                position = position + 1;
+                value = value | (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    if (value < 0) {
+                        throw new IOException("Invalid binary contact information number.");
+                    }
+                    return value;
+                }
+            }
+            throw new IOException("Invalid binary contact information number.");
+        }
+
+        /**
+         * Checks that {@code count} bytes are left in the current section, or in the payload outside of a section.
+         *
+         * @param count number of bytes to be read.
+         * @throws EOFException if the bytes are not available.
+         */
+        private void checkAvailable(int count) throws EOFException {
+            final int end = sectionEnd >= 0 ? sectionEnd : payload.length;
+            if (count > end - position) {
+                throw new EOFException("Truncated binary contact information.");
+            }
+        }
+
+        /**
+         * @return sequence number of the last record sent by the device, 0 if the device sent none.
+         */
+        public long getSequence() {
+            return sequence;
+        }
+
+        /**
+         * @return positive test hash read last.
+         */
+        public String getTestHash() {
+            return testHash;
+        }
+
+        /**
+         * @return alphanumeric string of the device in the contact read last.
+         */
+        public String getIndividual() {
+            return individual;
+        }
+
+        /**
+         * @return number of days since January 1, 2021 of the contact read last.
+         */
+        public int getDate() {
+            return date;
+        }
+
+        /**
+         * @return number of minutes of the contact read last.
+         */
+        public int getDuration() {
+            return duration;
+        }
+    }
+}
@@ -0,0 +1,106 @@
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+@DisplayName("Binary contact info test")
+public class BinaryContactInfoTest {
+    private static final String DEVICE_HASH = "6c814daa4459d16a83308ae1a22024dc70f7e9972fce2f58e661ddbcb87d7121";
+
+    @DisplayName("Read contacts and test hashes written in the binary format")
+    @Test
+    public void roundTrip() throws IOException {
+        final byte[] payload = new BinaryContactInfo.Writer()
+                .addContact(DEVICE_HASH, 5, 10)
+                .addContact("b2", 300, 7)
+                .addTestHash("t1")
+                .addTestHash(DEVICE_HASH.toUpperCase())
+                .toByteArray();
+
+        final BinaryContactInfo.Reader reader = new BinaryContactInfo.Reader(payload);
+        Assertions.assertEquals(ContactInfoReader.CONTACT, reader.next());
+        Assertions.assertEquals(DEVICE_HASH, reader.getIndividual());
+        Assertions.assertEquals(5, reader.getDate());
+        Assertions.assertEquals(10, reader.getDuration());
+
+        Assertions.assertEquals(ContactInfoReader.CONTACT, reader.next());
+        Assertions.assertEquals("b2", reader.getIndividual());
+        Assertions.assertEquals(300, reader.getDate());
+        Assertions.assertEquals(7, reader.getDuration());
+
+        // Hashes which are not lowercase hexadecimal are sent as they are.
+        Assertions.assertEquals(ContactInfoReader.TEST_HASH, reader.next());
+        Assertions.assertEquals("t1", reader.getTestHash());
+        Assertions.assertEquals(ContactInfoReader.TEST_HASH, reader.next());
+        Assertions.assertEquals(DEVICE_HASH.toUpperCase(), reader.getTestHash());
+
+        Assertions.assertEquals(ContactInfoReader.END, reader.next());
+        Assertions.assertEquals(0, reader.getSequence());
+
+        // Sequence numbers are written in version 2.
+        final byte[] sequenced = new BinaryContactInfo.Writer().setSequence(300_000_000_000L).addTestHash("t1").toByteArray();
+        final BinaryContactInfo.Reader sequencedReader = new BinaryContactInfo.Reader(sequenced);
+        Assertions.assertEquals(2, sequenced[2]);
+        Assertions.assertEquals(300_000_000_000L, sequencedReader.getSequence());
+        Assertions.assertEquals(ContactInfoReader.TEST_HASH, sequencedReader.next());
+        Assertions.assertEquals(ContactInfoReader.END, sequencedReader.next());
+    }
+
+    @DisplayName("Binary format is smaller than the XML string")
+    @Test
+    public void compactPayload() throws IOException {
+        final String contactInfoXML = "<MobileDevice><ContactsList>" +
+                "<Contact><Individual>" + DEVICE_HASH + "</Individual><Date>120</Date><Duration>15</Duration></Contact>" +
+                "</ContactsList><TestHashesList></TestHashesList></MobileDevice>";
+        final byte[] payload = new BinaryContactInfo.Writer().addContact(DEVICE_HASH, 120, 15).toByteArray();
+
+        // Header, contacts section length and count, raw hash with its header, date, duration and empty test hashes section.
+        Assertions.assertEquals(3 + 2 + 33 + 1 + 1 + 2, payload.length);
+        Assertions.assertTrue(payload.length * 4 < contactInfoXML.getBytes(StandardCharsets.UTF_8).length);
+
+        // Empty payload has no records.
+        Assertions.assertEquals(ContactInfoReader.END, new BinaryContactInfo.Reader(new BinaryContactInfo.Writer().toByteArray()).next());
+    }
+
+    @DisplayName("Reject truncated and malformed payloads")
+    @Test
+    public void rejectInvalidPayload() throws IOException {
+        final byte[] payload = new BinaryContactInfo.Writer().addContact(DEVICE_HASH, 5, 10).addTestHash("t1").toByteArray();
+
+        // XML string sent as binary.
+        Assertions.assertThrows(IOException.class, () -> new BinaryContactInfo.Reader("<MobileDevice/>".getBytes(StandardCharsets.UTF_8)));
+
+        // payload cut in the middle of the contacts section.
+        Assertions.assertThrows(IOException.class, () -> new BinaryContactInfo.Reader(Arrays.copyOf(payload, 20)));
+
+        // trailing data after the sections.
+        final BinaryContactInfo.Reader trailing = new BinaryContactInfo.Reader(Arrays.copyOf(payload, payload.length + 1));
+        Assertions.assertEquals(ContactInfoReader.CONTACT, trailing.next());
+        Assertions.assertEquals(ContactInfoReader.TEST_HASH, trailing.next());
+        Assertions.assertThrows(IOException.class, trailing::next);
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new BinaryContactInfo.Writer().addContact("a1", -1, 10));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new BinaryContactInfo.Writer().addContact("a1", 5, 0));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new BinaryContactInfo.Writer().addContact("a1", ContactStore.MAX_CONTACT_DATE + 1, 10));
+
+        // date after the latest contact date accepted and duration which is not positive.
+        final byte[] validPayload = new BinaryContactInfo.Writer().addContact("a1", 5, 10).toByteArray();
+        final byte[] latePayload = new BinaryContactInfo.Writer().addContact("a1", ContactStore.MAX_CONTACT_DATE, 10).toByteArray();
+        final byte[] invalidDatePayload = Arrays.copyOf(latePayload, latePayload.length);
+        invalidDatePayload[invalidDatePayload.length - 4] = 3;
+        Assertions.assertThrows(IOException.class, () -> new BinaryContactInfo.Reader(invalidDatePayload).next());
+        final byte[] invalidDurationPayload = Arrays.copyOf(validPayload, validPayload.length);
+        invalidDurationPayload[invalidDurationPayload.length - 3] = 0;
+        Assertions.assertThrows(IOException.class, () -> new BinaryContactInfo.Reader(invalidDurationPayload).next());
+        Assertions.assertEquals(ContactStore.MAX_CONTACT_DATE, readDate(latePayload));
+    }
+
+    private static int readDate(byte[] payload) throws IOException {
+        final BinaryContactInfo.Reader reader = new BinaryContactInfo.Reader(payload);
+        Assertions.assertEquals(ContactInfoReader.CONTACT, reader.next());
+        return reader.getDate();
+    }
+}
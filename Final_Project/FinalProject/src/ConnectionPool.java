@@ -0,0 +1,845 @@
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * {@code ConnectionPool} holds a bounded set of reusable JDBC connections to a single database.
+ * Connections are opened lazily up to {@code maxSize} and handed out as proxies whose {@code close()}
+ * returns the physical connection to this pool instead of closing it.
+ * Idle connections are closed once they stay unused longer than the idle timeout and
+ * connections that were idle for a while are validated before they are handed out again.
+ * Returned connections are rolled back and get back the auto commit, isolation level, read-only and catalog
+ * they were opened with, so no borrower sees the session state left by the previous one.
+ * Each physical connection keeps a bounded cache of prepared statements so statements prepared with the same
+ * query string are parsed once per connection and reused across borrows.
+ *
+ * @author Dhrumil Amish Shah (B00857606)
+ * created on 2026-10-17
+ * @version 1.1.0
+ * @see Government
+ * @since 1.1.0
+ */
+public class ConnectionPool {
+    // Connections idle for at least this many milliseconds are validated before reuse.
+    private static final long VALIDATION_IDLE_THRESHOLD_MILLIS = 5000;
+
+    // Number of seconds the driver may take to answer Connection.isValid().
+    private static final int VALIDATION_TIMEOUT_SECONDS = 5;
+
+    // Connection methods changing the session state restored when a connection is returned.
+    private static final Set<String> SESSION_STATE_SETTERS = Set.of("setTransactionIsolation", "setReadOnly",
+            "setCatalog", "setSchema", "setHoldability");
+
+    // url, user and password hold the credentials used to open physical connections.
+    private final String url;
+    private final String user;
+    private final String password;
+
+    // maxSize holds the maximum number of physical connections open at any time.
+    private final int maxSize;
+
+    // idleTimeoutMillis holds the time after which an unused connection is closed.
+    private final long idleTimeoutMillis;
+
+    // waitTimeoutMillis holds the maximum time a caller waits for a free connection.
+    private final long waitTimeoutMillis;
+
+    // validationQuery holds the query used to validate a connection. (null to use Connection.isValid())
+    private final String validationQuery;
+
+    // statementCacheSize holds the maximum number of prepared statements cached per connection. (0 to disable)
+    private final int statementCacheSize;
+
+    // validationIdleThresholdMillis holds the time a connection stays idle before it is validated on reuse.
+    private final long validationIdleThresholdMillis;
+
+    // lock guards every field below and available is signalled whenever a connection is released.
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition available = lock.newCondition();
+
+    // idleConnections holds the connections ready to be reused. (most recently used first)
+    private final ArrayDeque<PhysicalConnection> idleConnections = new ArrayDeque<>();
+
+    // openConnections holds the number of physical connections currently open or being opened.
+    private int openConnections;
+
+    // activeConnections holds the number of connections currently borrowed.
+    private int activeConnections;
+
+    // closed holds whether this pool has been shut down.
+    private boolean closed;
+
+    // Counters exposed through Metrics.
+    private long totalWaitNanos;
+    private long maxWaitNanos;
+    private long borrowCount;
+    private long timeoutCount;
+    private long createdCount;
+    private long destroyedCount;
+    private final AtomicLong statementCacheHits = new AtomicLong();
+    private final AtomicLong statementCacheMisses = new AtomicLong();
+
+    /**
+     * Constructs this {@code ConnectionPool}.
+     *
+     * @param url                JDBC url of the database.
+     * @param user               database user.
+     * @param password           database password.
+     * @param maxSize            maximum number of open connections.
+     * @param idleTimeoutMillis  time in milliseconds after which an idle connection is closed.
+     * @param waitTimeoutMillis  time in milliseconds a caller waits for a free connection.
+     * @param validationQuery    query to validate connections or {@code null} to use {@code Connection.isValid()}.
+     * @param statementCacheSize maximum number of prepared statements cached per connection. (0 to disable)
+     * @throws IllegalArgumentException if arguments passed are illegal or inappropriate.
+     * @since 1.1.0
+     */
+    public ConnectionPool(String url, String user, String password,
+                          int maxSize, long idleTimeoutMillis, long waitTimeoutMillis, String validationQuery,
+                          int statementCacheSize) {
+        this(url, user, password, maxSize, idleTimeoutMillis, waitTimeoutMillis, validationQuery, statementCacheSize,
+                VALIDATION_IDLE_THRESHOLD_MILLIS);
+    }
+
+    /**
+     * Constructs this {@code ConnectionPool} validating connections idle for at least {@code validationIdleThresholdMillis}.
+     *
+     * @param url                           JDBC url of the database.
+     * @param user                          database user.
+     * @param password                      database password.
+     * @param maxSize                       maximum number of open connections.
+     * @param idleTimeoutMillis             time in milliseconds after which an idle connection is closed.
+     * @param waitTimeoutMillis             time in milliseconds a caller waits for a free connection.
+     * @param validationQuery               query to validate connections or {@code null} to use {@code Connection.isValid()}.
+     * @param statementCacheSize            maximum number of prepared statements cached per connection. (0 to disable)
+     * @param validationIdleThresholdMillis time in milliseconds a connection stays idle before it is validated on reuse.
+     * @throws IllegalArgumentException if arguments passed are illegal or inappropriate.
+     * @since 1.1.0
+     */
+    ConnectionPool(String url, String user, String password,
+                   int maxSize, long idleTimeoutMillis, long waitTimeoutMillis, String validationQuery,
+                   int statementCacheSize, long validationIdleThresholdMillis) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("Invalid argument \"maxSize\" - " + maxSize + ".");
+        }
+        if (idleTimeoutMillis < 0) {
+            throw new IllegalArgumentException("Invalid argument \"idleTimeoutMillis\" - " + idleTimeoutMillis + ".");
+        }
+        if (waitTimeoutMillis < 0) {
+            throw new IllegalArgumentException("Invalid argument \"waitTimeoutMillis\" - " + waitTimeoutMillis + ".");
+        }
+        if (statementCacheSize < 0) {
+            throw new IllegalArgumentException("Invalid argument \"statementCacheSize\" - " + statementCacheSize + ".");
+        }
+        if (validationIdleThresholdMillis < 0) {
+            throw new IllegalArgumentException("Invalid argument \"validationIdleThresholdMillis\" - " + validationIdleThresholdMillis + ".");
+        }
+        this.url = url;
+        this.user = user;
+        this.password = password;
+        this.maxSize = maxSize;
+        this.idleTimeoutMillis = idleTimeoutMillis;
+        this.waitTimeoutMillis = waitTimeoutMillis;
+        this.validationQuery = (validationQuery == null || validationQuery.trim().isEmpty()) ? null : validationQuery;
+        this.statementCacheSize = statementCacheSize;
+        this.validationIdleThresholdMillis = validationIdleThresholdMillis;
+    }
+
+    /**
+     * Borrows a connection from this pool, opening a new one if none is idle and the pool is not full.
+     * Waits up to the wait timeout if all connections are in use.
+     * Closing the returned connection gives it back to this pool.
+     *
+     * @return a connection with auto commit enabled.
+     * @throws SQLException if the pool is closed, times out or a connection cannot be opened.
+     * @since 1.1.0
+     */
+    public Connection getConnection() throws SQLException {
+        final long startNanos = System.nanoTime();
+        final long deadlineNanos = startNanos + TimeUnit.MILLISECONDS.toNanos(waitTimeoutMillis);
+
+        while (true) {
+            PhysicalConnection candidate = null;
+            boolean mayOpen = false;
+
+            lock.lock();
+            try {
+                while (true) {
+                    if (closed) {
+                        throw new SQLException("Connection pool is closed.");
+                    }
+
+                    evictExpiredIdleConnections();
+
+                    candidate = idleConnections.pollFirst();
+                    if (candidate != null) {
+                        activeConnections = activeConnections + 1;
+                        break;
+                    }
+
+                    if (openConnections < maxSize) {
+                        openConnections = openConnections + 1;
+                        activeConnections = activeConnections + 1;
+                        mayOpen = true;
+                        break;
+                    }
+
+                    // Wait for a connection to be released.
+                    final long remainingNanos = deadlineNanos - System.nanoTime();
+                    if (remainingNanos <= 0) {
+                        timeoutCount = timeoutCount + 1;
+                        recordWait(System.nanoTime() - startNanos, false);
+                        throw new SQLException("Timed out after " + waitTimeoutMillis + " ms waiting for a database connection.");
+                    }
+                    try {
+                        available.awaitNanos(remainingNanos);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new SQLException("Interrupted while waiting for a database connection.");
+                    }
+                }
+            } finally {
+                lock.unlock();
+            }
+
+            // Open or validate the physical connection outside the lock.
+            if (mayOpen) {
+                final PhysicalConnection physical;
+                try {
+                    physical = new PhysicalConnection(DriverManager.getConnection(url, user, password));
+                } catch (SQLException | RuntimeException e) {
+                    discard(null);
+                    throw e;
+                }
+                lock.lock();
+                try {
+                    createdCount = createdCount + 1;
+                    recordWait(System.nanoTime() - startNanos, true);
+                } finally {
+                    lock.unlock();
+                }
+                return wrap(physical);
+            }
+
+            if (System.currentTimeMillis() - candidate.idleSinceMillis < validationIdleThresholdMillis || isValid(candidate.connection)) {
+                lock.lock();
+                try {
+                    recordWait(System.nanoTime() - startNanos, true);
+                } finally {
+                    lock.unlock();
+                }
+                return wrap(candidate);
+            }
+
+            // Connection is broken, discard it and try again.
+            discard(candidate);
+        }
+    }
+
+    /**
+     * Gets a snapshot of the metrics of this pool.
+     *
+     * @return metrics of this pool.
+     * @since 1.1.0
+     */
+    public Metrics getMetrics() {
+        lock.lock();
+        try {
+            return new Metrics(activeConnections, idleConnections.size(), maxSize, borrowCount,
+                    totalWaitNanos, maxWaitNanos, timeoutCount, createdCount, destroyedCount,
+                    statementCacheHits.get(), statementCacheMisses.get());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Closes every idle connection and rejects further borrowing.
+     * Borrowed connections are closed when they are returned.
+     *
+     * @since 1.1.0
+     */
+    public void close() {
+        lock.lock();
+        try {
+            closed = true;
+            for (PhysicalConnection idleConnection : idleConnections) {
+                closeQuietly(idleConnection.connection);
+                openConnections = openConnections - 1;
+                destroyedCount = destroyedCount + 1;
+            }
+            idleConnections.clear();
+            available.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns a physical connection to the idle set, or closes it if it cannot be reused.
+     *
+     * @param physical connection to be returned.
+     */
+    private void release(PhysicalConnection physical) {
+        // Reset the connection state so the next borrower gets a clean connection.
+        boolean reusable;
+        try {
+            if (!physical.connection.getAutoCommit()) {
+                physical.connection.rollback();
+                physical.connection.setAutoCommit(true);
+            }
+            physical.resetSessionState();
+            reusable = !physical.connection.isClosed();
+        } catch (SQLException e) {
+            reusable = false;
+        }
+
+        lock.lock();
+        try {
+            if (reusable && !closed) {
+                activeConnections = activeConnections - 1;
+                physical.idleSinceMillis = System.currentTimeMillis();
+                idleConnections.addFirst(physical);
+                available.signal();
+                return;
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        // Connection cannot be reused, close it and free its slot.
+        discard(physical);
+    }
+
+    /**
+     * Closes a physical connection and frees its slot in this pool.
+     *
+     * @param physical connection to be closed. ({@code null} if it was never opened)
+     */
+    private void discard(PhysicalConnection physical) {
+        if (physical != null) {
+            closeQuietly(physical.connection);
+        }
+        lock.lock();
+        try {
+            openConnections = openConnections - 1;
+            activeConnections = activeConnections - 1;
+            if (physical != null) {
+                destroyedCount = destroyedCount + 1;
+            }
+            available.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Closes idle connections that have been unused longer than the idle timeout.
+     * Must be called while holding {@code lock}.
+     */
+    private void evictExpiredIdleConnections() {
+        if (idleTimeoutMillis == 0) {
+            return;
+        }
+        final long now = System.currentTimeMillis();
+        final Iterator<PhysicalConnection> iterator = idleConnections.descendingIterator();
+        while (iterator.hasNext()) {
+            final PhysicalConnection idleConnection = iterator.next();
+            if (now - idleConnection.idleSinceMillis < idleTimeoutMillis) {
+                // Remaining connections were used more recently.
+                break;
+            }
+            iterator.remove();
+            closeQuietly(idleConnection.connection);
+            openConnections = openConnections - 1;
+            destroyedCount = destroyedCount + 1;
+        }
+    }
+
+    /**
+     * Records the time a caller waited for a connection.
+     * Must be called while holding {@code lock}.
+     *
+     * @param waitNanos time waited in nanoseconds.
+     * @param borrowed  whether the caller got a connection.
+     */
+    private void recordWait(long waitNanos, boolean borrowed) {
+        if (borrowed) {
+            borrowCount = borrowCount + 1;
+        }
+        totalWaitNanos = totalWaitNanos + waitNanos;
+        maxWaitNanos = Math.max(maxWaitNanos, waitNanos);
+    }
+
+    /**
+     * Checks whether a physical connection is still usable.
+     *
+     * @param physical connection to be validated.
+     * @return {@code true} if the connection is usable otherwise {@code false}.
+     */
+    private boolean isValid(Connection physical) {
+        if (validationQuery == null) {
+            try {
+                return physical.isValid(VALIDATION_TIMEOUT_SECONDS);
+            } catch (SQLException e) {
+                return false;
+            }
+        }
+        try (final Statement statement = physical.createStatement()) {
+            statement.setQueryTimeout(VALIDATION_TIMEOUT_SECONDS);
+            statement.execute(validationQuery);
+            return true;
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Closes a physical connection ignoring any error.
+     *
+     * @param physical connection to be closed.
+     */
+    private static void closeQuietly(Connection physical) {
+        try {
+            physical.close();
+        } catch (SQLException ignored) {
+        }
+    }
+
+    /**
+     * Wraps a physical connection into a proxy whose {@code close()} returns it to this pool.
+     *
+     * @param physical connection to be wrapped.
+     * @return pooled connection.
+     */
+    private Connection wrap(PhysicalConnection physical) {
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                new PooledConnectionHandler(physical));
+    }
+
+    /**
+     * {@code PooledConnectionHandler} forwards every call to the physical connection
+     * except {@code close()} and {@code isClosed()} which act on the borrowed handle only
+     * and {@code prepareStatement(String)} which is served from the statement cache.
+     * Calls changing the session state are noted so the state is restored when the connection is returned.
+     *
+     * @author Dhrumil Amish Shah (B00857606)
+     * created on 2026-10-17
+     * @version 1.1.0
+     * @see ConnectionPool
+     * @since 1.1.0
+     */
+    private class PooledConnectionHandler implements InvocationHandler {
+        // physical holds the underlying connection.
+        private final PhysicalConnection physical;
+
+        // returned holds whether this handle has been given back to the pool.
+        private boolean returned;
+
+        /**
+         * Constructs this {@code PooledConnectionHandler} for {@code physical}.
+         *
+         * @param physical underlying connection.
+         */
+        private PooledConnectionHandler(PhysicalConnection physical) {
+            this.physical = physical;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                    if (!returned) {
+                        returned = true;
+                        release(physical);
+                    }
+                    return null;
+                case "isClosed":
+                    return returned || physical.connection.isClosed();
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "PooledConnection[" + physical.connection + "]";
+                default:
+                    if (returned) {
+                        throw new SQLException("Connection has already been returned to the pool.");
+                    }
+                    if ("prepareStatement".equals(method.getName()) && args.length == 1 && statementCacheSize > 0) {
+                        return physical.prepareCachedStatement((Connection) proxy, (String) args[0]);
+                    }
+                    if (SESSION_STATE_SETTERS.contains(method.getName())) {
+                        physical.sessionStateChanged = true;
+                    }
+                    try {
+                        return method.invoke(physical.connection, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+            }
+        }
+    }
+
+    /**
+     * {@code PhysicalConnection} holds a physical connection, its prepared statement cache
+     * and the time since which it has been idle.
+     *
+     * @author Dhrumil Amish Shah (B00857606)
+     * created on 2026-10-17
+     * @version 1.1.0
+     * @see ConnectionPool
+     * @since 1.1.0
+     */
+    private class PhysicalConnection {
+        // connection holds the physical connection.
+        private final Connection connection;
+
+        // statementCache holds the prepared statements of this connection by query string. (least recently used first)
+        private final LinkedHashMap<String, CachedStatement> statementCache;
+
+        // idleSinceMillis holds the time when the connection was returned to the pool.
+        private long idleSinceMillis;
+
+        // transactionIsolation, readOnly, catalog, schema and holdability hold the session state of the opened connection.
+        private final int transactionIsolation;
+        private final boolean readOnly;
+        private final String catalog;
+        private final String schema;
+        private final int holdability;
+
+        // sessionStateChanged holds whether a borrower changed the session state since it was last restored.
+        private boolean sessionStateChanged;
+
+        /**
+         * Constructs this {@code PhysicalConnection}, recording the session state restored on every return.
+         *
+         * @param connection physical connection.
+         * @throws SQLException if the session state cannot be read, the connection is closed in that case.
+         */
+        private PhysicalConnection(Connection connection) throws SQLException {
+            this.connection = connection;
+            try {
+                this.transactionIsolation = connection.getTransactionIsolation();
+                this.readOnly = connection.isReadOnly();
+                this.catalog = connection.getCatalog();
+                this.schema = connection.getSchema();
+                this.holdability = connection.getHoldability();
+            } catch (SQLException | RuntimeException e) {
+                closeQuietly(connection);
+                throw e;
+            }
+            this.statementCache = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, CachedStatement> eldest) {
+                    if (size() <= statementCacheSize || eldest.getValue().inUse) {
+                        return false;
+                    }
+                    try {
+                        eldest.getValue().statement.close();
+                    } catch (SQLException ignored) {
+                    }
+                    return true;
+                }
+            };
+        }
+
+        /**
+         * Restores the session state of the opened connection if a borrower changed it and clears its warnings.
+         *
+         * @throws SQLException if the session state cannot be restored.
+         */
+        private void resetSessionState() throws SQLException {
+            if (sessionStateChanged) {
+                connection.setTransactionIsolation(transactionIsolation);
+                connection.setReadOnly(readOnly);
+                if (catalog != null) {
+                    connection.setCatalog(catalog);
+                }
+                if (schema != null) {
+                    connection.setSchema(schema);
+                }
+                connection.setHoldability(holdability);
+                sessionStateChanged = false;
+            }
+            connection.clearWarnings();
+        }
+
+        /**
+         * Gets a prepared statement for {@code sql} from the cache, preparing it on a miss.
+         * Closing the returned statement clears its parameters and batch and keeps it open for reuse.
+         * If the cached statement is already in use by the borrower, an uncached statement is prepared instead.
+         *
+         * @param owner pooled connection returned by {@code getConnection()} of the statement.
+         * @param sql   query string.
+         * @return prepared statement for {@code sql}.
+         * @throws SQLException if the statement cannot be prepared.
+         */
+        private PreparedStatement prepareCachedStatement(Connection owner, String sql) throws SQLException {
+            CachedStatement cachedStatement = statementCache.get(sql);
+            if (cachedStatement != null && cachedStatement.inUse) {
+                statementCacheMisses.incrementAndGet();
+                return connection.prepareStatement(sql);
+            }
+            if (cachedStatement == null) {
+                statementCacheMisses.incrementAndGet();
+                cachedStatement = new CachedStatement(connection.prepareStatement(sql));
+                statementCache.put(sql, cachedStatement);
+            } else {
+                statementCacheHits.incrementAndGet();
+            }
+            cachedStatement.inUse = true;
+            return (PreparedStatement) Proxy.newProxyInstance(PreparedStatement.class.getClassLoader(),
+                    new Class<?>[]{PreparedStatement.class},
+                    new CachedStatementHandler(owner, cachedStatement));
+        }
+    }
+
+    /**
+     * {@code CachedStatement} holds a cached prepared statement and whether it is currently handed out.
+     *
+     * @author Dhrumil Amish Shah (B00857606)
+     * created on 2026-10-17
+     * @version 1.1.0
+     * @see ConnectionPool
+     * @since 1.1.0
+     */
+    private static class CachedStatement {
+        // statement holds the physical prepared statement.
+        private final PreparedStatement statement;
+
+        // inUse holds whether the statement is currently handed out.
+        private boolean inUse;
+
+        /**
+         * Constructs this {@code CachedStatement}.
+         *
+         * @param statement physical prepared statement.
+         */
+        private CachedStatement(PreparedStatement statement) {
+            this.statement = statement;
+        }
+    }
+
+    /**
+     * {@code CachedStatementHandler} forwards every call to the cached prepared statement
+     * except {@code close()} which resets the statement and gives it back to the cache.
+     *
+     * @author Dhrumil Amish Shah (B00857606)
+     * created on 2026-10-17
+     * @version 1.1.0
+     * @see ConnectionPool
+     * @since 1.1.0
+     */
+    private static class CachedStatementHandler implements InvocationHandler {
+        // owner holds the pooled connection that handed out this statement.
+        private final Connection owner;
+
+        // cachedStatement holds the underlying cached statement.
+        private final CachedStatement cachedStatement;
+
+        // returned holds whether this handle has been given back to the cache.
+        private boolean returned;
+
+        /**
+         * Constructs this {@code CachedStatementHandler}.
+         *
+         * @param owner           pooled connection that handed out this statement.
+         * @param cachedStatement underlying cached statement.
+         */
+        private CachedStatementHandler(Connection owner, CachedStatement cachedStatement) {
+            this.owner = owner;
+            this.cachedStatement = cachedStatement;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                    if (!returned) {
+                        returned = true;
+                        try {
+                            cachedStatement.statement.clearParameters();
+                            cachedStatement.statement.clearBatch();
+                        } finally {
+                            cachedStatement.inUse = false;
+                        }
+                    }
+                    return null;
+                case "isClosed":
+                    return returned || cachedStatement.statement.isClosed();
+                case "getConnection":
+                    return owner;
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "CachedStatement[" + cachedStatement.statement + "]";
+                default:
+                    if (returned) {
+                        throw new SQLException("Statement has already been returned to the cache.");
+                    }
+                    try {
+                        return method.invoke(cachedStatement.statement, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+            }
+        }
+    }
+
+    /**
+     * {@code Metrics} holds a point in time snapshot of the {@code ConnectionPool} metrics.
+     *
+     * @author Dhrumil Amish Shah (B00857606)
+     * created on 2026-10-17
+     * @version 1.1.0
+     * @see ConnectionPool
+     * @since 1.1.0
+     */
+    public static class Metrics {
+        private final int activeConnections;
+        private final int idleConnections;
+        private final int maxSize;
+        private final long borrowCount;
+        private final long totalWaitNanos;
+        private final long maxWaitNanos;
+        private final long timeoutCount;
+        private final long createdCount;
+        private final long destroyedCount;
+        private final long statementCacheHits;
+        private final long statementCacheMisses;
+
+        private Metrics(int activeConnections, int idleConnections, int maxSize, long borrowCount,
+                        long totalWaitNanos, long maxWaitNanos, long timeoutCount, long createdCount, long destroyedCount,
+                        long statementCacheHits, long statementCacheMisses) {
+            this.activeConnections = activeConnections;
+            this.idleConnections = idleConnections;
+            this.maxSize = maxSize;
+            this.borrowCount = borrowCount;
+            this.totalWaitNanos = totalWaitNanos;
+            this.maxWaitNanos = maxWaitNanos;
+            this.timeoutCount = timeoutCount;
+            this.createdCount = createdCount;
+            this.destroyedCount = destroyedCount;
+            this.statementCacheHits = statementCacheHits;
+            this.statementCacheMisses = statementCacheMisses;
+        }
+
+        /**
+         * @return number of connections currently borrowed.
+         */
+        public int getActiveConnections() {
+            return activeConnections;
+        }
+
+        /**
+         * @return number of connections ready to be reused.
+         */
+        public int getIdleConnections() {
+            return idleConnections;
+        }
+
+        /**
+         * @return maximum number of open connections.
+         */
+        public int getMaxSize() {
+            return maxSize;
+        }
+
+        /**
+         * @return number of successful borrows.
+         */
+        public long getBorrowCount() {
+            return borrowCount;
+        }
+
+        /**
+         * @return total time in milliseconds callers waited for a connection.
+         */
+        public double getTotalWaitMillis() {
+            return totalWaitNanos / 1_000_000.0;
+        }
+
+        /**
+         * @return average time in milliseconds callers waited for a connection.
+         */
+        public double getAverageWaitMillis() {
+            final long waits = borrowCount + timeoutCount;
+            return waits == 0 ? 0 : getTotalWaitMillis() / waits;
+        }
+
+        /**
+         * @return longest time in milliseconds a caller waited for a connection.
+         */
+        public double getMaxWaitMillis() {
+            return maxWaitNanos / 1_000_000.0;
+        }
+
+        /**
+         * @return number of callers that timed out waiting for a connection.
+         */
+        public long getTimeoutCount() {
+            return timeoutCount;
+        }
+
+        /**
+         * @return number of physical connections opened.
+         */
+        public long getCreatedCount() {
+            return createdCount;
+        }
+
+        /**
+         * @return number of physical connections closed.
+         */
+        public long getDestroyedCount() {
+            return destroyedCount;
+        }
+
+        /**
+         * @return number of prepared statements served from the statement cache.
+         */
+        public long getStatementCacheHits() {
+            return statementCacheHits;
+        }
+
+        /**
+         * @return number of prepared statements that had to be prepared.
+         */
+        public long getStatementCacheMisses() {
+            return statementCacheMisses;
+        }
+
+        @Override
+        public String toString() {
+            return "active=" + activeConnections +
+                    ", idle=" + idleConnections +
+                    ", maxSize=" + maxSize +
+                    ", borrows=" + borrowCount +
+                    ", averageWaitMillis=" + getAverageWaitMillis() +
+                    ", maxWaitMillis=" + getMaxWaitMillis() +
+                    ", timeouts=" + timeoutCount +
+                    ", created=" + createdCount +
+                    ", destroyed=" + destroyedCount +
+                    ", statementCacheHits=" + statementCacheHits +
+                    ", statementCacheMisses=" + statementCacheMisses;
+        }
+    }
+}
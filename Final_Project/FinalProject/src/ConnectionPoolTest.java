@@ -0,0 +1,261 @@
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.Driver;
+import java.sql.DriverManager;
+import java.sql.DriverPropertyInfo;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.logging.Logger;
+
+@DisplayName("Connection pool test")
+public class ConnectionPoolTest {
+    private static final String URL = "jdbc:pooltest:db";
+    private static final StubDriver DRIVER = new StubDriver();
+
+    @BeforeAll
+    public static void registerDriver() throws SQLException {
+        DriverManager.registerDriver(DRIVER);
+    }
+
+    @AfterAll
+    public static void deregisterDriver() throws SQLException {
+        DriverManager.deregisterDriver(DRIVER);
+    }
+
+    @DisplayName("Time out when every connection is borrowed and reject borrowing once closed")
+    @Test
+    public void borrowTimeout() throws SQLException {
+        final ConnectionPool connectionPool = new ConnectionPool(URL, "user", "", 1, 0, 50, null, 0);
+        final Connection connection = connectionPool.getConnection();
+        Assertions.assertThrows(SQLException.class, connectionPool::getConnection);
+        Assertions.assertEquals(1, connectionPool.getMetrics().getTimeoutCount());
+        Assertions.assertEquals(1, connectionPool.getMetrics().getActiveConnections());
+
+        // The connection released is borrowed again.
+        connection.close();
+        Assertions.assertTrue(connection.isClosed());
+        Assertions.assertThrows(SQLException.class, connection::createStatement);
+        connectionPool.getConnection().close();
+        Assertions.assertEquals(1, connectionPool.getMetrics().getCreatedCount());
+        Assertions.assertEquals(2, connectionPool.getMetrics().getBorrowCount());
+
+        connectionPool.close();
+        Assertions.assertThrows(SQLException.class, connectionPool::getConnection);
+        Assertions.assertEquals(1, connectionPool.getMetrics().getDestroyedCount());
+    }
+
+    @DisplayName("Roll back and restore the session state of released connections")
+    @Test
+    public void releaseResetsSessionState() throws SQLException {
+        final ConnectionPool connectionPool = new ConnectionPool(URL, "user", "", 1, 0, 50, null, 0);
+        final Connection connection = connectionPool.getConnection();
+        final StubConnection stub = DRIVER.lastConnection;
+        connection.setAutoCommit(false);
+        connection.setTransactionIsolation(Connection.TRANSACTION_SERIALIZABLE);
+        connection.setReadOnly(true);
+        connection.setCatalog("other");
+        connection.close();
+
+        Assertions.assertEquals(1, stub.rollbacks);
+        Assertions.assertTrue(stub.autoCommit);
+        Assertions.assertEquals(Connection.TRANSACTION_REPEATABLE_READ, stub.transactionIsolation);
+        Assertions.assertFalse(stub.readOnly);
+        Assertions.assertEquals("db", stub.catalog);
+
+        // The next borrower gets the same physical connection in its initial state.
+        try (final Connection reused = connectionPool.getConnection()) {
+            Assertions.assertSame(stub, DRIVER.lastConnection);
+            Assertions.assertTrue(reused.getAutoCommit());
+            Assertions.assertEquals(Connection.TRANSACTION_REPEATABLE_READ, reused.getTransactionIsolation());
+        }
+        connectionPool.close();
+    }
+
+    @DisplayName("Close idle connections after the idle timeout and discard connections failing validation")
+    @Test
+    public void idleEvictionAndValidation() throws Exception {
+        final ConnectionPool evictingPool = new ConnectionPool(URL, "user", "", 2, 1, 50, null, 0);
+        evictingPool.getConnection().close();
+        final StubConnection evicted = DRIVER.lastConnection;
+        Thread.sleep(20);
+        evictingPool.getConnection().close();
+        Assertions.assertTrue(evicted.closed);
+        Assertions.assertNotSame(evicted, DRIVER.lastConnection);
+        Assertions.assertEquals(2, evictingPool.getMetrics().getCreatedCount());
+        Assertions.assertEquals(1, evictingPool.getMetrics().getDestroyedCount());
+        evictingPool.close();
+
+        final ConnectionPool validatingPool = new ConnectionPool(URL, "user", "", 2, 0, 50, null, 0, 0);
+        validatingPool.getConnection().close();
+        final StubConnection broken = DRIVER.lastConnection;
+        broken.valid = false;
+        validatingPool.getConnection().close();
+        Assertions.assertTrue(broken.closed);
+        Assertions.assertNotSame(broken, DRIVER.lastConnection);
+        Assertions.assertEquals(0, validatingPool.getMetrics().getActiveConnections());
+        Assertions.assertEquals(1, validatingPool.getMetrics().getIdleConnections());
+        validatingPool.close();
+    }
+
+    @DisplayName("Reuse cached statements and evict the least recently used one not in use")
+    @Test
+    public void statementCache() throws SQLException {
+        final ConnectionPool connectionPool = new ConnectionPool(URL, "user", "", 1, 0, 50, null, 2);
+        try (final Connection connection = connectionPool.getConnection()) {
+            final StubConnection stub = DRIVER.lastConnection;
+            final PreparedStatement first = connection.prepareStatement("a");
+            Assertions.assertSame(connection, first.getConnection());
+
+            // A statement in use is not shared, a closed one is reused.
+            connection.prepareStatement("a").close();
+            first.close();
+            connection.prepareStatement("a").close();
+            Assertions.assertEquals(2, stub.preparedStatements.size());
+            Assertions.assertTrue(stub.preparedStatements.get(1).closed);
+            Assertions.assertEquals(1, connectionPool.getMetrics().getStatementCacheHits());
+            Assertions.assertEquals(2, connectionPool.getMetrics().getStatementCacheMisses());
+
+            // Least recently used statement is closed once the cache is full.
+            connection.prepareStatement("b").close();
+            connection.prepareStatement("c").close();
+            Assertions.assertTrue(stub.preparedStatements.get(0).closed);
+            Assertions.assertFalse(stub.preparedStatements.get(2).closed);
+            Assertions.assertFalse(stub.preparedStatements.get(3).closed);
+            Assertions.assertEquals(1, stub.preparedStatements.get(2).clearedParameters);
+        }
+        connectionPool.close();
+    }
+
+    private static class StubDriver implements Driver {
+        private volatile StubConnection lastConnection;
+
+        @Override
+        public Connection connect(String url, Properties info) {
+            if (!acceptsURL(url)) {
+                return null;
+            }
+            lastConnection = new StubConnection();
+            return lastConnection.proxy;
+        }
+
+        @Override
+        public boolean acceptsURL(String url) {
+            return url.startsWith("jdbc:pooltest:");
+        }
+
+        @Override
+        public DriverPropertyInfo[] getPropertyInfo(String url, Properties info) {
+            return new DriverPropertyInfo[0];
+        }
+
+        @Override
+        public int getMajorVersion() {
+            return 1;
+        }
+
+        @Override
+        public int getMinorVersion() {
+            return 0;
+        }
+
+        @Override
+        public boolean jdbcCompliant() {
+            return false;
+        }
+
+        @Override
+        public Logger getParentLogger() throws SQLFeatureNotSupportedException {
+            throw new SQLFeatureNotSupportedException();
+        }
+    }
+
+    private static class StubConnection {
+        private final Connection proxy;
+        private final List<StubStatement> preparedStatements = new ArrayList<>();
+        private boolean autoCommit = true;
+        private int transactionIsolation = Connection.TRANSACTION_REPEATABLE_READ;
+        private boolean readOnly;
+        private String catalog = "db";
+        private int rollbacks;
+        private boolean closed;
+        private boolean valid = true;
+
+        private StubConnection() {
+            proxy = (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class}, (p, method, args) -> {
+                switch (method.getName()) {
+                    case "getAutoCommit":
+                        return autoCommit;
+                    case "setAutoCommit":
+                        autoCommit = (Boolean) args[0];
+                        return null;
+                    case "getTransactionIsolation":
+                        return transactionIsolation;
+                    case "setTransactionIsolation":
+                        transactionIsolation = (Integer) args[0];
+                        return null;
+                    case "isReadOnly":
+                        return readOnly;
+                    case "setReadOnly":
+                        readOnly = (Boolean) args[0];
+                        return null;
+                    case "getCatalog":
+                        return catalog;
+                    case "setCatalog":
+                        catalog = (String) args[0];
+                        return null;
+                    case "getHoldability":
+                        return 1;
+                    case "rollback":
+                        rollbacks = rollbacks + 1;
+                        return null;
+                    case "close":
+                        closed = true;
+                        return null;
+                    case "isClosed":
+                        return closed;
+                    case "isValid":
+                        return valid;
+                    case "prepareStatement":
+                        final StubStatement statement = new StubStatement();
+                        preparedStatements.add(statement);
+                        return statement.proxy;
+                    default:
+                        return null;
+                }
+            });
+        }
+    }
+
+    private static class StubStatement {
+        private final PreparedStatement proxy;
+        private boolean closed;
+        private int clearedParameters;
+
+        private StubStatement() {
+            proxy = (PreparedStatement) Proxy.newProxyInstance(PreparedStatement.class.getClassLoader(), new Class<?>[]{PreparedStatement.class}, (p, method, args) -> {
+                switch (method.getName()) {
+                    case "close":
+                        closed = true;
+                        return null;
+                    case "isClosed":
+                        return closed;
+                    case "clearParameters":
+                        clearedParameters = clearedParameters + 1;
+                        return null;
+                    default:
+                        return null;
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,99 @@
+import java.util.Arrays;
+
+/**
+ * {@code ContactBatch} holds the contacts and positive test hashes read from the contact information of a batch of initiators.
+ * Each record keeps the index of its initiator in the batch.
+ *
+ * @author Dhrumil Amish Shah (B00857606)
+ * created on 2026-10-17
+ * @version 1.1.0
+ * @see ContactStore
+ * @since 1.1.0
+ */
+public class ContactBatch {
+    // contactInitiators, contactIndividuals, contactDates and contactDurations hold each contact read.
+    int[] contactInitiators = new int[ContactBatchConstant.INITIAL_CAPACITY];
+    String[] contactIndividuals = new String[ContactBatchConstant.INITIAL_CAPACITY];
+    int[] contactDates = new int[ContactBatchConstant.INITIAL_CAPACITY];
+    int[] contactDurations = new int[ContactBatchConstant.INITIAL_CAPACITY];
+
+    // contactCount holds the number of contacts read.
+    int contactCount;
+
+    // testHashInitiators and testHashes hold each positive test hash read.
+    int[] testHashInitiators = new int[ContactBatchConstant.INITIAL_CAPACITY];
+    String[] testHashes = new String[ContactBatchConstant.INITIAL_CAPACITY];
+
+    // testHashCount holds the number of positive test hashes read.
+    int testHashCount;
+
+    // initiatorSequences holds the sequence number of the last record sent by each initiator. (0 if none)
+    long[] initiatorSequences = new long[ContactBatchConstant.INITIAL_CAPACITY];
+
+    /**
+     * Sets the sequence number of the last record sent by the initiator at index {@code initiator}.
+     *
+     * @param initiator index of the initiator in the batch.
+     * @param sequence  sequence number, 0 if the initiator sent none.
+     * @since 1.1.0
+     */
+    void setSequence(int initiator, long sequence) {
+        if (initiator >= initiatorSequences.length) {
+            initiatorSequences = Arrays.copyOf(initiatorSequences, Math.max(initiator + 1, initiatorSequences.length * 2));
+        }
+        initiatorSequences[initiator] = sequence;
+    }
+
+    /**
+     * Adds a contact made by the initiator at index {@code initiator}.
+     *
+     * @param initiator  index of the initiator in the batch.
+     * @param individual alphanumeric string of the device in contact.
+     * @param date       number of days since January 1, 2021 of the contact.
+     * @param duration   number of minutes of the contact.
+     * @since 1.1.0
+     */
+    void addContact(int initiator, String individual, int date, int duration) {
+        if (contactCount == contactInitiators.length) {
+            contactInitiators = Arrays.copyOf(contactInitiators, contactCount * 2);
+            contactIndividuals = Arrays.copyOf(contactIndividuals, contactCount * 2);
+            contactDates = Arrays.copyOf(contactDates, contactCount * 2);
+            contactDurations = Arrays.copyOf(contactDurations, contactCount * 2);
+        }
+        contactInitiators[contactCount] = initiator;
+        contactIndividuals[contactCount] = individual;
+        contactDates[contactCount] = date;
+        contactDurations[contactCount] = duration;
+        contactCount = contactCount + 1;
+    }
+
+    /**
+     * Adds a positive test hash of the initiator at index {@code initiator}.
+     *
+     * @param initiator index of the initiator in the batch.
+     * @param testHash  positive test hash.
+     * @since 1.1.0
+     */
+    void addTestHash(int initiator, String testHash) {
+        if (testHashCount == testHashInitiators.length) {
+            testHashInitiators = Arrays.copyOf(testHashInitiators, testHashCount * 2);
+            testHashes = Arrays.copyOf(testHashes, testHashCount * 2);
+        }
+        testHashInitiators[testHashCount] = initiator;
+        testHashes[testHashCount] = testHash;
+        testHashCount = testHashCount + 1;
+    }
+
+    /**
+     * {@code ContactBatchConstant} holds all the constants used by {@code ContactBatch}.
+     *
+     * @author Dhrumil Amish Shah (B00857606)
+     * created on 2026-10-17
+     * @version 1.1.0
+     * @see ContactBatch
+     * @since 1.1.0
+     */
+    private static class ContactBatchConstant {
+        private static final int INITIAL_CAPACITY = 64;
+    }
+}
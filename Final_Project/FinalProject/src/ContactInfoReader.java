@@ -0,0 +1,284 @@
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.StringReader;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * {@code ContactInfoReader} reads the contact information sent by {@code MobileDevice.synchronizeData()}
+ * one record at a time using a StAX pull parser, so no XML document is built in memory.
+ * Each call to {@link #next()} moves to the next {@code TestHash} or {@code Contact} record of the XML string.
+ * Contact dates are read as the number of days since January 1, 2021, dates (YYYY-MM-DD) sent by older devices are converted.
+ * The optional {@code Sequence} attribute of the root element holds the sequence number of the last record sent by the device.
+ *
+ * @author Dhrumil Amish Shah (B00857606)
+ * created on 2026-10-17
+ * @version 1.1.0
+ * @see Government
+ * @see MobileDevice
+ * @since 1.1.0
+ */
+public class ContactInfoReader implements AutoCloseable {
+    // Record returned by next() when a positive test hash is read.
+    public static final int TEST_HASH = 1;
+
+    // Record returned by next() when a contact is read.
+    public static final int CONTACT = 2;
+
+    // Record returned by next() when the whole XML string is read.
+    public static final int END = 0;
+
+    // xmlInputFactory creates the pull parsers, DTDs and external entities are not supported.
+    private static final XMLInputFactory xmlInputFactory = createXMLInputFactory();
+
+    // xmlStreamReader holds the pull parser of the XML string.
+    private final XMLStreamReader xmlStreamReader;
+
+    // sequence holds the sequence number of the root element, 0 if it has none.
+    private long sequence;
+
+    // Values of the record read last.
+    private String testHash;
+    private String individual;
+    private int date;
+    private int duration;
+
+    /**
+     * Constructs this {@code ContactInfoReader} reading the XML string {@code contactInfo}.
+     *
+     * @param contactInfo XML string to be read.
+     * @throws IllegalArgumentException if arguments passed are illegal or inappropriate.
+     * @throws XMLStreamException       if parser cannot be created.
+     * @since 1.1.0
+     */
+    public ContactInfoReader(String contactInfo) throws XMLStreamException {
+        // Throw exception if contactInfo is invalid.
+        if (contactInfo == null) {
+            throw new IllegalArgumentException("Invalid argument \"contactInfo\" - \"null\".");
+        }
+        xmlStreamReader = xmlInputFactory.createXMLStreamReader(new StringReader(contactInfo));
+    }
+
+    /**
+     * Creates the factory of the pull parsers.
+     *
+     * @return factory of the pull parsers.
+     * @since 1.1.0
+     */
+    private static XMLInputFactory createXMLInputFactory() {
+        final XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return factory;
+    }
+
+    /**
+     * Reads the next record of the XML string.
+     *
+     * @return {@link #TEST_HASH} or {@link #CONTACT} for the record read, {@link #END} when there are no more records.
+     * @throws XMLStreamException if XML string is malformed or a contact is incomplete.
+     * @since 1.1.0
+     */
+    public int next() throws XMLStreamException {
+        while (xmlStreamReader.hasNext()) {
+            if (xmlStreamReader.next() != XMLStreamConstants.START_ELEMENT) {
+                continue;
+            }
+
+            final String element = xmlStreamReader.getLocalName();
+            if (ContactInfoReaderConstant.MOBILE_DEVICE.equals(element)) {
+                readSequence();
+                continue;
+            }
+            if (ContactInfoReaderConstant.TEST_HASH.equals(element)) {
+                testHash = xmlStreamReader.getElementText();
+                return TEST_HASH;
+            }
+            if (ContactInfoReaderConstant.CONTACT.equals(element)) {
+                readContact();
+                return CONTACT;
+            }
+        }
+        return END;
+    }
+
+    /**
+     * Reads the individual, date and duration of the contact element the parser is positioned on.
+     *
+     * @throws XMLStreamException if XML string is malformed or the contact is incomplete.
+     * @since 1.1.0
+     */
+    private void readContact() throws XMLStreamException {
+        individual = null;
+        String dateText = null;
+        String durationText = null;
+
+        // Read the child elements until the end of the contact element.
+        int depth = 1;
+        while (depth > 0) {
+            final int event = xmlStreamReader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                final String element = xmlStreamReader.getLocalName();
+                if (ContactInfoReaderConstant.INDIVIDUAL.equals(element)) {
+                    individual = xmlStreamReader.getElementText();
+                } else if (ContactInfoReaderConstant.DATE.equals(element)) {
+                    dateText = xmlStreamReader.getElementText();
+                } else if (ContactInfoReaderConstant.DURATION.equals(element)) {
+                    durationText = xmlStreamReader.getElementText();
+                } else {
+                    depth = depth + 1;
+                }
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth = depth - 1;
+            }
+        }
+
+        // Throw exception if the contact is incomplete.
+        if (individual == null || dateText == null || durationText == null) {
+            throw new XMLStreamException("Incomplete \"" + ContactInfoReaderConstant.CONTACT + "\" element.", xmlStreamReader.getLocation());
+        }
+        date = parseDate(dateText.trim());
+        try {
+            duration = Integer.parseInt(durationText.trim());
+        } catch (NumberFormatException e) {
+            throw new XMLStreamException("Invalid \"" + ContactInfoReaderConstant.DURATION + "\" - \"" + durationText + "\".", xmlStreamReader.getLocation());
+        }
+
+        // Throw exception if duration is not positive.
+        if (duration <= 0) {
+            throw new XMLStreamException("Invalid \"" + ContactInfoReaderConstant.DURATION + "\" - \"" + durationText + "\".", xmlStreamReader.getLocation());
+        }
+    }
+
+    /**
+     * Reads the sequence number of the root element the parser is positioned on.
+     *
+     * @throws XMLStreamException if the sequence number is invalid.
+     * @since 1.1.0
+     */
+    private void readSequence() throws XMLStreamException {
+        final String sequenceText = xmlStreamReader.getAttributeValue(null, ContactInfoReaderConstant.SEQUENCE);
+        if (sequenceText == null) {
+            return;
+        }
+        try {
+            sequence = Long.parseLong(sequenceText.trim());
+        } catch (NumberFormatException e) {
+            sequence = -1;
+        }
+        if (sequence < 0) {
+            throw new XMLStreamException("Invalid \"" + ContactInfoReaderConstant.SEQUENCE + "\" - \"" + sequenceText + "\".", xmlStreamReader.getLocation());
+        }
+    }
+
+    /**
+     * Parses the date of a contact, either a number of days since January 1, 2021 or a date (YYYY-MM-DD).
+     *
+     * @param dateText date of the contact.
+     * @return number of days since January 1, 2021.
+     * @throws XMLStreamException if the date is invalid.
+     * @since 1.1.0
+     */
+    private int parseDate(String dateText) throws XMLStreamException {
+        final long date;
+        try {
+            if (dateText.indexOf('-') > 0) {
+                date = ChronoUnit.DAYS.between(ContactInfoReaderConstant.EPOCH_DATE, LocalDate.parse(dateText));
+            } else {
+                date = Integer.parseInt(dateText);
+            }
+        } catch (NumberFormatException | DateTimeParseException e) {
+            throw new XMLStreamException("Invalid \"" + ContactInfoReaderConstant.DATE + "\" - \"" + dateText + "\".", xmlStreamReader.getLocation());
+        }
+
+        // Throw exception if date is before January 1, 2021 or after the latest contact date accepted.
+        if (date < 0 || date > ContactStore.MAX_CONTACT_DATE) {
+            throw new XMLStreamException("Invalid \"" + ContactInfoReaderConstant.DATE + "\" - \"" + dateText + "\".", xmlStreamReader.getLocation());
+        }
+        return (int) date;
+    }
+
+    /**
+     * Gets the sequence number of the last record sent by the device, known once the first record or the end is read.
+     *
+     * @return sequence number, 0 if the device sent none.
+     * @since 1.1.0
+     */
+    public long getSequence() {
+        return sequence;
+    }
+
+    /**
+     * Gets the positive test hash read last.
+     *
+     * @return positive test hash.
+     * @since 1.1.0
+     */
+    public String getTestHash() {
+        return testHash;
+    }
+
+    /**
+     * Gets the alphanumeric string of the device in the contact read last.
+     *
+     * @return alphanumeric string of the device in contact.
+     * @since 1.1.0
+     */
+    public String getIndividual() {
+        return individual;
+    }
+
+    /**
+     * Gets the date of the contact read last.
+     *
+     * @return number of days since January 1, 2021 of the contact.
+     * @since 1.1.0
+     */
+    public int getDate() {
+        return date;
+    }
+
+    /**
+     * Gets the number of minutes of the contact read last.
+     *
+     * @return number of minutes of the contact.
+     * @since 1.1.0
+     */
+    public int getDuration() {
+        return duration;
+    }
+
+    /**
+     * Closes the pull parser of this {@code ContactInfoReader}.
+     *
+     * @throws XMLStreamException if parser cannot be closed.
+     * @since 1.1.0
+     */
+    @Override
+    public void close() throws XMLStreamException {
+        xmlStreamReader.close();
+    }
+
+    /**
+     * {@code ContactInfoReaderConstant} holds all the constants used by {@code ContactInfoReader}.
+     *
+     * @author Dhrumil Amish Shah (B00857606)
+     * created on 2026-10-17
+     * @version 1.1.0
+     * @see ContactInfoReader
+     * @since 1.1.0
+     */
+    private static class ContactInfoReaderConstant {
+        private static final String MOBILE_DEVICE = "MobileDevice";
+        private static final String SEQUENCE = "Sequence";
+        private static final String CONTACT = "Contact";
+        private static final String INDIVIDUAL = "Individual";
+        private static final String DATE = "Date";
+        private static final String DURATION = "Duration";
+        private static final String TEST_HASH = "TestHash";
+        private static final LocalDate EPOCH_DATE = LocalDate.of(2021, 1, 1);
+    }
+}
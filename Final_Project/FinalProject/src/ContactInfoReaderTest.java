@@ -0,0 +1,91 @@
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.xml.stream.XMLStreamException;
+
+@DisplayName("Contact info reader test")
+public class ContactInfoReaderTest {
+    @DisplayName("Read contacts and test hashes in document order, dates as number of days")
+    @Test
+    public void readRecords() throws XMLStreamException {
+        final String contactInfo = "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"no\"?>" +
+                "<MobileDevice Sequence=\"42\"><ContactsList>" +
+                "<Contact><Individual>a1</Individual><Date>5</Date><Duration>10</Duration></Contact>" +
+                "<Contact><Duration>7</Duration><Date>2021-01-08</Date><Individual>b2</Individual></Contact>" +
+                "</ContactsList><TestHashesList><TestHash>t1</TestHash><TestHash>t2</TestHash></TestHashesList></MobileDevice>";
+
+        try (final ContactInfoReader reader = new ContactInfoReader(contactInfo)) {
+            Assertions.assertEquals(ContactInfoReader.CONTACT, reader.next());
+            Assertions.assertEquals(42, reader.getSequence());
+            Assertions.assertEquals("a1", reader.getIndividual());
+            Assertions.assertEquals(5, reader.getDate());
+            Assertions.assertEquals(10, reader.getDuration());
+
+            Assertions.assertEquals(ContactInfoReader.CONTACT, reader.next());
+            Assertions.assertEquals("b2", reader.getIndividual());
+            Assertions.assertEquals(7, reader.getDate());
+            Assertions.assertEquals(7, reader.getDuration());
+
+            Assertions.assertEquals(ContactInfoReader.TEST_HASH, reader.next());
+            Assertions.assertEquals("t1", reader.getTestHash());
+            Assertions.assertEquals(ContactInfoReader.TEST_HASH, reader.next());
+            Assertions.assertEquals("t2", reader.getTestHash());
+
+            Assertions.assertEquals(ContactInfoReader.END, reader.next());
+        }
+    }
+
+    @DisplayName("Reject malformed XML and incomplete contacts")
+    @Test
+    public void rejectInvalidXML() throws XMLStreamException {
+        // empty xml has no records.
+        try (final ContactInfoReader reader = new ContactInfoReader("<MobileDevice><ContactsList></ContactsList><TestHashesList></TestHashesList></MobileDevice>")) {
+            Assertions.assertEquals(ContactInfoReader.END, reader.next());
+            Assertions.assertEquals(0, reader.getSequence());
+        }
+
+        // negative sequence.
+        try (final ContactInfoReader reader = new ContactInfoReader("<MobileDevice Sequence=\"-1\"><ContactsList></ContactsList></MobileDevice>")) {
+            Assertions.assertThrows(XMLStreamException.class, reader::next);
+        }
+
+        // unterminated root element.
+        try (final ContactInfoReader reader = new ContactInfoReader("<MobileDevice><ContactsList></ContactsList><TestHashesList></TestHashesList></MobileDevice")) {
+            Assertions.assertThrows(XMLStreamException.class, reader::next);
+        }
+
+        // contact without duration.
+        try (final ContactInfoReader reader = new ContactInfoReader("<MobileDevice><ContactsList><Contact><Individual>a1</Individual><Date>2021-01-06</Date></Contact></ContactsList></MobileDevice>")) {
+            Assertions.assertThrows(XMLStreamException.class, reader::next);
+        }
+
+        // date is neither a number of days nor a date.
+        try (final ContactInfoReader reader = new ContactInfoReader("<MobileDevice><ContactsList><Contact><Individual>a1</Individual><Date>2021-13-06</Date><Duration>10</Duration></Contact></ContactsList></MobileDevice>")) {
+            Assertions.assertThrows(XMLStreamException.class, reader::next);
+        }
+
+        // duration is not a number.
+        try (final ContactInfoReader reader = new ContactInfoReader("<MobileDevice><ContactsList><Contact><Individual>a1</Individual><Date>2021-01-06</Date><Duration>ten</Duration></Contact></ContactsList></MobileDevice>")) {
+            Assertions.assertThrows(XMLStreamException.class, reader::next);
+        }
+    }
+
+    @DisplayName("Reject dates and durations out of range")
+    @Test
+    public void rejectOutOfRangeContacts() throws XMLStreamException {
+        final String[][] contacts = {{"-1", "10"}, {"2020-12-31", "10"}, {"2000000000", "10"}, {"2121-01-02", "10"}, {"5", "0"}, {"5", "-10"}};
+        for (String[] contact : contacts) {
+            try (final ContactInfoReader reader = new ContactInfoReader("<MobileDevice><ContactsList><Contact><Individual>a1</Individual><Date>" +
+                    contact[0] + "</Date><Duration>" + contact[1] + "</Duration></Contact></ContactsList></MobileDevice>")) {
+                Assertions.assertThrows(XMLStreamException.class, reader::next, contact[0] + " " + contact[1]);
+            }
+        }
+
+        // latest contact date accepted.
+        try (final ContactInfoReader reader = new ContactInfoReader("<MobileDevice><ContactsList><Contact><Individual>a1</Individual><Date>2121-01-01</Date><Duration>1</Duration></Contact></ContactsList></MobileDevice>")) {
+            Assertions.assertEquals(ContactInfoReader.CONTACT, reader.next());
+            Assertions.assertEquals(ContactStore.MAX_CONTACT_DATE, reader.getDate());
+        }
+    }
+}
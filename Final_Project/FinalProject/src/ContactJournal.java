@@ -0,0 +1,462 @@
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+/**
+ * {@code ContactJournal} is the append-only local store of the contacts and positive test hashes of a mobile device
+ * waiting to be sent to the government. Appended records are held in memory until {@link #flush(boolean)} writes them
+ * to the end of the journal file with a single write, so their cost does not depend on the number of records already stored.
+ * Each record holds its length, its type, its values and a CRC-32 checksum. A record cut short by a crash
+ * is detected by its length or checksum, it is truncated when the journal is opened and ignored when the journal is read.
+ * Contacts and test hashes are numbered by increasing sequence numbers which are never reused, even once removed.
+ * The records are sent to the government in batches closed by {@link #endBatch()} and removed once acknowledged,
+ * so a batch sent again after a failed synchronization holds the same records and the same sequence numbers.
+ *
+ * @author Dhrumil Amish Shah (B00857606)
+ * created on 2026-10-17
+ * @version 1.1.0
+ * @see MobileDevice
+ * @since 1.1.0
+ */
+public class ContactJournal {
+    // Record returned by the reader when the end of a batch is read.
+    public static final int BATCH_END = 3;
+
+    // journalFile holds the path of the journal file.
+    private final Path journalFile;
+
+    // pendingRecords holds the encoded records appended since the last flush.
+    private final ByteArrayOutputStream pendingRecords = new ByteArrayOutputStream();
+
+    // pendingCount holds the number of records appended since the last flush.
+    private int pendingCount;
+
+    // nextSequence holds the sequence number of the next contact or test hash appended.
+    private long nextSequence;
+
+    // pendingSequenced holds the number of contacts and test hashes appended since the last flush.
+    private int pendingSequenced;
+
+    // openBatch holds whether contacts or test hashes were appended after the end of the last batch.
+    private boolean openBatch;
+
+    /**
+     * Constructs this {@code ContactJournal} stored in {@code journalFile} and truncates the partial last record left by a crash.
+     *
+     * @param journalFile path of the journal file, created on the first record.
+     * @throws IllegalArgumentException if arguments passed are illegal or inappropriate.
+     * @throws IOException              if the journal file cannot be read or truncated.
+     * @since 1.1.0
+     */
+    public ContactJournal(Path journalFile) throws IOException {
+        // Throw exception if journalFile is invalid.
+        if (journalFile == null) {
+            throw new IllegalArgumentException("Invalid argument \"journalFile\" - \"null\".");
+        }
+        this.journalFile = journalFile;
+        recover();
+    }
+
+    /**
+     * Truncates the journal file after its last complete record and restores the next sequence number.
+     *
+     * @throws IOException if the journal file cannot be read or truncated.
+     * @since 1.1.0
+     */
+    private void recover() throws IOException {
+        // A new journal starts from the current time, so a device which lost its journal still sends increasing sequence numbers.
+        nextSequence = System.currentTimeMillis() * ContactJournalConstant.SEQUENCES_PER_MILLISECOND;
+        if (!Files.exists(journalFile)) {
+            return;
+        }
+        final long validLength;
+        try (final Reader reader = read()) {
+            int record;
+            while ((record = reader.next()) != ContactInfoReader.END) {
+                openBatch = record != BATCH_END;
+            }
+            validLength = reader.getPosition();
+            if (validLength > 0) {
+                nextSequence = reader.getSequence() + 1;
+            }
+        }
+        try (final FileChannel channel = FileChannel.open(journalFile, StandardOpenOption.WRITE)) {
+            if (channel.size() > validLength) {
+                channel.truncate(validLength);
+            }
+        }
+    }
+
+    /**
+     * Appends a contact to the records waiting to be flushed.
+     *
+     * @param individual alphanumeric string of the device in contact.
+     * @param date       number of days since January 1, 2021.
+     * @param duration   number of minutes for which devices contacted.
+     * @throws IllegalArgumentException if the record is too long.
+     * @since 1.1.0
+     */
+    public void appendContact(String individual, int date, int duration) {
+        final byte[] value = individual.getBytes(StandardCharsets.UTF_8);
+        final ByteBuffer body = ByteBuffer.allocate(1 + 4 + 4 + value.length);
+        body.put(ContactJournalConstant.CONTACT).putInt(date).putInt(duration).put(value);
+        append(body.array());
+        nextSequence = nextSequence + 1;
+        pendingSequenced = pendingSequenced + 1;
+        openBatch = true;
+    }
+
+    /**
+     * Appends a positive test hash to the records waiting to be flushed.
+     *
+     * @param testHash alphanumeric string that identifies the positive COVID-19 test.
+     * @throws IllegalArgumentException if the record is too long.
+     * @since 1.1.0
+     */
+    public void appendTestHash(String testHash) {
+        final byte[] value = testHash.getBytes(StandardCharsets.UTF_8);
+        final ByteBuffer body = ByteBuffer.allocate(1 + value.length);
+        body.put(ContactJournalConstant.TEST_HASH).put(value);
+        append(body.array());
+        nextSequence = nextSequence + 1;
+        pendingSequenced = pendingSequenced + 1;
+        openBatch = true;
+    }
+
+    /**
+     * Ends the batch of the contacts and test hashes appended since the end of the last batch, if any.
+     * The end of the batch is written with the next flush.
+     *
+     * @since 1.1.0
+     */
+    public void endBatch() {
+        if (openBatch) {
+            append(new byte[]{ContactJournalConstant.BATCH_END});
+            openBatch = false;
+        }
+    }
+
+    /**
+     * Removes the records of the first batch once the government acknowledged them.
+     * The remaining records are copied to a new journal file, which replaces the journal file at once.
+     *
+     * @throws IOException if the journal file cannot be read or replaced.
+     * @since 1.1.0
+     */
+    public void removeFirstBatch() throws IOException {
+        long batchLength = -1;
+        long lastSequence = 0;
+        try (final Reader reader = read()) {
+            int record;
+            while ((record = reader.next()) != ContactInfoReader.END) {
+                if (record == BATCH_END) {
+                    batchLength = reader.getPosition();
+                    lastSequence = reader.getSequence();
+                    break;
+                }
+            }
+        }
+        if (batchLength < 0) {
+            return;
+        }
+
+        // The new journal file starts with the sequence number of its first record.
+        final Path remainingFile = journalFile.resolveSibling(journalFile.getFileName() + ContactJournalConstant.TEMPORARY_FILE_EXTENSION);
+        try (final FileChannel source = FileChannel.open(journalFile, StandardOpenOption.READ);
+             final FileChannel target = FileChannel.open(remainingFile,
+                     StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            final ByteBuffer sequenceRecord = ByteBuffer.wrap(encodeSequence(lastSequence + 1));
+            while (sequenceRecord.hasRemaining()) {
+                target.write(sequenceRecord);
+            }
+            long position = batchLength;
+            while (position < source.size()) {
+                position = position + source.transferTo(position, source.size() - position, target);
+            }
+            target.force(false);
+        }
+        Files.move(remainingFile, journalFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Appends a record with its length and checksum to the records waiting to be flushed.
+     *
+     * @param body type and values of the record.
+     * @throws IllegalArgumentException if the record is too long.
+     * @since 1.1.0
+     */
+    private void append(byte[] body) {
+        final byte[] record = encode(body);
+        pendingRecords.write(record, 0, record.length);
+        pendingCount = pendingCount + 1;
+    }
+
+    /**
+     * Encodes the record holding the sequence number of the next contact or test hash of the journal file.
+     *
+     * @param sequence sequence number of the next contact or test hash.
+     * @return encoded record.
+     * @since 1.1.0
+     */
+    private static byte[] encodeSequence(long sequence) {
+        return encode(ByteBuffer.allocate(1 + 8).put(ContactJournalConstant.SEQUENCE).putLong(sequence).array());
+    }
+
+    /**
+     * Encodes a record with its length and checksum.
+     *
+     * @param body type and values of the record.
+     * @return encoded record.
+     * @throws IllegalArgumentException if the record is too long.
+     * @since 1.1.0
+     */
+    private static byte[] encode(byte[] body) {
+        // Throw exception if the record would be read as corrupted.
+        if (body.length > ContactJournalConstant.MAX_RECORD_LENGTH) {
+            throw new IllegalArgumentException("Journal record of " + body.length + " bytes is too long.");
+        }
+
+        final CRC32 crc32 = new CRC32();
+        crc32.update(body);
+        final ByteBuffer record = ByteBuffer.allocate(4 + body.length + 4);
+        record.putInt(body.length).put(body).putInt((int) crc32.getValue());
+        return record.array();
+    }
+
+    /**
+     * @return number of records appended since the last flush.
+     * @since 1.1.0
+     */
+    public int getPendingCount() {
+        return pendingCount;
+    }
+
+    /**
+     * Writes the records appended since the last flush to the end of the journal file with a single write.
+     *
+     * @param force {@code true} to wait until the records reach the storage device, {@code false} to leave them to the operating system.
+     * @throws IOException if the records cannot be written, they stay pending.
+     * @since 1.1.0
+     */
+    public void flush(boolean force) throws IOException {
+        if (pendingCount == 0) {
+            return;
+        }
+
+        final ByteBuffer records = ByteBuffer.wrap(pendingRecords.toByteArray());
+        try (final FileChannel channel = FileChannel.open(journalFile,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            // A new journal file starts with the sequence number of its first record.
+            if (channel.size() == 0) {
+                final ByteBuffer sequenceRecord = ByteBuffer.wrap(encodeSequence(nextSequence - pendingSequenced));
+                while (sequenceRecord.hasRemaining()) {
+                    channel.write(sequenceRecord);
+                }
+            }
+            while (records.hasRemaining()) {
+                channel.write(records);
+            }
+            if (force) {
+                channel.force(false);
+            }
+        }
+        pendingRecords.reset();
+        pendingCount = 0;
+        pendingSequenced = 0;
+    }
+
+    /**
+     * Flushes the pending records and opens a reader of the records of the journal in the order they were appended.
+     *
+     * @return reader of the records.
+     * @throws IOException if the pending records cannot be written or the journal file cannot be opened.
+     * @since 1.1.0
+     */
+    public Reader read() throws IOException {
+        flush(false);
+        try {
+            return new Reader(new DataInputStream(new BufferedInputStream(Files.newInputStream(journalFile))));
+        } catch (NoSuchFileException e) {
+            return new Reader(null);
+        }
+    }
+
+    /**
+     * {@code Reader} reads the records of a {@code ContactJournal} one record at a time,
+     * returning the same records as {@link ContactInfoReader}. Reading stops at the first incomplete or corrupted record.
+     *
+     * @author Dhrumil Amish Shah (B00857606)
+     * created on 2026-10-17
+     * @version 1.1.0
+     * @see ContactJournal
+     * @since 1.1.0
+     */
+    public static class Reader implements AutoCloseable {
+        private final DataInputStream inputStream;
+        private final CRC32 crc32 = new CRC32();
+
+        // position holds the number of bytes of the complete records read.
+        private long position;
+
+        // sequence holds the sequence number of the last contact or test hash read.
+        private long sequence;
+
+        // Values of the record read last.
+        private String testHash;
+        private String individual;
+        private int date;
+        private int duration;
+
+        /**
+         * Constructs this {@code Reader}.
+         *
+         * @param inputStream stream of the journal file, {@code null} if the file does not exist.
+         */
+        private Reader(DataInputStream inputStream) {
+            this.inputStream = inputStream;
+        }
+
+        /**
+         * Reads the next record of the journal.
+         *
+         * @return {@link ContactInfoReader#TEST_HASH} or {@link ContactInfoReader#CONTACT} for the record read,
+         * {@link #BATCH_END} for the end of a batch, {@link ContactInfoReader#END} when there are no more complete records.
+         * @throws IOException if the journal file cannot be read.
+         * @since 1.1.0
+         */
+        public int next() throws IOException {
+            if (inputStream == null) {
+                return ContactInfoReader.END;
+            }
+
+            // Stop at the end of the file or at a partial or corrupted record.
+            final byte[] body;
+            try {
+                final int length = inputStream.readInt();
+                if (length < 1 || length > ContactJournalConstant.MAX_RECORD_LENGTH) {
+                    return ContactInfoReader.END;
+                }
+                body = new byte[length];
+                inputStream.readFully(body);
+                crc32.reset();
+                crc32.update(body);
+                if (inputStream.readInt() != (int) crc32.getValue()) {
+                    return ContactInfoReader.END;
+                }
+            } catch (EOFException e) {
+                return ContactInfoReader.END;
+            }
+
+            final ByteBuffer record = ByteBuffer.wrap(body);
+            final byte type = record.get();
+            final int result;
+            if (type == ContactJournalConstant.CONTACT && body.length >= 9) {
+                date = record.getInt();
+                duration = record.getInt();
+                individual = new String(body, 9, body.length - 9, StandardCharsets.UTF_8);
+                sequence = sequence + 1;
+                result = ContactInfoReader.CONTACT;
+            } else if (type == ContactJournalConstant.TEST_HASH) {
+                testHash = new String(body, 1, body.length - 1, StandardCharsets.UTF_8);
+                sequence = sequence + 1;
+                result = ContactInfoReader.TEST_HASH;
+            } else if (type == ContactJournalConstant.BATCH_END && body.length == 1) {
+                result = BATCH_END;
+            } else if (type == ContactJournalConstant.SEQUENCE && body.length == 9) {
+                // Sequence numbers are not returned, the next record is read instead.
+                sequence = record.getLong() - 1;
+                position = position + 4 + body.length + 4;
+                return next();
+            } else {
+                return ContactInfoReader.END;
+            }
+            position = position + 4 + body.length + 4;
+            return result;
+        }
+
+        /**
+         * @return number of bytes of the complete records read.
+         */
+        public long getPosition() {
+            return position;
+        }
+
+        /**
+         * @return sequence number of the last contact or test hash read.
+         */
+        public long getSequence() {
+            return sequence;
+        }
+
+        /**
+         * @return positive test hash read last.
+         */
+        public String getTestHash() {
+            return testHash;
+        }
+
+        /**
+         * @return alphanumeric string of the device in the contact read last.
+         */
+        public String getIndividual() {
+            return individual;
+        }
+
+        /**
+         * @return number of days since January 1, 2021 of the contact read last.
+         */
+        public int getDate() {
+            return date;
+        }
+
+        /**
+         * @return number of minutes of the contact read last.
+         */
+        public int getDuration() {
+            return duration;
+        }
+
+        /**
+         * Closes the journal file.
+         *
+         * @throws IOException if the file cannot be closed.
+         * @since 1.1.0
+         */
+        @Override
+        public void close() throws IOException {
+            if (inputStream != null) {
+                inputStream.close();
+            }
+        }
+    }
+
+    /**
+     * {@code ContactJournalConstant} holds all the constants used by {@code ContactJournal}.
+     *
+     * @author Dhrumil Amish Shah (B00857606)
+     * created on 2026-10-17
+     * @version 1.1.0
+     * @see ContactJournal
+     * @since 1.1.0
+     */
+    private static class ContactJournalConstant {
+        private static final byte CONTACT = 'C';
+        private static final byte TEST_HASH = 'T';
+        private static final byte BATCH_END = 'B';
+        private static final byte SEQUENCE = 'S';
+        private static final long SEQUENCES_PER_MILLISECOND = 1024;
+        private static final String TEMPORARY_FILE_EXTENSION = ".tmp";
+        private static final int MAX_RECORD_LENGTH = 64 * 1024;
+    }
+}
@@ -0,0 +1,162 @@
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+@DisplayName("Contact journal test")
+public class ContactJournalTest {
+    private static final Path JOURNAL_FILE = Path.of("contact-journal-test.journal");
+
+    @DisplayName("Delete journal after each test")
+    @AfterEach
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(JOURNAL_FILE);
+    }
+
+    @DisplayName("Read records in the order they were appended")
+    @Test
+    public void appendAndRead() throws IOException {
+        final ContactJournal contactJournal = new ContactJournal(JOURNAL_FILE);
+        contactJournal.appendContact("a1", 5, 10);
+        contactJournal.appendTestHash("t1");
+        contactJournal.appendContact("b2", 300, 7);
+        contactJournal.flush(false);
+
+        try (final ContactJournal.Reader reader = contactJournal.read()) {
+            Assertions.assertEquals(ContactInfoReader.CONTACT, reader.next());
+            Assertions.assertEquals("a1", reader.getIndividual());
+            Assertions.assertEquals(5, reader.getDate());
+            Assertions.assertEquals(10, reader.getDuration());
+            Assertions.assertEquals(ContactInfoReader.TEST_HASH, reader.next());
+            Assertions.assertEquals("t1", reader.getTestHash());
+            Assertions.assertEquals(ContactInfoReader.CONTACT, reader.next());
+            Assertions.assertEquals("b2", reader.getIndividual());
+            Assertions.assertEquals(ContactInfoReader.END, reader.next());
+        }
+    }
+
+    @DisplayName("Number records and remove acknowledged batches")
+    @Test
+    public void removeBatches() throws IOException {
+        ContactJournal contactJournal = new ContactJournal(JOURNAL_FILE);
+        contactJournal.appendContact("a1", 5, 10);
+        contactJournal.appendTestHash("t1");
+        contactJournal.endBatch();
+        contactJournal.endBatch();
+        contactJournal.appendContact("b2", 6, 10);
+
+        final long firstSequence;
+        try (final ContactJournal.Reader reader = contactJournal.read()) {
+            Assertions.assertEquals(ContactInfoReader.CONTACT, reader.next());
+            firstSequence = reader.getSequence();
+            Assertions.assertEquals(ContactInfoReader.TEST_HASH, reader.next());
+            Assertions.assertEquals(firstSequence + 1, reader.getSequence());
+            Assertions.assertEquals(ContactJournal.BATCH_END, reader.next());
+            Assertions.assertEquals(ContactInfoReader.CONTACT, reader.next());
+            Assertions.assertEquals(firstSequence + 2, reader.getSequence());
+            Assertions.assertEquals(ContactInfoReader.END, reader.next());
+        }
+
+        // Records left after the first batch keep their sequence numbers, also once the journal is opened again.
+        contactJournal.removeFirstBatch();
+        contactJournal = new ContactJournal(JOURNAL_FILE);
+        try (final ContactJournal.Reader reader = contactJournal.read()) {
+            Assertions.assertEquals(ContactInfoReader.CONTACT, reader.next());
+            Assertions.assertEquals("b2", reader.getIndividual());
+            Assertions.assertEquals(firstSequence + 2, reader.getSequence());
+            Assertions.assertEquals(ContactInfoReader.END, reader.next());
+        }
+
+        // Sequence numbers are not reused once all the records are removed.
+        contactJournal.endBatch();
+        contactJournal.removeFirstBatch();
+        contactJournal = new ContactJournal(JOURNAL_FILE);
+        contactJournal.appendTestHash("t2");
+        try (final ContactJournal.Reader reader = contactJournal.read()) {
+            Assertions.assertEquals(ContactInfoReader.TEST_HASH, reader.next());
+            Assertions.assertEquals(firstSequence + 3, reader.getSequence());
+            Assertions.assertEquals(ContactInfoReader.END, reader.next());
+        }
+    }
+
+    @DisplayName("Keep appended records in memory until flush")
+    @Test
+    public void flushPendingRecords() throws IOException {
+        final ContactJournal contactJournal = new ContactJournal(JOURNAL_FILE);
+        contactJournal.appendContact("a1", 5, 10);
+        contactJournal.appendTestHash("t1");
+        Assertions.assertEquals(2, contactJournal.getPendingCount());
+        Assertions.assertFalse(Files.exists(JOURNAL_FILE));
+
+        contactJournal.flush(true);
+        Assertions.assertEquals(0, contactJournal.getPendingCount());
+        final long flushedLength = Files.size(JOURNAL_FILE);
+
+        // Records which were not flushed are lost by a crash.
+        contactJournal.appendContact("b2", 6, 10);
+        Assertions.assertEquals(flushedLength, Files.size(JOURNAL_FILE));
+        try (final ContactJournal.Reader reader = new ContactJournal(JOURNAL_FILE).read()) {
+            Assertions.assertEquals(ContactInfoReader.CONTACT, reader.next());
+            Assertions.assertEquals(ContactInfoReader.TEST_HASH, reader.next());
+            Assertions.assertEquals(ContactInfoReader.END, reader.next());
+        }
+
+        // Reading flushes the pending records first.
+        try (final ContactJournal.Reader reader = contactJournal.read()) {
+            Assertions.assertEquals(ContactInfoReader.CONTACT, reader.next());
+            Assertions.assertEquals(ContactInfoReader.TEST_HASH, reader.next());
+            Assertions.assertEquals(ContactInfoReader.CONTACT, reader.next());
+            Assertions.assertEquals("b2", reader.getIndividual());
+            Assertions.assertEquals(ContactInfoReader.END, reader.next());
+        }
+    }
+
+    @DisplayName("Truncate the partial last record left by a crash")
+    @Test
+    public void recoverPartialRecord() throws IOException {
+        final ContactJournal crashedJournal = new ContactJournal(JOURNAL_FILE);
+        crashedJournal.appendContact("a1", 5, 10);
+        crashedJournal.flush(true);
+        final long validLength = Files.size(JOURNAL_FILE);
+
+        // Record cut in the middle of its values.
+        Files.write(JOURNAL_FILE, ByteBuffer.allocate(6).putInt(40).put((byte) 'C').put((byte) 0).array(), StandardOpenOption.APPEND);
+
+        final ContactJournal contactJournal = new ContactJournal(JOURNAL_FILE);
+        Assertions.assertEquals(validLength, Files.size(JOURNAL_FILE));
+
+        // Records appended after recovery are read after the complete ones.
+        contactJournal.appendTestHash("t1");
+        try (final ContactJournal.Reader reader = contactJournal.read()) {
+            Assertions.assertEquals(ContactInfoReader.CONTACT, reader.next());
+            Assertions.assertEquals(ContactInfoReader.TEST_HASH, reader.next());
+            Assertions.assertEquals("t1", reader.getTestHash());
+            Assertions.assertEquals(ContactInfoReader.END, reader.next());
+        }
+    }
+
+    @DisplayName("Ignore records with an invalid checksum")
+    @Test
+    public void recoverCorruptedRecord() throws IOException {
+        final ContactJournal contactJournal = new ContactJournal(JOURNAL_FILE);
+        contactJournal.appendContact("a1", 5, 10);
+        contactJournal.flush(false);
+        final long validLength = Files.size(JOURNAL_FILE);
+        contactJournal.appendContact("b2", 6, 10);
+        contactJournal.flush(false);
+
+        // Flip a byte of the individual of the last record.
+        final byte[] journal = Files.readAllBytes(JOURNAL_FILE);
+        journal[journal.length - 5] ^= 1;
+        Files.write(JOURNAL_FILE, journal);
+
+        new ContactJournal(JOURNAL_FILE);
+        Assertions.assertEquals(validLength, Files.size(JOURNAL_FILE));
+    }
+}
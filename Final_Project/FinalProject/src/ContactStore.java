@@ -0,0 +1,161 @@
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+/**
+ * {@code ContactStore} stores the mobile devices, contacts and test results on behalf of {@code Government}.
+ * Each operation is atomic, i.e., either all its changes are stored or none of them.
+ * <p>
+ * A contact with someone diagnosed with COVID-19 is an exposure if the contact is made within
+ * {@value #EXPOSURE_DAYS} days of the positive test and is not notified yet. Exposures are recorded as soon as
+ * either the contact, the device test report or the test result is stored, and they are reported once to the
+ * device which made the contact.
+ *
+ * @author Dhrumil Amish Shah (B00857606)
+ * created on 2026-10-17
+ * @version 1.1.0
+ * @see Government
+ * @see JdbcContactStore
+ * @see InMemoryContactStore
+ * @since 1.1.0
+ */
+public interface ContactStore extends AutoCloseable {
+    /**
+     * Number of days before and after a positive test during which contacts are exposures.
+     */
+    int EXPOSURE_DAYS = 14;
+
+    /**
+     * Number of days of the contacts dropped at once by {@link #purgeContactsBefore(int)}.
+     */
+    int CONTACT_PARTITION_DAYS = 7;
+
+    /**
+     * Latest contact date accepted, i.e., the number of days from January 1, 2021 to January 1, 2121.
+     */
+    int MAX_CONTACT_DATE = 36524;
+
+    /**
+     * Gets the current date as the number of days since January 1, 2021 in UTC.
+     * Contact dates are sent by the devices, so maintenance never relies on a contact date later than the current date.
+     *
+     * @return number of days since January 1, 2021 of the current date.
+     * @since 1.1.0
+     */
+    static int getCurrentDate() {
+        return (int) ChronoUnit.DAYS.between(LocalDate.of(2021, 1, 1), LocalDate.now(ZoneOffset.UTC));
+    }
+
+    /**
+     * Stores the contact information of many initiators and reports the exposures of each initiator once.
+     * Device hashes are inserted if not stored already and contacts of the same pair on the same day are merged.
+     * Initiators which numbered their records with a sequence number not newer than the last one stored
+     * are skipped, their exposures are still reported.
+     *
+     * @param initiators   hash value of each caller's device configuration properties.
+     * @param contactBatch contact information read from the initiators.
+     * @return for each initiator, {@code true} if it has been near anyone diagnosed with COVID-19 in the 14 days otherwise {@code false}.
+     * @throws RuntimeException if any error occurs during execution of this method.
+     * @since 1.1.0
+     */
+    boolean[] storeContactInfo(List<String> initiators, ContactBatch contactBatch);
+
+    /**
+     * Stores a COVID-19 test result and records the exposures of the devices which already reported the test if positive.
+     * Test results already stored are ignored.
+     *
+     * @param testHash alphanumeric string that identifies the COVID-19 test.
+     * @param date     number of days since January 1, 2021.
+     * @param result   positive or negative COVID-19 test.
+     * @return {@code true} if the test result is inserted, {@code false} if it was stored already.
+     * @throws RuntimeException if any error occurs during execution of this method.
+     * @since 1.1.0
+     */
+    boolean storeTestResult(String testHash, int date, boolean result);
+
+    /**
+     * Stores a chunk of test results at once and records the exposures of the positive ones.
+     * Test results already stored are ignored.
+     *
+     * @param testResults test results to be stored.
+     * @return number of test results inserted.
+     * @throws RuntimeException if any error occurs during execution of this method.
+     * @since 1.1.0
+     */
+    int storeTestResults(List<TestResult> testResults);
+
+    /**
+     * Selects the pairs who contacted for at least {@code minTime} minutes on every date from {@code fromDate} to {@code toDate},
+     * both inclusive. Pairs are given to {@code consumer} ordered by date, {@code personOneId} and then {@code personTwoId}
+     * as expected by {@link GatheringEngine}.
+     *
+     * @param fromDate first date of the pairs.
+     * @param toDate   last date of the pairs.
+     * @param minTime  minimum time of contact for each pair.
+     * @param consumer consumer of the pairs.
+     * @throws RuntimeException if any error occurs during execution of this method.
+     * @since 1.1.0
+     */
+    void selectContactPairs(int fromDate, int toDate, int minTime, ContactPairConsumer consumer);
+
+    /**
+     * Drops the contacts made before {@code date} along with their pending exposures.
+     * Contacts are dropped by weeks of {@value #CONTACT_PARTITION_DAYS} days, so contacts of the week containing {@code date} are kept.
+     *
+     * @param date number of days since January 1, 2021 of the first date kept.
+     * @return number of weeks dropped.
+     * @throws RuntimeException if any error occurs during execution of this method.
+     * @since 1.1.0
+     */
+    int purgeContactsBefore(int date);
+
+    /**
+     * Prepares the storage of the upcoming contacts and, if {@code retentionDays} is positive, drops the contacts older than
+     * {@code retentionDays} days before the latest contact date. Contact dates later than {@link #getCurrentDate()}
+     * are ignored, so a device sending a far-future date neither drops the real contacts nor prepares storage for that date.
+     *
+     * @param retentionDays number of days of contacts kept before the latest contact date. (0 to keep all)
+     * @throws RuntimeException if any error occurs during execution of this method.
+     * @since 1.1.0
+     */
+    void maintainContacts(int retentionDays);
+
+    /**
+     * Clears the in-memory caches of stored rows.
+     * It must be called if the storage is modified without using this {@code ContactStore}.
+     *
+     * @since 1.1.0
+     */
+    void clearCaches();
+
+    /**
+     * Releases the resources held by this {@code ContactStore}.
+     *
+     * @since 1.1.0
+     */
+    @Override
+    void close();
+
+    /**
+     * {@code ContactPairConsumer} receives the pairs selected by {@link #selectContactPairs(int, int, int, ContactPairConsumer)}.
+     *
+     * @author Dhrumil Amish Shah (B00857606)
+     * created on 2026-10-17
+     * @version 1.1.0
+     * @see ContactStore
+     * @since 1.1.0
+     */
+    @FunctionalInterface
+    interface ContactPairConsumer {
+        /**
+         * Receives a pair who contacted on {@code date}.
+         *
+         * @param date        number of days since January 1, 2021 of the contacts.
+         * @param personOneId id of person one of the pair.
+         * @param personTwoId id of person two of the pair.
+         * @since 1.1.0
+         */
+        void accept(int date, int personOneId, int personTwoId);
+    }
+}
@@ -0,0 +1,396 @@
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Properties;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * {@code ContactTracingBenchmark} measures the hot paths of contact tracing with {@link BenchmarkRunner}:
+ * reading the contact information of a synchronization, building the queries of the database,
+ * counting gatherings from a preloaded pair list and recording contacts and tests on a mobile device.
+ * <p>
+ * Benchmarks are parameterized by the number of contacts per synchronization and by the density of the gathering graph,
+ * i.e., the chance that a person of the graph contacted another one. Results are written in the JSON format of JMH.
+ *
+ * @author Dhrumil Amish Shah (B00857606)
+ * created on 2026-10-17
+ * @version 1.1.0
+ * @see BenchmarkRunner
+ * @since 1.1.0
+ */
+public class ContactTracingBenchmark {
+    /**
+     * Runs the benchmarks described by the configuration file given as first argument, {@code benchmark.properties} by default,
+     * and writes their results to the configured output file.
+     *
+     * @param args optional configuration file of the benchmarks.
+     * @since 1.1.0
+     */
+    public static void main(String[] args) {
+        final String configFile = args.length > 0 ? args[0] : ContactTracingBenchmarkConstant.DEFAULT_CONFIG_FILE;
+
+        // Load configuration file in benchmarkProperties.
+        final Properties benchmarkProperties = new Properties();
+        try (final InputStream inputStream = new FileInputStream(configFile)) {
+            benchmarkProperties.load(inputStream);
+        } catch (Exception e) {
+            // Throw exception if error occurs while loading configuration file.
+            throw new RuntimeException(e.getMessage());
+        }
+
+        final BenchmarkRunner benchmarkRunner = createRunner(benchmarkProperties);
+        final List<BenchmarkRunner.Result> results = benchmarkRunner.run(
+                benchmarkProperties.getProperty(ContactTracingBenchmarkConstant.INCLUDE_KEY, "").trim(), System.out);
+        final Path outputFile = Path.of(benchmarkProperties.getProperty(ContactTracingBenchmarkConstant.OUTPUT_KEY,
+                ContactTracingBenchmarkConstant.DEFAULT_OUTPUT).trim());
+        benchmarkRunner.writeJson(results, outputFile);
+        System.out.println("# Results written to " + outputFile.toAbsolutePath());
+    }
+
+    /**
+     * Creates the runner of the benchmarks configured by {@code benchmarkProperties} with every benchmark registered.
+     *
+     * @param benchmarkProperties configuration properties of the benchmarks.
+     * @return runner of the benchmarks.
+     * @throws RuntimeException if a configuration property is invalid.
+     * @since 1.1.0
+     */
+    static BenchmarkRunner createRunner(Properties benchmarkProperties) {
+        final BenchmarkRunner benchmarkRunner = new BenchmarkRunner(
+                getIntProperty(benchmarkProperties, ContactTracingBenchmarkConstant.WARMUP_ITERATIONS_KEY, ContactTracingBenchmarkConstant.DEFAULT_WARMUP_ITERATIONS, 0),
+                getIntProperty(benchmarkProperties, ContactTracingBenchmarkConstant.MEASUREMENT_ITERATIONS_KEY, ContactTracingBenchmarkConstant.DEFAULT_MEASUREMENT_ITERATIONS, 1),
+                getIntProperty(benchmarkProperties, ContactTracingBenchmarkConstant.ITERATION_TIME_KEY, ContactTracingBenchmarkConstant.DEFAULT_ITERATION_TIME, 1));
+        for (String[] parameter : ContactTracingBenchmarkConstant.PARAMETERS) {
+            benchmarkRunner.setParameter(parameter[0], Arrays.stream(benchmarkProperties.getProperty(parameter[0], parameter[1]).split(","))
+                    .map(String::trim).filter(value -> !value.isEmpty()).collect(Collectors.toList()));
+        }
+
+        // Reading the contact information of a synchronization.
+        benchmarkRunner.addBenchmark("Government.readContactInfoXML", List.of(ContactTracingBenchmarkConstant.CONTACTS_PER_SYNC), parameters -> {
+            final String contactInfo = createContactInfoXML(Integer.parseInt(parameters.get(ContactTracingBenchmarkConstant.CONTACTS_PER_SYNC)));
+            return () -> {
+                final ContactBatch contactBatch = new ContactBatch();
+                Government.readContactInfo(contactBatch, 0, contactInfo);
+                return contactBatch.contactCount;
+            };
+        });
+        benchmarkRunner.addBenchmark("Government.readContactInfoBinary", List.of(ContactTracingBenchmarkConstant.CONTACTS_PER_SYNC), parameters -> {
+            final byte[] contactInfo = createBinaryContactInfo(Integer.parseInt(parameters.get(ContactTracingBenchmarkConstant.CONTACTS_PER_SYNC)));
+            return () -> {
+                final ContactBatch contactBatch = new ContactBatch();
+                Government.readContactInfo(contactBatch, 0, contactInfo);
+                return contactBatch.contactCount;
+            };
+        });
+
+        // Building the queries of the database.
+        benchmarkRunner.addBenchmark("GovernmentDatabase.syncQueries", List.of(), parameters -> () ->
+                JdbcContactStore.GovernmentDatabase.getSelectSyncSequencesQuery().length() +
+                        JdbcContactStore.GovernmentDatabase.getUpdateSyncSequenceQuery().length() +
+                        JdbcContactStore.GovernmentDatabase.getInsertMobileDeviceQuery().length() +
+                        JdbcContactStore.GovernmentDatabase.getSelectMobileDeviceIdsQuery().length() +
+                        JdbcContactStore.GovernmentDatabase.getInsertMobileDeviceTestResultQuery().length() +
+                        JdbcContactStore.GovernmentDatabase.getSelectLastContactIdQuery().length() +
+                        JdbcContactStore.GovernmentDatabase.getInsertContactQuery().length() +
+                        JdbcContactStore.GovernmentDatabase.getInsertDeviceTestExposuresQuery().length() +
+                        JdbcContactStore.GovernmentDatabase.getInsertContactExposuresQuery().length() +
+                        JdbcContactStore.GovernmentDatabase.getSelectExposuresQuery().length() +
+                        JdbcContactStore.GovernmentDatabase.getDeleteExposuresQuery().length());
+        benchmarkRunner.addBenchmark("GovernmentDatabase.testResultQueries", List.of(), parameters -> () ->
+                JdbcContactStore.GovernmentDatabase.getInsertTestResultQuery().length() +
+                        JdbcContactStore.GovernmentDatabase.getInsertTestResultExposuresQuery().length() +
+                        JdbcContactStore.GovernmentDatabase.getInsertTestResultsQuery(ContactTracingBenchmarkConstant.TEST_RESULT_ROWS).length());
+        benchmarkRunner.addBenchmark("GovernmentDatabase.gatheringQueries", List.of(), parameters -> () ->
+                JdbcContactStore.GovernmentDatabase.getContactGatheringQuery().length() +
+                        JdbcContactStore.GovernmentDatabase.getContactGatheringRangeQuery().length());
+
+        // Counting gatherings from a preloaded pair list.
+        benchmarkRunner.addBenchmark("GatheringEngine.countGatherings", List.of(ContactTracingBenchmarkConstant.GATHERING_ENGINE,
+                ContactTracingBenchmarkConstant.GATHERING_PEOPLE, ContactTracingBenchmarkConstant.GRAPH_DENSITY), parameters -> {
+            final int[][] pairs = createContactGraph(Integer.parseInt(parameters.get(ContactTracingBenchmarkConstant.GATHERING_PEOPLE)),
+                    Double.parseDouble(parameters.get(ContactTracingBenchmarkConstant.GRAPH_DENSITY)));
+            final String engine = parameters.get(ContactTracingBenchmarkConstant.GATHERING_ENGINE);
+            final ForkJoinPool forkJoinPool = engine.equals(ContactTracingBenchmarkConstant.ENGINE_PARALLEL) ? new ForkJoinPool() : null;
+            final GatheringEngine gatheringEngine;
+            if (forkJoinPool != null) {
+                gatheringEngine = new ParallelGatheringEngine(forkJoinPool);
+            } else if (engine.equals(ContactTracingBenchmarkConstant.ENGINE_LINKED_LIST)) {
+                gatheringEngine = new LinkedListGatheringEngine();
+            } else if (engine.equals(ContactTracingBenchmarkConstant.ENGINE_ADJACENCY)) {
+                gatheringEngine = new AdjacencyGatheringEngine();
+            } else {
+                throw new RuntimeException("Invalid value for the key \"" + ContactTracingBenchmarkConstant.GATHERING_ENGINE + "\".");
+            }
+            return new BenchmarkRunner.Trial() {
+                @Override
+                public Object invoke() {
+                    return gatheringEngine.countGatherings(pairs[0], pairs[1], pairs[0].length,
+                            ContactTracingBenchmarkConstant.GATHERING_MIN_SIZE, ContactTracingBenchmarkConstant.GATHERING_DENSITY);
+                }
+
+                @Override
+                public void close() {
+                    if (forkJoinPool != null) {
+                        forkJoinPool.shutdown();
+                    }
+                }
+            };
+        });
+
+        // Recording contacts and tests on a mobile device and sending them.
+        benchmarkRunner.addBenchmark("MobileDevice.recordContact", List.of(ContactTracingBenchmarkConstant.DURABILITY), parameters -> {
+            final DeviceTrial deviceTrial = new DeviceTrial(parameters.get(ContactTracingBenchmarkConstant.DURABILITY));
+            return deviceTrial.withOperation(() -> deviceTrial.mobileDevice.recordContact(deviceTrial.nextIndividual(), 10, 15));
+        });
+        benchmarkRunner.addBenchmark("MobileDevice.positiveTest", List.of(ContactTracingBenchmarkConstant.DURABILITY), parameters -> {
+            final DeviceTrial deviceTrial = new DeviceTrial(parameters.get(ContactTracingBenchmarkConstant.DURABILITY));
+            return deviceTrial.withOperation(() -> deviceTrial.mobileDevice.positiveTest(deviceTrial.nextIndividual()));
+        });
+        benchmarkRunner.addBenchmark("MobileDevice.synchronizeData", List.of(ContactTracingBenchmarkConstant.CONTACTS_PER_SYNC,
+                ContactTracingBenchmarkConstant.DURABILITY), parameters -> {
+            final int contactsPerSync = Integer.parseInt(parameters.get(ContactTracingBenchmarkConstant.CONTACTS_PER_SYNC));
+            final DeviceTrial deviceTrial = new DeviceTrial(parameters.get(ContactTracingBenchmarkConstant.DURABILITY));
+            return deviceTrial.withOperation(() -> {
+                for (int i = 0; i < contactsPerSync; ++i) {
+                    deviceTrial.mobileDevice.recordContact(deviceTrial.nextIndividual(), 10, 15);
+                }
+                return deviceTrial.mobileDevice.synchronizeData();
+            });
+        });
+        return benchmarkRunner;
+    }
+
+    /**
+     * Gets the optional integer property {@code key} from {@code benchmarkProperties}.
+     *
+     * @param benchmarkProperties configuration properties of the benchmarks.
+     * @param key                 key of the property.
+     * @param defaultValue        value returned if the key is not present.
+     * @param minValue            minimum valid value.
+     * @return value of the property or {@code defaultValue} if the key is not present.
+     * @throws RuntimeException if the value of the property is not an integer greater than or equal to {@code minValue}.
+     */
+    private static int getIntProperty(Properties benchmarkProperties, String key, int defaultValue, int minValue) {
+        final String value = benchmarkProperties.getProperty(key);
+        if (value == null || value.trim().isEmpty()) {
+            return defaultValue;
+        }
+        try {
+            final int intValue = Integer.parseInt(value.trim());
+            if (intValue >= minValue) {
+                return intValue;
+            }
+        } catch (NumberFormatException ignored) {
+        }
+        throw new RuntimeException("Invalid value for the key \"" + key + "\".");
+    }
+
+    /**
+     * Creates the XML string of a synchronization of {@code contacts} contacts and a positive test hash.
+     *
+     * @param contacts number of contacts.
+     * @return XML string of the synchronization.
+     */
+    private static String createContactInfoXML(int contacts) {
+        final StringBuilder contactInfo = new StringBuilder("<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"no\"?>" +
+                "<MobileDevice Sequence=\"" + contacts + "\"><ContactsList>");
+        for (int i = 0; i < contacts; ++i) {
+            contactInfo.append("<Contact><Individual>").append(getIndividual(i)).append("</Individual><Date>")
+                    .append(i % 14).append("</Date><Duration>").append(5 + i % 60).append("</Duration></Contact>");
+        }
+        return contactInfo.append("</ContactsList><TestHashesList><TestHash>test1</TestHash></TestHashesList></MobileDevice>").toString();
+    }
+
+    /**
+     * Creates the binary contact information of a synchronization of {@code contacts} contacts and a positive test hash.
+     *
+     * @param contacts number of contacts.
+     * @return binary contact information of the synchronization.
+     */
+    private static byte[] createBinaryContactInfo(int contacts) {
+        final BinaryContactInfo.Writer writer = new BinaryContactInfo.Writer().setSequence(contacts);
+        for (int i = 0; i < contacts; ++i) {
+            writer.addContact(getIndividual(i), i % 14, 5 + i % 60);
+        }
+        return writer.addTestHash("test1").toByteArray();
+    }
+
+    /**
+     * Gets a device hash shaped like the SHA-256 hashes of the mobile devices.
+     *
+     * @param index index of the device.
+     * @return device hash of 64 hexadecimal digits.
+     */
+    private static String getIndividual(long index) {
+        return String.format("%064x", index * ContactTracingBenchmarkConstant.HASH_MULTIPLIER);
+    }
+
+    /**
+     * Creates the distinct directed pairs of {@code people} people ordered like the gathering query,
+     * each pair being present with probability {@code density}.
+     *
+     * @param people  number of people of the graph.
+     * @param density chance that a person contacted another one.
+     * @return ids of person one and ids of person two of each pair.
+     */
+    private static int[][] createContactGraph(int people, double density) {
+        final Random random = new Random(ContactTracingBenchmarkConstant.GRAPH_SEED);
+        int[] personOneIds = new int[ContactTracingBenchmarkConstant.INITIAL_PAIR_CAPACITY];
+        int[] personTwoIds = new int[ContactTracingBenchmarkConstant.INITIAL_PAIR_CAPACITY];
+        int pairCount = 0;
+        for (int one = 1; one <= people; ++one) {
+            for (int two = 1; two <= people; ++two) {
+                if (one != two && random.nextDouble() < density) {
+                    if (pairCount == personOneIds.length) {
+                        personOneIds = Arrays.copyOf(personOneIds, pairCount * 2);
+                        personTwoIds = Arrays.copyOf(personTwoIds, pairCount * 2);
+                    }
+                    personOneIds[pairCount] = one;
+                    personTwoIds[pairCount] = two;
+                    pairCount = pairCount + 1;
+                }
+            }
+        }
+        return new int[][]{Arrays.copyOf(personOneIds, pairCount), Arrays.copyOf(personTwoIds, pairCount)};
+    }
+
+    /**
+     * {@code DeviceTrial} holds a mobile device with its journal in a temporary directory, synchronizing with a government
+     * kept in memory.
+     *
+     * @author Dhrumil Amish Shah (B00857606)
+     * created on 2026-10-17
+     * @version 1.1.0
+     * @see ContactTracingBenchmark
+     * @since 1.1.0
+     */
+    private static class DeviceTrial {
+        // journalDirectory holds the temporary directory of the journal.
+        private final Path journalDirectory;
+
+        // government holds the government the device synchronizes with.
+        private final Government government;
+
+        // mobileDevice holds the device measured.
+        private final MobileDevice mobileDevice;
+
+        // nextIndex holds the index of the next individual met or test taken.
+        private long nextIndex;
+
+        /**
+         * Constructs this {@code DeviceTrial} with a device of given {@code durability}.
+         *
+         * @param durability durability level of the device.
+         * @throws IOException if the temporary directory cannot be created.
+         */
+        private DeviceTrial(String durability) throws IOException {
+            journalDirectory = Files.createTempDirectory(ContactTracingBenchmarkConstant.JOURNAL_DIRECTORY_PREFIX);
+            final Properties mobileDeviceProperties = new Properties();
+            mobileDeviceProperties.setProperty("address", "benchmark");
+            mobileDeviceProperties.setProperty("deviceName", "benchmark");
+            mobileDeviceProperties.setProperty("durability", durability);
+            government = new Government(ContactTracingBenchmarkConstant.GOVERNMENT_CONFIG);
+            try {
+                mobileDevice = new MobileDevice(mobileDeviceProperties, journalDirectory, government);
+            } catch (RuntimeException e) {
+                // Close the government and throw exception if the device cannot be created.
+                government.close();
+                throw e;
+            }
+        }
+
+        /**
+         * Gets the hash of the next individual met, also used as the next test hash.
+         *
+         * @return device hash of the next individual.
+         */
+        private String nextIndividual() {
+            nextIndex = nextIndex + 1;
+            return getIndividual(nextIndex);
+        }
+
+        /**
+         * Creates the trial running {@code operation} on this device, closing the government and deleting the journal once closed.
+         *
+         * @param operation operation of the trial.
+         * @return trial of the device.
+         */
+        private BenchmarkRunner.Trial withOperation(BenchmarkRunner.Trial operation) {
+            return new BenchmarkRunner.Trial() {
+                @Override
+                public Object invoke() throws Exception {
+                    return operation.invoke();
+                }
+
+                @Override
+                public void close() throws IOException {
+                    try {
+                        mobileDevice.close();
+                    } finally {
+                        government.close();
+                    }
+                    try (final Stream<Path> paths = Files.walk(journalDirectory)) {
+                        for (Path path : paths.sorted(Comparator.reverseOrder()).collect(Collectors.toList())) {
+                            Files.delete(path);
+                        }
+                    }
+                }
+            };
+        }
+    }
+
+    /**
+     * {@code ContactTracingBenchmarkConstant} holds all the constants used by {@code ContactTracingBenchmark}.
+     *
+     * @author Dhrumil Amish Shah (B00857606)
+     * created on 2026-10-17
+     * @version 1.1.0
+     * @see ContactTracingBenchmark
+     * @since 1.1.0
+     */
+    private static class ContactTracingBenchmarkConstant {
+        private static final String DEFAULT_CONFIG_FILE = "benchmark.properties";
+        private static final String WARMUP_ITERATIONS_KEY = "warmupIterations";
+        private static final int DEFAULT_WARMUP_ITERATIONS = 3;
+        private static final String MEASUREMENT_ITERATIONS_KEY = "measurementIterations";
+        private static final int DEFAULT_MEASUREMENT_ITERATIONS = 5;
+        private static final String ITERATION_TIME_KEY = "iterationTime";
+        private static final int DEFAULT_ITERATION_TIME = 1000;
+        private static final String INCLUDE_KEY = "include";
+        private static final String OUTPUT_KEY = "output";
+        private static final String DEFAULT_OUTPUT = "benchmark-results.json";
+        private static final String CONTACTS_PER_SYNC = "contactsPerSync";
+        private static final String GRAPH_DENSITY = "graphDensity";
+        private static final String GATHERING_PEOPLE = "gatheringPeople";
+        private static final String GATHERING_ENGINE = "gatheringEngine";
+        private static final String DURABILITY = "durability";
+        private static final String ENGINE_ADJACENCY = "adjacency";
+        private static final String ENGINE_PARALLEL = "parallel";
+        private static final String ENGINE_LINKED_LIST = "linkedList";
+
+        // PARAMETERS holds each parameter with its default values.
+        private static final String[][] PARAMETERS = {
+                {CONTACTS_PER_SYNC, "10,100,1000"},
+                {GRAPH_DENSITY, "0.01,0.05,0.2"},
+                {GATHERING_PEOPLE, "1000"},
+                {GATHERING_ENGINE, ENGINE_ADJACENCY + "," + ENGINE_PARALLEL},
+                {DURABILITY, "buffered,write"}
+        };
+        private static final int TEST_RESULT_ROWS = 500;
+        private static final int GATHERING_MIN_SIZE = 3;
+        private static final float GATHERING_DENSITY = 0.5f;
+        private static final long GRAPH_SEED = 2021;
+        private static final int INITIAL_PAIR_CAPACITY = 1024;
+        private static final long HASH_MULTIPLIER = 0x9e3779b97f4a7c15L;
+        private static final String GOVERNMENT_CONFIG = "memory_government.properties";
+        private static final String JOURNAL_DIRECTORY_PREFIX = "contact-tracing-benchmark";
+    }
+}
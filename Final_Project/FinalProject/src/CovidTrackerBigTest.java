@@ -6,19 +6,11 @@ import org.junit.jupiter.api.MethodOrderer;
 import org.junit.jupiter.api.Order;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestMethodOrder;
-import org.w3c.dom.Document;
-import org.w3c.dom.Element;
 
-import javax.xml.parsers.DocumentBuilderFactory;
-import javax.xml.transform.OutputKeys;
-import javax.xml.transform.Transformer;
-import javax.xml.transform.TransformerFactory;
-import javax.xml.transform.dom.DOMSource;
-import javax.xml.transform.stream.StreamResult;
-import java.io.File;
 import java.io.FileInputStream;
-import java.io.FileOutputStream;
 import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.sql.Connection;
 import java.sql.DriverManager;
 import java.sql.Statement;
@@ -49,18 +41,18 @@ public class CovidTrackerBigTest {
         m9 = new MobileDevice("user_9_config.properties", government);
         m10 = new MobileDevice("user_10_config.properties", government);
 
-        // Create empty XML files and truncate all tables before starting the test.
+        // Delete the journals and truncate all tables before starting the test.
         // This step ensures that the same test can be run multiple times without any issues.
-        Assertions.assertTrue(createEmptyXMLFiles(m1));
-        Assertions.assertTrue(createEmptyXMLFiles(m2));
-        Assertions.assertTrue(createEmptyXMLFiles(m3));
-        Assertions.assertTrue(createEmptyXMLFiles(m4));
-        Assertions.assertTrue(createEmptyXMLFiles(m5));
-        Assertions.assertTrue(createEmptyXMLFiles(m6));
-        Assertions.assertTrue(createEmptyXMLFiles(m7));
-        Assertions.assertTrue(createEmptyXMLFiles(m8));
-        Assertions.assertTrue(createEmptyXMLFiles(m9));
-        Assertions.assertTrue(createEmptyXMLFiles(m10));
+        Assertions.assertTrue(deleteJournalFile(m1));
+        Assertions.assertTrue(deleteJournalFile(m2));
+        Assertions.assertTrue(deleteJournalFile(m3));
+        Assertions.assertTrue(deleteJournalFile(m4));
+        Assertions.assertTrue(deleteJournalFile(m5));
+        Assertions.assertTrue(deleteJournalFile(m6));
+        Assertions.assertTrue(deleteJournalFile(m7));
+        Assertions.assertTrue(deleteJournalFile(m8));
+        Assertions.assertTrue(deleteJournalFile(m9));
+        Assertions.assertTrue(deleteJournalFile(m10));
 
         Assertions.assertTrue(truncateTableHelperMethod());
     }
@@ -280,27 +272,16 @@ public class CovidTrackerBigTest {
         // clear() makes sure that this test file can be run multiple times without any issues.
         Assertions.assertTrue(truncateTableHelperMethod());
 
-        File file1 = new File(m1.getMobileDeviceHash() + ".xml");
-        File file2 = new File(m2.getMobileDeviceHash() + ".xml");
-        File file3 = new File(m3.getMobileDeviceHash() + ".xml");
-        File file4 = new File(m4.getMobileDeviceHash() + ".xml");
-        File file5 = new File(m5.getMobileDeviceHash() + ".xml");
-        File file6 = new File(m6.getMobileDeviceHash() + ".xml");
-        File file7 = new File(m7.getMobileDeviceHash() + ".xml");
-        File file8 = new File(m8.getMobileDeviceHash() + ".xml");
-        File file9 = new File(m9.getMobileDeviceHash() + ".xml");
-        File file10 = new File(m10.getMobileDeviceHash() + ".xml");
-
-        Assertions.assertTrue(file1.delete());
-        Assertions.assertTrue(file2.delete());
-        Assertions.assertTrue(file3.delete());
-        Assertions.assertTrue(file4.delete());
-        Assertions.assertTrue(file5.delete());
-        Assertions.assertTrue(file6.delete());
-        Assertions.assertTrue(file7.delete());
-        Assertions.assertTrue(file8.delete());
-        Assertions.assertTrue(file9.delete());
-        Assertions.assertTrue(file10.delete());
+        Assertions.assertTrue(deleteJournalFile(m1));
+        Assertions.assertTrue(deleteJournalFile(m2));
+        Assertions.assertTrue(deleteJournalFile(m3));
+        Assertions.assertTrue(deleteJournalFile(m4));
+        Assertions.assertTrue(deleteJournalFile(m5));
+        Assertions.assertTrue(deleteJournalFile(m6));
+        Assertions.assertTrue(deleteJournalFile(m7));
+        Assertions.assertTrue(deleteJournalFile(m8));
+        Assertions.assertTrue(deleteJournalFile(m9));
+        Assertions.assertTrue(deleteJournalFile(m10));
     }
 
     /**
@@ -322,11 +303,15 @@ public class CovidTrackerBigTest {
                 governmentProperties.getProperty("user"),
                 governmentProperties.getProperty("password"));
              final Statement statement = connection.createStatement()) {
+            statement.addBatch("TRUNCATE TABLE exposure;");
             statement.addBatch("TRUNCATE TABLE contact;");
             statement.addBatch("TRUNCATE TABLE mobile_device_test_outcome;");
             statement.addBatch("TRUNCATE TABLE test_outcome;");
             statement.addBatch("TRUNCATE TABLE mobile_device;");
             statement.executeBatch();
+
+            // Drop the cached rows of the truncated tables.
+            government.clearCaches();
         } catch (Exception e) {
             return false;
         }
@@ -334,31 +319,17 @@ public class CovidTrackerBigTest {
     }
 
     /**
-     * Helper method to create XML file associated with the mobile device.
+     * Helper method to delete the journal file associated with the mobile device.
      *
      * @param mobileDevice mobile device to which the file is associated.
      * @return true if method is executed successfully.
      */
-    private static boolean createEmptyXMLFiles(MobileDevice mobileDevice) {
-        try (final FileOutputStream fileOutputStream = new FileOutputStream(mobileDevice.getMobileDeviceHash() + ".xml")) {
-            final Document xmlDoc = DocumentBuilderFactory.newInstance().newDocumentBuilder().newDocument();
-
-            final Element mobileDeviceEle = xmlDoc.createElement("MobileDevice");
-            final Element contactsListEle = xmlDoc.createElement("ContactsList");
-            final Element testHashesListEle = xmlDoc.createElement("TestHashesList");
-
-            mobileDeviceEle.appendChild(contactsListEle);
-            mobileDeviceEle.appendChild(testHashesListEle);
-
-            xmlDoc.appendChild(mobileDeviceEle);
-
-            final Transformer tr = TransformerFactory.newInstance().newTransformer();
-            tr.setOutputProperty(OutputKeys.METHOD, "xml");
-            tr.setOutputProperty(OutputKeys.ENCODING, "UTF-8");
-            tr.transform(new DOMSource(xmlDoc), new StreamResult(fileOutputStream));
+    private static boolean deleteJournalFile(MobileDevice mobileDevice) {
+        try {
+            Files.deleteIfExists(Path.of(mobileDevice.getMobileDeviceHash() + ".journal"));
         } catch (Exception e) {
             return false;
         }
         return true;
     }
-}
\ No newline at end of file
+}
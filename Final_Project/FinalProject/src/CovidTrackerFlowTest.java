@@ -6,21 +6,14 @@ import org.junit.jupiter.api.MethodOrderer;
 import org.junit.jupiter.api.Order;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestMethodOrder;
-import org.w3c.dom.Document;
-import org.w3c.dom.Element;
-
-import javax.xml.parsers.DocumentBuilderFactory;
-import javax.xml.transform.OutputKeys;
-import javax.xml.transform.Transformer;
-import javax.xml.transform.TransformerFactory;
-import javax.xml.transform.dom.DOMSource;
-import javax.xml.transform.stream.StreamResult;
-import java.io.File;
+
 import java.io.FileInputStream;
-import java.io.FileOutputStream;
 import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.sql.Connection;
 import java.sql.DriverManager;
+import java.sql.ResultSet;
 import java.sql.Statement;
 import java.util.Properties;
 
@@ -43,13 +36,13 @@ public class CovidTrackerFlowTest {
         m4 = new MobileDevice("user_4_config.properties", government);
         m5 = new MobileDevice("user_5_config.properties", government);
 
-        // Create empty XML files and truncate all tables before starting the test.
+        // Delete the journals and truncate all tables before starting the test.
         // This step ensures that the same test can be run multiple times without any issues.
-        Assertions.assertTrue(createEmptyXMLFiles(m1));
-        Assertions.assertTrue(createEmptyXMLFiles(m2));
-        Assertions.assertTrue(createEmptyXMLFiles(m3));
-        Assertions.assertTrue(createEmptyXMLFiles(m4));
-        Assertions.assertTrue(createEmptyXMLFiles(m5));
+        Assertions.assertTrue(deleteJournalFile(m1));
+        Assertions.assertTrue(deleteJournalFile(m2));
+        Assertions.assertTrue(deleteJournalFile(m3));
+        Assertions.assertTrue(deleteJournalFile(m4));
+        Assertions.assertTrue(deleteJournalFile(m5));
 
         Assertions.assertTrue(truncateTableHelperMethod());
     }
@@ -190,6 +183,29 @@ public class CovidTrackerFlowTest {
         Assertions.assertEquals(0, government.findGatherings(19, 2, 20, 0.5f));
     }
 
+    @DisplayName("Batches sent again are stored once")
+    @Order(5)
+    @Test
+    public void executeSynchronizeDataAgain() {
+        // Initiator which never synchronized, devices of the flow already stored their time based sequence numbers.
+        final String initiator = "resentBatchDevice";
+        final String contactInfo = "<MobileDevice Sequence=\"%d\"><ContactsList><Contact><Individual>" + m2.getMobileDeviceHash() +
+                "</Individual><Date>30</Date><Duration>40</Duration></Contact></ContactsList><TestHashesList></TestHashesList></MobileDevice>";
+
+        Assertions.assertFalse(government.mobileContact(initiator, String.format(contactInfo, 7)));
+        Assertions.assertEquals(40, sumContactDurationHelperMethod(30));
+
+        // Same batch and an older batch are skipped.
+        Assertions.assertFalse(government.mobileContact(initiator, String.format(contactInfo, 7)));
+        Assertions.assertFalse(government.mobileContactBinary(initiator,
+                new BinaryContactInfo.Writer().setSequence(5).addContact(m2.getMobileDeviceHash(), 30, 40).toByteArray()));
+        Assertions.assertEquals(40, sumContactDurationHelperMethod(30));
+
+        // Newer batch is merged into the contact of the same day.
+        Assertions.assertFalse(government.mobileContact(initiator, String.format(contactInfo, 8)));
+        Assertions.assertEquals(80, sumContactDurationHelperMethod(30));
+    }
+
     @DisplayName("Clear after flow execution")
     @AfterAll
     @Test
@@ -197,17 +213,39 @@ public class CovidTrackerFlowTest {
         // clear() makes sure that this test file can be run multiple times without any issues.
         Assertions.assertTrue(truncateTableHelperMethod());
 
-        File file1 = new File(m1.getMobileDeviceHash() + ".xml");
-        File file2 = new File(m2.getMobileDeviceHash() + ".xml");
-        File file3 = new File(m3.getMobileDeviceHash() + ".xml");
-        File file4 = new File(m4.getMobileDeviceHash() + ".xml");
-        File file5 = new File(m5.getMobileDeviceHash() + ".xml");
-
-        Assertions.assertTrue(file1.delete());
-        Assertions.assertTrue(file2.delete());
-        Assertions.assertTrue(file3.delete());
-        Assertions.assertTrue(file4.delete());
-        Assertions.assertTrue(file5.delete());
+        Assertions.assertTrue(deleteJournalFile(m1));
+        Assertions.assertTrue(deleteJournalFile(m2));
+        Assertions.assertTrue(deleteJournalFile(m3));
+        Assertions.assertTrue(deleteJournalFile(m4));
+        Assertions.assertTrue(deleteJournalFile(m5));
+    }
+
+    /**
+     * Helper method to sum the durations of the contacts on {@code date}.
+     *
+     * @param date number of days since January 1, 2021.
+     * @return sum of the durations, -1 if method failed.
+     */
+    private static int sumContactDurationHelperMethod(int date) {
+        final Properties governmentProperties;
+        try (final InputStream inputStream = new FileInputStream("government.properties")) {
+            governmentProperties = new Properties();
+            governmentProperties.load(inputStream);
+        } catch (Exception e) {
+            return -1;
+        }
+
+        try (final Connection connection = DriverManager.getConnection(
+                governmentProperties.getProperty("database"),
+                governmentProperties.getProperty("user"),
+                governmentProperties.getProperty("password"));
+             final Statement statement = connection.createStatement();
+             final ResultSet resultSet = statement.executeQuery("SELECT COALESCE(SUM(contact_duration), 0) FROM contact WHERE contact_date = " + date + ";")) {
+            resultSet.next();
+            return resultSet.getInt(1);
+        } catch (Exception e) {
+            return -1;
+        }
     }
 
     /**
@@ -229,11 +267,15 @@ public class CovidTrackerFlowTest {
                 governmentProperties.getProperty("user"),
                 governmentProperties.getProperty("password"));
              final Statement statement = connection.createStatement()) {
+            statement.addBatch("TRUNCATE TABLE exposure;");
             statement.addBatch("TRUNCATE TABLE contact;");
             statement.addBatch("TRUNCATE TABLE mobile_device_test_outcome;");
             statement.addBatch("TRUNCATE TABLE test_outcome;");
             statement.addBatch("TRUNCATE TABLE mobile_device;");
             statement.executeBatch();
+
+            // Drop the cached rows of the truncated tables.
+            government.clearCaches();
         } catch (Exception e) {
             return false;
         }
@@ -241,31 +283,17 @@ public class CovidTrackerFlowTest {
     }
 
     /**
-     * Helper method to create XML file associated with the mobile device.
+     * Helper method to delete the journal file associated with the mobile device.
      *
      * @param mobileDevice mobile device to which the file is associated.
      * @return true if method is executed successfully.
      */
-    private static boolean createEmptyXMLFiles(MobileDevice mobileDevice) {
-        try (final FileOutputStream fileOutputStream = new FileOutputStream(mobileDevice.getMobileDeviceHash() + ".xml")) {
-            final Document xmlDoc = DocumentBuilderFactory.newInstance().newDocumentBuilder().newDocument();
-
-            final Element mobileDeviceEle = xmlDoc.createElement("MobileDevice");
-            final Element contactsListEle = xmlDoc.createElement("ContactsList");
-            final Element testHashesListEle = xmlDoc.createElement("TestHashesList");
-
-            mobileDeviceEle.appendChild(contactsListEle);
-            mobileDeviceEle.appendChild(testHashesListEle);
-
-            xmlDoc.appendChild(mobileDeviceEle);
-
-            final Transformer tr = TransformerFactory.newInstance().newTransformer();
-            tr.setOutputProperty(OutputKeys.METHOD, "xml");
-            tr.setOutputProperty(OutputKeys.ENCODING, "UTF-8");
-            tr.transform(new DOMSource(xmlDoc), new StreamResult(fileOutputStream));
+    private static boolean deleteJournalFile(MobileDevice mobileDevice) {
+        try {
+            Files.deleteIfExists(Path.of(mobileDevice.getMobileDeviceHash() + ".journal"));
         } catch (Exception e) {
             return false;
         }
         return true;
     }
-}
\ No newline at end of file
+}
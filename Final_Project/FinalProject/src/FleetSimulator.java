@@ -0,0 +1,811 @@
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Properties;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntConsumer;
+import java.util.stream.Stream;
+
+/**
+ * {@code FleetSimulator} drives a {@code Government} with a fleet of simulated {@code MobileDevice}s to size the database
+ * and catch performance regressions.
+ * <p>
+ * The simulation is generated from a seed, so every run with the same configuration makes the same contacts, tests and
+ * synchronizations. Devices live in households whose members meet every day and visit venues, the busiest venues
+ * being visited the most, where they meet the devices next to them. Every day each device records its contacts, may test
+ * positive and synchronizes every {@code syncInterval} days, each device running on its own virtual thread when the
+ * Java runtime provides them and on a pool of platform threads otherwise. The lab then records the test results of the
+ * day and the gatherings of the day are counted.
+ * <p>
+ * Throughput and latency percentiles are reported for {@code mobileContact}, measured around the synchronization of
+ * a device, {@code recordTestResult} and {@code findGatherings}.
+ *
+ * @author Dhrumil Amish Shah (B00857606)
+ * created on 2026-10-17
+ * @version 1.1.0
+ * @see Government
+ * @see MobileDevice
+ * @see LatencyHistogram
+ * @since 1.1.0
+ */
+public class FleetSimulator {
+    // simulationProperties holds the configuration properties of the simulation.
+    private final Properties simulationProperties;
+
+    // governmentConfig holds the configuration file of the government driven by the simulation.
+    private final String governmentConfig;
+
+    // deviceCount, dayCount and seed hold the size of the fleet, the number of days simulated and the seed of the simulation.
+    private final int deviceCount;
+    private final int dayCount;
+    private final long seed;
+
+    // householdMaxSize, venueCount, visitPercent and contactsPerVisit shape the contacts made every day.
+    private final int householdMaxSize;
+    private final int venueCount;
+    private final int visitPercent;
+    private final int contactsPerVisit;
+
+    // positiveTestsPerThousand and negativeTestsPerPositive shape the tests taken every day.
+    private final int positiveTestsPerThousand;
+    private final int negativeTestsPerPositive;
+
+    // syncInterval holds the number of days between two synchronizations of a device.
+    private final int syncInterval;
+
+    // gatheringMinSize, gatheringMinTime and gatheringDensity hold the arguments of findGatherings.
+    private final int gatheringMinSize;
+    private final int gatheringMinTime;
+    private final float gatheringDensity;
+
+    // virtualThreads and platformThreads select the threads running the devices.
+    private final boolean virtualThreads;
+    private final int platformThreads;
+
+    /**
+     * Constructs this {@code FleetSimulator} with given configuration file {@code configFile}.
+     * Every key of the configuration file is optional, see {@code simulation.properties} for the keys and their defaults.
+     * Keys starting with {@code device.} are given, without the prefix, to the configuration properties of every device.
+     *
+     * @param configFile configuration file that contains the simulation configuration details.
+     * @throws IllegalArgumentException if arguments passed are illegal or inappropriate.
+     * @throws RuntimeException         if any error occurs while loading the configuration file.
+     * @since 1.1.0
+     */
+    public FleetSimulator(String configFile) {
+        // Throw exception if configuration file name is invalid.
+        if (configFile == null || configFile.trim().isEmpty()) {
+            throw new IllegalArgumentException("Invalid argument \"configFile\". - \"" + configFile + "\".");
+        }
+
+        // Load configuration file in simulationProperties.
+        try (final InputStream inputStream = new FileInputStream(configFile)) {
+            simulationProperties = new Properties();
+            simulationProperties.load(inputStream);
+        } catch (Exception e) {
+            // Throw exception if error occurs while loading configuration file.
+            throw new RuntimeException(e.getMessage());
+        }
+
+        governmentConfig = simulationProperties.getProperty(FleetSimulatorConstant.GOVERNMENT_CONFIG_KEY, FleetSimulatorConstant.DEFAULT_GOVERNMENT_CONFIG).trim();
+        deviceCount = getIntProperty(FleetSimulatorConstant.DEVICES_KEY, FleetSimulatorConstant.DEFAULT_DEVICES, 2);
+        dayCount = getIntProperty(FleetSimulatorConstant.DAYS_KEY, FleetSimulatorConstant.DEFAULT_DAYS, 1);
+        seed = getIntProperty(FleetSimulatorConstant.SEED_KEY, FleetSimulatorConstant.DEFAULT_SEED, Integer.MIN_VALUE);
+        householdMaxSize = getIntProperty(FleetSimulatorConstant.HOUSEHOLD_MAX_SIZE_KEY, FleetSimulatorConstant.DEFAULT_HOUSEHOLD_MAX_SIZE, 1);
+        venueCount = Math.max(1, deviceCount / getIntProperty(FleetSimulatorConstant.DEVICES_PER_VENUE_KEY, FleetSimulatorConstant.DEFAULT_DEVICES_PER_VENUE, 1));
+        visitPercent = getIntProperty(FleetSimulatorConstant.VISIT_PERCENT_KEY, FleetSimulatorConstant.DEFAULT_VISIT_PERCENT, 0);
+        contactsPerVisit = getIntProperty(FleetSimulatorConstant.CONTACTS_PER_VISIT_KEY, FleetSimulatorConstant.DEFAULT_CONTACTS_PER_VISIT, 0);
+        positiveTestsPerThousand = getIntProperty(FleetSimulatorConstant.POSITIVE_TESTS_PER_THOUSAND_KEY, FleetSimulatorConstant.DEFAULT_POSITIVE_TESTS_PER_THOUSAND, 0);
+        negativeTestsPerPositive = getIntProperty(FleetSimulatorConstant.NEGATIVE_TESTS_PER_POSITIVE_KEY, FleetSimulatorConstant.DEFAULT_NEGATIVE_TESTS_PER_POSITIVE, 0);
+        syncInterval = getIntProperty(FleetSimulatorConstant.SYNC_INTERVAL_KEY, FleetSimulatorConstant.DEFAULT_SYNC_INTERVAL, 1);
+        gatheringMinSize = getIntProperty(FleetSimulatorConstant.GATHERING_MIN_SIZE_KEY, FleetSimulatorConstant.DEFAULT_GATHERING_MIN_SIZE, 2);
+        gatheringMinTime = getIntProperty(FleetSimulatorConstant.GATHERING_MIN_TIME_KEY, FleetSimulatorConstant.DEFAULT_GATHERING_MIN_TIME, 1);
+        platformThreads = getIntProperty(FleetSimulatorConstant.PLATFORM_THREADS_KEY, FleetSimulatorConstant.DEFAULT_PLATFORM_THREADS, 1);
+        virtualThreads = Boolean.parseBoolean(simulationProperties.getProperty(FleetSimulatorConstant.VIRTUAL_THREADS_KEY, "true").trim());
+
+        // Throw exception if the percentages or the gathering density are out of range.
+        if (visitPercent > 100) {
+            throw new RuntimeException("Invalid value for the key \"" + FleetSimulatorConstant.VISIT_PERCENT_KEY + "\".");
+        }
+        if (positiveTestsPerThousand > 1000) {
+            throw new RuntimeException("Invalid value for the key \"" + FleetSimulatorConstant.POSITIVE_TESTS_PER_THOUSAND_KEY + "\".");
+        }
+        try {
+            gatheringDensity = Float.parseFloat(simulationProperties.getProperty(FleetSimulatorConstant.GATHERING_DENSITY_KEY,
+                    FleetSimulatorConstant.DEFAULT_GATHERING_DENSITY).trim());
+        } catch (NumberFormatException e) {
+            throw new RuntimeException("Invalid value for the key \"" + FleetSimulatorConstant.GATHERING_DENSITY_KEY + "\".");
+        }
+        if (!(gatheringDensity >= 0 && gatheringDensity <= 1)) {
+            throw new RuntimeException("Invalid value for the key \"" + FleetSimulatorConstant.GATHERING_DENSITY_KEY + "\".");
+        }
+    }
+
+    /**
+     * Runs the simulation described by the configuration file given as first argument, {@code simulation.properties} by default,
+     * and prints its report.
+     *
+     * @param args optional configuration file of the simulation.
+     * @since 1.1.0
+     */
+    public static void main(String[] args) {
+        final FleetSimulator fleetSimulator = new FleetSimulator(args.length > 0 ? args[0] : FleetSimulatorConstant.DEFAULT_CONFIG_FILE);
+        fleetSimulator.run().print(System.out);
+    }
+
+    /**
+     * Gets the optional integer property {@code key} from the configuration properties.
+     *
+     * @param key          key of the property.
+     * @param defaultValue value returned if the key is not present.
+     * @param minValue     minimum valid value.
+     * @return value of the property or {@code defaultValue} if the key is not present.
+     * @throws RuntimeException if the value of the property is not an integer greater than or equal to {@code minValue}.
+     * @since 1.1.0
+     */
+    private int getIntProperty(String key, int defaultValue, int minValue) {
+        final String value = simulationProperties.getProperty(key);
+        if (value == null || value.trim().isEmpty()) {
+            return defaultValue;
+        }
+        try {
+            final int intValue = Integer.parseInt(value.trim());
+            if (intValue >= minValue) {
+                return intValue;
+            }
+        } catch (NumberFormatException ignored) {
+        }
+        throw new RuntimeException("Invalid value for the key \"" + key + "\".");
+    }
+
+    /**
+     * Runs the simulation against a new {@code Government} with a new fleet whose journals are kept in a temporary
+     * directory deleted at the end of the run.
+     *
+     * @return report of the simulation.
+     * @throws RuntimeException if any error occurs while setting up the simulation.
+     * @since 1.1.0
+     */
+    public Report run() {
+        final Path journalDirectory;
+        try {
+            journalDirectory = Files.createTempDirectory(FleetSimulatorConstant.JOURNAL_DIRECTORY_PREFIX);
+        } catch (IOException e) {
+            throw new RuntimeException(e.getMessage());
+        }
+        final ExecutorService executor = createExecutor();
+        try (final Government government = new Government(governmentConfig)) {
+            return run(government, executor, journalDirectory);
+        } finally {
+            executor.shutdownNow();
+            deleteDirectory(journalDirectory);
+        }
+    }
+
+    /**
+     * Runs the simulation day by day.
+     *
+     * @param government       government driven by the simulation.
+     * @param executor         executor running the devices and the lab.
+     * @param journalDirectory directory of the journals of the devices.
+     * @return report of the simulation.
+     */
+    private Report run(Government government, ExecutorService executor, Path journalDirectory) {
+        final Report report = new Report(deviceCount, dayCount, isVirtual(executor));
+
+        final MobileDevice[] mobileDevices = new MobileDevice[deviceCount];
+        final String[] mobileDeviceHashes = new String[deviceCount];
+        try {
+            // Create the devices, each with its own address and name.
+            runPhase(executor, deviceCount, report, device -> {
+                final Properties mobileDeviceProperties = new Properties();
+                for (String key : simulationProperties.stringPropertyNames()) {
+                    if (key.startsWith(FleetSimulatorConstant.DEVICE_KEY_PREFIX)) {
+                        mobileDeviceProperties.setProperty(key.substring(FleetSimulatorConstant.DEVICE_KEY_PREFIX.length()), simulationProperties.getProperty(key));
+                    }
+                }
+                mobileDeviceProperties.putIfAbsent(FleetSimulatorConstant.DEVICE_DURABILITY_KEY, FleetSimulatorConstant.DEFAULT_DEVICE_DURABILITY);
+                mobileDeviceProperties.setProperty(FleetSimulatorConstant.DEVICE_ADDRESS_KEY, "sim-" + seed + "-" + device);
+                mobileDeviceProperties.setProperty(FleetSimulatorConstant.DEVICE_NAME_KEY, "device-" + device);
+                mobileDevices[device] = new MobileDevice(mobileDeviceProperties, journalDirectory, government);
+                mobileDeviceHashes[device] = mobileDevices[device].getMobileDeviceHash();
+            });
+
+            // Throw exception if any device cannot be created.
+            if (report.getFailedTaskCount() > 0) {
+                throw new RuntimeException("Failed to create " + report.getFailedTaskCount() + " simulated devices.");
+            }
+
+            // Group consecutive devices in households of random sizes.
+            final int[] householdStarts = new int[deviceCount];
+            final int[] householdEnds = new int[deviceCount];
+            final SplittableRandom householdRandom = new SplittableRandom(seed);
+            for (int start = 0; start < deviceCount; ) {
+                final int end = Math.min(deviceCount, start + 1 + householdRandom.nextInt(householdMaxSize));
+                for (int device = start; device < end; ++device) {
+                    householdStarts[device] = start;
+                    householdEnds[device] = end;
+                }
+                start = end;
+            }
+
+            for (int day = 0; day < dayCount; ++day) {
+                final DayPlan dayPlan = new DayPlan(day);
+                final ConcurrentLinkedQueue<String> positiveTestHashes = new ConcurrentLinkedQueue<>();
+
+                // Every device records its contacts of the day, may test positive and synchronizes on its days.
+                final long devicesStart = System.nanoTime();
+                runPhase(executor, deviceCount, report, device -> {
+                    final MobileDevice mobileDevice = mobileDevices[device];
+                    for (int member = householdStarts[device]; member < householdEnds[device]; ++member) {
+                        if (member != device) {
+                            recordContact(mobileDevice, mobileDeviceHashes[member], dayPlan.day, device, member,
+                                    FleetSimulatorConstant.MIN_HOUSEHOLD_DURATION, FleetSimulatorConstant.MAX_HOUSEHOLD_DURATION, report);
+                        }
+                    }
+                    final int position = dayPlan.positions[device];
+                    if (position >= 0) {
+                        final int venueEnd = dayPlan.venueStarts[dayPlan.venues[device] + 1];
+                        final int venueStart = dayPlan.venueStarts[dayPlan.venues[device]];
+                        final int neighbours = (contactsPerVisit + 1) / 2;
+                        for (int other = Math.max(venueStart, position - neighbours); other < Math.min(venueEnd, position + neighbours + 1); ++other) {
+                            if (other != position) {
+                                recordContact(mobileDevice, mobileDeviceHashes[dayPlan.visitors[other]], dayPlan.day, device, dayPlan.visitors[other],
+                                        FleetSimulatorConstant.MIN_VISIT_DURATION, FleetSimulatorConstant.MAX_VISIT_DURATION, report);
+                            }
+                        }
+                    }
+                    if (dayPlan.getRandom(device).nextInt(1000) < positiveTestsPerThousand) {
+                        final String testHash = "test-" + seed + "-" + dayPlan.day + "-" + device;
+                        mobileDevice.positiveTest(testHash);
+                        positiveTestHashes.add(testHash);
+                        report.positiveTestCount.increment();
+                    }
+                    if ((dayPlan.day + device) % syncInterval == 0) {
+                        final long start = System.nanoTime();
+                        final boolean covidContact;
+                        try {
+                            covidContact = mobileDevice.synchronizeData();
+                        } catch (RuntimeException e) {
+                            report.mobileContact.errorCount.increment();
+                            throw e;
+                        }
+                        report.mobileContact.latencies.record(System.nanoTime() - start);
+                        if (covidContact) {
+                            report.exposureCount.increment();
+                        }
+                    }
+                });
+                report.mobileContact.elapsedNanos += System.nanoTime() - devicesStart;
+
+                // The lab records the positive results of the day along with negative results of other tests.
+                final String[] testHashes = positiveTestHashes.toArray(new String[0]);
+                final int testCount = testHashes.length * (1 + negativeTestsPerPositive);
+                final long labStart = System.nanoTime();
+                runPhase(executor, testCount, report, test -> {
+                    final boolean result = test < testHashes.length;
+                    final String testHash = result ? testHashes[test] : "negative-" + seed + "-" + dayPlan.day + "-" + test;
+                    final long start = System.nanoTime();
+                    try {
+                        government.recordTestResult(testHash, dayPlan.day, result);
+                    } catch (RuntimeException e) {
+                        report.recordTestResult.errorCount.increment();
+                        throw e;
+                    }
+                    report.recordTestResult.latencies.record(System.nanoTime() - start);
+                });
+                report.recordTestResult.elapsedNanos += System.nanoTime() - labStart;
+
+                // Count the gatherings of the contacts synchronized so far on this day.
+                final long start = System.nanoTime();
+                try {
+                    report.gatherings[day] = government.findGatherings(dayPlan.day, gatheringMinSize, gatheringMinTime, gatheringDensity);
+                    report.findGatherings.latencies.record(System.nanoTime() - start);
+                } catch (RuntimeException e) {
+                    report.findGatherings.errorCount.increment();
+                }
+                report.findGatherings.elapsedNanos += System.nanoTime() - start;
+            }
+        } finally {
+            // Close the devices, flushing the records left in memory.
+            for (MobileDevice mobileDevice : mobileDevices) {
+                if (mobileDevice != null) {
+                    mobileDevice.close();
+                }
+            }
+        }
+        return report;
+    }
+
+    /**
+     * Records on {@code mobileDevice} its contact with the device {@code other} for a duration shared by both devices.
+     *
+     * @param mobileDevice device recording the contact.
+     * @param individual   device hash of the other device.
+     * @param day          date of the contact.
+     * @param device       index of the device recording the contact.
+     * @param other        index of the other device.
+     * @param minDuration  minimum duration of the contact.
+     * @param maxDuration  maximum duration of the contact.
+     * @param report       report counting the contacts.
+     */
+    private void recordContact(MobileDevice mobileDevice, String individual, int day, int device, int other, int minDuration, int maxDuration, Report report) {
+        // Both devices draw the same duration from the pair and the day.
+        final long pairHash = mix(seed ^ mix(((long) day << 42) ^ ((long) Math.min(device, other) << 21) ^ Math.max(device, other)));
+        mobileDevice.recordContact(individual, day, minDuration + (int) Math.floorMod(pairHash, (long) (maxDuration - minDuration + 1)));
+        report.contactCount.increment();
+    }
+
+    /**
+     * Runs {@code task} for every index from 0 to {@code taskCount} - 1 on {@code executor} and waits for all of them.
+     * Tasks failing are counted in the report.
+     *
+     * @param executor  executor running the tasks.
+     * @param taskCount number of tasks.
+     * @param report    report counting the failed tasks.
+     * @param task      task run for every index.
+     */
+    private static void runPhase(ExecutorService executor, int taskCount, Report report, IntConsumer task) {
+        final CountDownLatch done = new CountDownLatch(taskCount);
+        for (int i = 0; i < taskCount; ++i) {
+            final int index = i;
+            executor.execute(() -> {
+                try {
+                    task.accept(index);
+                } catch (RuntimeException e) {
+                    report.failedTaskCount.increment();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        try {
+            done.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for the simulated devices.");
+        }
+    }
+
+    /**
+     * Creates the executor running every task on its own virtual thread if enabled and provided by the Java runtime,
+     * otherwise on a fixed pool of {@code platformThreads} platform threads.
+     *
+     * @return executor of the simulation.
+     */
+    private ExecutorService createExecutor() {
+        if (virtualThreads) {
+            try {
+                // Virtual threads are looked up at runtime so the simulator still builds and runs on older Java versions.
+                return (ExecutorService) Executors.class.getMethod(FleetSimulatorConstant.VIRTUAL_THREAD_EXECUTOR_METHOD).invoke(null);
+            } catch (ReflectiveOperationException | UnsupportedOperationException ignored) {
+                // Fall back to platform threads.
+            }
+        }
+        return Executors.newFixedThreadPool(platformThreads, runnable -> {
+            final Thread thread = new Thread(runnable, "fleet-simulator");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Checks whether {@code executor} runs its tasks on virtual threads.
+     *
+     * @param executor executor of the simulation.
+     * @return {@code true} if the tasks run on virtual threads otherwise {@code false}.
+     */
+    private static boolean isVirtual(ExecutorService executor) {
+        return !(executor instanceof ThreadPoolExecutor);
+    }
+
+    /**
+     * Deletes {@code directory} and the files it contains, ignoring errors.
+     *
+     * @param directory directory to be deleted.
+     */
+    private static void deleteDirectory(Path directory) {
+        try (final Stream<Path> paths = Files.walk(directory)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> {
+                try {
+                    Files.delete(path);
+                } catch (IOException ignored) {
+                    // Files left behind are in the temporary directory.
+                }
+            });
+        } catch (IOException ignored) {
+            // Files left behind are in the temporary directory.
+        }
+    }
+
+    /**
+     * Mixes the bits of {@code value} so close values give unrelated results.
+     *
+     * @param value value to be mixed.
+     * @return mixed value.
+     */
+    private static long mix(long value) {
+        long mixed = (value ^ (value >>> 30)) * 0xbf58476d1ce4e5b9L;
+        mixed = (mixed ^ (mixed >>> 27)) * 0x94d049bb133111ebL;
+        return mixed ^ (mixed >>> 31);
+    }
+
+    /**
+     * {@code DayPlan} holds the venues visited on a day, generated from the seed and the day.
+     * Visitors of each venue are listed together, so the neighbours of a visitor in the list are the devices it meets.
+     *
+     * @author Dhrumil Amish Shah (B00857606)
+     * created on 2026-10-17
+     * @version 1.1.0
+     * @see FleetSimulator
+     * @since 1.1.0
+     */
+    private class DayPlan {
+        // day holds the date of the plan.
+        private final int day;
+
+        // venues holds the venue visited by each device, -1 if none.
+        private final int[] venues;
+
+        // visitors holds the devices visiting each venue, venue by venue, from venueStarts[v] to venueStarts[v + 1].
+        private final int[] visitors;
+        private final int[] venueStarts;
+
+        // positions holds the index of each device in visitors, -1 if it visits no venue.
+        private final int[] positions;
+
+        /**
+         * Generates the plan of {@code day}.
+         *
+         * @param day date of the plan.
+         */
+        private DayPlan(int day) {
+            this.day = day;
+            venues = new int[deviceCount];
+            venueStarts = new int[venueCount + 1];
+            positions = new int[deviceCount];
+
+            // Pick the venue of each visiting device, low venues being the busiest.
+            int visitorCount = 0;
+            for (int device = 0; device < deviceCount; ++device) {
+                final SplittableRandom random = getVenueRandom(device);
+                if (random.nextInt(100) < visitPercent) {
+                    final double popularity = random.nextDouble();
+                    venues[device] = (int) (venueCount * popularity * popularity);
+                    venueStarts[venues[device] + 1] = venueStarts[venues[device] + 1] + 1;
+                    visitorCount = visitorCount + 1;
+                } else {
+                    venues[device] = -1;
+                }
+            }
+
+            // List the visitors venue by venue.
+            for (int venue = 0; venue < venueCount; ++venue) {
+                venueStarts[venue + 1] = venueStarts[venue + 1] + venueStarts[venue];
+            }
+            visitors = new int[visitorCount];
+            final int[] nextPositions = Arrays.copyOf(venueStarts, venueCount);
+            for (int device = 0; device < deviceCount; ++device) {
+                if (venues[device] >= 0) {
+                    positions[device] = nextPositions[venues[device]];
+                    visitors[positions[device]] = device;
+                    nextPositions[venues[device]] = nextPositions[venues[device]] + 1;
+                } else {
+                    positions[device] = -1;
+                }
+            }
+        }
+
+        /**
+         * Gets the random numbers of {@code device} on this day, other than its venue.
+         *
+         * @param device index of the device.
+         * @return random numbers of the device.
+         */
+        private SplittableRandom getRandom(int device) {
+            return new SplittableRandom(mix(seed ^ mix(((long) day << 32) | device)));
+        }
+
+        /**
+         * Gets the random numbers picking the venue of {@code device} on this day.
+         *
+         * @param device index of the device.
+         * @return random numbers of the venue of the device.
+         */
+        private SplittableRandom getVenueRandom(int device) {
+            return new SplittableRandom(mix(~seed ^ mix(((long) day << 32) | device)));
+        }
+    }
+
+    /**
+     * {@code Report} holds the workload and the measurements of a simulation.
+     *
+     * @author Dhrumil Amish Shah (B00857606)
+     * created on 2026-10-17
+     * @version 1.1.0
+     * @see FleetSimulator
+     * @since 1.1.0
+     */
+    public static class Report {
+        // deviceCount and dayCount hold the size of the fleet and the number of days simulated.
+        private final int deviceCount;
+        private final int dayCount;
+
+        // virtualThreads holds whether the devices ran on virtual threads.
+        private final boolean virtualThreads;
+
+        // mobileContact, recordTestResult and findGatherings hold the measurements of each operation.
+        private final Operation mobileContact = new Operation("mobileContact");
+        private final Operation recordTestResult = new Operation("recordTestResult");
+        private final Operation findGatherings = new Operation("findGatherings");
+
+        // contactCount, positiveTestCount and exposureCount count the contacts recorded, positive tests and exposures notified.
+        private final LongAdder contactCount = new LongAdder();
+        private final LongAdder positiveTestCount = new LongAdder();
+        private final LongAdder exposureCount = new LongAdder();
+
+        // failedTaskCount counts the devices and tests whose day failed.
+        private final LongAdder failedTaskCount = new LongAdder();
+
+        // gatherings holds the number of gatherings found on each day.
+        private final int[] gatherings;
+
+        /**
+         * Constructs this {@code Report}.
+         *
+         * @param deviceCount    size of the fleet.
+         * @param dayCount       number of days simulated.
+         * @param virtualThreads whether the devices ran on virtual threads.
+         */
+        private Report(int deviceCount, int dayCount, boolean virtualThreads) {
+            this.deviceCount = deviceCount;
+            this.dayCount = dayCount;
+            this.virtualThreads = virtualThreads;
+            gatherings = new int[dayCount];
+        }
+
+        /**
+         * Gets the measurements of {@code mobileContact}, measured around the synchronization of a device.
+         *
+         * @return measurements of mobileContact.
+         * @since 1.1.0
+         */
+        public Operation getMobileContact() {
+            return mobileContact;
+        }
+
+        /**
+         * Gets the measurements of {@code recordTestResult}.
+         *
+         * @return measurements of recordTestResult.
+         * @since 1.1.0
+         */
+        public Operation getRecordTestResult() {
+            return recordTestResult;
+        }
+
+        /**
+         * Gets the measurements of {@code findGatherings}.
+         *
+         * @return measurements of findGatherings.
+         * @since 1.1.0
+         */
+        public Operation getFindGatherings() {
+            return findGatherings;
+        }
+
+        /**
+         * Gets the number of contacts recorded by the devices.
+         *
+         * @return number of contacts recorded.
+         * @since 1.1.0
+         */
+        public long getContactCount() {
+            return contactCount.sum();
+        }
+
+        /**
+         * Gets the number of positive tests taken by the devices.
+         *
+         * @return number of positive tests.
+         * @since 1.1.0
+         */
+        public long getPositiveTestCount() {
+            return positiveTestCount.sum();
+        }
+
+        /**
+         * Gets the number of synchronizations told about an exposure.
+         *
+         * @return number of exposures notified.
+         * @since 1.1.0
+         */
+        public long getExposureCount() {
+            return exposureCount.sum();
+        }
+
+        /**
+         * Gets the number of device days and test results which failed.
+         *
+         * @return number of failed tasks.
+         * @since 1.1.0
+         */
+        public long getFailedTaskCount() {
+            return failedTaskCount.sum();
+        }
+
+        /**
+         * Gets the number of gatherings found on each day.
+         *
+         * @return number of gatherings found, element {@code i} holding the gatherings of day {@code i}.
+         * @since 1.1.0
+         */
+        public int[] getGatherings() {
+            return gatherings.clone();
+        }
+
+        /**
+         * Prints this report as a table of the operations followed by the workload.
+         *
+         * @param out stream to print to.
+         * @since 1.1.0
+         */
+        public void print(PrintStream out) {
+            out.printf("Fleet of %d devices over %d days on %s threads%n", deviceCount, dayCount, virtualThreads ? "virtual" : "platform");
+            out.printf("%-18s %10s %8s %12s %10s %10s %10s %10s %10s%n",
+                    "operation", "count", "errors", "ops/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+            for (Operation operation : List.of(mobileContact, recordTestResult, findGatherings)) {
+                out.printf("%-18s %10d %8d %12.1f %10.3f %10.3f %10.3f %10.3f %10.3f%n", operation.name,
+                        operation.getCount(), operation.getErrorCount(), operation.getThroughput(),
+                        operation.getPercentileMillis(50), operation.getPercentileMillis(90), operation.getPercentileMillis(99),
+                        operation.getPercentileMillis(99.9), operation.latencies.getMax() / 1e6);
+            }
+            long gatheringCount = 0;
+            for (int dayGatherings : gatherings) {
+                gatheringCount = gatheringCount + dayGatherings;
+            }
+            out.printf("contacts=%d positiveTests=%d exposures=%d gatherings=%d failedTasks=%d%n",
+                    getContactCount(), getPositiveTestCount(), getExposureCount(), gatheringCount, getFailedTaskCount());
+        }
+    }
+
+    /**
+     * {@code Operation} holds the measurements of an operation of the government.
+     *
+     * @author Dhrumil Amish Shah (B00857606)
+     * created on 2026-10-17
+     * @version 1.1.0
+     * @see Report
+     * @since 1.1.0
+     */
+    public static class Operation {
+        // name holds the name of the operation.
+        private final String name;
+
+        // latencies holds the latency in nanoseconds of each successful call.
+        private final LatencyHistogram latencies = new LatencyHistogram();
+
+        // errorCount counts the calls which failed.
+        private final LongAdder errorCount = new LongAdder();
+
+        // elapsedNanos holds the wall time of the phases running the operation.
+        private long elapsedNanos;
+
+        /**
+         * Constructs this {@code Operation}.
+         *
+         * @param name name of the operation.
+         */
+        private Operation(String name) {
+            this.name = name;
+        }
+
+        /**
+         * Gets the number of successful calls.
+         *
+         * @return number of successful calls.
+         * @since 1.1.0
+         */
+        public long getCount() {
+            return latencies.getCount();
+        }
+
+        /**
+         * Gets the number of failed calls.
+         *
+         * @return number of failed calls.
+         * @since 1.1.0
+         */
+        public long getErrorCount() {
+            return errorCount.sum();
+        }
+
+        /**
+         * Gets the number of successful calls per second of the phases running the operation.
+         *
+         * @return calls per second, 0 if the operation never ran.
+         * @since 1.1.0
+         */
+        public double getThroughput() {
+            return elapsedNanos == 0 ? 0 : getCount() * 1e9 / elapsedNanos;
+        }
+
+        /**
+         * Gets a latency percentile in milliseconds.
+         *
+         * @param percentile percentile from 0 to 100.
+         * @return latency of the percentile in milliseconds.
+         * @since 1.1.0
+         */
+        public double getPercentileMillis(double percentile) {
+            return latencies.getPercentile(percentile) / 1e6;
+        }
+    }
+
+    /**
+     * {@code FleetSimulatorConstant} holds all the constants used by {@code FleetSimulator}.
+     *
+     * @author Dhrumil Amish Shah (B00857606)
+     * created on 2026-10-17
+     * @version 1.1.0
+     * @see FleetSimulator
+     * @since 1.1.0
+     */
+    private static class FleetSimulatorConstant {
+        private static final String DEFAULT_CONFIG_FILE = "simulation.properties";
+        private static final String GOVERNMENT_CONFIG_KEY = "governmentConfig";
+        private static final String DEFAULT_GOVERNMENT_CONFIG = "memory_government.properties";
+        private static final String DEVICES_KEY = "devices";
+        private static final int DEFAULT_DEVICES = 10000;
+        private static final String DAYS_KEY = "days";
+        private static final int DEFAULT_DAYS = 14;
+        private static final String SEED_KEY = "seed";
+        private static final int DEFAULT_SEED = 42;
+        private static final String HOUSEHOLD_MAX_SIZE_KEY = "householdMaxSize";
+        private static final int DEFAULT_HOUSEHOLD_MAX_SIZE = 5;
+        private static final String DEVICES_PER_VENUE_KEY = "devicesPerVenue";
+        private static final int DEFAULT_DEVICES_PER_VENUE = 50;
+        private static final String VISIT_PERCENT_KEY = "visitPercent";
+        private static final int DEFAULT_VISIT_PERCENT = 60;
+        private static final String CONTACTS_PER_VISIT_KEY = "contactsPerVisit";
+        private static final int DEFAULT_CONTACTS_PER_VISIT = 6;
+        private static final String POSITIVE_TESTS_PER_THOUSAND_KEY = "positiveTestsPerThousand";
+        private static final int DEFAULT_POSITIVE_TESTS_PER_THOUSAND = 2;
+        private static final String NEGATIVE_TESTS_PER_POSITIVE_KEY = "negativeTestsPerPositive";
+        private static final int DEFAULT_NEGATIVE_TESTS_PER_POSITIVE = 4;
+        private static final String SYNC_INTERVAL_KEY = "syncInterval";
+        private static final int DEFAULT_SYNC_INTERVAL = 1;
+        private static final String GATHERING_MIN_SIZE_KEY = "gatheringMinSize";
+        private static final int DEFAULT_GATHERING_MIN_SIZE = 4;
+        private static final String GATHERING_MIN_TIME_KEY = "gatheringMinTime";
+        private static final int DEFAULT_GATHERING_MIN_TIME = 60;
+        private static final String GATHERING_DENSITY_KEY = "gatheringDensity";
+        private static final String DEFAULT_GATHERING_DENSITY = "0.5";
+        private static final String VIRTUAL_THREADS_KEY = "virtualThreads";
+        private static final String PLATFORM_THREADS_KEY = "platformThreads";
+        private static final int DEFAULT_PLATFORM_THREADS = 64;
+        private static final String VIRTUAL_THREAD_EXECUTOR_METHOD = "newVirtualThreadPerTaskExecutor";
+        private static final String DEVICE_KEY_PREFIX = "device.";
+        private static final String DEVICE_ADDRESS_KEY = "address";
+        private static final String DEVICE_NAME_KEY = "deviceName";
+        private static final String DEVICE_DURABILITY_KEY = "durability";
+        private static final String DEFAULT_DEVICE_DURABILITY = "buffered";
+        private static final String JOURNAL_DIRECTORY_PREFIX = "fleet-simulator";
+        private static final int MIN_HOUSEHOLD_DURATION = 120;
+        private static final int MAX_HOUSEHOLD_DURATION = 480;
+        private static final int MIN_VISIT_DURATION = 5;
+        private static final int MAX_VISIT_DURATION = 90;
+    }
+}
@@ -0,0 +1,39 @@
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+@DisplayName("Fleet simulator test")
+public class FleetSimulatorTest {
+    @DisplayName("Simulate a small fleet and generate the same workload from the same seed")
+    @Test
+    public void simulateFleet() throws Exception {
+        final Path configFile = Files.createTempFile("simulation", ".properties");
+        try {
+            Files.writeString(configFile, "governmentConfig=memory_government.properties\n" +
+                    "devices=300\ndays=5\nseed=7\npositiveTestsPerThousand=50\nnegativeTestsPerPositive=2\nsyncInterval=2\n" +
+                    "virtualThreads=false\nplatformThreads=8\ndevice.syncFormat=binary\n");
+            final FleetSimulator.Report report = new FleetSimulator(configFile.toString()).run();
+
+            // Half of the devices synchronize every day, every positive test comes with two negative ones.
+            Assertions.assertEquals(0, report.getFailedTaskCount());
+            Assertions.assertEquals(5 * 150, report.getMobileContact().getCount());
+            Assertions.assertEquals(report.getPositiveTestCount() * 3, report.getRecordTestResult().getCount());
+            Assertions.assertEquals(5, report.getFindGatherings().getCount());
+            Assertions.assertTrue(report.getContactCount() > 0);
+            Assertions.assertTrue(report.getPositiveTestCount() > 0);
+            Assertions.assertTrue(report.getExposureCount() > 0);
+            Assertions.assertTrue(report.getMobileContact().getPercentileMillis(50) <= report.getMobileContact().getPercentileMillis(99));
+
+            // Workload and gatherings only depend on the seed.
+            final FleetSimulator.Report other = new FleetSimulator(configFile.toString()).run();
+            Assertions.assertEquals(report.getContactCount(), other.getContactCount());
+            Assertions.assertEquals(report.getPositiveTestCount(), other.getPositiveTestCount());
+            Assertions.assertArrayEquals(report.getGatherings(), other.getGatherings());
+        } finally {
+            Files.delete(configFile);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+/**
+ * {@code GatheringEngine} counts the large gatherings formed by the contact pairs of a single date.
+ * Gathering is considered if it contains at least {@code minSize} individuals.
+ * Gathering is further deemed large and worth reporting if c/m is greater or equal to {@code density} where
+ * c is pairs of individuals within a gathering and m = n * (n - 1)/2 where n is individuals in a gathering.
+ * <p>
+ * Pairs are given as two parallel arrays in the order returned by the gathering query, i.e., distinct
+ * {@code (personOneId, personTwoId)} rows ordered by {@code personOneId} and then {@code personTwoId}.
+ * The same two individuals may appear in both directions, only the first direction is considered.
+ *
+ * @author Dhrumil Amish Shah (B00857606)
+ * created on 2026-10-17
+ * @version 1.1.0
+ * @see Government
+ * @since 1.1.0
+ */
+public interface GatheringEngine {
+    /**
+     * Counts the large gatherings formed by the given pairs.
+     *
+     * @param personOneIds ids of person one of each pair.
+     * @param personTwoIds ids of person two of each pair.
+     * @param pairCount    number of pairs stored in the arrays.
+     * @param minSize      minimum number of individuals in a gathering.
+     * @param density      gathering density.
+     * @return number of gatherings found.
+     * @since 1.1.0
+     */
+    int countGatherings(int[] personOneIds, int[] personTwoIds, int pairCount, int minSize, float density);
+}
@@ -0,0 +1,173 @@
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ForkJoinPool;
+
+@DisplayName("Gathering engine regression test")
+public class GatheringEngineTest {
+    // Contacts recorded in CovidTrackerBigTest as {device, individual, date, duration} in the order they are recorded.
+    private static final int[][] BIG_TEST_CONTACTS = {
+            {1, 2, 5, 10}, {1, 3, 7, 7}, {1, 4, 9, 76}, {3, 4, 2, 20}, {2, 3, 3, 20}, {3, 2, 7, 20}, {3, 4, 2, 20},
+            {3, 8, 8, 20}, {7, 8, 3, 20}, {3, 8, 7, 20}, {2, 8, 3, 20}, {2, 9, 6, 20}, {3, 9, 7, 20}, {5, 8, 8, 10},
+            {3, 6, 3, 10}, {4, 8, 7, 10}, {4, 6, 6, 10}, {7, 6, 8, 10}, {9, 6, 4, 10}, {9, 5, 3, 10}, {9, 3, 8, 30},
+            {1, 9, 2, 30}, {8, 5, 7, 30}, {8, 3, 1, 10}, {8, 4, 9, 10}, {8, 9, 4, 30}, {1, 7, 4, 20}, {2, 6, 7, 10},
+            {2, 9, 3, 30}, {7, 3, 5, 20}, {6, 5, 9, 20}, {8, 6, 3, 30}, {3, 2, 8, 10}, {4, 3, 3, 30}, {7, 5, 1, 20},
+            {8, 4, 7, 10}, {4, 3, 8, 30}, {3, 2, 5, 20}, {2, 4, 7, 10}, {8, 3, 2, 30}, {9, 3, 8, 20}, {10, 1, 8, 30},
+            {5, 6, 4, 10}, {2, 10, 8, 30}, {7, 10, 3, 20}, {2, 7, 7, 10}, {7, 3, 3, 30}, {4, 8, 5, 10},
+            {1, 2, 10, 5}, {1, 3, 10, 7}, {1, 4, 10, 8}, {3, 4, 10, 10}, {2, 3, 10, 10}, {5, 3, 10, 4}, {5, 4, 10, 12},
+            {5, 6, 10, 6}, {6, 7, 10, 9}, {5, 7, 10, 13}, {5, 3, 10, 1}
+    };
+
+    // Gatherings expected by CovidTrackerBigTest as {date, minSize, minTime, density * 100, gatherings}.
+    private static final int[][] BIG_TEST_GATHERINGS = {
+            {20, 2, 1, 10, 0}, {3, 2, 1, 1, 10}, {4, 2, 1, 1, 4}, {4, 2, 1, 50, 4}, {4, 2, 1, 100, 4},
+            {3, 4, 1, 50, 0}, {4, 3, 1, 1, 0}, {10, 3, 4, 10, 2}, {10, 4, 4, 10, 1}, {10, 3, 5, 10, 2},
+            {10, 3, 4, 100, 1}, {10, 3, 5, 25, 2}, {10, 4, 5, 10, 1}, {10, 5, 5, 10, 1}
+    };
+
+    private final GatheringEngine legacyEngine = new LinkedListGatheringEngine();
+    private final GatheringEngine adjacencyEngine = new AdjacencyGatheringEngine();
+
+    @DisplayName("Both engines match CovidTrackerBigTest gatherings")
+    @Test
+    public void bigTestGatherings() {
+        // Device ids are assigned in the order the devices are first inserted during synchronization.
+        final Map<Integer, Integer> deviceIds = new LinkedHashMap<>();
+        for (int device = 1; device <= 10; ++device) {
+            deviceIds.putIfAbsent(device, deviceIds.size() + 1);
+            for (int[] contact : BIG_TEST_CONTACTS) {
+                if (contact[0] == device) {
+                    deviceIds.putIfAbsent(contact[1], deviceIds.size() + 1);
+                }
+            }
+        }
+
+        for (int[] gathering : BIG_TEST_GATHERINGS) {
+            final int[][] pairs = gatheringQuery(deviceIds, gathering[0], gathering[2]);
+            final float density = gathering[3] / 100f;
+            Assertions.assertEquals(gathering[4], legacyEngine.countGatherings(pairs[0], pairs[1], pairs[0].length, gathering[1], density));
+            Assertions.assertEquals(gathering[4], adjacencyEngine.countGatherings(pairs[0], pairs[1], pairs[0].length, gathering[1], density));
+        }
+    }
+
+    @DisplayName("Both engines match on random contact graphs")
+    @Test
+    public void randomGatherings() {
+        final Random random = new Random(3901);
+        final float[] densities = {0f, 0.1f, 0.25f, 0.5f, 0.75f, 1f};
+        for (int graph = 0; graph < 300; ++graph) {
+            final int individuals = 2 + random.nextInt(12);
+            final double pairProbability = random.nextDouble() * 0.6;
+
+            // Distinct directed pairs ordered like the gathering query, with sparse non sequential ids.
+            final ArrayList<int[]> rows = new ArrayList<>();
+            for (int a = 0; a < individuals; ++a) {
+                for (int b = 0; b < individuals; ++b) {
+                    if (a != b && random.nextDouble() < pairProbability) {
+                        rows.add(new int[]{a * 7 + 3, b * 7 + 3});
+                    }
+                }
+            }
+            final int[] personOneIds = rows.stream().mapToInt(row -> row[0]).toArray();
+            final int[] personTwoIds = rows.stream().mapToInt(row -> row[1]).toArray();
+
+            for (int minSize = 2; minSize <= 5; ++minSize) {
+                for (float density : densities) {
+                    Assertions.assertEquals(
+                            legacyEngine.countGatherings(personOneIds, personTwoIds, rows.size(), minSize, density),
+                            adjacencyEngine.countGatherings(personOneIds, personTwoIds, rows.size(), minSize, density),
+                            "graph " + graph + ", minSize " + minSize + ", density " + density);
+                }
+            }
+        }
+    }
+
+    @DisplayName("Parallel engine matches on large graphs with many components")
+    @Test
+    public void parallelGatherings() {
+        final Random random = new Random(2021);
+        final ForkJoinPool forkJoinPool = new ForkJoinPool(4);
+        final GatheringEngine parallelEngine = new ParallelGatheringEngine(forkJoinPool);
+        try {
+            for (int graph = 0; graph < 5; ++graph) {
+                // Groups of individuals that only contact each other, plus a few contacts across groups.
+                final TreeSet<Long> rows = new TreeSet<>();
+                final int groups = 200 + random.nextInt(800);
+                for (int group = 0; group < groups; ++group) {
+                    final int size = 2 + random.nextInt(12);
+                    for (int pair = 0; pair < size * 2; ++pair) {
+                        final int a = group * 16 + random.nextInt(size);
+                        final int b = group * 16 + random.nextInt(size);
+                        if (a != b) {
+                            rows.add(((long) a << 32) | b);
+                        }
+                    }
+                    if (random.nextInt(10) == 0) {
+                        rows.add(((long) (group * 16) << 32) | (random.nextInt(groups) * 16 + 1));
+                    }
+                }
+                rows.removeIf(row -> (row >>> 32) == (int) (long) row);
+                final int[] personOneIds = rows.stream().mapToInt(row -> (int) (row >>> 32)).toArray();
+                final int[] personTwoIds = rows.stream().mapToInt(row -> (int) (long) row).toArray();
+
+                for (int minSize = 2; minSize <= 4; ++minSize) {
+                    Assertions.assertEquals(
+                            adjacencyEngine.countGatherings(personOneIds, personTwoIds, rows.size(), minSize, 0.5f),
+                            parallelEngine.countGatherings(personOneIds, personTwoIds, rows.size(), minSize, 0.5f),
+                            "graph " + graph + ", minSize " + minSize);
+                }
+            }
+        } finally {
+            forkJoinPool.shutdown();
+        }
+    }
+
+    @DisplayName("Empty and single pair graphs")
+    @Test
+    public void smallGraphs() {
+        Assertions.assertEquals(0, adjacencyEngine.countGatherings(new int[0], new int[0], 0, 2, 0.5f));
+        Assertions.assertEquals(1, adjacencyEngine.countGatherings(new int[]{1, 2}, new int[]{2, 1}, 2, 2, 1f));
+        Assertions.assertEquals(0, adjacencyEngine.countGatherings(new int[]{1, 2}, new int[]{2, 1}, 2, 3, 0f));
+    }
+
+    /**
+     * Helper method to compute the rows of the gathering query from the contacts.
+     *
+     * @param deviceIds device ids by device number.
+     * @param date      gathering date.
+     * @param minTime   minimum time of contact for each pair.
+     * @return person one ids and person two ids of each row.
+     */
+    private static int[][] gatheringQuery(Map<Integer, Integer> deviceIds, int date, int minTime) {
+        final Map<Long, Integer> durations = new LinkedHashMap<>();
+        for (int[] contact : BIG_TEST_CONTACTS) {
+            if (contact[2] == date) {
+                final long key = ((long) deviceIds.get(contact[0]) << 32) | deviceIds.get(contact[1]);
+                durations.merge(key, contact[3], Integer::sum);
+            }
+        }
+
+        final Set<Long> keys = new HashSet<>();
+        durations.forEach((key, duration) -> {
+            if (duration >= minTime) {
+                keys.add(key);
+            }
+        });
+        final long[] sortedKeys = keys.stream().sorted(Comparator.naturalOrder()).mapToLong(Long::longValue).toArray();
+        final int[][] pairs = {new int[sortedKeys.length], new int[sortedKeys.length]};
+        for (int i = 0; i < sortedKeys.length; ++i) {
+            pairs[0][i] = (int) (sortedKeys[i] >>> 32);
+            pairs[1][i] = (int) sortedKeys[i];
+        }
+        return pairs;
+    }
+}
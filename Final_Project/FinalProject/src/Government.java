@@ -1,26 +1,25 @@
-import org.w3c.dom.Document;
-import org.w3c.dom.Element;
-import org.w3c.dom.NodeList;
-import org.xml.sax.InputSource;
-import org.xml.sax.SAXException;
-
-import javax.xml.parsers.DocumentBuilderFactory;
-import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.stream.XMLStreamException;
+import java.io.BufferedReader;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.StringReader;
-import java.sql.Connection;
-import java.sql.DriverManager;
-import java.sql.ResultSet;
-import java.sql.SQLException;
-import java.sql.Statement;
-import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
-import java.util.ArrayDeque;
-import java.util.LinkedHashSet;
-import java.util.LinkedList;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 /**
  * {@code Government} connects to the database and perform all the centralized operations.
@@ -29,30 +28,78 @@ import java.util.Properties;
  * It stores the overall set of test results.
  * It notify individuals who contact the database if they have been contacted with someone who has tested positive for COVID-19.
  * It reports the number of large gatherings on any particular date.
+ * Contacts and test results are stored by a {@link ContactStore}, either in the database or in memory.
  *
  * @author Dhrumil Amish Shah (B00857606)
  * created on 2021-04-02
  * @version 1.0.0
  * @since 1.0.0
  */
-public class Government {
-    // instance holds this single government.
-    private static Government instance;
+public class Government implements AutoCloseable {
+    // instance holds this single government, volatile so it is only seen by other threads once constructed.
+    private static volatile Government instance;
 
     // governmentProperties holds the configuration properties of the database.
     private final Properties governmentProperties;
 
+    // contactStore holds the storage of the mobile devices, contacts and test results.
+    private final ContactStore contactStore;
+
+    // deviceLocks serializes the synchronizations of the same initiators.
+    private final StripedLock deviceLocks;
+
+    // gatheringEngine holds the algorithm used to count gatherings from the contact pairs of a date.
+    private final GatheringEngine gatheringEngine;
+
+    // gatheringPool holds the pool of the parallel gathering engine, null if gatherings are counted sequentially.
+    private final ForkJoinPool gatheringPool;
+
+    // testResultChunkSize holds the number of test results stored per transaction by bulk loads.
+    private final int testResultChunkSize;
+
+    // ingestionPipeline holds the queue and workers storing asynchronous synchronization requests.
+    private final IngestionPipeline ingestionPipeline;
+
+    // contactRetentionDays holds the number of days of contacts kept before the latest contact date. (0 to keep all)
+    private final int contactRetentionDays;
+
+    // contactMaintenance holds the scheduler adding and dropping the date partitions of the contacts and dumping the metrics.
+    private final ScheduledExecutorService contactMaintenance;
+
+    // metricsRegistry holds the registry the stages, sizes and counts of the operations are recorded in.
+    private final MetricsRegistry metricsRegistry;
+
+    // metricsCsvFile holds the CSV file the metrics are dumped to, null if not dumped.
+    private final Path metricsCsvFile;
+
+    // metricsDumpLock serializes the dumps of the metrics to the CSV file.
+    private final Object metricsDumpLock = new Object();
+
     /**
      * Constructs this {@code Government} with given configuration file {@code configFile}.
      * Configuration file contains {@code database}, {@code user} and {@code password}.
      * Each line in configuration file is formatted as key=value where key is either {@code database}, {@code user} or {@code password}.
+     * Configuration file may also contain the optional key {@code contactStore}, either {@code jdbc} (default) or {@code memory}
+     * to keep everything in memory without a database, in which case the database keys are not required,
+     * or the class name of a {@link ContactStore} with a public no-argument constructor.
+     * Configuration file may also contain the optional connection pool keys {@code poolSize}, {@code poolIdleTimeout},
+     * {@code poolWaitTimeout}, {@code poolValidationQuery} and {@code poolStatementCacheSize}
+     * the optional gathering keys {@code gatheringParallel} and {@code gatheringParallelism}
+     * and the optional ingestion keys {@code ingestionQueueCapacity}, {@code ingestionWorkers},
+     * {@code ingestionMaxBatchSize} and {@code ingestionFlushInterval}, the optional cache key {@code deviceCacheSize}
+     * the optional bulk load key {@code testResultChunkSize}, the optional concurrency key {@code deviceLockStripes}
+     * the optional contact retention keys {@code contactRetentionDays} and {@code contactMaintenanceInterval}
+     * and the optional metrics keys {@code metricsRegistry}, {@code metricsJmxName}, {@code metricsCsvFile} and {@code metricsDumpInterval}.
+     * Key {@code metricsRegistry} is either {@code none} (default), {@code memory}, {@code jmx} or the class name of
+     * a {@link MetricsRegistry} with a public no-argument constructor.
+     * Applications get the single instance from {@link #getInstance(String)}, tests may construct independent instances.
      *
      * @param configFile configuration file that contains database configuration details.
      * @throws IllegalArgumentException if arguments passed are illegal or inappropriate.
      * @throws RuntimeException         if any error occurs while instantiating this mobile device.
      * @since 1.0.0
      */
-    private Government(String configFile) {
+    Government(String configFile) {
         // Throw exception if configuration file name is invalid.
         if (configFile == null || configFile.isEmpty()) {
             throw new IllegalArgumentException("Invalid argument \"configFile\". - \"" + configFile + "\".");
@@ -67,6 +114,201 @@ public class Government {
             throw new RuntimeException(e.getMessage());
         }
 
+        try {
+            // Record the metrics of the operations in the configured registry, dumping them to a CSV file if asked.
+            metricsRegistry = createMetricsRegistry();
+            final String metricsCsvFileName = governmentProperties.getProperty(GovernmentConstant.METRICS_CSV_FILE_KEY, "").trim();
+            if (metricsCsvFileName.isEmpty()) {
+                metricsCsvFile = null;
+            } else if (metricsRegistry instanceof InMemoryMetricsRegistry) {
+                metricsCsvFile = Path.of(metricsCsvFileName);
+            } else {
+                throw new RuntimeException("Invalid value for the key \"" + GovernmentConstant.METRICS_CSV_FILE_KEY + "\".");
+            }
+            final int metricsDumpInterval = getIntProperty(GovernmentConstant.METRICS_DUMP_INTERVAL_KEY, GovernmentConstant.DEFAULT_METRICS_DUMP_INTERVAL, 1);
+
+            // Store everything in memory, in the database or in the configured store.
+            contactStore = createContactStore();
+
+            // Serialize the synchronizations of the same initiators, synchronizations of other initiators run in parallel.
+            deviceLocks = new StripedLock(getIntProperty(GovernmentConstant.DEVICE_LOCK_STRIPES_KEY, GovernmentConstant.DEFAULT_DEVICE_LOCK_STRIPES, 1));
+
+            // Count gatherings per connected component on a fork/join pool if parallel mode is enabled.
+            if (getBooleanProperty(GovernmentConstant.GATHERING_PARALLEL_KEY, false)) {
+                gatheringPool = new ForkJoinPool(getIntProperty(
+                        GovernmentConstant.GATHERING_PARALLELISM_KEY, Runtime.getRuntime().availableProcessors(), 1));
+                gatheringEngine = new ParallelGatheringEngine(gatheringPool);
+            } else {
+                gatheringPool = null;
+                gatheringEngine = new AdjacencyGatheringEngine();
+            }
+
+            testResultChunkSize = getIntProperty(GovernmentConstant.TEST_RESULT_CHUNK_SIZE_KEY, GovernmentConstant.DEFAULT_TEST_RESULT_CHUNK_SIZE, 1);
+
+            // Start the workers storing asynchronous synchronization requests in groups.
+            ingestionPipeline = new IngestionPipeline(
+                    getIntProperty(GovernmentConstant.INGESTION_QUEUE_CAPACITY_KEY, GovernmentConstant.DEFAULT_INGESTION_QUEUE_CAPACITY, 1),
+                    getIntProperty(GovernmentConstant.INGESTION_WORKERS_KEY, GovernmentConstant.DEFAULT_INGESTION_WORKERS, 1),
+                    getIntProperty(GovernmentConstant.INGESTION_MAX_BATCH_SIZE_KEY, GovernmentConstant.DEFAULT_INGESTION_MAX_BATCH_SIZE, 1),
+                    getIntProperty(GovernmentConstant.INGESTION_FLUSH_INTERVAL_KEY, GovernmentConstant.DEFAULT_INGESTION_FLUSH_INTERVAL, 0),
+                    this::mobileContactBatch);
+            registerGauges();
+
+            // Create the partitions of the upcoming dates, drop the expired ones and repeat it periodically.
+            contactRetentionDays = getIntProperty(GovernmentConstant.CONTACT_RETENTION_DAYS_KEY, GovernmentConstant.DEFAULT_CONTACT_RETENTION_DAYS, 0);
+            final int contactMaintenanceInterval = getIntProperty(GovernmentConstant.CONTACT_MAINTENANCE_INTERVAL_KEY,
+                    GovernmentConstant.DEFAULT_CONTACT_MAINTENANCE_INTERVAL, 1);
+            contactStore.maintainContacts(contactRetentionDays);
+            contactMaintenance = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                final Thread thread = new Thread(runnable, "contact-maintenance");
+                thread.setDaemon(true);
+                return thread;
+            });
+            contactMaintenance.scheduleWithFixedDelay(() -> {
+                try {
+                    contactStore.maintainContacts(contactRetentionDays);
+                } catch (RuntimeException ignored) {
+                    // Partitions are checked again on the next run.
+                }
+            }, contactMaintenanceInterval, contactMaintenanceInterval, TimeUnit.MINUTES);
+            if (metricsCsvFile != null) {
+                contactMaintenance.scheduleWithFixedDelay(() -> {
+                    try {
+                        dumpMetrics();
+                    } catch (RuntimeException ignored) {
+                        // Metrics are dumped again on the next run.
+                    }
+                }, metricsDumpInterval, metricsDumpInterval, TimeUnit.SECONDS);
+            }
+        } catch (RuntimeException e) {
+            // Release what is created so far and throw exception if error occurs.
+            close();
+            throw e;
+        }
+    }
+
+    /**
+     * Closes this {@code Government}.
+     * It stops the contact maintenance, stores the queued synchronization requests, stops the gathering pool,
+     * closes the contact store and unregisters the metrics from JMX. The single instance is constructed again if asked.
+     *
+     * @since 1.1.0
+     */
+    @Override
+    public void close() {
+        // Fields are null if the constructor failed before creating them.
+        if (contactMaintenance != null) {
+            contactMaintenance.shutdown();
+        }
+        if (ingestionPipeline != null) {
+            ingestionPipeline.close();
+        }
+        if (gatheringPool != null) {
+            gatheringPool.shutdown();
+        }
+        if (contactStore != null) {
+            contactStore.close();
+        }
+        if (metricsRegistry instanceof JmxMetricsRegistry) {
+            ((JmxMetricsRegistry) metricsRegistry).unregister();
+        }
+
+        // Forget the single instance if it is the one closed.
+        synchronized (Government.class) {
+            if (instance == this) {
+                instance = null;
+            }
+        }
+    }
+
+    /**
+     * Creates the store named by the {@code contactStore} key of the configuration properties.
+     *
+     * @return store of the mobile devices, contacts and test results.
+     * @throws RuntimeException if the value of the key is not a store or the store cannot be created.
+     * @since 1.1.0
+     */
+    private ContactStore createContactStore() {
+        final String contactStoreType = governmentProperties.getProperty(GovernmentConstant.CONTACT_STORE_KEY, GovernmentConstant.CONTACT_STORE_JDBC).trim();
+        if (contactStoreType.equalsIgnoreCase(GovernmentConstant.CONTACT_STORE_MEMORY)) {
+            return new InMemoryContactStore();
+        }
+        if (contactStoreType.equalsIgnoreCase(GovernmentConstant.CONTACT_STORE_JDBC)) {
+            return createJdbcContactStore();
+        }
+
+        // Instantiate any other store from its class name.
+        try {
+            final Object contactStore = Class.forName(contactStoreType).getDeclaredConstructor().newInstance();
+            if (contactStore instanceof ContactStore) {
+                return (ContactStore) contactStore;
+            }
+        } catch (ReflectiveOperationException | LinkageError ignored) {
+        }
+        throw new RuntimeException("Invalid value for the key \"" + GovernmentConstant.CONTACT_STORE_KEY + "\".");
+    }
+
+    /**
+     * Creates the registry of the metrics named by the {@code metricsRegistry} key of the configuration properties.
+     *
+     * @return registry of the metrics, {@link MetricsRegistry#NONE} if metrics are disabled.
+     * @throws RuntimeException if the value of the key is not a registry or the registry cannot be created.
+     * @since 1.1.0
+     */
+    private MetricsRegistry createMetricsRegistry() {
+        final String metricsRegistryType = governmentProperties.getProperty(GovernmentConstant.METRICS_REGISTRY_KEY, "").trim();
+        if (metricsRegistryType.isEmpty() || metricsRegistryType.equalsIgnoreCase(GovernmentConstant.METRICS_REGISTRY_NONE)) {
+            return MetricsRegistry.NONE;
+        }
+        if (metricsRegistryType.equalsIgnoreCase(GovernmentConstant.METRICS_REGISTRY_MEMORY)) {
+            return new InMemoryMetricsRegistry();
+        }
+        if (metricsRegistryType.equalsIgnoreCase(GovernmentConstant.METRICS_REGISTRY_JMX)) {
+            return new JmxMetricsRegistry(governmentProperties.getProperty(GovernmentConstant.METRICS_JMX_NAME_KEY,
+                    GovernmentConstant.DEFAULT_METRICS_JMX_NAME));
+        }
+
+        // Instantiate any other registry from its class name.
+        try {
+            final Object metricsRegistry = Class.forName(metricsRegistryType).getDeclaredConstructor().newInstance();
+            if (metricsRegistry instanceof MetricsRegistry) {
+                return (MetricsRegistry) metricsRegistry;
+            }
+        } catch (ReflectiveOperationException | LinkageError ignored) {
+        }
+        throw new RuntimeException("Invalid value for the key \"" + GovernmentConstant.METRICS_REGISTRY_KEY + "\".");
+    }
+
+    /**
+     * Registers the gauges of the ingestion queue and, if contacts are stored in the database,
+     * of the connection pool and the device id cache.
+     *
+     * @since 1.1.0
+     */
+    private void registerGauges() {
+        if (!metricsRegistry.isEnabled()) {
+            return;
+        }
+        metricsRegistry.registerGauge("government.ingestion.queuedRequests", ingestionPipeline::getQueuedRequests);
+        if (contactStore instanceof JdbcContactStore) {
+            final JdbcContactStore jdbcContactStore = (JdbcContactStore) contactStore;
+            metricsRegistry.registerGauge("store.pool.activeConnections", () -> jdbcContactStore.getConnectionPoolMetrics().getActiveConnections());
+            metricsRegistry.registerGauge("store.pool.timeouts", () -> jdbcContactStore.getConnectionPoolMetrics().getTimeoutCount());
+            metricsRegistry.registerGauge("store.deviceCache.size", () -> jdbcContactStore.getMobileDeviceIdCacheMetrics().getSize());
+            metricsRegistry.registerGauge("store.deviceCache.hits", () -> jdbcContactStore.getMobileDeviceIdCacheMetrics().getHits());
+            metricsRegistry.registerGauge("store.deviceCache.misses", () -> jdbcContactStore.getMobileDeviceIdCacheMetrics().getMisses());
+        }
+    }
+
+    /**
+     * Creates the store of the contacts in the database of the configuration properties.
+     * It registers the JDBC driver, creates the connection pool and migrates the schema to the latest version.
+     *
+     * @return store of the contacts in the database.
+     * @throws RuntimeException if the database keys are not proper or any error occurs while connecting to the database.
+     * @since 1.1.0
+     */
+    private JdbcContactStore createJdbcContactStore() {
         // Throw exception if content in the configuration file is not proper.
         if (!governmentProperties.containsKey(GovernmentConstant.DATABASE_PATH_KEY)) {
             throw new RuntimeException("\"" + GovernmentConstant.DATABASE_PATH_KEY + "\" not found in configuration file.");
@@ -100,84 +342,186 @@ public class Government {
             throw new RuntimeException(e.getMessage());
         }
 
-        // Connect to the database to check the credentials and create tables if not created already.
-        try (final Connection connection = DriverManager.getConnection(
+        // Create the connection pool shared by all the database operations.
+        final ConnectionPool connectionPool = new ConnectionPool(
                 governmentProperties.getProperty(GovernmentConstant.DATABASE_PATH_KEY),
                 governmentProperties.getProperty(GovernmentConstant.DATABASE_USER_KEY),
-                governmentProperties.getProperty(GovernmentConstant.DATABASE_PASSWORD_KEY));
-             final Statement statement = connection.createStatement()) {
-            statement.addBatch(GovernmentDatabase.createTableMobileDevice());
-            statement.addBatch(GovernmentDatabase.createTableTestOutcome());
-            statement.addBatch(GovernmentDatabase.createTableMobileDeviceTestOutcome());
-            statement.addBatch(GovernmentDatabase.createTableContact());
-            statement.executeBatch();
-        } catch (SQLException e) {
-            // Throw exception if error occurs.
-            throw new RuntimeException(e.getMessage());
+                governmentProperties.getProperty(GovernmentConstant.DATABASE_PASSWORD_KEY),
+                getIntProperty(GovernmentConstant.POOL_SIZE_KEY, GovernmentConstant.DEFAULT_POOL_SIZE, 1),
+                getIntProperty(GovernmentConstant.POOL_IDLE_TIMEOUT_KEY, GovernmentConstant.DEFAULT_POOL_IDLE_TIMEOUT, 0) * 1000L,
+                getIntProperty(GovernmentConstant.POOL_WAIT_TIMEOUT_KEY, GovernmentConstant.DEFAULT_POOL_WAIT_TIMEOUT, 0) * 1000L,
+                governmentProperties.getProperty(GovernmentConstant.POOL_VALIDATION_QUERY_KEY),
+                getIntProperty(GovernmentConstant.POOL_STATEMENT_CACHE_SIZE_KEY, GovernmentConstant.DEFAULT_POOL_STATEMENT_CACHE_SIZE, 0));
+
+        // Migrate the schema and warm up the device id cache with the most recently inserted devices.
+        return new JdbcContactStore(connectionPool,
+                getIntProperty(GovernmentConstant.DEVICE_CACHE_SIZE_KEY, GovernmentConstant.DEFAULT_DEVICE_CACHE_SIZE, 0), metricsRegistry);
+    }
+
+    /**
+     * Gets the optional integer property {@code key} from the configuration properties.
+     *
+     * @param key          key of the property.
+     * @param defaultValue value returned if the key is not present.
+     * @param minValue     minimum value allowed for the property.
+     * @return value of the property or {@code defaultValue} if the key is not present.
+     * @throws RuntimeException if the value of the property is not a valid integer greater or equal to {@code minValue}.
+     * @since 1.1.0
+     */
+    private int getIntProperty(String key, int defaultValue, int minValue) {
+        final String value = governmentProperties.getProperty(key);
+        if (value == null || value.trim().isEmpty()) {
+            return defaultValue;
+        }
+        try {
+            final int intValue = Integer.parseInt(value.trim());
+            if (intValue >= minValue) {
+                return intValue;
+            }
+        } catch (NumberFormatException ignored) {
+        }
+        throw new RuntimeException("Invalid value for the key \"" + key + "\".");
+    }
+
+    /**
+     * Gets the optional boolean property {@code key} from the configuration properties.
+     *
+     * @param key          key of the property.
+     * @param defaultValue value returned if the key is not present.
+     * @return value of the property or {@code defaultValue} if the key is not present.
+     * @throws RuntimeException if the value of the property is neither {@code true} nor {@code false}.
+     * @since 1.1.0
+     */
+    private boolean getBooleanProperty(String key, boolean defaultValue) {
+        final String value = governmentProperties.getProperty(key);
+        if (value == null || value.trim().isEmpty()) {
+            return defaultValue;
+        }
+        if (value.trim().equalsIgnoreCase("true")) {
+            return true;
         }
+        if (value.trim().equalsIgnoreCase("false")) {
+            return false;
+        }
+        throw new RuntimeException("Invalid value for the key \"" + key + "\".");
     }
 
     /**
      * Returns the {@code Government} instance.
+     * It is constructed once even if many threads ask for it at the same time.
      *
      * @param configFile configuration file that contains database configuration details.
      * @return {@code Government} instance.
      * @since 1.0.0
      */
     public static Government getInstance(String configFile) {
-        if (instance == null) {
-            instance = new Government(configFile);
+        // Skip the lock once constructed.
+        Government government = instance;
+        if (government == null) {
+            synchronized (Government.class) {
+                government = instance;
+                if (government == null) {
+                    government = new Government(configFile);
+                    instance = government;
+                }
+            }
         }
-        return instance;
+        return government;
     }
 
     /**
-     * Parses the XML string into an XML document and stores the respected values into appropriate lists.
+     * Gets a snapshot of the database connection pool metrics.
+     * It includes active and idle connections, time waited for a connection and number of timeouts.
      *
-     * @param contactInfo                     XML string to be parsed.
-     * @param initiatorPositiveTestHashesList stores the positive test hashes of the initiator.
-     * @param contactPersonTwoList            contains alphanumeric strings for each device in contact with the initiator.
-     * @param dateOfContactList               contains number of days since January 1, 2021 for each device in contact with the initiator.
-     * @param durationOfContactList           contains number of minutes for each device in contact with the initiator.
-     * @throws ParserConfigurationException if configuration error occurs.
-     * @throws SAXException                 if parsing error occurs.
-     * @throws IOException                  if any I/O error occurs.
-     * @since 1.0.0
+     * @return connection pool metrics, {@code null} if contacts are stored in memory.
+     * @since 1.1.0
      */
-    private void parseContactInfoXML(String contactInfo,
-                                     LinkedList<String> initiatorPositiveTestHashesList,
-                                     LinkedList<String> contactPersonTwoList,
-                                     LinkedList<String> dateOfContactList,
-                                     LinkedList<Integer> durationOfContactList) throws ParserConfigurationException, SAXException, IOException {
-        try (final StringReader stringReader = new StringReader(contactInfo)) {
-            // Parse the string and create XML document.
-            final Document contactInfoXML = DocumentBuilderFactory.newInstance()
-                    .newDocumentBuilder()
-                    .parse(new InputSource(stringReader));
-
-            contactInfoXML.getDocumentElement().normalize();
-
-            // List of positive test hashes of the initiator.
-            final NodeList testHashesNodeList = contactInfoXML.getElementsByTagName(GovernmentConstant.TEST_HASH);
-            if (testHashesNodeList != null && testHashesNodeList.getLength() > 0) {
-                for (int i = 0; i < testHashesNodeList.getLength(); ++i) {
-                    initiatorPositiveTestHashesList.add(testHashesNodeList.item(i).getTextContent());
-                }
-            }
+    public ConnectionPool.Metrics getConnectionPoolMetrics() {
+        return contactStore instanceof JdbcContactStore ? ((JdbcContactStore) contactStore).getConnectionPoolMetrics() : null;
+    }
+
+    /**
+     * Gets a snapshot of the mobile device id cache metrics.
+     * It includes cached ids, capacity and number of hits and misses.
+     *
+     * @return mobile device id cache metrics, {@code null} if contacts are stored in memory.
+     * @since 1.1.0
+     */
+    public MobileDeviceIdCache.Metrics getMobileDeviceIdCacheMetrics() {
+        return contactStore instanceof JdbcContactStore ? ((JdbcContactStore) contactStore).getMobileDeviceIdCacheMetrics() : null;
+    }
+
+    /**
+     * Gets the registry the metrics of the operations are recorded in.
+     * Operations are named {@code government.operation}, the synchronizations stored in the database
+     * {@code store.storeContactInfo} and the operations of the mobile devices {@code device.operation}.
+     * Each operation records the time of its stages as {@code operation.stage} and in total as {@code operation.total}.
+     *
+     * @return registry of the metrics, {@link MetricsRegistry#NONE} if metrics are disabled.
+     * @since 1.1.0
+     */
+    public MetricsRegistry getMetricsRegistry() {
+        return metricsRegistry;
+    }
+
+    /**
+     * Appends the current metrics to the CSV file of the {@code metricsCsvFile} key, writing the header first
+     * if the file is new. It is called every {@code metricsDumpInterval} seconds and may be called at any time.
+     *
+     * @throws RuntimeException if the file cannot be written.
+     * @since 1.1.0
+     */
+    public void dumpMetrics() {
+        // Skip if metrics are not dumped.
+        if (metricsCsvFile == null) {
+            return;
+        }
 
-            // List of alphanumeric strings, number of days and duration for each device in contact with the initiator.
-            final NodeList contactsNodeList = contactInfoXML.getElementsByTagName(GovernmentConstant.CONTACT);
-            if (contactsNodeList != null && contactsNodeList.getLength() > 0) {
-                for (int i = 0; i < contactsNodeList.getLength(); ++i) {
-                    final Element contactEle = (Element) contactsNodeList.item(i);
-                    contactPersonTwoList.add(contactEle.getElementsByTagName(GovernmentConstant.INDIVIDUAL).item(0).getTextContent());
-                    dateOfContactList.add(contactEle.getElementsByTagName(GovernmentConstant.DATE).item(0).getTextContent());
-                    durationOfContactList.add(Integer.parseInt(contactEle.getElementsByTagName(GovernmentConstant.DURATION).item(0).getTextContent()));
+        synchronized (metricsDumpLock) {
+            try (final Writer writer = Files.newBufferedWriter(metricsCsvFile, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                if (Files.size(metricsCsvFile) == 0) {
+                    InMemoryMetricsRegistry.writeCsvHeader(writer);
                 }
+                ((InMemoryMetricsRegistry) metricsRegistry).writeCsv(writer, System.currentTimeMillis());
+            } catch (IOException e) {
+                // Throw exception if file cannot be written.
+                throw new RuntimeException(e.getMessage());
             }
         }
     }
 
+    /**
+     * Clears the in-memory caches of database rows.
+     * It must be called if the tables are modified or truncated without using this {@code Government}.
+     *
+     * @since 1.1.0
+     */
+    public void clearCaches() {
+        contactStore.clearCaches();
+    }
+
+    /**
+     * Drops the contacts made before {@code date} along with their pending exposures.
+     * Contacts are partitioned by weeks of {@value ContactStore#CONTACT_PARTITION_DAYS} days and only whole partitions
+     * are dropped, so contacts of the week containing {@code date} are kept.
+     * Dropping a partition neither scans nor locks the contacts of the other partitions.
+     *
+     * @param date number of days since January 1, 2021 of the first date kept.
+     * @return number of partitions dropped.
+     * @throws IllegalArgumentException if arguments passed are illegal or inappropriate.
+     * @throws RuntimeException         if any error occurs during execution of this method.
+     * @since 1.1.0
+     */
+    public int purgeContactsBefore(int date) {
+        // Throw exception if date is invalid.
+        if (date < 0) {
+            throw new IllegalArgumentException("Invalid argument \"date\" - " + date + ".");
+        }
+
+        return contactStore.purgeContactsBefore(date);
+    }
+
     /**
      * Called by {@code MobileDevice.synchronizeData()} to store the contact information into the database.
      * Caller is identified by the {@code initiator} which is the hash value of caller's device configuration properties.
@@ -200,111 +544,287 @@ public class Government {
             return false;
         }
 
-        final LinkedList<String> initiatorPositiveTestHashesList = new LinkedList<>();
-        final LinkedList<String> contactPersonTwoList = new LinkedList<>();
-        final LinkedList<String> dateOfContactList = new LinkedList<>();
-        final LinkedList<Integer> durationOfContactList = new LinkedList<>();
-
-        // Parse the XML string and store the values in appropriate list.
+        // Read the XML string before taking a connection.
+        final OperationTrace trace = new OperationTrace(metricsRegistry, GovernmentConstant.MOBILE_CONTACT_METRIC);
+        trace.recordValue("payloadChars", contactInfo.length());
+        final ContactBatch contactBatch = new ContactBatch();
         try {
-            parseContactInfoXML(contactInfo, initiatorPositiveTestHashesList, contactPersonTwoList, dateOfContactList, durationOfContactList);
-        } catch (Exception e) {
-            // Throw exception if any error occurs.
+            readContactInfo(contactBatch, 0, contactInfo);
+        } catch (XMLStreamException e) {
+            // Throw exception if XML string is invalid.
+            trace.fail();
             throw new RuntimeException(e.getMessage());
         }
+        trace.endStage("parse");
+        return storeMobileContact(initiator, contactBatch, trace);
+    }
 
-        // Query to insert initiator's hash and contacts hashes if any and not inserted already.
-        final String insertMobileDeviceQuery = GovernmentDatabase.getInsertMobileDeviceQuery(initiator, contactPersonTwoList);
-
-        // Query to insert initiator's positive test hashes if any.
-        final String insertMobileDeviceTestResultQuery = (initiatorPositiveTestHashesList.size() > 0) ?
-                GovernmentDatabase.getInsertMobileDeviceTestResultQuery(initiator, initiatorPositiveTestHashesList) :
-                null;
+    /**
+     * Binary format version of {@link #mobileContact(String, String)}.
+     * Devices choose the format of each synchronization, the binary format carries the same information as the XML string
+     * with raw device hashes and variable length numbers, so it is smaller and faster to read.
+     *
+     * @param initiator   hash value of caller's device configuration properties.
+     * @param contactInfo caller's binary contact information.
+     * @return {@code true} if {@code initiator} has been near anyone diagnosed with COVID-19 in the 14 days otherwise {@code false}.
+     * @throws IllegalArgumentException if arguments passed are illegal or inappropriate.
+     * @throws RuntimeException         if any error occurs during execution of this method.
+     * @see BinaryContactInfo
+     * @since 1.1.0
+     */
+    public boolean mobileContactBinary(String initiator, byte[] contactInfo) {
+        // Throw exception if initiator is invalid.
+        if (initiator == null || initiator.trim().isEmpty()) {
+            throw new IllegalArgumentException("Invalid argument \"initiator\". - \"" + initiator + "\".");
+        }
 
-        // Query to insert contacts made by the initiator if any.
-        final String insertContactQuery = (contactPersonTwoList.size() > 0) ?
-                GovernmentDatabase.getInsertContactQuery(initiator, contactPersonTwoList, dateOfContactList, durationOfContactList) :
-                null;
+        // Return false, initiator has not been near anyone diagnosed with COVID-19 in the 14 days.
+        if (contactInfo == null || contactInfo.length == 0) {
+            return false;
+        }
 
-        // Query to check if initiator has been near anyone diagnosed with COVID-19 in the last 14 days.
-        final String testInitiatorCovidQuery = GovernmentDatabase.getSelectTestInitiatorQuery(initiator);
+        // Read the payload before taking a connection.
+        final OperationTrace trace = new OperationTrace(metricsRegistry, GovernmentConstant.MOBILE_CONTACT_BINARY_METRIC);
+        trace.recordValue("payloadBytes", contactInfo.length);
+        final ContactBatch contactBatch = new ContactBatch();
+        try {
+            readContactInfo(contactBatch, 0, contactInfo);
+        } catch (IOException e) {
+            // Throw exception if payload is invalid.
+            trace.fail();
+            throw new RuntimeException(e.getMessage());
+        }
+        trace.endStage("parse");
+        return storeMobileContact(initiator, contactBatch, trace);
+    }
 
-        Connection connection = null;
-        Statement statement = null;
-        ResultSet resultSet = null;
+    /**
+     * Stores the contact information read from a single initiator in its own transaction.
+     *
+     * @param initiator    hash value of caller's device configuration properties.
+     * @param contactBatch contact information read from the initiator.
+     * @param trace        trace of the synchronization, ended once stored.
+     * @return {@code true} if {@code initiator} has been near anyone diagnosed with COVID-19 in the 14 days otherwise {@code false}.
+     * @throws RuntimeException if any error occurs during execution of this method.
+     * @since 1.1.0
+     */
+    private boolean storeMobileContact(String initiator, ContactBatch contactBatch, OperationTrace trace) {
+        trace.recordValue("contacts", contactBatch.contactCount);
+        final boolean covidContact;
+        try {
+            covidContact = storeContactInfo(List.of(initiator), contactBatch, trace)[0];
+        } catch (RuntimeException e) {
+            trace.fail();
+            throw e;
+        }
+        trace.end();
+        if (covidContact) {
+            trace.increment("exposures", 1);
+        }
+        return covidContact;
+    }
 
-        // List of all the COVID-19 contacts made by the initiator in the last 14 days.
-        final LinkedList<Integer> contactColIds = new LinkedList<>();
+    /**
+     * Stores the contact information of many initiators while holding the locks of the initiators.
+     * Synchronizations of the same initiator are serialized, so the exposures of an initiator are reported once and
+     * the notify field of its contacts is never updated by two synchronizations at once.
+     * Locks are taken in the same order by every thread, so synchronizations sharing initiators cannot deadlock.
+     *
+     * @param initiators   hash value of each caller's device configuration properties.
+     * @param contactBatch contact information read from the initiators.
+     * @param trace        trace of the synchronization, timing the wait for the locks and the store.
+     * @return for each initiator, {@code true} if it has been near anyone diagnosed with COVID-19 in the 14 days otherwise {@code false}.
+     * @throws RuntimeException if any error occurs during execution of this method.
+     * @since 1.1.0
+     */
+    private boolean[] storeContactInfo(List<String> initiators, ContactBatch contactBatch, OperationTrace trace) {
+        final int[] lockedStripes = deviceLocks.lock(initiators);
+        trace.endStage("lockWait");
         try {
-            connection = DriverManager.getConnection(governmentProperties.getProperty(GovernmentConstant.DATABASE_PATH_KEY),
-                    governmentProperties.getProperty(GovernmentConstant.DATABASE_USER_KEY),
-                    governmentProperties.getProperty(GovernmentConstant.DATABASE_PASSWORD_KEY));
+            final boolean[] covidContacts = contactStore.storeContactInfo(initiators, contactBatch);
+            trace.endStage("store");
+            return covidContacts;
+        } finally {
+            deviceLocks.unlock(lockedStripes);
+        }
+    }
 
-            statement = connection.createStatement();
+    /**
+     * Asynchronous version of {@link #mobileContact(String, String)}.
+     * Request is queued and stored by a worker, possibly in the same transaction as other queued requests.
+     * Caller is blocked only while the queue is full.
+     * Requests of the same initiator are always stored by the same worker in the order they are submitted,
+     * so a numbered batch is never skipped as older because the next batch of the device was stored first.
+     *
+     * @param initiator   hash value of caller's device configuration properties.
+     * @param contactInfo caller's contact information.
+     * @return future completed with {@code true} if {@code initiator} has been near anyone diagnosed with COVID-19
+     * in the 14 days otherwise {@code false}, or completed exceptionally if any error occurs while storing the request.
+     * @throws IllegalArgumentException if arguments passed are illegal or inappropriate.
+     * @since 1.1.0
+     */
+    public CompletableFuture<Boolean> mobileContactAsync(String initiator, String contactInfo) {
+        // Throw exception if initiator is invalid.
+        if (initiator == null || initiator.trim().isEmpty()) {
+            throw new IllegalArgumentException("Invalid argument \"initiator\". - \"" + initiator + "\".");
+        }
 
-            // Set auto commit to false before queries execution to ensure Atomicity.
-            connection.setAutoCommit(false);
+        // Return false, initiator has not been near anyone diagnosed with COVID-19 in the 14 days.
+        if (contactInfo == null || contactInfo.trim().isEmpty()) {
+            return CompletableFuture.completedFuture(false);
+        }
 
-            // Prepare a batch of queries and execute them.
-            statement.addBatch(insertMobileDeviceQuery);
-            if (insertMobileDeviceTestResultQuery != null) {
-                statement.addBatch(insertMobileDeviceTestResultQuery);
-            }
-            if (insertContactQuery != null) {
-                statement.addBatch(insertContactQuery);
-            }
-            statement.executeBatch();
+        return ingestionPipeline.submit(initiator, contactInfo);
+    }
 
-            resultSet = statement.executeQuery(testInitiatorCovidQuery);
-            while (resultSet.next()) {
-                contactColIds.add(resultSet.getInt(GovernmentDatabase.COLUMN_ID));
-            }
+    /**
+     * Asynchronous version of {@link #mobileContactBinary(String, byte[])}.
+     * Request is queued and stored by a worker, possibly in the same transaction as other queued requests of either format.
+     * Caller is blocked only while the queue is full.
+     * Requests of the same initiator are always stored by the same worker in the order they are submitted,
+     * so a numbered batch is never skipped as older because the next batch of the device was stored first.
+     *
+     * @param initiator   hash value of caller's device configuration properties.
+     * @param contactInfo caller's binary contact information.
+     * @return future completed with {@code true} if {@code initiator} has been near anyone diagnosed with COVID-19
+     * in the 14 days otherwise {@code false}, or completed exceptionally if any error occurs while storing the request.
+     * @throws IllegalArgumentException if arguments passed are illegal or inappropriate.
+     * @since 1.1.0
+     */
+    public CompletableFuture<Boolean> mobileContactBinaryAsync(String initiator, byte[] contactInfo) {
+        // Throw exception if initiator is invalid.
+        if (initiator == null || initiator.trim().isEmpty()) {
+            throw new IllegalArgumentException("Invalid argument \"initiator\". - \"" + initiator + "\".");
+        }
 
-            if (contactColIds.size() > 0) {
-                // Query to update the notify field of contacts once reported.
-                String updateColContactNotifiedQuery = GovernmentDatabase.updateContactNotifiedForContactQuery(contactColIds);
-                statement.executeUpdate(updateColContactNotifiedQuery);
-            }
+        // Return false, initiator has not been near anyone diagnosed with COVID-19 in the 14 days.
+        if (contactInfo == null || contactInfo.length == 0) {
+            return CompletableFuture.completedFuture(false);
+        }
 
-            // Commit when all queries are executed successfully.
-            connection.commit();
+        return ingestionPipeline.submitBinary(initiator, contactInfo);
+    }
 
-            // Set auto commit to true after execution.
-            connection.setAutoCommit(true);
-        } catch (SQLException e) {
-            // Throw exception if any error occurs.
-            throw new RuntimeException(e.getMessage());
-        } finally {
-            // Close the resultSet instance.
-            if (resultSet != null) {
-                try {
-                    resultSet.close();
-                } catch (SQLException ignored) {
+    /**
+     * Stores a batch of queued synchronization requests in a single transaction.
+     * Requests with invalid contact information are failed before the transaction.
+     * If the transaction fails, each request is stored again in its own transaction so
+     * one invalid request does not fail the others.
+     *
+     * @param queuedRequests queued synchronization requests.
+     * @since 1.1.0
+     */
+    private void mobileContactBatch(List<IngestionPipeline.Request> queuedRequests) {
+        // Read the contact information of each request, failing the requests which cannot be read.
+        final OperationTrace trace = new OperationTrace(metricsRegistry, GovernmentConstant.MOBILE_CONTACT_BATCH_METRIC);
+        trace.recordValue("requests", queuedRequests.size());
+        final List<IngestionPipeline.Request> requests = new ArrayList<>(queuedRequests.size());
+        final List<String> initiators = new ArrayList<>(queuedRequests.size());
+        final ContactBatch contactBatch = new ContactBatch();
+        for (IngestionPipeline.Request request : queuedRequests) {
+            final int contactCount = contactBatch.contactCount;
+            final int testHashCount = contactBatch.testHashCount;
+            try {
+                if (request.getBinaryContactInfo() != null) {
+                    readContactInfo(contactBatch, initiators.size(), request.getBinaryContactInfo());
+                } else {
+                    readContactInfo(contactBatch, initiators.size(), request.getContactInfo());
                 }
+            } catch (XMLStreamException | IOException e) {
+                // Drop the records read before the error.
+                contactBatch.contactCount = contactCount;
+                contactBatch.testHashCount = testHashCount;
+                trace.increment("errors", 1);
+                request.completeExceptionally(new RuntimeException(e.getMessage()));
+                continue;
             }
+            requests.add(request);
+            initiators.add(request.getInitiator());
+        }
+        trace.endStage("parse");
+        if (requests.isEmpty()) {
+            // Every request failed to be read, each failure is counted already.
+            trace.end();
+            return;
+        }
+        trace.recordValue("contacts", contactBatch.contactCount);
 
-            // Close the statement instance.
-            if (statement != null) {
+        // Store all the requests at once.
+        final boolean[] covidContacts;
+        try {
+            covidContacts = storeContactInfo(initiators, contactBatch, trace);
+        } catch (RuntimeException e) {
+            // Fail a single request, otherwise store each request on its own.
+            trace.fail();
+            if (requests.size() == 1) {
+                requests.get(0).completeExceptionally(e);
+                return;
+            }
+            trace.increment("retriedAlone", requests.size());
+            for (IngestionPipeline.Request request : requests) {
                 try {
-                    statement.close();
-                } catch (SQLException ignored) {
+                    if (request.getBinaryContactInfo() != null) {
+                        request.complete(mobileContactBinary(request.getInitiator(), request.getBinaryContactInfo()));
+                    } else {
+                        request.complete(mobileContact(request.getInitiator(), request.getContactInfo()));
+                    }
+                } catch (RuntimeException requestException) {
+                    request.completeExceptionally(requestException);
                 }
             }
+            return;
+        }
 
-            // Close the connection instance.
-            if (connection != null) {
-                try {
-                    if (!connection.getAutoCommit()) {
-                        connection.rollback();
-                    }
-                    connection.close();
-                } catch (SQLException ignored) {
+        // Complete the requests once committed.
+        trace.end();
+        for (int i = 0; i < covidContacts.length; ++i) {
+            requests.get(i).complete(covidContacts[i]);
+        }
+    }
+
+    /**
+     * Reads the contacts and positive test hashes of the XML string {@code contactInfo} into {@code contactBatch}.
+     *
+     * @param contactBatch contact information read.
+     * @param initiator    index of the initiator in the batch.
+     * @param contactInfo  caller's contact information.
+     * @throws XMLStreamException if XML string is invalid.
+     * @since 1.1.0
+     */
+    static void readContactInfo(ContactBatch contactBatch, int initiator, String contactInfo) throws XMLStreamException {
+        try (final ContactInfoReader contactInfoReader = new ContactInfoReader(contactInfo)) {
+            int record;
+            while ((record = contactInfoReader.next()) != ContactInfoReader.END) {
+                if (record == ContactInfoReader.TEST_HASH) {
+                    contactBatch.addTestHash(initiator, contactInfoReader.getTestHash());
+                } else {
+                    contactBatch.addContact(initiator, contactInfoReader.getIndividual(), contactInfoReader.getDate(), contactInfoReader.getDuration());
                 }
             }
+            contactBatch.setSequence(initiator, contactInfoReader.getSequence());
         }
+    }
 
-        // Return true if the initiator has been near anyone diagnosed with COVID-19 in the 14 days otherwise false.
-        return contactColIds.size() > 0;
+    /**
+     * Reads the contacts and positive test hashes of the binary {@code contactInfo} into {@code contactBatch}.
+     *
+     * @param contactBatch contact information read.
+     * @param initiator    index of the initiator in the batch.
+     * @param contactInfo  caller's binary contact information.
+     * @throws IOException if payload is invalid.
+     * @since 1.1.0
+     */
+    static void readContactInfo(ContactBatch contactBatch, int initiator, byte[] contactInfo) throws IOException {
+        final BinaryContactInfo.Reader contactInfoReader = new BinaryContactInfo.Reader(contactInfo);
+        int record;
+        while ((record = contactInfoReader.next()) != ContactInfoReader.END) {
+            if (record == ContactInfoReader.TEST_HASH) {
+                contactBatch.addTestHash(initiator, contactInfoReader.getTestHash());
+            } else {
+                contactBatch.addContact(initiator, contactInfoReader.getIndividual(), contactInfoReader.getDate(), contactInfoReader.getDuration());
+            }
+        }
+        contactBatch.setSequence(initiator, contactInfoReader.getSequence());
     }
 
     /**
@@ -330,23 +850,124 @@ public class Government {
             throw new IllegalArgumentException("Invalid argument \"date\" - " + date + ".");
         }
 
-        final String testDate = LocalDate.of(2021, 1, 1)
-                .plusDays(date)
-                .format(DateTimeFormatter.ofPattern("yyyy-MM-dd"));
+        // Insert COVID report record and record the exposures of the devices which already reported this test.
+        final OperationTrace trace = new OperationTrace(metricsRegistry, GovernmentConstant.RECORD_TEST_RESULT_METRIC);
+        try {
+            contactStore.storeTestResult(testHash, date, result);
+        } catch (RuntimeException e) {
+            trace.fail();
+            throw e;
+        }
+        trace.end();
+        return true;
+    }
+
+    /**
+     * Records in the database the COVID-19 test results delivered by a lab.
+     * Test results are stored in chunks of {@code testResultChunkSize} with one transaction per chunk,
+     * so chunks stored before a failure remain recorded. Test results already recorded are ignored.
+     *
+     * @param testResults test results to be recorded.
+     * @return number of test results inserted and ignored as duplicates.
+     * @throws IllegalArgumentException if arguments passed are illegal or inappropriate.
+     * @throws RuntimeException         if any error occurs during execution of this method.
+     * @since 1.1.0
+     */
+    public TestResult.LoadReport recordTestResults(Iterator<TestResult> testResults) {
+        // Throw exception if testResults is invalid.
+        if (testResults == null) {
+            throw new IllegalArgumentException("Invalid argument \"testResults\" - \"null\".");
+        }
 
-        // Query to insert COVID report record.
-        final String insertRecordQuery = GovernmentDatabase.getInsertTestResultQuery(testHash, testDate, result);
+        final OperationTrace trace = new OperationTrace(metricsRegistry, GovernmentConstant.RECORD_TEST_RESULTS_METRIC);
+        long inserted = 0;
+        long ignored = 0;
+        final List<TestResult> chunk = new ArrayList<>();
+        try {
+            while (testResults.hasNext()) {
+                chunk.add(testResults.next());
+
+                // Store the chunk once full or once all the test results are read.
+                if (chunk.size() == testResultChunkSize || !testResults.hasNext()) {
+                    trace.endStage("read");
+                    final int chunkInserted = contactStore.storeTestResults(chunk);
+                    trace.endStage("storeChunk");
+                    inserted = inserted + chunkInserted;
+                    ignored = ignored + chunk.size() - chunkInserted;
+                    chunk.clear();
+                }
+            }
+        } catch (RuntimeException e) {
+            trace.fail();
+            throw e;
+        }
+        trace.end();
+        trace.increment("inserted", inserted);
+        trace.increment("ignored", ignored);
 
-        try (final Connection connection = DriverManager.getConnection(
-                governmentProperties.getProperty(GovernmentConstant.DATABASE_PATH_KEY),
-                governmentProperties.getProperty(GovernmentConstant.DATABASE_USER_KEY),
-                governmentProperties.getProperty(GovernmentConstant.DATABASE_PASSWORD_KEY));
-             final Statement statement = connection.createStatement()) {
+        // Return number of test results inserted and ignored.
+        return new TestResult.LoadReport(inserted, ignored);
+    }
 
-            statement.executeUpdate(insertRecordQuery);
-            return true;
-        } catch (SQLException e) {
-            // Throw exception if any error occurs.
+    /**
+     * Records in the database the COVID-19 test results of a lab CSV file.
+     * Each line of the file is formatted as testHash,date,result where date is the number of days since January 1, 2021
+     * and result is either {@code true} or {@code false}. Empty lines, lines starting with {@code #} and
+     * the header line testHash,date,result are skipped.
+     *
+     * @param csvFile CSV file that contains the test results.
+     * @return number of test results inserted and ignored as duplicates.
+     * @throws IllegalArgumentException if arguments passed are illegal or inappropriate.
+     * @throws RuntimeException         if any error occurs during execution of this method.
+     * @see #recordTestResults(Iterator)
+     * @since 1.1.0
+     */
+    public TestResult.LoadReport recordTestResults(String csvFile) {
+        // Throw exception if csvFile is invalid.
+        if (csvFile == null || csvFile.trim().isEmpty()) {
+            throw new IllegalArgumentException("Invalid argument \"csvFile\". - \"" + csvFile + "\".");
+        }
+
+        try (final BufferedReader bufferedReader = Files.newBufferedReader(Path.of(csvFile), StandardCharsets.UTF_8)) {
+            // Read the test results line by line while they are stored.
+            return recordTestResults(new Iterator<>() {
+                private TestResult nextTestResult;
+                private int lineNumber;
+
+                @Override
+                public boolean hasNext() {
+                    try {
+                        String line;
+                        while (nextTestResult == null && (line = bufferedReader.readLine()) != null) {
+                            lineNumber = lineNumber + 1;
+                            line = line.trim();
+                            if (line.isEmpty() || line.startsWith("#") || line.replace(" ", "").equalsIgnoreCase(GovernmentConstant.TEST_RESULT_CSV_HEADER)) {
+                                continue;
+                            }
+                            try {
+                                nextTestResult = TestResult.parseCsv(line);
+                            } catch (IllegalArgumentException e) {
+                                throw new RuntimeException("Line " + lineNumber + ": " + e.getMessage());
+                            }
+                        }
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                    return nextTestResult != null;
+                }
+
+                @Override
+                public TestResult next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    final TestResult testResult = nextTestResult;
+                    nextTestResult = null;
+                    return testResult;
+                }
+            });
+        } catch (IOException | UncheckedIOException e) {
+            // Throw exception if file cannot be read.
             throw new RuntimeException(e.getMessage());
         }
     }
@@ -373,7 +994,7 @@ public class Government {
             throw new IllegalArgumentException("Invalid argument \"date\" - " + date + ".");
         }
 
-        // Throw minSize if date is invalid.
+        // Throw exception if minSize is invalid.
         if (minSize < 2) {
             throw new IllegalArgumentException("Invalid argument \"minSize\" - " + minSize + ".");
         }
@@ -388,399 +1009,163 @@ public class Government {
             throw new IllegalArgumentException("Invalid argument \"density\" - " + density + ".");
         }
 
-        // Gathering date in YYYY-MM-DD format.
-        final String gatheringDate = LocalDate.of(2021, 1, 1)
-                .plusDays(date)
-                .format(DateTimeFormatter.ofPattern("yyyy-MM-dd"));
-
-        // Query to find all the pairs on give date who contacted for at least minTime.
-        final String gatheringQuery = GovernmentDatabase.getContactGatheringQuery(gatheringDate, minTime);
-
-        // List of all the pairs.
-        LinkedList<Pair> allContacts;
-
-        // List of all the individuals.
-        LinkedHashSet<Integer> allIndividuals;
-
-        try (final Connection connection = DriverManager.getConnection(
-                governmentProperties.getProperty(GovernmentConstant.DATABASE_PATH_KEY),
-                governmentProperties.getProperty(GovernmentConstant.DATABASE_USER_KEY),
-                governmentProperties.getProperty(GovernmentConstant.DATABASE_PASSWORD_KEY));
-             final Statement statement = connection.createStatement();
-             final ResultSet resultSet = statement.executeQuery(gatheringQuery)) {
-
-            allContacts = new LinkedList<>();
-            allIndividuals = new LinkedHashSet<>();
-
-            while (resultSet.next()) {
-                final int personOneId = resultSet.getInt(GovernmentDatabase.COLUMN_PERSON_ONE_ID);
-                final int personTwoId = resultSet.getInt(GovernmentDatabase.COLUMN_PERSON_TWO_ID);
-
-                // Remove duplicate pairs. (i.e., pairs with same individuals)
-                boolean isSimilarPairPresent = false;
-                for (Pair p : allContacts) {
-                    if (p.personOneId == personTwoId && p.personTwoId == personOneId) {
-                        isSimilarPairPresent = true;
-                        break;
-                    }
-                }
-
-                if (!isSimilarPairPresent) {
-                    allContacts.add(new Pair(personOneId, personTwoId));
-                }
-
-                allIndividuals.add(personOneId);
-                allIndividuals.add(personTwoId);
-            }
-
-        } catch (SQLException e) {
-            // Throw exception if any error occurs.
-            throw new RuntimeException(e.getMessage());
-        }
-
-        // List of all the gatherings.
-        final LinkedList<Gathering> gatherings = new LinkedList<>();
-
-        // Logic to find all the gatherings.
-        for (int i = 0; i < allContacts.size(); ++i) {
-            final Pair currentContact = allContacts.get(i);
-
-            // Ignore the pair if it is grouped already. (i.e., already part of a gathering)
-            if (currentContact.isInGathering) {
-                continue;
-            }
-
-            final LinkedList<Pair> currentGatheringPairs = new LinkedList<>();
-            final LinkedHashSet<Integer> currentGatheringIndividuals = new LinkedHashSet<>();
-            final ArrayDeque<Pair> currentGatheringsQueue = new ArrayDeque<>();
-
-            currentGatheringPairs.addLast(currentContact);
-            currentGatheringsQueue.addLast(currentContact);
-            currentGatheringIndividuals.add(currentContact.personOneId);
-            currentGatheringIndividuals.add(currentContact.personTwoId);
-            currentContact.isInGathering = true;
-
-            Pair curGatheringPair;
-            while ((curGatheringPair = currentGatheringsQueue.pollFirst()) != null) {
-                for (Integer individual : allIndividuals) {
-                    if (individual == curGatheringPair.personOneId || individual == curGatheringPair.personTwoId) {
-                        continue;
-                    }
-
-                    int pair1Index = -1;
-                    for (int j = i + 1; j < allContacts.size(); ++j) {
-                        if ((curGatheringPair.personOneId == allContacts.get(j).personOneId && individual == allContacts.get(j).personTwoId) ||
-                                curGatheringPair.personOneId == allContacts.get(j).personTwoId && individual == allContacts.get(j).personOneId) {
-                            pair1Index = j;
-                            break;
-                        }
-                    }
-
-                    int pair2Index = -1;
-                    for (int j = i + 1; j < allContacts.size(); ++j) {
-                        if ((curGatheringPair.personTwoId == allContacts.get(j).personOneId && individual == allContacts.get(j).personTwoId) ||
-                                curGatheringPair.personTwoId == allContacts.get(j).personTwoId && individual == allContacts.get(j).personOneId) {
-                            pair2Index = j;
-                            break;
-                        }
-                    }
-
-                    // Add selected individuals and pairs in the gathering
-                    if (pair1Index != -1 && pair2Index != -1) {
-                        if (!allContacts.get(pair1Index).isInGathering && !allContacts.get(pair2Index).isInGathering) {
-                            currentGatheringPairs.addLast(allContacts.get(pair1Index));
-                            currentGatheringPairs.addLast(allContacts.get(pair2Index));
-                            currentGatheringsQueue.addLast(allContacts.get(pair1Index));
-                            currentGatheringsQueue.addLast(allContacts.get(pair2Index));
-                            currentGatheringIndividuals.add(individual);
-                            allContacts.get(pair1Index).isInGathering = true;
-                            allContacts.get(pair2Index).isInGathering = true;
-                        } else if (allContacts.get(pair1Index).isInGathering && !allContacts.get(pair2Index).isInGathering) {
-                            currentGatheringPairs.addLast(allContacts.get(pair2Index));
-                            currentGatheringsQueue.addLast(allContacts.get(pair2Index));
-                            allContacts.get(pair2Index).isInGathering = true;
-                        } else if (!allContacts.get(pair1Index).isInGathering && allContacts.get(pair2Index).isInGathering) {
-                            currentGatheringPairs.addLast(allContacts.get(pair1Index));
-                            currentGatheringsQueue.addLast(allContacts.get(pair1Index));
-                            allContacts.get(pair1Index).isInGathering = true;
-                        }
-                    }
-                }
-            }
-
-            // Add current gathering pairs and individuals in list of all the gatherings.
-            gatherings.add(new Gathering(currentGatheringPairs, currentGatheringIndividuals));
-        }
-
-        int totalGatherings = 0;
-
-        // Logic to find worthy gatherings from all the gatherings.
-        for (Gathering gathering : gatherings) {
-            if (gathering.individuals.size() >= minSize) {
-                final int totalPairsInGathering = gathering.pairs.size();
-                final int totalIndividualsInGathering = gathering.individuals.size();
-                final int totalPossiblePairsInGathering = (totalIndividualsInGathering * (totalIndividualsInGathering - 1)) / 2;
-                if (((float) totalPairsInGathering) / totalPossiblePairsInGathering >= density) {
-                    totalGatherings = totalGatherings + 1;
-                }
-            }
+        // Count the gatherings of the pairs on given date who contacted for at least minTime.
+        final OperationTrace trace = new OperationTrace(metricsRegistry, GovernmentConstant.FIND_GATHERINGS_METRIC);
+        final GatheringCounter gatheringCounter = new GatheringCounter(gatheringEngine, date, date, minSize, density, trace);
+        try {
+            contactStore.selectContactPairs(date, date, minTime, gatheringCounter);
+        } catch (RuntimeException e) {
+            trace.fail();
+            throw e;
         }
 
         // Return total gatherings found.
-        return totalGatherings;
+        return gatheringCounter.getGatherings()[0];
     }
 
     /**
-     * {@code GovernmentDatabase} holds all the database related constants and queries used by {@code Government}.
+     * Finds gatherings on every date from {@code fromDate} to {@code toDate}, both inclusive.
+     * It follows the same rules as {@link #findGatherings(int, int, int, float)} but reads the pairs of all the dates
+     * with a single query ordered by date and counts the gatherings of each date as soon as its pairs are read.
+     * At most {@value GovernmentConstant#MAX_GATHERING_DATES} dates are reported at once.
      *
-     * @author Dhrumil Amish Shah (B00857606)
-     * created on 2021-04-02
-     * @version 1.0.0
-     * @see Government
-     * @since 1.0.0
+     * @param fromDate first date for which number of gatherings are to be reported.
+     * @param toDate   last date for which number of gatherings are to be reported.
+     * @param minSize  minimum number of individuals in a gathering.
+     * @param minTime  minimum time for which individuals contacted.
+     * @param density  gathering density
+     * @return number of gatherings found on each date, i.e., element {@code i} holds the gatherings on {@code fromDate + i}.
+     * @throws IllegalArgumentException if arguments passed are illegal or inappropriate.
+     * @throws RuntimeException         if any error occurs during execution of this method.
+     * @since 1.1.0
      */
-    private static class GovernmentDatabase {
-        private static final String TABLE_MOBILE_DEVICE = "mobile_device";
-        private static final String TABLE_TEST_OUTCOME = "test_outcome";
-        private static final String TABLE_MOBILE_DEVICE_TEST_OUTCOME = "mobile_device_test_outcome";
-        private static final String TABLE_CONTACT = "contact";
-        private static final String COLUMN_ID = "_id";
-        private static final String COLUMN_MOBILE_DEVICE_HASH = "mobile_device_hash";
-        private static final String COLUMN_TEST_HASH = "test_hash";
-        private static final String COLUMN_TEST_DATE = "test_date";
-        private static final String COLUMN_TEST_RESULT = "test_result";
-        private static final String COLUMN_MOBILE_DEVICE_ID = "mobile_device_id";
-        private static final String COLUMN_TEST_OUTCOME_ID = "test_outcome_id";
-        private static final String COLUMN_CONTACT_DATE = "contact_date";
-        private static final String COLUMN_CONTACT_DURATION = "contact_duration";
-        private static final String COLUMN_PERSON_ONE_ID = "person_one_id";
-        private static final String COLUMN_PERSON_TWO_ID = "person_two_id";
-        private static final String COLUMN_CONTACT_NOTIFIED = "contact_notified";
-
-        /**
-         * Gets the query string to create {@value TABLE_MOBILE_DEVICE} table
-         * with columns {@value COLUMN_ID} and {@value COLUMN_MOBILE_DEVICE_HASH}.
-         *
-         * @return query string to create {@value TABLE_MOBILE_DEVICE} table.
-         */
-        private static String createTableMobileDevice() {
-            return "CREATE TABLE IF NOT EXISTS " + TABLE_MOBILE_DEVICE + "(" +
-                    COLUMN_ID + " INT PRIMARY KEY AUTO_INCREMENT," +
-                    COLUMN_MOBILE_DEVICE_HASH + " VARCHAR(128) UNIQUE NOT NULL" +
-                    ");";
+    public int[] findGatherings(int fromDate, int toDate, int minSize, int minTime, float density) {
+        // Throw exception if fromDate is invalid.
+        if (fromDate < 0) {
+            throw new IllegalArgumentException("Invalid argument \"fromDate\" - " + fromDate + ".");
         }
 
-        /**
-         * Gets the query string to create {@value TABLE_TEST_OUTCOME} table
-         * with columns {@value COLUMN_ID}, {@value COLUMN_TEST_HASH}, {@value COLUMN_TEST_DATE} and {@value COLUMN_TEST_RESULT}.
-         *
-         * @return query string to create {@value TABLE_TEST_OUTCOME} table.
-         */
-        private static String createTableTestOutcome() {
-            return "CREATE TABLE IF NOT EXISTS " + TABLE_TEST_OUTCOME + "(" +
-                    COLUMN_ID + " INT PRIMARY KEY AUTO_INCREMENT," +
-                    COLUMN_TEST_HASH + " VARCHAR(128) UNIQUE NOT NULL," +
-                    COLUMN_TEST_DATE + " DATE NOT NULL," +
-                    COLUMN_TEST_RESULT + " BOOLEAN NOT NULL" +
-                    ");";
+        // Throw exception if toDate is invalid or too far from fromDate.
+        if (toDate < fromDate || (long) toDate - fromDate >= GovernmentConstant.MAX_GATHERING_DATES) {
+            throw new IllegalArgumentException("Invalid argument \"toDate\" - " + toDate + ".");
         }
 
-        /**
-         * Gets the query string to create {@value TABLE_MOBILE_DEVICE_TEST_OUTCOME} table
-         * with columns {@value COLUMN_ID}, {@value COLUMN_MOBILE_DEVICE_ID} and {@value COLUMN_TEST_OUTCOME_ID}
-         * which connects {@value TABLE_MOBILE_DEVICE} and {@value TABLE_TEST_OUTCOME} tables.
-         *
-         * @return query string to create {@value TABLE_MOBILE_DEVICE_TEST_OUTCOME} table.
-         */
-        private static String createTableMobileDeviceTestOutcome() {
-            return "CREATE TABLE IF NOT EXISTS " + TABLE_MOBILE_DEVICE_TEST_OUTCOME + "(\n" +
-                    COLUMN_ID + " INT PRIMARY KEY AUTO_INCREMENT," +
-                    COLUMN_MOBILE_DEVICE_ID + " INT NOT NULL," +
-                    COLUMN_TEST_OUTCOME_ID + " INT NOT NULL," +
-                    "FOREIGN KEY(" + COLUMN_MOBILE_DEVICE_ID + ") REFERENCES " + TABLE_MOBILE_DEVICE + "(" + COLUMN_ID + ")," +
-                    "FOREIGN KEY(" + COLUMN_TEST_OUTCOME_ID + ") REFERENCES " + TABLE_TEST_OUTCOME + "(" + COLUMN_ID + ")," +
-                    "UNIQUE(" + COLUMN_MOBILE_DEVICE_ID + ", " + COLUMN_TEST_OUTCOME_ID + ")" +
-                    ");";
+        // Throw exception if minSize is invalid.
+        if (minSize < 2) {
+            throw new IllegalArgumentException("Invalid argument \"minSize\" - " + minSize + ".");
         }
 
-        /**
-         * Gets the query string to create {@value TABLE_CONTACT} table
-         * with columns {@value COLUMN_ID}, {@value COLUMN_CONTACT_DATE}, {@value COLUMN_CONTACT_DURATION},
-         * {@value COLUMN_PERSON_ONE_ID}, {@value COLUMN_PERSON_TWO_ID} and {@value COLUMN_CONTACT_NOTIFIED}.
-         *
-         * @return query string to create {@value TABLE_CONTACT} table.
-         */
-        private static String createTableContact() {
-            return "CREATE TABLE IF NOT EXISTS " + TABLE_CONTACT + "(" +
-                    COLUMN_ID + " INT PRIMARY KEY AUTO_INCREMENT," +
-                    COLUMN_CONTACT_DATE + " DATE NOT NULL," +
-                    COLUMN_CONTACT_DURATION + " INT NOT NULL," +
-                    COLUMN_PERSON_ONE_ID + " INT NOT NULL," +
-                    COLUMN_PERSON_TWO_ID + " INT NOT NULL," +
-                    COLUMN_CONTACT_NOTIFIED + " BOOLEAN NOT NULL," +
-                    "FOREIGN KEY(" + COLUMN_PERSON_ONE_ID + ") REFERENCES " + TABLE_MOBILE_DEVICE + "(" + COLUMN_ID + ")," +
-                    "FOREIGN KEY(" + COLUMN_PERSON_TWO_ID + ") REFERENCES " + TABLE_MOBILE_DEVICE + "(" + COLUMN_ID + ")" +
-                    ");";
+        // Throw exception if minTime is invalid.
+        if (minTime < 1) {
+            throw new IllegalArgumentException("Invalid argument \"minTime\" - " + minTime + ".");
         }
 
-        /**
-         * Gets the query string to insert all mobile device configuration hashes in {@value TABLE_MOBILE_DEVICE} table.
-         *
-         * @param initiator            initiator's mobile device configuration hash.
-         * @param contactPersonTwoList list of mobile device configuration hashes contacted by the initiator.
-         * @return query string to insert all mobile device configuration hashes in {@value TABLE_MOBILE_DEVICE} table.
-         */
-        private static String getInsertMobileDeviceQuery(String initiator, LinkedList<String> contactPersonTwoList) {
-            final StringBuilder insertMobileDeviceSB = new StringBuilder();
-
-            insertMobileDeviceSB.append("INSERT IGNORE INTO ")
-                    .append(TABLE_MOBILE_DEVICE)
-                    .append("(").append(COLUMN_MOBILE_DEVICE_HASH)
-                    .append(") VALUES ");
+        // Throw exception if density is invalid.
+        if (density < 0 || density > 1) {
+            throw new IllegalArgumentException("Invalid argument \"density\" - " + density + ".");
+        }
 
-            insertMobileDeviceSB.append("(\"").append(initiator).append("\")");
+        // Count the gatherings of each date as soon as all its pairs who contacted for at least minTime are read.
+        final OperationTrace trace = new OperationTrace(metricsRegistry, GovernmentConstant.FIND_GATHERINGS_METRIC);
+        final GatheringCounter gatheringCounter = new GatheringCounter(gatheringEngine, fromDate, toDate, minSize, density, trace);
+        try {
+            contactStore.selectContactPairs(fromDate, toDate, minTime, gatheringCounter);
+        } catch (RuntimeException e) {
+            trace.fail();
+            throw e;
+        }
 
-            contactPersonTwoList.forEach(contactPerson -> insertMobileDeviceSB.append(", (\"").append(contactPerson).append("\")"));
+        // Return gatherings found on each date.
+        return gatheringCounter.getGatherings();
+    }
 
-            insertMobileDeviceSB.append(";");
-            return insertMobileDeviceSB.toString();
-        }
+    /**
+     * {@code GatheringCounter} collects the pairs of each date selected by the contact store and counts their gatherings
+     * as soon as the pairs of the next date are received.
+     * The time spent selecting and counting the pairs of each date and the number of pairs are recorded in its trace.
+     *
+     * @author Dhrumil Amish Shah (B00857606)
+     * created on 2026-10-17
+     * @version 1.1.0
+     * @see Government
+     * @since 1.1.0
+     */
+    private static class GatheringCounter implements ContactStore.ContactPairConsumer {
+        private final GatheringEngine gatheringEngine;
+        private final int fromDate;
+        private final int minSize;
+        private final float density;
+        private final int[] gatherings;
+        private int[] personOneIds = new int[GovernmentConstant.INITIAL_PAIRS_CAPACITY];
+        private int[] personTwoIds = new int[GovernmentConstant.INITIAL_PAIRS_CAPACITY];
+        private final OperationTrace trace;
+        private int pairCount;
+        private long rowCount;
+        private int currentDate = -1;
 
         /**
-         * Gets the query string to insert all positive test hashes of the {@code initiator} in {@value TABLE_MOBILE_DEVICE_TEST_OUTCOME} table.
+         * Constructs this {@code GatheringCounter} for the dates from {@code fromDate} to {@code toDate}, both inclusive.
          *
-         * @param initiator                       initiator's mobile device configuration hash.
-         * @param initiatorPositiveTestHashesList list of positive test hashes of the initiator.
-         * @return query string to insert all positive test hashes of the {@code initiator} in {@value TABLE_MOBILE_DEVICE_TEST_OUTCOME} table.
+         * @param gatheringEngine algorithm used to count gatherings from the pairs of a date.
+         * @param fromDate        first date of the pairs.
+         * @param toDate          last date of the pairs.
+         * @param minSize         minimum number of individuals in a gathering.
+         * @param density         gathering density.
+         * @param trace           trace of the search, ended once the gatherings are got.
          */
-        private static String getInsertMobileDeviceTestResultQuery(String initiator, LinkedList<String> initiatorPositiveTestHashesList) {
-            final StringBuilder insertMobileDeviceTestResultSB = new StringBuilder();
-
-            insertMobileDeviceTestResultSB.append("INSERT IGNORE INTO ")
-                    .append(TABLE_MOBILE_DEVICE_TEST_OUTCOME)
-                    .append("(").append(COLUMN_MOBILE_DEVICE_ID).append(", ")
-                    .append(COLUMN_TEST_OUTCOME_ID)
-                    .append(") VALUES ");
-
-            initiatorPositiveTestHashesList.forEach(initiatorPositiveHash -> {
-                insertMobileDeviceTestResultSB.append("(");
-                insertMobileDeviceTestResultSB.append("(SELECT ").append(COLUMN_ID).append(" FROM ").append(TABLE_MOBILE_DEVICE).append(" WHERE ").append(COLUMN_MOBILE_DEVICE_HASH).append(" = \"").append(initiator).append("\")");
-                insertMobileDeviceTestResultSB.append(", ");
-                insertMobileDeviceTestResultSB.append("(SELECT ").append(COLUMN_ID).append(" FROM ").append(TABLE_TEST_OUTCOME).append(" WHERE ").append(COLUMN_TEST_HASH).append(" = \"").append(initiatorPositiveHash).append("\")");
-                insertMobileDeviceTestResultSB.append("), ");
-            });
-
-            insertMobileDeviceTestResultSB.replace(insertMobileDeviceTestResultSB.length() - 2, insertMobileDeviceTestResultSB.length(), ";");
-            return insertMobileDeviceTestResultSB.toString();
+        private GatheringCounter(GatheringEngine gatheringEngine, int fromDate, int toDate, int minSize, float density, OperationTrace trace) {
+            this.gatheringEngine = gatheringEngine;
+            this.fromDate = fromDate;
+            this.minSize = minSize;
+            this.density = density;
+            this.gatherings = new int[toDate - fromDate + 1];
+            this.trace = trace;
         }
 
         /**
-         * Gets the query string to insert all the contacts made by the {@code initiator} in {@value COLUMN_CONTACT_DATE}.
-         *
-         * @param initiator             initiator's mobile device configuration hash.
-         * @param contactPersonTwoList  list of mobile device configuration hashes contacted by the {@code initiator}.
-         * @param dateOfContactList     list of contact dates by the {@code initiator}.
-         * @param durationOfContactList list of contact duration by the {@code initiator}.
-         * @return query string to insert all the contacts made by the {@code initiator} in {@value COLUMN_CONTACT_DATE}.
+         * {@inheritDoc}
          */
-        private static String getInsertContactQuery(String initiator, LinkedList<String> contactPersonTwoList, LinkedList<String> dateOfContactList, LinkedList<Integer> durationOfContactList) {
-            final StringBuilder insertContactSB = new StringBuilder();
-
-            insertContactSB.append("INSERT INTO ")
-                    .append(TABLE_CONTACT)
-                    .append("(").append(COLUMN_CONTACT_DATE).append(", ")
-                    .append(COLUMN_CONTACT_DURATION).append(", ")
-                    .append(COLUMN_PERSON_ONE_ID).append(", ")
-                    .append(COLUMN_PERSON_TWO_ID).append(", ")
-                    .append(COLUMN_CONTACT_NOTIFIED)
-                    .append(") VALUES ");
-
-            for (int i = 0; i < contactPersonTwoList.size(); ++i) {
-                insertContactSB.append("(");
-                insertContactSB.append("\"").append(dateOfContactList.get(i)).append("\", ");
-                insertContactSB.append(durationOfContactList.get(i)).append(", ");
-                insertContactSB.append("(SELECT ").append(COLUMN_ID).append(" FROM ").append(TABLE_MOBILE_DEVICE).append(" WHERE ").append(COLUMN_MOBILE_DEVICE_HASH).append(" = \"").append(initiator).append("\"), ");
-                insertContactSB.append("(SELECT ").append(COLUMN_ID).append(" FROM ").append(TABLE_MOBILE_DEVICE).append(" WHERE ").append(COLUMN_MOBILE_DEVICE_HASH).append(" = \"").append(contactPersonTwoList.get(i)).append("\"), ");
-                insertContactSB.append(false);
-                insertContactSB.append("), ");
+        @Override
+        public void accept(int date, int personOneId, int personTwoId) {
+            // Count the gatherings of the previous date once all its pairs are read.
+            if (date != currentDate) {
+                countGatherings();
+                currentDate = date;
             }
-            insertContactSB.replace(insertContactSB.length() - 2, insertContactSB.length(), ";");
-            return insertContactSB.toString();
-        }
 
-        /**
-         * Gets the query string to insert COVID-19 test result in {@value TABLE_TEST_OUTCOME} table.
-         *
-         * @param testHash report test hash.
-         * @param testDate report test date.
-         * @param result   report result. {@code true} for positive and {@code false} for negative.
-         * @return query string to insert COVID-19 test result in {@value TABLE_TEST_OUTCOME} table.
-         */
-        private static String getInsertTestResultQuery(String testHash, String testDate, boolean result) {
-            return "INSERT IGNORE INTO " +
-                    TABLE_TEST_OUTCOME +
-                    "(" + COLUMN_TEST_HASH + ", " + COLUMN_TEST_DATE + ", " + COLUMN_TEST_RESULT + ")" +
-                    " VALUES" +
-                    "(\"" + testHash + "\", \"" + testDate + "\", " + result + ");";
+            if (pairCount == personOneIds.length) {
+                personOneIds = Arrays.copyOf(personOneIds, pairCount * 2);
+                personTwoIds = Arrays.copyOf(personTwoIds, pairCount * 2);
+            }
+            personOneIds[pairCount] = personOneId;
+            personTwoIds[pairCount] = personTwoId;
+            pairCount = pairCount + 1;
+            rowCount = rowCount + 1;
         }
 
         /**
-         * Gets the query string to check whether {@code initiator} contacted any COVID-19 individuals.
+         * Gets the gatherings found on each date, counting the gatherings of the last date first.
          *
-         * @param initiator initiator's configuration hash. (mobile device configuration hash)
-         * @return query string to select the contact ids of contacted COVID-19 individuals.
+         * @return number of gatherings found on each date, i.e., element {@code i} holds the gatherings on {@code fromDate + i}.
          */
-        private static String getSelectTestInitiatorQuery(String initiator) {
-            return "SELECT " +
-                    "c." + COLUMN_ID + " " +
-                    "FROM " +
-                    "" + TABLE_CONTACT + " AS c, " + TABLE_MOBILE_DEVICE_TEST_OUTCOME + " AS mdtr, " + TABLE_TEST_OUTCOME + " AS tr " +
-                    "WHERE " +
-                    "c." + COLUMN_PERSON_TWO_ID + " = mdtr." + COLUMN_MOBILE_DEVICE_ID + " AND " +
-                    "mdtr." + COLUMN_TEST_OUTCOME_ID + " = tr." + COLUMN_ID + " AND " +
-                    "c." + COLUMN_PERSON_ONE_ID + " = (SELECT " + COLUMN_ID + " FROM " + TABLE_MOBILE_DEVICE + " WHERE " + COLUMN_MOBILE_DEVICE_HASH + " = \"" + initiator + "\") AND " +
-                    "ABS(DATEDIFF(c." + COLUMN_CONTACT_DATE + ", tr." + COLUMN_TEST_DATE + ")) BETWEEN 0 AND 14 AND " +
-                    "tr." + COLUMN_TEST_RESULT + " = true AND " +
-                    "c." + COLUMN_CONTACT_NOTIFIED + " = false ;";
+        private int[] getGatherings() {
+            countGatherings();
+            trace.recordValue("rows", rowCount);
+            trace.end();
+            return gatherings;
         }
 
         /**
-         * Gets the query string to update notify column in {@value TABLE_CONTACT} table
-         * for the contacts who are already considered once to report COVID-19.
-         *
-         * @param contactIds contacts whose notify flag is to be set true.
-         * @return query string to update the notify column in {@value TABLE_CONTACT}.
+         * Counts the gatherings of the pairs of the current date, if any.
          */
-        private static String updateContactNotifiedForContactQuery(LinkedList<Integer> contactIds) {
-            final StringBuilder sb = new StringBuilder();
-
-            sb.append("UPDATE ").append(TABLE_CONTACT).append(" AS c ");
-            sb.append("SET c.").append(COLUMN_CONTACT_NOTIFIED).append(" = true ");
-            sb.append("WHERE c.").append(COLUMN_ID).append(" IN (");
-            for (int i = 0; i < contactIds.size(); ++i) {
-                if (i == (contactIds.size() - 1)) {
-                    sb.append(contactIds.get(i)).append(");");
-                } else {
-                    sb.append(contactIds.get(i)).append(", ");
-                }
+        private void countGatherings() {
+            if (pairCount > 0) {
+                trace.endStage("select");
+                trace.recordValue("graphPairs", pairCount);
+                gatherings[currentDate - fromDate] = gatheringEngine.countGatherings(personOneIds, personTwoIds, pairCount, minSize, density);
+                trace.endStage("count");
+                pairCount = 0;
             }
-            return sb.toString();
-        }
-
-        /**
-         * Gets the query string to fetch pairs for calculating gatherings from {@value TABLE_CONTACT} table.
-         *
-         * @param gatheringDate date of gathering.
-         * @param minTime       minimum time of contact for each pair. (i.e., between individuals)
-         * @return query string to fetch pairs for calculating gatherings from {@value TABLE_CONTACT} table.
-         */
-        private static String getContactGatheringQuery(String gatheringDate, int minTime) {
-            return "SELECT c." + COLUMN_PERSON_ONE_ID + ", c." + COLUMN_PERSON_TWO_ID + " " +
-                    "FROM " + TABLE_CONTACT + " AS c " +
-                    "WHERE c." + COLUMN_CONTACT_DATE + " = \"" + gatheringDate + "\" " +
-                    "GROUP BY c." + COLUMN_PERSON_ONE_ID + ", c." + COLUMN_PERSON_TWO_ID + " " +
-                    "HAVING SUM(c." + COLUMN_CONTACT_DURATION + ") >= " + minTime + " " +
-                    "ORDER BY c." + COLUMN_PERSON_ONE_ID + ", c." + COLUMN_PERSON_TWO_ID + ";";
         }
     }
 
@@ -798,70 +1183,55 @@ public class Government {
         private static final String DATABASE_PATH_KEY = "database";
         private static final String DATABASE_USER_KEY = "user";
         private static final String DATABASE_PASSWORD_KEY = "password";
-        private static final String CONTACT = "Contact";
-        private static final String INDIVIDUAL = "Individual";
-        private static final String DATE = "Date";
-        private static final String DURATION = "Duration";
-        private static final String TEST_HASH = "TestHash";
-    }
-
-    /**
-     * {@code Pair} holds two individuals as a pair.
-     *
-     * @author Dhrumil Amish Shah (B00857606)
-     * created on 2021-04-02
-     * @version 1.0.0
-     * @see Gathering
-     * @since 1.0.0
-     */
-    private static class Pair {
-        // personOneId holds id of person one in this pair.
-        final int personOneId;
-
-        // personTwoId holds id of person two in this pair.
-        final int personTwoId;
-
-        // isInGathering holds boolean to indicate whether this pair is grouped in a gathering or not. (Initial value if false)
-        boolean isInGathering;
-
-        /**
-         * Constructs this {@code Pair} with {@code personOneId} and {@code personTwoId}.
-         *
-         * @param personOneId id of person one in this pair.
-         * @param personTwoId id of person two in this pair.
-         */
-        private Pair(int personOneId, int personTwoId) {
-            this.personOneId = personOneId;
-            this.personTwoId = personTwoId;
-            this.isInGathering = false;
-        }
-    }
-
-    /**
-     * {@code Gathering} holds all pairs and individuals of a gathering.
-     *
-     * @author Dhrumil Amish Shah (B00857606)
-     * created on 2021-04-02
-     * @version 1.0.0
-     * @see Pair
-     * @since 1.0.0
-     */
-    private static class Gathering {
-        // pairs holds all the pairs in this gathering.
-        private final LinkedList<Pair> pairs;
-
-        // individuals holds all the individuals in this gathering.
-        private final LinkedHashSet<Integer> individuals;
-
-        /**
-         * Constructs this {@code Gathering} with {@code pairs} and {@code individual}.
-         *
-         * @param pairs       all pairs in this gathering.
-         * @param individuals all individuals in this gathering.
-         */
-        private Gathering(LinkedList<Pair> pairs, LinkedHashSet<Integer> individuals) {
-            this.pairs = pairs;
-            this.individuals = individuals;
-        }
+        private static final String POOL_SIZE_KEY = "poolSize";
+        private static final String POOL_IDLE_TIMEOUT_KEY = "poolIdleTimeout";
+        private static final String POOL_WAIT_TIMEOUT_KEY = "poolWaitTimeout";
+        private static final String POOL_VALIDATION_QUERY_KEY = "poolValidationQuery";
+        private static final String POOL_STATEMENT_CACHE_SIZE_KEY = "poolStatementCacheSize";
+        private static final int DEFAULT_POOL_SIZE = 10;
+        private static final int DEFAULT_POOL_IDLE_TIMEOUT = 300;
+        private static final int DEFAULT_POOL_WAIT_TIMEOUT = 30;
+        private static final int DEFAULT_POOL_STATEMENT_CACHE_SIZE = 32;
+        private static final String GATHERING_PARALLEL_KEY = "gatheringParallel";
+        private static final String GATHERING_PARALLELISM_KEY = "gatheringParallelism";
+        private static final String INGESTION_QUEUE_CAPACITY_KEY = "ingestionQueueCapacity";
+        private static final String INGESTION_WORKERS_KEY = "ingestionWorkers";
+        private static final String INGESTION_MAX_BATCH_SIZE_KEY = "ingestionMaxBatchSize";
+        private static final String INGESTION_FLUSH_INTERVAL_KEY = "ingestionFlushInterval";
+        private static final int DEFAULT_INGESTION_QUEUE_CAPACITY = 1024;
+        private static final int DEFAULT_INGESTION_WORKERS = 4;
+        private static final int DEFAULT_INGESTION_MAX_BATCH_SIZE = 64;
+        private static final int DEFAULT_INGESTION_FLUSH_INTERVAL = 10;
+        private static final String DEVICE_CACHE_SIZE_KEY = "deviceCacheSize";
+        private static final int DEFAULT_DEVICE_CACHE_SIZE = 100000;
+        private static final String TEST_RESULT_CHUNK_SIZE_KEY = "testResultChunkSize";
+        private static final int DEFAULT_TEST_RESULT_CHUNK_SIZE = 5000;
+        private static final String TEST_RESULT_CSV_HEADER = "testHash,date,result";
+        private static final int INITIAL_PAIRS_CAPACITY = 64;
+        private static final int MAX_GATHERING_DATES = 366;
+        private static final String CONTACT_RETENTION_DAYS_KEY = "contactRetentionDays";
+        private static final String CONTACT_MAINTENANCE_INTERVAL_KEY = "contactMaintenanceInterval";
+        private static final int DEFAULT_CONTACT_RETENTION_DAYS = 0;
+        private static final int DEFAULT_CONTACT_MAINTENANCE_INTERVAL = 60;
+        private static final String DEVICE_LOCK_STRIPES_KEY = "deviceLockStripes";
+        private static final int DEFAULT_DEVICE_LOCK_STRIPES = 256;
+        private static final String CONTACT_STORE_KEY = "contactStore";
+        private static final String CONTACT_STORE_JDBC = "jdbc";
+        private static final String CONTACT_STORE_MEMORY = "memory";
+        private static final String METRICS_REGISTRY_KEY = "metricsRegistry";
+        private static final String METRICS_REGISTRY_NONE = "none";
+        private static final String METRICS_REGISTRY_MEMORY = "memory";
+        private static final String METRICS_REGISTRY_JMX = "jmx";
+        private static final String METRICS_JMX_NAME_KEY = "metricsJmxName";
+        private static final String DEFAULT_METRICS_JMX_NAME = "CovidTracker:type=Metrics,name=government";
+        private static final String METRICS_CSV_FILE_KEY = "metricsCsvFile";
+        private static final String METRICS_DUMP_INTERVAL_KEY = "metricsDumpInterval";
+        private static final int DEFAULT_METRICS_DUMP_INTERVAL = 60;
+        private static final String MOBILE_CONTACT_METRIC = "government.mobileContact";
+        private static final String MOBILE_CONTACT_BINARY_METRIC = "government.mobileContactBinary";
+        private static final String MOBILE_CONTACT_BATCH_METRIC = "government.mobileContactBatch";
+        private static final String RECORD_TEST_RESULT_METRIC = "government.recordTestResult";
+        private static final String RECORD_TEST_RESULTS_METRIC = "government.recordTestResults";
+        private static final String FIND_GATHERINGS_METRIC = "government.findGatherings";
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,205 @@
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+@DisplayName("Government concurrency test")
+public class GovernmentConcurrencyTest {
+    private static final int DEVICES = 400;
+    private static final int THREADS = 32;
+
+    @DisplayName("Concurrent synchronizations of overlapping devices report each exposure exactly once")
+    @Test
+    public void concurrentSynchronizations() throws Exception {
+        final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try (final Government government = new Government("memory_government.properties")) {
+            // Every device meets its next device and the device 7 after it, so neighbouring syncs share devices.
+            final List<Callable<Boolean>> contactSyncs = new ArrayList<>();
+            for (int i = 0; i < DEVICES; ++i) {
+                final String initiator = device(i);
+                final String contactInfo = "<MobileDevice><ContactsList>" +
+                        contact(device((i + 1) % DEVICES)) + contact(device((i + 7) % DEVICES)) +
+                        "</ContactsList></MobileDevice>";
+                contactSyncs.add(() -> government.mobileContact(initiator, contactInfo));
+            }
+            for (Boolean covidContact : runAll(executor, contactSyncs)) {
+                Assertions.assertFalse(covidContact);
+            }
+
+            // Every tenth device reports a positive test while the results are recorded.
+            final List<Callable<Boolean>> testSyncs = new ArrayList<>();
+            for (int i = 0; i < DEVICES; i = i + 10) {
+                final String initiator = device(i);
+                final String testHash = "test" + i;
+                testSyncs.add(() -> government.mobileContact(initiator,
+                        "<MobileDevice><ContactsList></ContactsList><TestHashesList><TestHash>" + testHash + "</TestHash></TestHashesList></MobileDevice>"));
+                testSyncs.add(() -> government.recordTestResult(testHash, 12, true));
+            }
+            runAll(executor, testSyncs);
+
+            // Every device syncs from many threads at once, only one of them is told about the exposure.
+            final AtomicIntegerArray notifications = new AtomicIntegerArray(DEVICES);
+            final List<Callable<Boolean>> repeatedSyncs = new ArrayList<>();
+            for (int r = 0; r < 4; ++r) {
+                for (int i = 0; i < DEVICES; ++i) {
+                    final int index = i;
+                    repeatedSyncs.add(() -> {
+                        final boolean covidContact = government.mobileContact(device(index), "<MobileDevice><ContactsList></ContactsList></MobileDevice>");
+                        if (covidContact) {
+                            notifications.incrementAndGet(index);
+                        }
+                        return covidContact;
+                    });
+                }
+            }
+            runAll(executor, repeatedSyncs);
+            for (int i = 0; i < DEVICES; ++i) {
+                final boolean exposed = (i + 1) % DEVICES % 10 == 0 || (i + 7) % DEVICES % 10 == 0;
+                Assertions.assertEquals(exposed ? 1 : 0, notifications.get(i), device(i));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @DisplayName("Synchronizations of the same initiator never reach the store at the same time")
+    @Test
+    public void sameInitiatorSerialized() throws Exception {
+        final Path configFile = Files.createTempFile("concurrency_government", ".properties");
+        Files.writeString(configFile, "contactStore=" + OverlapDetectingContactStore.class.getName() + "\n", StandardCharsets.UTF_8);
+        final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            try (final Government government = new Government(configFile.toString())) {
+                OverlapDetectingContactStore.reset();
+
+                // Few initiators sync from many threads at once, some of them together in a batch.
+                final List<Callable<Boolean>> contactSyncs = new ArrayList<>();
+                for (int i = 0; i < 400; ++i) {
+                    final String initiator = device(i % 8);
+                    final String contactInfo = "<MobileDevice><ContactsList>" + contact(device(100 + i)) + "</ContactsList></MobileDevice>";
+                    contactSyncs.add(() -> government.mobileContact(initiator, contactInfo));
+                    if (i % 4 == 0) {
+                        contactSyncs.add(() -> government.mobileContactAsync(initiator, contactInfo).join());
+                    }
+                }
+                runAll(executor, contactSyncs);
+
+                Assertions.assertEquals(0, OverlapDetectingContactStore.OVERLAPS.get());
+                Assertions.assertTrue(OverlapDetectingContactStore.CALLS.get() > 0);
+            }
+        } finally {
+            executor.shutdownNow();
+            Files.deleteIfExists(configFile);
+        }
+    }
+
+    private static <T> List<T> runAll(ExecutorService executor, List<Callable<T>> tasks) throws Exception {
+        // Release all the tasks at once so they contend with each other.
+        final CountDownLatch start = new CountDownLatch(1);
+        final List<Future<T>> futures = new ArrayList<>();
+        for (Callable<T> task : tasks) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                return task.call();
+            }));
+        }
+        start.countDown();
+        final List<T> results = new ArrayList<>();
+        for (Future<T> future : futures) {
+            results.add(future.get(60, TimeUnit.SECONDS));
+        }
+        return results;
+    }
+
+    private static String device(int index) {
+        return "device" + index;
+    }
+
+    private static String contact(String individual) {
+        return "<Contact><Individual>" + individual + "</Individual><Date>10</Date><Duration>20</Duration></Contact>";
+    }
+
+    /**
+     * Store which counts the calls storing the contact information of an initiator already being stored.
+     */
+    public static class OverlapDetectingContactStore implements ContactStore {
+        private static final Set<String> ACTIVE_INITIATORS = ConcurrentHashMap.newKeySet();
+        private static final AtomicInteger OVERLAPS = new AtomicInteger();
+        private static final AtomicInteger CALLS = new AtomicInteger();
+
+        private static void reset() {
+            ACTIVE_INITIATORS.clear();
+            OVERLAPS.set(0);
+            CALLS.set(0);
+        }
+
+        @Override
+        public boolean[] storeContactInfo(List<String> initiators, ContactBatch contactBatch) {
+            CALLS.incrementAndGet();
+            final List<String> entered = new ArrayList<>();
+            for (String initiator : initiators) {
+                if (ACTIVE_INITIATORS.add(initiator)) {
+                    entered.add(initiator);
+                } else if (!entered.contains(initiator)) {
+                    OVERLAPS.incrementAndGet();
+                }
+            }
+            try {
+                // Stay in the store long enough for another synchronization of the same initiator to arrive.
+                Thread.sleep(1);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                ACTIVE_INITIATORS.removeAll(entered);
+            }
+            return new boolean[initiators.size()];
+        }
+
+        @Override
+        public boolean storeTestResult(String testHash, int date, boolean result) {
+            return true;
+        }
+
+        @Override
+        public int storeTestResults(List<TestResult> testResults) {
+            return testResults.size();
+        }
+
+        @Override
+        public void selectContactPairs(int fromDate, int toDate, int minTime, ContactPairConsumer consumer) {
+        }
+
+        @Override
+        public int purgeContactsBefore(int date) {
+            return 0;
+        }
+
+        @Override
+        public void maintainContacts(int retentionDays) {
+        }
+
+        @Override
+        public void clearCaches() {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
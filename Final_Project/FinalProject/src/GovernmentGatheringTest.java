@@ -0,0 +1,54 @@
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Government gathering test")
+public class GovernmentGatheringTest {
+    @DisplayName("Gatherings of a date range match the gatherings of each date")
+    @Test
+    public void rangeMatchesEachDate() {
+        try (final Government government = new Government("memory_government.properties")) {
+            // Groups of 4 to 6 devices meet on several dates, some of them for less than the minimum time.
+            for (int date = 3; date <= 12; date = date + 3) {
+                for (int group = 0; group < 3; ++group) {
+                    final int size = 4 + (date + group) % 3;
+                    for (int i = 0; i < size; ++i) {
+                        final StringBuilder contactInfo = new StringBuilder("<MobileDevice><ContactsList>");
+                        for (int j = i + 1; j < size; ++j) {
+                            final int duration = (i + j + group) % 4 == 0 ? 5 : 30;
+                            contactInfo.append("<Contact><Individual>").append(device(date, group, j)).append("</Individual><Date>")
+                                    .append(date).append("</Date><Duration>").append(duration).append("</Duration></Contact>");
+                        }
+                        government.mobileContact(device(date, group, i), contactInfo.append("</ContactsList></MobileDevice>").toString());
+                    }
+                }
+            }
+
+            final int[] gatherings = government.findGatherings(0, 14, 4, 10, 0.5f);
+            Assertions.assertEquals(15, gatherings.length);
+            int total = 0;
+            for (int date = 0; date <= 14; ++date) {
+                Assertions.assertEquals(government.findGatherings(date, 4, 10, 0.5f), gatherings[date], "date " + date);
+                total = total + gatherings[date];
+            }
+            Assertions.assertTrue(total > 0);
+            Assertions.assertArrayEquals(new int[]{gatherings[6], gatherings[7]}, government.findGatherings(6, 7, 4, 10, 0.5f));
+        }
+    }
+
+    @DisplayName("Reject date ranges which are reversed or too long")
+    @Test
+    public void invalidRanges() {
+        try (final Government government = new Government("memory_government.properties")) {
+            Assertions.assertThrows(IllegalArgumentException.class, () -> government.findGatherings(5, 4, 2, 1, 0.5f));
+            Assertions.assertThrows(IllegalArgumentException.class, () -> government.findGatherings(0, Integer.MAX_VALUE, 2, 1, 0.5f));
+            Assertions.assertThrows(IllegalArgumentException.class, () -> government.findGatherings(1, Integer.MAX_VALUE, 2, 1, 0.5f));
+            Assertions.assertThrows(IllegalArgumentException.class, () -> government.findGatherings(0, 366, 2, 1, 0.5f));
+            Assertions.assertEquals(366, government.findGatherings(0, 365, 2, 1, 0.5f).length);
+        }
+    }
+
+    private static String device(int date, int group, int index) {
+        return "gathering-" + date + "-" + group + "-" + index;
+    }
+}
@@ -0,0 +1,153 @@
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+@DisplayName("Government schema test")
+public class GovernmentSchemaTest {
+    private static Properties governmentProperties;
+
+    @DisplayName("Setup before schema checks")
+    @BeforeAll
+    public static void setUp() throws Exception {
+        // ASSUMPTION: Content in configuration files are correct.
+        // Creating the instance migrates the schema.
+        Assertions.assertNotNull(Government.getInstance("government.properties"));
+
+        try (final InputStream inputStream = new FileInputStream("government.properties")) {
+            governmentProperties = new Properties();
+            governmentProperties.load(inputStream);
+        }
+    }
+
+    @DisplayName("Every schema version is applied once and in order")
+    @Test
+    public void schemaVersions() throws SQLException {
+        try (final Connection connection = getConnection();
+             final Statement statement = connection.createStatement();
+             final ResultSet resultSet = statement.executeQuery("SELECT version FROM schema_version ORDER BY version;")) {
+            int expectedVersion = 1;
+            while (resultSet.next()) {
+                Assertions.assertEquals(expectedVersion, resultSet.getInt("version"));
+                expectedVersion = expectedVersion + 1;
+            }
+            Assertions.assertTrue(expectedVersion > 7);
+        }
+    }
+
+    @DisplayName("Gathering queries can use the gathering index")
+    @Test
+    public void gatheringQueryPlans() throws SQLException {
+        // Government.findGatherings(date, ...)
+        assertIndexUsable("SELECT c.person_one_id, c.person_two_id FROM contact AS c " +
+                "WHERE c.contact_date = 10 " +
+                "GROUP BY c.person_one_id, c.person_two_id HAVING SUM(c.contact_duration) >= 5 " +
+                "ORDER BY c.person_one_id, c.person_two_id;", "c", "idx_contact_gathering");
+
+        // Government.findGatherings(fromDate, toDate, ...)
+        assertIndexUsable("SELECT c.contact_date, c.person_one_id, c.person_two_id FROM contact AS c " +
+                "WHERE c.contact_date BETWEEN 0 AND 89 " +
+                "GROUP BY c.contact_date, c.person_one_id, c.person_two_id HAVING SUM(c.contact_duration) >= 5 " +
+                "ORDER BY c.contact_date, c.person_one_id, c.person_two_id;", "c", "idx_contact_gathering");
+    }
+
+    @DisplayName("Exposure queries can use keyed lookups")
+    @Test
+    public void exposureQueryPlans() throws SQLException {
+        final String exposures = "SELECT c._id, c.person_one_id " +
+                "FROM contact AS c, mobile_device_test_outcome AS mdtr, test_outcome AS tr " +
+                "WHERE c.person_two_id = mdtr.mobile_device_id AND mdtr.test_outcome_id = tr._id AND ";
+        final String pending = "c.contact_date BETWEEN tr.test_date - 14 AND tr.test_date + 14 AND " +
+                "tr.test_result = true AND c.contact_notified = false;";
+
+        // Exposures of the contacts inserted by the initiators.
+        assertIndexUsable(exposures + "c._id > 0 AND c.person_one_id IN (1, 2) AND " + pending, "c", "idx_contact_person_one");
+
+        // Exposures of the contacts with a device which reported a positive test.
+        assertIndexUsable(exposures + "tr.test_hash = 'hash' AND mdtr.mobile_device_id = 1 AND " + pending, "c", "idx_contact_person_two");
+
+        // Exposures of the contacts with the devices which reported a test once its result is recorded.
+        assertIndexUsable(exposures + "tr.test_hash = 'hash' AND " + pending, "mdtr", "idx_mobile_device_test_outcome_test");
+
+        // Exposures reported to the initiators.
+        assertIndexUsable("SELECT contact_id, person_one_id FROM exposure WHERE person_one_id IN (1, 2);", "exposure", "person_one_id");
+
+        // Contact of the same pair on the same day merged on insert.
+        assertIndexUsable("SELECT c._id FROM contact AS c WHERE c.person_one_id = 1 AND c.person_two_id = 2 AND c.contact_date = 10;", "c", "idx_contact_day");
+
+        // Device ids of the hashes of a batch.
+        assertIndexUsable("SELECT _id, mobile_device_hash FROM mobile_device WHERE mobile_device_hash IN ('a', 'b');", "mobile_device", "mobile_device_hash");
+    }
+
+    @DisplayName("Date queries only read the partitions of their dates")
+    @Test
+    public void partitionPruning() throws SQLException {
+        // Partitions of the upcoming weeks are created on startup.
+        Assertions.assertEquals("p00014", getPartitions("SELECT c.person_one_id FROM contact AS c WHERE c.contact_date = 10;"));
+        Assertions.assertEquals("p00007,p00014,p00021", getPartitions("SELECT c.person_one_id FROM contact AS c " +
+                "WHERE c.contact_date BETWEEN 0 AND 19;"));
+    }
+
+    /**
+     * Helper method to get the partitions read by {@code query}.
+     *
+     * @param query query to be explained.
+     * @return comma separated partitions read.
+     * @throws SQLException if query cannot be explained.
+     */
+    private static String getPartitions(String query) throws SQLException {
+        try (final Connection connection = getConnection();
+             final Statement statement = connection.createStatement();
+             final ResultSet resultSet = statement.executeQuery("EXPLAIN " + query)) {
+            Assertions.assertTrue(resultSet.next(), "No plan for " + query);
+            return resultSet.getString("partitions");
+        }
+    }
+
+    /**
+     * Helper method to check that the plan of {@code query} lists {@code index} as a possible key of {@code table}.
+     *
+     * @param query query to be explained.
+     * @param table table or alias in the query.
+     * @param index index expected to be usable.
+     * @throws SQLException if query cannot be explained.
+     */
+    private static void assertIndexUsable(String query, String table, String index) throws SQLException {
+        final Map<String, String> possibleKeys = new HashMap<>();
+        try (final Connection connection = getConnection();
+             final Statement statement = connection.createStatement();
+             final ResultSet resultSet = statement.executeQuery("EXPLAIN " + query)) {
+            while (resultSet.next()) {
+                possibleKeys.put(resultSet.getString("table"), resultSet.getString("possible_keys"));
+            }
+        }
+        Assertions.assertTrue(possibleKeys.containsKey(table), "No plan for \"" + table + "\" in " + query);
+        final String keys = possibleKeys.get(table);
+        Assertions.assertTrue(keys != null && (", " + keys.replace(",", ", ") + ",").contains(", " + index + ","),
+                "\"" + index + "\" not usable for \"" + table + "\" (" + keys + ") in " + query);
+    }
+
+    /**
+     * Helper method to connect to the database of the configuration file.
+     *
+     * @return connection to the database.
+     * @throws SQLException if connection fails.
+     */
+    private static Connection getConnection() throws SQLException {
+        return DriverManager.getConnection(
+                governmentProperties.getProperty("database"),
+                governmentProperties.getProperty("user"),
+                governmentProperties.getProperty("password"));
+    }
+}
@@ -0,0 +1,693 @@
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * {@code InMemoryContactStore} stores the mobile devices, contacts and test results in memory without a database.
+ * It follows the rules of {@link JdbcContactStore}, so both stores report the same exposures and gatherings for the same calls.
+ * <p>
+ * Devices, test results, device test reports and contacts are identified by dense indices and their columns are held
+ * in primitive arrays. Rows are linked into chains by the index of the next row, so the contacts made with a device,
+ * the exposures of a device, the contacts of a pair and the contacts of a date are found without scanning the others.
+ * Operations changing the store are serialized by a write lock while pairs are selected under a read lock,
+ * so gatherings are counted while devices are being synchronized.
+ *
+ * @author Dhrumil Amish Shah (B00857606)
+ * created on 2026-10-17
+ * @version 1.1.0
+ * @see ContactStore
+ * @since 1.1.0
+ */
+public class InMemoryContactStore implements ContactStore {
+    // lock holds the write lock of the operations changing this store and the read lock of the queries.
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // mobileDeviceIds holds the id of each mobile device configuration hash.
+    private final Map<String, Integer> mobileDeviceIds = new HashMap<>();
+
+    // syncSequences holds the sequence number of the last batch stored of each device.
+    private long[] syncSequences = new long[InMemoryContactStoreConstant.INITIAL_CAPACITY];
+
+    // incomingContactHeads holds the last contact made with each device, i.e., where the device is person two.
+    private int[] incomingContactHeads = newChainHeads(InMemoryContactStoreConstant.INITIAL_CAPACITY);
+
+    // exposureHeads holds the last exposure of the contacts made by each device, i.e., where the device is person one.
+    private int[] exposureHeads = newChainHeads(InMemoryContactStoreConstant.INITIAL_CAPACITY);
+
+    // deviceReportHeads holds the last test reported by each device.
+    private int[] deviceReportHeads = newChainHeads(InMemoryContactStoreConstant.INITIAL_CAPACITY);
+
+    // mobileDeviceCount holds the number of devices.
+    private int mobileDeviceCount;
+
+    // testOutcomeIds holds the id of each test hash either recorded or reported by a device.
+    private final Map<String, Integer> testOutcomeIds = new HashMap<>();
+
+    // testDates, testRecorded and testResults hold the date, whether it is recorded and the result of each test.
+    private int[] testDates = new int[InMemoryContactStoreConstant.INITIAL_CAPACITY];
+    private boolean[] testRecorded = new boolean[InMemoryContactStoreConstant.INITIAL_CAPACITY];
+    private boolean[] testResults = new boolean[InMemoryContactStoreConstant.INITIAL_CAPACITY];
+
+    // testReportHeads holds the last device report of each test.
+    private int[] testReportHeads = newChainHeads(InMemoryContactStoreConstant.INITIAL_CAPACITY);
+
+    // testOutcomeCount holds the number of tests.
+    private int testOutcomeCount;
+
+    // reportIndex holds the id of each (device, test) report.
+    private final AdjacencyGatheringEngine.IntKeyIndex reportIndex = new AdjacencyGatheringEngine.IntKeyIndex(InMemoryContactStoreConstant.INITIAL_CAPACITY);
+
+    // reportDevices, reportTests, reportNextOfDevice and reportNextOfTest hold the device, test and next reports of each report.
+    private int[] reportDevices = new int[InMemoryContactStoreConstant.INITIAL_CAPACITY];
+    private int[] reportTests = new int[InMemoryContactStoreConstant.INITIAL_CAPACITY];
+    private int[] reportNextOfDevice = new int[InMemoryContactStoreConstant.INITIAL_CAPACITY];
+    private int[] reportNextOfTest = new int[InMemoryContactStoreConstant.INITIAL_CAPACITY];
+
+    // contacts holds the contacts and their chains, replaced when contacts are dropped.
+    private ContactTable contacts = new ContactTable(InMemoryContactStoreConstant.INITIAL_CAPACITY);
+
+    /**
+     * {@inheritDoc}
+     * All the initiators are stored under the write lock.
+     * A batch with a contact date or duration out of range is rejected before anything is stored.
+     *
+     * @throws IllegalArgumentException if a contact date or duration is out of range.
+     * @since 1.1.0
+     */
+    @Override
+    public boolean[] storeContactInfo(List<String> initiators, ContactBatch contactBatch) {
+        // Throw exception if any contact date or duration is invalid, as the contact chains are linked contact by contact.
+        for (int i = 0; i < contactBatch.contactCount; ++i) {
+            if (contactBatch.contactDates[i] < 0 || contactBatch.contactDates[i] > MAX_CONTACT_DATE) {
+                throw new IllegalArgumentException("Invalid argument \"date\" - " + contactBatch.contactDates[i] + ".");
+            }
+            if (contactBatch.contactDurations[i] <= 0) {
+                throw new IllegalArgumentException("Invalid argument \"duration\" - " + contactBatch.contactDurations[i] + ".");
+            }
+        }
+
+        lock.writeLock().lock();
+        try {
+            // Insert initiators' hashes and contacts hashes if not inserted already.
+            final int[] initiatorIds = new int[initiators.size()];
+            for (int i = 0; i < initiatorIds.length; ++i) {
+                initiatorIds[i] = insertMobileDevice(initiators.get(i));
+            }
+            final int[] individualIds = new int[contactBatch.contactCount];
+            for (int i = 0; i < individualIds.length; ++i) {
+                individualIds[i] = insertMobileDevice(contactBatch.contactIndividuals[i]);
+            }
+
+            // Skip the batches already stored, including a batch queued twice in the same request batch.
+            final boolean[] storedInitiators = new boolean[initiatorIds.length];
+            for (int i = 0; i < initiatorIds.length; ++i) {
+                final long sequence = contactBatch.initiatorSequences[i];
+                if (sequence == 0) {
+                    continue;
+                }
+                if (sequence <= syncSequences[initiatorIds[i]]) {
+                    storedInitiators[i] = true;
+                } else {
+                    syncSequences[initiatorIds[i]] = sequence;
+                }
+            }
+
+            // Insert initiators' positive test hashes if any.
+            for (int i = 0; i < contactBatch.testHashCount; ++i) {
+                if (!storedInitiators[contactBatch.testHashInitiators[i]]) {
+                    insertReport(initiatorIds[contactBatch.testHashInitiators[i]], insertTestOutcome(contactBatch.testHashes[i]));
+                }
+            }
+
+            // Insert contacts made by the initiators if any, contacts inserted have ids greater or equal to firstContactId.
+            final int firstContactId = contacts.contactCount;
+            for (int i = 0; i < contactBatch.contactCount; ++i) {
+                if (!storedInitiators[contactBatch.contactInitiators[i]]) {
+                    insertContact(contactBatch.contactDates[i], contactBatch.contactDurations[i],
+                            initiatorIds[contactBatch.contactInitiators[i]], individualIds[i]);
+                }
+            }
+
+            // Record the exposures of the devices which reported positive tests.
+            for (int i = 0; i < contactBatch.testHashCount; ++i) {
+                if (!storedInitiators[contactBatch.testHashInitiators[i]]) {
+                    final int testOutcomeId = testOutcomeIds.get(contactBatch.testHashes[i]);
+                    if (testRecorded[testOutcomeId] && testResults[testOutcomeId]) {
+                        insertDeviceTestExposures(initiatorIds[contactBatch.testHashInitiators[i]], testDates[testOutcomeId]);
+                    }
+                }
+            }
+
+            // Record the exposures of the contacts inserted.
+            for (int contactId = firstContactId; contactId < contacts.contactCount; ++contactId) {
+                insertContactExposure(contactId);
+            }
+
+            // Check which initiators have been near anyone diagnosed with COVID-19 in the last 14 days.
+            final boolean[] covidContacts = new boolean[initiatorIds.length];
+            for (int i = 0; i < initiatorIds.length; ++i) {
+                covidContacts[i] = exposureHeads[initiatorIds[i]] != -1;
+            }
+
+            // Update the notify field of contacts once reported and remove their exposures.
+            for (int initiatorId : initiatorIds) {
+                for (int contactId = exposureHeads[initiatorId]; contactId != -1; contactId = contacts.nextExposure[contactId]) {
+                    contacts.notified[contactId] = true;
+                    contacts.exposed[contactId] = false;
+                }
+                exposureHeads[initiatorId] = -1;
+            }
+            return covidContacts;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since 1.1.0
+     */
+    @Override
+    public boolean storeTestResult(String testHash, int date, boolean result) {
+        lock.writeLock().lock();
+        try {
+            return insertTestResult(testHash, date, result);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * The chunk is stored under the write lock.
+     *
+     * @since 1.1.0
+     */
+    @Override
+    public int storeTestResults(List<TestResult> testResults) {
+        lock.writeLock().lock();
+        try {
+            int inserted = 0;
+            for (TestResult testResult : testResults) {
+                if (insertTestResult(testResult.getTestHash(), testResult.getDate(), testResult.getResult())) {
+                    inserted = inserted + 1;
+                }
+            }
+            return inserted;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * Pairs of each date are collected under the read lock, which is released before they are given to {@code consumer}.
+     *
+     * @since 1.1.0
+     */
+    @Override
+    public void selectContactPairs(int fromDate, int toDate, int minTime, ContactPairConsumer consumer) {
+        long[] pairs = new long[InMemoryContactStoreConstant.INITIAL_CAPACITY];
+        for (int date = fromDate; date <= toDate; ++date) {
+            // Collect the pairs of the date who contacted for at least minTime, contacts of a pair on a date are merged already.
+            int pairCount = 0;
+            lock.readLock().lock();
+            try {
+                final ContactTable contactTable = contacts;
+                if (date >= contactTable.dateHeads.length) {
+                    break;
+                }
+                for (int contactId = contactTable.dateHeads[date]; contactId != -1; contactId = contactTable.nextOfDate[contactId]) {
+                    if (contactTable.durations[contactId] >= minTime) {
+                        if (pairCount == pairs.length) {
+                            pairs = Arrays.copyOf(pairs, pairCount * 2);
+                        }
+                        pairs[pairCount] = getPairKey(contactTable.personOnes[contactId], contactTable.personTwos[contactId]);
+                        pairCount = pairCount + 1;
+                    }
+                }
+            } finally {
+                lock.readLock().unlock();
+            }
+
+            // Order the pairs by person one and then person two, ids are positive so keys sort the same way.
+            Arrays.sort(pairs, 0, pairCount);
+            for (int i = 0; i < pairCount; ++i) {
+                consumer.accept(date, (int) (pairs[i] >>> 32), (int) pairs[i]);
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * The contacts kept are copied to a new contact table with their notification status and pending exposures.
+     *
+     * @since 1.1.0
+     */
+    @Override
+    public int purgeContactsBefore(int date) {
+        final int firstDate = date / CONTACT_PARTITION_DAYS * CONTACT_PARTITION_DAYS;
+        lock.writeLock().lock();
+        try {
+            // Weeks holding contacts made before the first date kept.
+            final ContactTable oldContacts = contacts;
+            int weeks = 0;
+            for (int weekDate = 0; weekDate < Math.min(firstDate, oldContacts.dateHeads.length); weekDate = weekDate + CONTACT_PARTITION_DAYS) {
+                for (int day = weekDate; day < Math.min(weekDate + CONTACT_PARTITION_DAYS, oldContacts.dateHeads.length); ++day) {
+                    if (oldContacts.dateHeads[day] != -1) {
+                        weeks = weeks + 1;
+                        break;
+                    }
+                }
+            }
+            if (weeks == 0) {
+                return 0;
+            }
+
+            // Copy the contacts kept in the order they were inserted, then link their pending exposures again.
+            contacts = new ContactTable(oldContacts.contactCount);
+            Arrays.fill(incomingContactHeads, -1);
+            Arrays.fill(exposureHeads, -1);
+            for (int contactId = 0; contactId < oldContacts.contactCount; ++contactId) {
+                if (oldContacts.dates[contactId] >= firstDate) {
+                    final int newContactId = appendContact(oldContacts.dates[contactId], oldContacts.durations[contactId],
+                            oldContacts.personOnes[contactId], oldContacts.personTwos[contactId]);
+                    contacts.notified[newContactId] = oldContacts.notified[contactId];
+                    if (oldContacts.exposed[contactId]) {
+                        insertExposure(newContactId);
+                    }
+                }
+            }
+            return weeks;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * Nothing has to be prepared for the upcoming contacts in memory.
+     *
+     * @since 1.1.0
+     */
+    @Override
+    public void maintainContacts(int retentionDays) {
+        // Find the latest contact date, not later than the current date.
+        final int lastDate;
+        lock.readLock().lock();
+        try {
+            lastDate = Math.max(Math.min(contacts.lastDate, ContactStore.getCurrentDate()), 0);
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        // Drop the contacts out of the retention window.
+        if (retentionDays > 0 && lastDate > retentionDays) {
+            purgeContactsBefore(lastDate - retentionDays);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * Nothing is cached since everything is stored in memory.
+     *
+     * @since 1.1.0
+     */
+    @Override
+    public void clearCaches() {
+    }
+
+    /**
+     * {@inheritDoc}
+     * Stored rows are kept, so this {@code InMemoryContactStore} can still be read.
+     *
+     * @since 1.1.0
+     */
+    @Override
+    public void close() {
+    }
+
+    /**
+     * Gets the number of contacts stored, contacts of the same pair on the same day are counted once.
+     *
+     * @return number of contacts stored.
+     * @since 1.1.0
+     */
+    public int getContactCount() {
+        lock.readLock().lock();
+        try {
+            return contacts.contactCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Gets the id of the mobile device configuration hash {@code mobileDeviceHash}, inserting the device if not inserted already.
+     *
+     * @param mobileDeviceHash mobile device configuration hash.
+     * @return id of the device.
+     */
+    private int insertMobileDevice(String mobileDeviceHash) {
+        final Integer mobileDeviceId = mobileDeviceIds.get(mobileDeviceHash);
+        if (mobileDeviceId != null) {
+            return mobileDeviceId;
+        }
+        if (mobileDeviceCount == syncSequences.length) {
+            syncSequences = Arrays.copyOf(syncSequences, mobileDeviceCount * 2);
+            incomingContactHeads = growChainHeads(incomingContactHeads);
+            exposureHeads = growChainHeads(exposureHeads);
+            deviceReportHeads = growChainHeads(deviceReportHeads);
+        }
+        mobileDeviceIds.put(mobileDeviceHash, mobileDeviceCount);
+        mobileDeviceCount = mobileDeviceCount + 1;
+        return mobileDeviceCount - 1;
+    }
+
+    /**
+     * Gets the id of the test hash {@code testHash}, inserting the test as not recorded if not inserted already.
+     *
+     * @param testHash alphanumeric string that identifies the COVID-19 test.
+     * @return id of the test.
+     */
+    private int insertTestOutcome(String testHash) {
+        final Integer testOutcomeId = testOutcomeIds.get(testHash);
+        if (testOutcomeId != null) {
+            return testOutcomeId;
+        }
+        if (testOutcomeCount == testDates.length) {
+            testDates = Arrays.copyOf(testDates, testOutcomeCount * 2);
+            testRecorded = Arrays.copyOf(testRecorded, testOutcomeCount * 2);
+            testResults = Arrays.copyOf(testResults, testOutcomeCount * 2);
+            testReportHeads = growChainHeads(testReportHeads);
+        }
+        testOutcomeIds.put(testHash, testOutcomeCount);
+        testOutcomeCount = testOutcomeCount + 1;
+        return testOutcomeCount - 1;
+    }
+
+    /**
+     * Records the result of the test {@code testHash} and the exposures of the devices which already reported it if positive.
+     * Test results already recorded are ignored.
+     *
+     * @param testHash alphanumeric string that identifies the COVID-19 test.
+     * @param date     number of days since January 1, 2021.
+     * @param result   positive or negative COVID-19 test.
+     * @return {@code true} if the test result is inserted, {@code false} if it was recorded already.
+     */
+    private boolean insertTestResult(String testHash, int date, boolean result) {
+        final int testOutcomeId = insertTestOutcome(testHash);
+        if (testRecorded[testOutcomeId]) {
+            return false;
+        }
+        testRecorded[testOutcomeId] = true;
+        testDates[testOutcomeId] = date;
+        testResults[testOutcomeId] = result;
+
+        // Record the exposures of the devices which already reported this test.
+        if (result) {
+            for (int reportId = testReportHeads[testOutcomeId]; reportId != -1; reportId = reportNextOfTest[reportId]) {
+                insertDeviceTestExposures(reportDevices[reportId], date);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Records that the device {@code mobileDeviceId} reported the test {@code testOutcomeId}.
+     * Reports already recorded are ignored.
+     *
+     * @param mobileDeviceId id of the device.
+     * @param testOutcomeId  id of the test.
+     */
+    private void insertReport(int mobileDeviceId, int testOutcomeId) {
+        final int reportCount = reportIndex.size();
+        final int reportId = reportIndex.indexOf(getPairKey(mobileDeviceId, testOutcomeId));
+        if (reportId < reportCount) {
+            return;
+        }
+        if (reportId == reportDevices.length) {
+            reportDevices = Arrays.copyOf(reportDevices, reportId * 2);
+            reportTests = Arrays.copyOf(reportTests, reportId * 2);
+            reportNextOfDevice = Arrays.copyOf(reportNextOfDevice, reportId * 2);
+            reportNextOfTest = Arrays.copyOf(reportNextOfTest, reportId * 2);
+        }
+        reportDevices[reportId] = mobileDeviceId;
+        reportTests[reportId] = testOutcomeId;
+        reportNextOfDevice[reportId] = deviceReportHeads[mobileDeviceId];
+        deviceReportHeads[mobileDeviceId] = reportId;
+        reportNextOfTest[reportId] = testReportHeads[testOutcomeId];
+        testReportHeads[testOutcomeId] = reportId;
+    }
+
+    /**
+     * Inserts a contact made by {@code personOneId} with {@code personTwoId} on {@code date}.
+     * The duration of a contact of the same pair on the same day is added to the existing contact instead,
+     * which keeps its id and notification status.
+     *
+     * @param date        number of days since January 1, 2021 of the contact.
+     * @param duration    number of minutes of the contact.
+     * @param personOneId id of the device which made the contact.
+     * @param personTwoId id of the device contacted.
+     */
+    private void insertContact(int date, int duration, int personOneId, int personTwoId) {
+        final ContactTable contactTable = contacts;
+        final int pairCount = contactTable.pairIndex.size();
+        final int pairId = contactTable.pairIndex.indexOf(getPairKey(personOneId, personTwoId));
+        if (pairId < pairCount) {
+            for (int contactId = contactTable.pairHeads[pairId]; contactId != -1; contactId = contactTable.nextOfPair[contactId]) {
+                if (contactTable.dates[contactId] == date) {
+                    contactTable.durations[contactId] = (int) Math.min(Integer.MAX_VALUE, (long) contactTable.durations[contactId] + duration);
+                    return;
+                }
+            }
+        }
+        appendContact(date, duration, personOneId, personTwoId);
+    }
+
+    /**
+     * Appends a new contact to the contact table and links it to the chains of its pair, person two and date.
+     *
+     * @param date        number of days since January 1, 2021 of the contact.
+     * @param duration    number of minutes of the contact.
+     * @param personOneId id of the device which made the contact.
+     * @param personTwoId id of the device contacted.
+     * @return id of the contact.
+     */
+    private int appendContact(int date, int duration, int personOneId, int personTwoId) {
+        final ContactTable contactTable = contacts;
+        final int pairId = contactTable.pairIndex.indexOf(getPairKey(personOneId, personTwoId));
+        if (pairId == contactTable.pairHeads.length) {
+            contactTable.pairHeads = growChainHeads(contactTable.pairHeads);
+        }
+        if (date >= contactTable.dateHeads.length) {
+            final int oldLength = contactTable.dateHeads.length;
+            contactTable.dateHeads = Arrays.copyOf(contactTable.dateHeads, Math.min(Math.max(date + 1, oldLength * 2), MAX_CONTACT_DATE + 1));
+            Arrays.fill(contactTable.dateHeads, oldLength, contactTable.dateHeads.length, -1);
+        }
+        contactTable.ensureCapacity();
+
+        final int contactId = contactTable.contactCount;
+        contactTable.dates[contactId] = date;
+        contactTable.durations[contactId] = duration;
+        contactTable.personOnes[contactId] = personOneId;
+        contactTable.personTwos[contactId] = personTwoId;
+        contactTable.notified[contactId] = false;
+        contactTable.exposed[contactId] = false;
+        contactTable.nextOfPair[contactId] = contactTable.pairHeads[pairId];
+        contactTable.pairHeads[pairId] = contactId;
+        contactTable.nextIncoming[contactId] = incomingContactHeads[personTwoId];
+        incomingContactHeads[personTwoId] = contactId;
+        contactTable.nextOfDate[contactId] = contactTable.dateHeads[date];
+        contactTable.dateHeads[date] = contactId;
+        contactTable.contactCount = contactId + 1;
+        contactTable.lastDate = Math.max(contactTable.lastDate, date);
+        return contactId;
+    }
+
+    /**
+     * Records the exposures of the contacts made with the device {@code mobileDeviceId}
+     * within {@value ContactStore#EXPOSURE_DAYS} days of its positive test on {@code testDate}.
+     *
+     * @param mobileDeviceId id of the device which reported the positive test.
+     * @param testDate       number of days since January 1, 2021 of the test.
+     */
+    private void insertDeviceTestExposures(int mobileDeviceId, int testDate) {
+        final ContactTable contactTable = contacts;
+        for (int contactId = incomingContactHeads[mobileDeviceId]; contactId != -1; contactId = contactTable.nextIncoming[contactId]) {
+            if (Math.abs(contactTable.dates[contactId] - testDate) <= EXPOSURE_DAYS) {
+                insertExposure(contactId);
+            }
+        }
+    }
+
+    /**
+     * Records the exposure of the contact {@code contactId} if the device contacted reported a positive test
+     * within {@value ContactStore#EXPOSURE_DAYS} days of the contact.
+     *
+     * @param contactId id of the contact.
+     */
+    private void insertContactExposure(int contactId) {
+        final ContactTable contactTable = contacts;
+        for (int reportId = deviceReportHeads[contactTable.personTwos[contactId]]; reportId != -1; reportId = reportNextOfDevice[reportId]) {
+            final int testOutcomeId = reportTests[reportId];
+            if (testRecorded[testOutcomeId] && testResults[testOutcomeId] &&
+                    Math.abs(contactTable.dates[contactId] - testDates[testOutcomeId]) <= EXPOSURE_DAYS) {
+                insertExposure(contactId);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Records the exposure of the contact {@code contactId} for the device which made it,
+     * unless the contact is notified or exposed already.
+     *
+     * @param contactId id of the contact.
+     */
+    private void insertExposure(int contactId) {
+        final ContactTable contactTable = contacts;
+        if (contactTable.notified[contactId] || contactTable.exposed[contactId]) {
+            return;
+        }
+        final int personOneId = contactTable.personOnes[contactId];
+        contactTable.exposed[contactId] = true;
+        contactTable.nextExposure[contactId] = exposureHeads[personOneId];
+        exposureHeads[personOneId] = contactId;
+    }
+
+    /**
+     * Gets the key of the pair of ids {@code one} and {@code two}, keys are ordered by {@code one} and then {@code two}.
+     *
+     * @param one first id.
+     * @param two second id.
+     * @return key of the pair.
+     */
+    private static long getPairKey(int one, int two) {
+        return ((long) one << 32) | (two & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Creates the heads of {@code length} empty chains.
+     *
+     * @param length number of chains.
+     * @return heads of the chains.
+     */
+    private static int[] newChainHeads(int length) {
+        final int[] heads = new int[length];
+        Arrays.fill(heads, -1);
+        return heads;
+    }
+
+    /**
+     * Doubles the number of chains of {@code heads}, the new chains are empty.
+     *
+     * @param heads heads of the chains.
+     * @return heads of the chains.
+     */
+    private static int[] growChainHeads(int[] heads) {
+        final int[] newHeads = Arrays.copyOf(heads, heads.length * 2);
+        Arrays.fill(newHeads, heads.length, newHeads.length, -1);
+        return newHeads;
+    }
+
+    /**
+     * {@code ContactTable} holds the columns of the contacts and the chains linking them by pair, person two, date and exposure.
+     * Contacts are identified by the order in which they are inserted.
+     *
+     * @author Dhrumil Amish Shah (B00857606)
+     * created on 2026-10-17
+     * @version 1.1.0
+     * @see InMemoryContactStore
+     * @since 1.1.0
+     */
+    private static class ContactTable {
+        // dates, durations, personOnes and personTwos hold the columns of each contact.
+        private int[] dates;
+        private int[] durations;
+        private int[] personOnes;
+        private int[] personTwos;
+
+        // notified and exposed hold whether each contact is notified and whether it has a pending exposure.
+        private boolean[] notified;
+        private boolean[] exposed;
+
+        // nextOfPair, nextIncoming, nextOfDate and nextExposure hold the next contact of each chain.
+        private int[] nextOfPair;
+        private int[] nextIncoming;
+        private int[] nextOfDate;
+        private int[] nextExposure;
+
+        // contactCount holds the number of contacts.
+        private int contactCount;
+
+        // lastDate holds the latest contact date. (-1 if none)
+        private int lastDate = -1;
+
+        // pairIndex holds the id of each (person one, person two) pair.
+        private final AdjacencyGatheringEngine.IntKeyIndex pairIndex;
+
+        // pairHeads holds the last contact of each pair.
+        private int[] pairHeads;
+
+        // dateHeads holds the last contact of each date.
+        private int[] dateHeads = newChainHeads(InMemoryContactStoreConstant.INITIAL_CAPACITY);
+
+        /**
+         * Constructs this {@code ContactTable} sized for {@code expectedContacts} contacts.
+         *
+         * @param expectedContacts expected number of contacts.
+         */
+        private ContactTable(int expectedContacts) {
+            final int capacity = Math.max(expectedContacts, InMemoryContactStoreConstant.INITIAL_CAPACITY);
+            dates = new int[capacity];
+            durations = new int[capacity];
+            personOnes = new int[capacity];
+            personTwos = new int[capacity];
+            notified = new boolean[capacity];
+            exposed = new boolean[capacity];
+            nextOfPair = new int[capacity];
+            nextIncoming = new int[capacity];
+            nextOfDate = new int[capacity];
+            nextExposure = new int[capacity];
+            pairIndex = new AdjacencyGatheringEngine.IntKeyIndex(capacity);
+            pairHeads = newChainHeads(capacity);
+        }
+
+        /**
+         * Doubles the capacity of the columns if they are full.
+         */
+        private void ensureCapacity() {
+            if (contactCount < dates.length) {
+                return;
+            }
+            final int capacity = contactCount * 2;
+            dates = Arrays.copyOf(dates, capacity);
+            durations = Arrays.copyOf(durations, capacity);
+            personOnes = Arrays.copyOf(personOnes, capacity);
+            personTwos = Arrays.copyOf(personTwos, capacity);
+            notified = Arrays.copyOf(notified, capacity);
+            exposed = Arrays.copyOf(exposed, capacity);
+            nextOfPair = Arrays.copyOf(nextOfPair, capacity);
+            nextIncoming = Arrays.copyOf(nextIncoming, capacity);
+            nextOfDate = Arrays.copyOf(nextOfDate, capacity);
+            nextExposure = Arrays.copyOf(nextExposure, capacity);
+        }
+    }
+
+    /**
+     * {@code InMemoryContactStoreConstant} holds all the constants used by {@code InMemoryContactStore}.
+     *
+     * @author Dhrumil Amish Shah (B00857606)
+     * created on 2026-10-17
+     * @version 1.1.0
+     * @see InMemoryContactStore
+     * @since 1.1.0
+     */
+    private static class InMemoryContactStoreConstant {
+        private static final int INITIAL_CAPACITY = 64;
+    }
+}
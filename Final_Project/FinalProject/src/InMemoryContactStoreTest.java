@@ -0,0 +1,145 @@
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@DisplayName("In-memory contact store test")
+public class InMemoryContactStoreTest {
+    @DisplayName("Report exposures once whichever of the contact, device report and test result is stored last")
+    @Test
+    public void reportExposures() {
+        final InMemoryContactStore contactStore = new InMemoryContactStore();
+
+        // Test result recorded last.
+        Assertions.assertFalse(sync(contactStore, "a", 0, "b", 10, 15));
+        Assertions.assertFalse(syncTestHash(contactStore, "b", "t1"));
+        Assertions.assertTrue(contactStore.storeTestResult("t1", 20, true));
+        Assertions.assertFalse(contactStore.storeTestResult("t1", 20, true));
+        Assertions.assertTrue(sync(contactStore, "a", 0, null, 0, 0));
+        Assertions.assertFalse(sync(contactStore, "a", 0, null, 0, 0));
+
+        // Device report stored last.
+        Assertions.assertEquals(1, contactStore.storeTestResults(List.of(new TestResult("t2", 40, true), new TestResult("t1", 40, true))));
+        Assertions.assertFalse(sync(contactStore, "c", 0, "d", 30, 15));
+        Assertions.assertFalse(syncTestHash(contactStore, "d", "t2"));
+        Assertions.assertTrue(sync(contactStore, "c", 0, null, 0, 0));
+
+        // Contact stored last, only within 14 days of the test.
+        Assertions.assertFalse(sync(contactStore, "e", 0, "d", 60, 15));
+        Assertions.assertTrue(sync(contactStore, "e", 0, "d", 54, 15));
+
+        // Negative tests are not exposures.
+        Assertions.assertTrue(contactStore.storeTestResult("t3", 40, false));
+        Assertions.assertFalse(syncTestHash(contactStore, "f", "t3"));
+        Assertions.assertFalse(sync(contactStore, "g", 0, "f", 40, 15));
+    }
+
+    @DisplayName("Merge contacts of a pair on the same day and select pairs in order")
+    @Test
+    public void selectContactPairs() {
+        final InMemoryContactStore contactStore = new InMemoryContactStore();
+        sync(contactStore, "b", 0, "a", 5, 3);
+        sync(contactStore, "a", 0, "b", 5, 3);
+        sync(contactStore, "a", 0, "b", 5, 4);
+        sync(contactStore, "a", 0, "c", 5, 10);
+        sync(contactStore, "a", 0, "c", 6, 10);
+        Assertions.assertEquals(4, contactStore.getContactCount());
+
+        // Ids are given in the order devices are first stored, i.e., b = 0, a = 1 and c = 2.
+        final List<int[]> pairs = new ArrayList<>();
+        contactStore.selectContactPairs(5, 7, 7, (date, personOneId, personTwoId) -> pairs.add(new int[]{date, personOneId, personTwoId}));
+        Assertions.assertEquals(3, pairs.size());
+        Assertions.assertArrayEquals(new int[]{5, 1, 0}, pairs.get(0));
+        Assertions.assertArrayEquals(new int[]{5, 1, 2}, pairs.get(1));
+        Assertions.assertArrayEquals(new int[]{6, 1, 2}, pairs.get(2));
+    }
+
+    @DisplayName("Skip batches stored already")
+    @Test
+    public void skipStoredBatches() {
+        final InMemoryContactStore contactStore = new InMemoryContactStore();
+        sync(contactStore, "a", 7, "b", 5, 3);
+        sync(contactStore, "a", 7, "b", 5, 3);
+        sync(contactStore, "a", 6, "b", 5, 3);
+
+        final int[] pairCount = new int[1];
+        contactStore.selectContactPairs(5, 5, 3, (date, personOneId, personTwoId) -> pairCount[0] = pairCount[0] + 1);
+        Assertions.assertEquals(1, pairCount[0]);
+        contactStore.selectContactPairs(5, 5, 4, (date, personOneId, personTwoId) -> Assertions.fail());
+
+        sync(contactStore, "a", 8, "b", 5, 3);
+        contactStore.selectContactPairs(5, 5, 6, (date, personOneId, personTwoId) -> pairCount[0] = pairCount[0] + 1);
+        Assertions.assertEquals(2, pairCount[0]);
+    }
+
+    @DisplayName("Drop whole weeks of contacts and keep the pending exposures of the others")
+    @Test
+    public void purgeContacts() {
+        final InMemoryContactStore contactStore = new InMemoryContactStore();
+        sync(contactStore, "a", 0, "b", 3, 15);
+        sync(contactStore, "a", 0, "c", 8, 15);
+        sync(contactStore, "a", 0, "c", 15, 15);
+        syncTestHash(contactStore, "c", "t1");
+        contactStore.storeTestResult("t1", 10, true);
+
+        // Contacts of the week containing date 9 are kept.
+        Assertions.assertEquals(0, contactStore.purgeContactsBefore(6));
+        Assertions.assertEquals(1, contactStore.purgeContactsBefore(9));
+        Assertions.assertEquals(2, contactStore.getContactCount());
+        contactStore.selectContactPairs(0, 6, 1, (date, personOneId, personTwoId) -> Assertions.fail());
+        Assertions.assertTrue(sync(contactStore, "a", 0, null, 0, 0));
+
+        // Retention is counted from the latest contact date.
+        contactStore.maintainContacts(1);
+        Assertions.assertEquals(1, contactStore.getContactCount());
+    }
+
+    @DisplayName("Ignore contact dates later than the current date when dropping expired contacts")
+    @Test
+    public void maintainIgnoresFutureDates() {
+        final InMemoryContactStore contactStore = new InMemoryContactStore();
+        final int currentDate = ContactStore.getCurrentDate();
+        sync(contactStore, "a", 0, "b", currentDate - 1, 15);
+        sync(contactStore, "c", 0, "d", currentDate + 1000, 15);
+
+        contactStore.maintainContacts(30);
+        Assertions.assertEquals(2, contactStore.getContactCount());
+    }
+
+    @DisplayName("Reject a batch with an invalid contact without storing any of its contacts")
+    @Test
+    public void rejectInvalidContacts() {
+        final InMemoryContactStore contactStore = new InMemoryContactStore();
+        final int[][] contacts = {{-1, 15}, {2000000000, 15}, {ContactStore.MAX_CONTACT_DATE + 1, 15}, {5, 0}};
+        for (int[] contact : contacts) {
+            final ContactBatch contactBatch = new ContactBatch();
+            contactBatch.addContact(0, "b", 5, 15);
+            contactBatch.addContact(0, "b", contact[0], contact[1]);
+            Assertions.assertThrows(IllegalArgumentException.class, () -> contactStore.storeContactInfo(List.of("a"), contactBatch));
+        }
+        Assertions.assertEquals(0, contactStore.getContactCount());
+
+        // The pair is stored once a valid batch is sent.
+        Assertions.assertFalse(sync(contactStore, "a", 0, "b", 5, 15));
+        Assertions.assertFalse(sync(contactStore, "a", 0, "b", ContactStore.MAX_CONTACT_DATE, 15));
+        Assertions.assertFalse(sync(contactStore, "a", 0, "b", 5, 15));
+        Assertions.assertEquals(2, contactStore.getContactCount());
+    }
+
+    private static boolean sync(ContactStore contactStore, String initiator, long sequence, String individual, int date, int duration) {
+        final ContactBatch contactBatch = new ContactBatch();
+        if (individual != null) {
+            contactBatch.addContact(0, individual, date, duration);
+        }
+        contactBatch.setSequence(0, sequence);
+        return contactStore.storeContactInfo(List.of(initiator), contactBatch)[0];
+    }
+
+    private static boolean syncTestHash(ContactStore contactStore, String initiator, String testHash) {
+        final ContactBatch contactBatch = new ContactBatch();
+        contactBatch.addTestHash(0, testHash);
+        return contactStore.storeContactInfo(List.of(initiator), contactBatch)[0];
+    }
+}
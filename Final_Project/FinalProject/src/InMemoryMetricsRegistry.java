@@ -0,0 +1,261 @@
+import java.io.IOException;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * {@code InMemoryMetricsRegistry} keeps the metrics in memory, counters in {@link LongAdder}s and values and timers in
+ * {@link LatencyHistogram}s, so they can be read back or dumped as CSV.
+ *
+ * @author Dhrumil Amish Shah (B00857606)
+ * created on 2026-10-17
+ * @version 1.1.0
+ * @see MetricsRegistry
+ * @see JmxMetricsRegistry
+ * @since 1.1.0
+ */
+public class InMemoryMetricsRegistry implements MetricsRegistry {
+    // counters holds the counters by name.
+    private final Map<String, LongAdder> counters = new ConcurrentHashMap<>();
+
+    // values holds the histograms of values by name.
+    private final Map<String, LatencyHistogram> values = new ConcurrentHashMap<>();
+
+    // timers holds the histograms of durations in nanoseconds by name.
+    private final Map<String, LatencyHistogram> timers = new ConcurrentHashMap<>();
+
+    // gauges holds the gauges by name.
+    private final Map<String, LongSupplier> gauges = new ConcurrentHashMap<>();
+
+    @Override
+    public void increment(String name, long delta) {
+        counters.computeIfAbsent(name, key -> new LongAdder()).add(delta);
+    }
+
+    @Override
+    public void recordValue(String name, long value) {
+        values.computeIfAbsent(name, key -> new LatencyHistogram()).record(value);
+    }
+
+    @Override
+    public void recordNanos(String name, long nanos) {
+        timers.computeIfAbsent(name, key -> new LatencyHistogram()).record(nanos);
+    }
+
+    @Override
+    public void registerGauge(String name, LongSupplier gauge) {
+        gauges.put(name, gauge);
+    }
+
+    /**
+     * Gets the value of the counter {@code name}.
+     *
+     * @param name name of the counter.
+     * @return value of the counter, 0 if never incremented.
+     * @since 1.1.0
+     */
+    public long getCounter(String name) {
+        final LongAdder counter = counters.get(name);
+        return counter == null ? 0 : counter.sum();
+    }
+
+    /**
+     * Gets the histogram of the values {@code name}.
+     *
+     * @param name name of the histogram.
+     * @return histogram of the values, {@code null} if none recorded.
+     * @since 1.1.0
+     */
+    public LatencyHistogram getValues(String name) {
+        return values.get(name);
+    }
+
+    /**
+     * Gets the histogram of the durations in nanoseconds of the timer {@code name}.
+     *
+     * @param name name of the timer.
+     * @return histogram of the durations, {@code null} if none recorded.
+     * @since 1.1.0
+     */
+    public LatencyHistogram getTimer(String name) {
+        return timers.get(name);
+    }
+
+    /**
+     * Gets the current value of the gauge {@code name}.
+     *
+     * @param name name of the gauge.
+     * @return current value of the gauge.
+     * @throws IllegalArgumentException if arguments passed are illegal or inappropriate.
+     * @since 1.1.0
+     */
+    public long getGauge(String name) {
+        final LongSupplier gauge = gauges.get(name);
+
+        // Throw exception if name is not a gauge.
+        if (gauge == null) {
+            throw new IllegalArgumentException("Invalid argument \"name\" - " + name + ".");
+        }
+
+        return gauge.getAsLong();
+    }
+
+    /**
+     * Gets the names of the counters, in ascending order.
+     *
+     * @return names of the counters.
+     * @since 1.1.0
+     */
+    public SortedSet<String> getCounterNames() {
+        return new TreeSet<>(counters.keySet());
+    }
+
+    /**
+     * Gets the names of the histograms of values, in ascending order.
+     *
+     * @return names of the histograms of values.
+     * @since 1.1.0
+     */
+    public SortedSet<String> getValueNames() {
+        return new TreeSet<>(values.keySet());
+    }
+
+    /**
+     * Gets the names of the timers, in ascending order.
+     *
+     * @return names of the timers.
+     * @since 1.1.0
+     */
+    public SortedSet<String> getTimerNames() {
+        return new TreeSet<>(timers.keySet());
+    }
+
+    /**
+     * Gets the names of the gauges, in ascending order.
+     *
+     * @return names of the gauges.
+     * @since 1.1.0
+     */
+    public SortedSet<String> getGaugeNames() {
+        return new TreeSet<>(gauges.keySet());
+    }
+
+    /**
+     * Clears the counters, values and timers recorded, gauges are kept.
+     *
+     * @since 1.1.0
+     */
+    public void reset() {
+        counters.values().forEach(LongAdder::reset);
+        values.values().forEach(LatencyHistogram::reset);
+        timers.values().forEach(LatencyHistogram::reset);
+    }
+
+    /**
+     * Writes the header of the CSV written by {@link #writeCsv(Appendable, long)}.
+     *
+     * @param out destination of the header.
+     * @throws IOException if the header cannot be written.
+     * @since 1.1.0
+     */
+    public static void writeCsvHeader(Appendable out) throws IOException {
+        out.append(InMemoryMetricsRegistryConstant.CSV_HEADER).append(System.lineSeparator());
+    }
+
+    /**
+     * Writes one CSV row per metric, stamped with {@code timestampMillis}.
+     * Counters and gauges only fill the count column, values fill all the columns in their own unit and timers fill
+     * them in milliseconds.
+     *
+     * @param out             destination of the rows.
+     * @param timestampMillis time of the rows in milliseconds since the epoch.
+     * @throws IOException if the rows cannot be written.
+     * @since 1.1.0
+     */
+    public void writeCsv(Appendable out, long timestampMillis) throws IOException {
+        // Write the counters and gauges.
+        for (String name : getCounterNames()) {
+            writeCsvRow(out, timestampMillis, "counter", name, String.valueOf(getCounter(name)), "", "", "", "", "");
+        }
+        for (String name : getGaugeNames()) {
+            writeCsvRow(out, timestampMillis, "gauge", name, String.valueOf(getGauge(name)), "", "", "", "", "");
+        }
+
+        // Write the values and timers.
+        for (String name : getValueNames()) {
+            writeCsvHistogram(out, timestampMillis, "value", name, values.get(name), 1);
+        }
+        for (String name : getTimerNames()) {
+            writeCsvHistogram(out, timestampMillis, "timer_ms", name, timers.get(name), InMemoryMetricsRegistryConstant.NANOS_PER_MILLI);
+        }
+    }
+
+    /**
+     * Writes the CSV row of the histogram {@code name}, its values divided by {@code divisor}.
+     *
+     * @param out             destination of the row.
+     * @param timestampMillis time of the row in milliseconds since the epoch.
+     * @param type            type of the metric.
+     * @param name            name of the metric.
+     * @param histogram       histogram of the metric.
+     * @param divisor         divisor converting the values to the unit written.
+     * @throws IOException if the row cannot be written.
+     */
+    private static void writeCsvHistogram(Appendable out, long timestampMillis, String type, String name, LatencyHistogram histogram, double divisor) throws IOException {
+        writeCsvRow(out, timestampMillis, type, name, String.valueOf(histogram.getCount()),
+                formatCsvValue(histogram.getMean() / divisor),
+                formatCsvValue(histogram.getPercentile(50) / divisor),
+                formatCsvValue(histogram.getPercentile(90) / divisor),
+                formatCsvValue(histogram.getPercentile(99) / divisor),
+                formatCsvValue(histogram.getMax() / divisor));
+    }
+
+    /**
+     * Writes one CSV row, metric names being made of letters, digits and dots so none is quoted.
+     *
+     * @param out             destination of the row.
+     * @param timestampMillis time of the row in milliseconds since the epoch.
+     * @param type            type of the metric.
+     * @param name            name of the metric.
+     * @param count           count column.
+     * @param mean            mean column.
+     * @param p50             50th percentile column.
+     * @param p90             90th percentile column.
+     * @param p99             99th percentile column.
+     * @param max             max column.
+     * @throws IOException if the row cannot be written.
+     */
+    private static void writeCsvRow(Appendable out, long timestampMillis, String type, String name, String count,
+                                    String mean, String p50, String p90, String p99, String max) throws IOException {
+        out.append(String.join(",", String.valueOf(timestampMillis), type, name, count, mean, p50, p90, p99, max))
+                .append(System.lineSeparator());
+    }
+
+    /**
+     * Formats {@code value} with 3 decimals whatever the default locale.
+     *
+     * @param value value to be formatted.
+     * @return formatted value.
+     */
+    private static String formatCsvValue(double value) {
+        return String.format(Locale.ROOT, "%.3f", value);
+    }
+
+    /**
+     * {@code InMemoryMetricsRegistryConstant} holds all the constants used by {@code InMemoryMetricsRegistry}.
+     *
+     * @author Dhrumil Amish Shah (B00857606)
+     * created on 2026-10-17
+     * @version 1.1.0
+     * @see InMemoryMetricsRegistry
+     * @since 1.1.0
+     */
+    private static class InMemoryMetricsRegistryConstant {
+        private static final String CSV_HEADER = "timestamp,type,name,count,mean,p50,p90,p99,max";
+        private static final double NANOS_PER_MILLI = 1_000_000d;
+    }
+}
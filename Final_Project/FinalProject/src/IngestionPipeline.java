@@ -0,0 +1,336 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code IngestionPipeline} accepts synchronization requests of mobile devices without blocking on the database.
+ * Requests wait in bounded queues, a caller submitting to a full queue is blocked until a worker frees a slot.
+ * Each worker has its own queue and requests are routed by initiator, so the requests of a device are always
+ * stored by the same worker in the order they were submitted and a numbered batch is never overtaken by a newer one.
+ * Each worker takes all the requests waiting in its queue, up to {@code maxBatchSize}, and hands them to the
+ * {@link BatchHandler} at once so many synchronizations can be stored in a single transaction. (group commit)
+ * A batch is handed over once it is full or {@code flushIntervalMillis} after its first request, whichever comes first.
+ *
+ * @author Dhrumil Amish Shah (B00857606)
+ * created on 2026-10-17
+ * @version 1.1.0
+ * @see Government
+ * @since 1.1.0
+ */
+public class IngestionPipeline implements AutoCloseable {
+    // Milliseconds a worker waits for a request before checking if the pipeline is closed.
+    private static final long POLL_TIMEOUT_MILLIS = 100;
+
+    // queues holds the requests waiting for each worker.
+    private final List<BlockingQueue<Request>> queues;
+
+    // maxBatchSize holds the maximum number of requests handled at once.
+    private final int maxBatchSize;
+
+    // flushIntervalMillis holds the maximum milliseconds a batch waits to be filled.
+    private final long flushIntervalMillis;
+
+    // batchHandler holds the handler storing the requests.
+    private final BatchHandler batchHandler;
+
+    // workers holds the threads draining the queues.
+    private final Thread[] workers;
+
+    // closed holds whether the pipeline is closed to new requests.
+    private volatile boolean closed;
+
+    /**
+     * Constructs this {@code IngestionPipeline} and starts its workers.
+     *
+     * @param queueCapacity       maximum number of requests waiting in the queues, split evenly between the workers.
+     * @param workerCount         number of workers, each draining its own queue.
+     * @param maxBatchSize        maximum number of requests handled at once.
+     * @param flushIntervalMillis maximum milliseconds a batch waits to be filled. (0 to hand over the requests already waiting)
+     * @param batchHandler        handler storing the requests.
+     * @throws IllegalArgumentException if arguments passed are illegal or inappropriate.
+     * @since 1.1.0
+     */
+    public IngestionPipeline(int queueCapacity, int workerCount, int maxBatchSize, long flushIntervalMillis, BatchHandler batchHandler) {
+        // Throw exception if queueCapacity is invalid.
+        if (queueCapacity < 1) {
+            throw new IllegalArgumentException("Invalid argument \"queueCapacity\" - " + queueCapacity + ".");
+        }
+
+        // Throw exception if workerCount is invalid.
+        if (workerCount < 1) {
+            throw new IllegalArgumentException("Invalid argument \"workerCount\" - " + workerCount + ".");
+        }
+
+        // Throw exception if maxBatchSize is invalid.
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("Invalid argument \"maxBatchSize\" - " + maxBatchSize + ".");
+        }
+
+        // Throw exception if flushIntervalMillis is invalid.
+        if (flushIntervalMillis < 0) {
+            throw new IllegalArgumentException("Invalid argument \"flushIntervalMillis\" - " + flushIntervalMillis + ".");
+        }
+
+        // Throw exception if batchHandler is invalid.
+        if (batchHandler == null) {
+            throw new IllegalArgumentException("Invalid argument \"batchHandler\" - \"null\".");
+        }
+
+        this.queues = newQueues(workerCount, (queueCapacity + workerCount - 1) / workerCount);
+        this.maxBatchSize = maxBatchSize;
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.batchHandler = batchHandler;
+
+        // Start the workers as daemon threads so they never keep the application alive.
+        workers = new Thread[workerCount];
+        for (int i = 0; i < workerCount; ++i) {
+            final BlockingQueue<Request> queue = queues.get(i);
+            workers[i] = new Thread(() -> drain(queue), "ingestion-worker-" + (i + 1));
+            workers[i].setDaemon(true);
+            workers[i].start();
+        }
+    }
+
+    /**
+     * Creates the queues of the workers.
+     *
+     * @param workerCount   number of workers.
+     * @param queueCapacity maximum number of requests waiting in each queue.
+     * @return queue of each worker.
+     */
+    private static List<BlockingQueue<Request>> newQueues(int workerCount, int queueCapacity) {
+        final List<BlockingQueue<Request>> queues = new ArrayList<>(workerCount);
+        for (int i = 0; i < workerCount; ++i) {
+            queues.add(new ArrayBlockingQueue<>(queueCapacity));
+        }
+        return queues;
+    }
+
+    /**
+     * Submits a synchronization request, blocking while the queue is full.
+     *
+     * @param initiator   hash value of caller's device configuration properties.
+     * @param contactInfo caller's contact information.
+     * @return future completed with the result of the request once it is stored.
+     * @since 1.1.0
+     */
+    public CompletableFuture<Boolean> submit(String initiator, String contactInfo) {
+        return submit(new Request(initiator, contactInfo, null));
+    }
+
+    /**
+     * Submits a synchronization request sent in the binary format, blocking while the queue is full.
+     *
+     * @param initiator   hash value of caller's device configuration properties.
+     * @param contactInfo caller's binary contact information.
+     * @return future completed with the result of the request once it is stored.
+     * @see BinaryContactInfo
+     * @since 1.1.0
+     */
+    public CompletableFuture<Boolean> submitBinary(String initiator, byte[] contactInfo) {
+        return submit(new Request(initiator, null, contactInfo));
+    }
+
+    /**
+     * Queues {@code request}, blocking while the queue is full.
+     *
+     * @param request synchronization request.
+     * @return future completed with the result of the request once it is stored.
+     * @since 1.1.0
+     */
+    private CompletableFuture<Boolean> submit(Request request) {
+        // Fail the request if the pipeline is closed.
+        if (closed) {
+            request.completeExceptionally(new RuntimeException("Ingestion pipeline is closed."));
+            return request.result;
+        }
+
+        // Wait for a free slot in the queue of the worker storing the requests of this initiator.
+        try {
+            queues.get(Math.floorMod(Objects.hashCode(request.initiator), queues.size())).put(request);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            request.completeExceptionally(new RuntimeException("Interrupted while waiting for the ingestion queue."));
+        }
+        return request.result;
+    }
+
+    /**
+     * Gets the number of requests waiting in the queues.
+     *
+     * @return number of requests waiting in the queues.
+     * @since 1.1.0
+     */
+    public int getQueuedRequests() {
+        int queuedRequests = 0;
+        for (BlockingQueue<Request> queue : queues) {
+            queuedRequests = queuedRequests + queue.size();
+        }
+        return queuedRequests;
+    }
+
+    /**
+     * Drains {@code queue} until the pipeline is closed and the queue is empty.
+     *
+     * @param queue queue of the worker.
+     * @since 1.1.0
+     */
+    private void drain(BlockingQueue<Request> queue) {
+        final List<Request> batch = new ArrayList<>(maxBatchSize);
+        while (!closed || !queue.isEmpty()) {
+            // Wait for the first request and take the others already waiting.
+            final Request request;
+            try {
+                request = queue.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                continue;
+            }
+            if (request == null) {
+                continue;
+            }
+            batch.add(request);
+            queue.drainTo(batch, maxBatchSize - 1);
+
+            // Wait for more requests until the batch is full or the flush interval elapses.
+            final long flushDeadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis);
+            long remainingNanos;
+            while (batch.size() < maxBatchSize && (remainingNanos = flushDeadline - System.nanoTime()) > 0) {
+                final Request nextRequest;
+                try {
+                    nextRequest = queue.poll(remainingNanos, TimeUnit.NANOSECONDS);
+                } catch (InterruptedException e) {
+                    break;
+                }
+                if (nextRequest == null) {
+                    break;
+                }
+                batch.add(nextRequest);
+                queue.drainTo(batch, maxBatchSize - batch.size());
+            }
+
+            try {
+                batchHandler.handle(batch);
+            } catch (RuntimeException e) {
+                for (Request failedRequest : batch) {
+                    failedRequest.completeExceptionally(e);
+                }
+            } finally {
+                // Fail the requests left incomplete by the handler.
+                for (Request handledRequest : batch) {
+                    handledRequest.completeExceptionally(new RuntimeException("Request was not processed."));
+                }
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * Closes this {@code IngestionPipeline} to new requests and waits for the workers to store the queued requests.
+     *
+     * @since 1.1.0
+     */
+    @Override
+    public void close() {
+        closed = true;
+        for (Thread worker : workers) {
+            try {
+                worker.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+
+        // Fail the requests submitted while the pipeline was closing.
+        for (BlockingQueue<Request> queue : queues) {
+            Request request;
+            while ((request = queue.poll()) != null) {
+                request.completeExceptionally(new RuntimeException("Ingestion pipeline is closed."));
+            }
+        }
+    }
+
+    /**
+     * {@code BatchHandler} stores a batch of synchronization requests and completes each of them.
+     *
+     * @author Dhrumil Amish Shah (B00857606)
+     * created on 2026-10-17
+     * @version 1.1.0
+     * @see IngestionPipeline
+     * @since 1.1.0
+     */
+    public interface BatchHandler {
+        /**
+         * Stores the requests and completes each of them with its result or failure.
+         *
+         * @param requests requests to be stored.
+         * @since 1.1.0
+         */
+        void handle(List<Request> requests);
+    }
+
+    /**
+     * {@code Request} holds a synchronization request of a mobile device and its pending result.
+     *
+     * @author Dhrumil Amish Shah (B00857606)
+     * created on 2026-10-17
+     * @version 1.1.0
+     * @see IngestionPipeline
+     * @since 1.1.0
+     */
+    public static class Request {
+        private final String initiator;
+        private final String contactInfo;
+        private final byte[] binaryContactInfo;
+        private final CompletableFuture<Boolean> result = new CompletableFuture<>();
+
+        /**
+         * Constructs this {@code Request}, sent either as an XML string or in the binary format.
+         *
+         * @param initiator         hash value of caller's device configuration properties.
+         * @param contactInfo       caller's contact information, {@code null} if sent in the binary format.
+         * @param binaryContactInfo caller's binary contact information, {@code null} if sent as an XML string.
+         */
+        private Request(String initiator, String contactInfo, byte[] binaryContactInfo) {
+            this.initiator = initiator;
+            this.contactInfo = contactInfo;
+            this.binaryContactInfo = binaryContactInfo;
+        }
+
+        public String getInitiator() {
+            return initiator;
+        }
+
+        public String getContactInfo() {
+            return contactInfo;
+        }
+
+        public byte[] getBinaryContactInfo() {
+            return binaryContactInfo;
+        }
+
+        /**
+         * Completes this {@code Request} with {@code covidContact} if not completed already.
+         *
+         * @param covidContact result of the request.
+         * @since 1.1.0
+         */
+        public void complete(boolean covidContact) {
+            result.complete(covidContact);
+        }
+
+        /**
+         * Completes this {@code Request} with {@code failure} if not completed already.
+         *
+         * @param failure failure of the request.
+         * @since 1.1.0
+         */
+        public void completeExceptionally(Throwable failure) {
+            result.completeExceptionally(failure);
+        }
+    }
+}
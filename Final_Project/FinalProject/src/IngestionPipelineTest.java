@@ -0,0 +1,173 @@
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@DisplayName("Ingestion pipeline test")
+public class IngestionPipelineTest {
+    @DisplayName("Queued requests are handled in groups and completed")
+    @Test
+    public void groupRequests() throws Exception {
+        final CountDownLatch release = new CountDownLatch(1);
+        final List<Integer> batchSizes = new ArrayList<>();
+        final IngestionPipeline pipeline = new IngestionPipeline(100, 1, 16, 0, requests -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            synchronized (batchSizes) {
+                batchSizes.add(requests.size());
+            }
+            for (IngestionPipeline.Request request : requests) {
+                request.complete(request.getContactInfo().startsWith("positive"));
+            }
+        });
+
+        // Queue requests while the worker is held, then let it drain them.
+        final List<CompletableFuture<Boolean>> results = new ArrayList<>();
+        for (int i = 0; i < 40; ++i) {
+            results.add(pipeline.submit("device" + i, (i % 3 == 0 ? "positive" : "negative") + i));
+        }
+        release.countDown();
+
+        for (int i = 0; i < 40; ++i) {
+            Assertions.assertEquals(i % 3 == 0, results.get(i).get(5, TimeUnit.SECONDS));
+        }
+        pipeline.close();
+
+        // The first request may be taken alone, the others wait and are grouped up to the maximum batch size.
+        synchronized (batchSizes) {
+            Assertions.assertEquals(40, batchSizes.stream().mapToInt(Integer::intValue).sum());
+            Assertions.assertTrue(batchSizes.stream().allMatch(size -> size <= 16));
+            Assertions.assertTrue(batchSizes.size() <= 4);
+        }
+    }
+
+    @DisplayName("Batch waits for the flush interval to be filled")
+    @Test
+    public void flushInterval() throws Exception {
+        final List<Integer> batchSizes = new ArrayList<>();
+        final IngestionPipeline pipeline = new IngestionPipeline(100, 1, 4, 1000, requests -> {
+            synchronized (batchSizes) {
+                batchSizes.add(requests.size());
+            }
+            requests.forEach(request -> request.complete(false));
+        });
+
+        // Requests arriving one by one within the interval are stored together once the batch is full.
+        final List<CompletableFuture<Boolean>> results = new ArrayList<>();
+        for (int i = 0; i < 4; ++i) {
+            results.add(pipeline.submit("device" + i, "info"));
+            Thread.sleep(20);
+        }
+        for (CompletableFuture<Boolean> result : results) {
+            Assertions.assertFalse(result.get(5, TimeUnit.SECONDS));
+        }
+        pipeline.close();
+
+        synchronized (batchSizes) {
+            Assertions.assertEquals(List.of(4), batchSizes);
+        }
+    }
+
+    @DisplayName("Full queue blocks the caller until a slot is free")
+    @Test
+    public void backPressure() throws Exception {
+        final CountDownLatch release = new CountDownLatch(1);
+        final IngestionPipeline pipeline = new IngestionPipeline(2, 1, 1, 0, requests -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            requests.forEach(request -> request.complete(true));
+        });
+
+        // One request held by the worker and two waiting in the queue fill the pipeline.
+        final AtomicInteger submitted = new AtomicInteger();
+        final Thread producer = new Thread(() -> {
+            for (int i = 0; i < 4; ++i) {
+                pipeline.submit("device", "info");
+                submitted.incrementAndGet();
+            }
+        });
+        producer.start();
+        producer.join(500);
+        Assertions.assertTrue(producer.isAlive());
+        Assertions.assertTrue(submitted.get() < 4);
+
+        release.countDown();
+        producer.join(5000);
+        Assertions.assertEquals(4, submitted.get());
+        pipeline.close();
+    }
+
+    @DisplayName("Failures of the handler fail the requests")
+    @Test
+    public void failedRequests() throws Exception {
+        final IngestionPipeline pipeline = new IngestionPipeline(10, 2, 4, 0, requests -> {
+            throw new RuntimeException("database unavailable");
+        });
+        final CompletableFuture<Boolean> result = pipeline.submit("device", "info");
+        final ExecutionException exception = Assertions.assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+        Assertions.assertEquals("database unavailable", exception.getCause().getMessage());
+
+        // Requests submitted after closing are failed.
+        pipeline.close();
+        Assertions.assertTrue(pipeline.submit("device", "info").isCompletedExceptionally());
+    }
+
+    @DisplayName("Requests of the same initiator are handled in the order they are submitted")
+    @Test
+    public void initiatorOrder() throws Exception {
+        final Map<String, List<Integer>> handledRequests = new HashMap<>();
+        final IngestionPipeline pipeline = new IngestionPipeline(64, 4, 3, 0, requests -> {
+            try {
+                Thread.sleep(ThreadLocalRandom.current().nextInt(3));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            synchronized (handledRequests) {
+                for (IngestionPipeline.Request request : requests) {
+                    handledRequests.computeIfAbsent(request.getInitiator(), initiator -> new ArrayList<>())
+                            .add(Integer.parseInt(request.getContactInfo()));
+                }
+            }
+            for (IngestionPipeline.Request request : requests) {
+                request.complete(false);
+            }
+        });
+
+        // Devices submit numbered batches without waiting for the previous ones.
+        final List<CompletableFuture<Boolean>> results = new ArrayList<>();
+        for (int i = 0; i < 400; ++i) {
+            results.add(pipeline.submit("device" + i % 8, String.valueOf(i)));
+        }
+        for (CompletableFuture<Boolean> result : results) {
+            Assertions.assertFalse(result.get(5, TimeUnit.SECONDS));
+        }
+        pipeline.close();
+
+        synchronized (handledRequests) {
+            Assertions.assertEquals(8, handledRequests.size());
+            for (Map.Entry<String, List<Integer>> entry : handledRequests.entrySet()) {
+                final List<Integer> order = entry.getValue();
+                Assertions.assertEquals(50, order.size(), entry.getKey());
+                for (int i = 1; i < order.size(); ++i) {
+                    Assertions.assertTrue(order.get(i - 1) < order.get(i), entry.getKey());
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,1508 @@
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * {@code JdbcContactStore} stores the mobile devices, contacts and test results in the MySQL database.
+ * Each operation runs in a single transaction on a connection of the connection pool.
+ * The schema is migrated to the latest version when this {@code JdbcContactStore} is created and
+ * the ids of the recently used device hashes are cached so they are neither inserted nor looked up again.
+ *
+ * @author Dhrumil Amish Shah (B00857606)
+ * created on 2026-10-17
+ * @version 1.1.0
+ * @see ContactStore
+ * @since 1.1.0
+ */
+public class JdbcContactStore implements ContactStore {
+    // connectionPool holds the pooled connections to the database shared by all the operations.
+    private final ConnectionPool connectionPool;
+
+    // mobileDeviceIdCache holds the ids of the recently used mobile device configuration hashes.
+    private final MobileDeviceIdCache mobileDeviceIdCache;
+
+    // contactPartitionLock serializes the changes to the date partitions of the contacts.
+    private final Object contactPartitionLock = new Object();
+
+    // metricsRegistry holds the registry the stages of the synchronizations are timed in.
+    private final MetricsRegistry metricsRegistry;
+
+    /**
+     * Constructs this {@code JdbcContactStore} on the connections of {@code connectionPool}.
+     * It migrates the schema to the latest version and warms up the device id cache with the most recently inserted devices.
+     * The pool is closed when this {@code JdbcContactStore} is closed or if it cannot be created.
+     * The stages of each synchronization are timed in {@code metricsRegistry} as {@code store.storeContactInfo.stage}.
+     *
+     * @param connectionPool  pooled connections to the database.
+     * @param deviceCacheSize number of device hash ids kept in memory. (0 to disable)
+     * @param metricsRegistry registry the stages of the synchronizations are timed in.
+     * @throws RuntimeException if any error occurs while connecting to the database.
+     * @since 1.1.0
+     */
+    public JdbcContactStore(ConnectionPool connectionPool, int deviceCacheSize, MetricsRegistry metricsRegistry) {
+        this.connectionPool = connectionPool;
+        this.metricsRegistry = metricsRegistry;
+
+        // Connect to the database to check the credentials and migrate the schema to the latest version.
+        try (final Connection connection = connectionPool.getConnection()) {
+            migrateSchema(connection);
+        } catch (SQLException e) {
+            // Close the pool and throw exception if error occurs.
+            connectionPool.close();
+            throw new RuntimeException(e.getMessage());
+        }
+
+        // Warm up the device id cache with the most recently inserted devices.
+        mobileDeviceIdCache = new MobileDeviceIdCache(deviceCacheSize);
+        if (mobileDeviceIdCache.getCapacity() > 0) {
+            try (final Connection connection = connectionPool.getConnection();
+                 final PreparedStatement statement = connection.prepareStatement(GovernmentDatabase.getSelectRecentMobileDevicesQuery())) {
+                statement.setInt(1, mobileDeviceIdCache.getCapacity());
+                final List<String> mobileDeviceHashes = new ArrayList<>();
+                final List<Integer> mobileDeviceIds = new ArrayList<>();
+                try (final ResultSet resultSet = statement.executeQuery()) {
+                    while (resultSet.next()) {
+                        mobileDeviceHashes.add(resultSet.getString(GovernmentDatabase.COLUMN_MOBILE_DEVICE_HASH));
+                        mobileDeviceIds.add(resultSet.getInt(GovernmentDatabase.COLUMN_ID));
+                    }
+                }
+
+                // Cache the oldest device first so the newest devices are evicted last.
+                for (int i = mobileDeviceHashes.size() - 1; i >= 0; --i) {
+                    mobileDeviceIdCache.put(mobileDeviceHashes.get(i), mobileDeviceIds.get(i));
+                }
+            } catch (SQLException e) {
+                // Close the pool and throw exception if error occurs.
+                connectionPool.close();
+                throw new RuntimeException(e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Migrates the database schema to {@value GovernmentDatabase#SCHEMA_VERSION}.
+     * Versions applied are recorded in {@value GovernmentDatabase#TABLE_SCHEMA_VERSION} table, so each migration runs once.
+     * Migrations of concurrent instances are serialized with a named database lock.
+     *
+     * @param connection connection to the database.
+     * @throws SQLException if any migration fails.
+     * @since 1.1.0
+     */
+    private static void migrateSchema(Connection connection) throws SQLException {
+        try (final Statement statement = connection.createStatement()) {
+            statement.execute(GovernmentDatabase.createTableSchemaVersion());
+        }
+
+        // Wait for the other instances migrating the schema.
+        try (final PreparedStatement statement = connection.prepareStatement(GovernmentDatabase.getLockQuery())) {
+            statement.setString(1, GovernmentDatabase.SCHEMA_LOCK);
+            statement.setInt(2, JdbcContactStoreConstant.SCHEMA_LOCK_TIMEOUT);
+            try (final ResultSet resultSet = statement.executeQuery()) {
+                if (!resultSet.next() || resultSet.getInt(1) != 1) {
+                    throw new SQLException("Timed out waiting for the schema migration lock.");
+                }
+            }
+        }
+
+        try {
+            // Find the version of the schema.
+            int schemaVersion = 0;
+            try (final Statement statement = connection.createStatement();
+                 final ResultSet resultSet = statement.executeQuery(GovernmentDatabase.getSelectSchemaVersionQuery())) {
+                if (resultSet.next()) {
+                    schemaVersion = resultSet.getInt(1);
+                }
+            }
+
+            // Find the foreign keys of the contacts dropped before partitioning them.
+            final List<String> contactForeignKeys = new ArrayList<>();
+            if (schemaVersion < GovernmentDatabase.SCHEMA_VERSION) {
+                try (final Statement statement = connection.createStatement();
+                     final ResultSet resultSet = statement.executeQuery(GovernmentDatabase.getSelectContactForeignKeysQuery())) {
+                    while (resultSet.next()) {
+                        contactForeignKeys.add(resultSet.getString(1));
+                    }
+                }
+            }
+
+            // Apply each missing migration and record its version.
+            for (int version = schemaVersion + 1; version <= GovernmentDatabase.SCHEMA_VERSION; ++version) {
+                try (final Statement statement = connection.createStatement()) {
+                    for (String query : GovernmentDatabase.getMigrationQueries(version, contactForeignKeys)) {
+                        try {
+                            statement.execute(query);
+                        } catch (SQLException e) {
+                            // Indexes created by hand before the migration are kept.
+                            if (e.getErrorCode() != GovernmentDatabase.ER_DUP_KEYNAME) {
+                                throw e;
+                            }
+                        }
+                    }
+                }
+                try (final PreparedStatement statement = connection.prepareStatement(GovernmentDatabase.getInsertSchemaVersionQuery())) {
+                    statement.setInt(1, version);
+                    statement.setString(2, GovernmentDatabase.getMigrationDescription(version));
+                    statement.executeUpdate();
+                }
+            }
+        } finally {
+            // Let the other instances check the schema.
+            try (final PreparedStatement statement = connection.prepareStatement(GovernmentDatabase.getReleaseLockQuery())) {
+                statement.setString(1, GovernmentDatabase.SCHEMA_LOCK);
+                statement.executeQuery().close();
+            }
+        }
+    }
+
+    /**
+     * Gets a snapshot of the database connection pool metrics.
+     * It includes active and idle connections, time waited for a connection and number of timeouts.
+     *
+     * @return connection pool metrics.
+     * @since 1.1.0
+     */
+    public ConnectionPool.Metrics getConnectionPoolMetrics() {
+        return connectionPool.getMetrics();
+    }
+
+    /**
+     * Gets a snapshot of the mobile device id cache metrics.
+     * It includes cached ids, capacity and number of hits and misses.
+     *
+     * @return mobile device id cache metrics.
+     * @since 1.1.0
+     */
+    public MobileDeviceIdCache.Metrics getMobileDeviceIdCacheMetrics() {
+        return mobileDeviceIdCache.getMetrics();
+    }
+
+    /**
+     * {@inheritDoc}
+     * It must be called if the tables are modified or truncated without using this {@code JdbcContactStore}.
+     *
+     * @since 1.1.0
+     */
+    @Override
+    public void clearCaches() {
+        mobileDeviceIdCache.clear();
+    }
+
+    /**
+     * {@inheritDoc}
+     * It closes the connection pool.
+     *
+     * @since 1.1.0
+     */
+    @Override
+    public void close() {
+        connectionPool.close();
+    }
+
+    /**
+     * {@inheritDoc}
+     * All the initiators are stored in a single transaction.
+     * Transactions rolled back by the database to break a deadlock with other synchronizations are retried up to
+     * {@value JdbcContactStoreConstant#DEADLOCK_RETRIES} times.
+     *
+     * @since 1.1.0
+     */
+    @Override
+    public boolean[] storeContactInfo(List<String> initiators, ContactBatch contactBatch) {
+        final OperationTrace trace = new OperationTrace(metricsRegistry, JdbcContactStoreConstant.STORE_CONTACT_INFO_METRIC);
+        for (int attempt = 1; ; ++attempt) {
+            try {
+                final boolean[] covidContacts = storeContactInfoOnce(initiators, contactBatch, trace);
+                trace.end();
+                return covidContacts;
+            } catch (SQLException e) {
+                // Throw exception if any error other than a deadlock occurs or retries are exhausted.
+                if (attempt > JdbcContactStoreConstant.DEADLOCK_RETRIES || !isDeadlock(e)) {
+                    trace.fail();
+                    throw new RuntimeException(e.getMessage());
+                }
+                trace.increment("deadlockRetries", 1);
+            }
+        }
+    }
+
+    /**
+     * Stores the contact information of many initiators in a single transaction.
+     *
+     * @param initiators   hash value of each caller's device configuration properties.
+     * @param contactBatch contact information read from the initiators.
+     * @param trace        trace timing the stages of the synchronization.
+     * @return for each initiator, {@code true} if it has been near anyone diagnosed with COVID-19 in the 14 days otherwise {@code false}.
+     * @throws SQLException if any query fails.
+     * @since 1.1.0
+     */
+    private boolean[] storeContactInfoOnce(List<String> initiators, ContactBatch contactBatch, OperationTrace trace) throws SQLException {
+        try (final Connection connection = connectionPool.getConnection()) {
+            trace.endStage("connection");
+
+            // Set auto commit to false before queries execution to ensure Atomicity.
+            connection.setAutoCommit(false);
+            try {
+                final Map<String, Integer> insertedMobileDeviceIds = new HashMap<>();
+                final boolean[] covidContacts = storeContactInfo(connection, initiators, contactBatch, insertedMobileDeviceIds, trace);
+
+                // Commit when all queries are executed successfully and cache the device ids once committed.
+                connection.commit();
+                mobileDeviceIdCache.putAll(insertedMobileDeviceIds);
+                trace.endStage("commit");
+                return covidContacts;
+            } catch (SQLException e) {
+                // Rollback if any query fails.
+                connection.rollback();
+                throw e;
+            } finally {
+                // Set auto commit to true after execution.
+                connection.setAutoCommit(true);
+            }
+        }
+    }
+
+    /**
+     * Checks whether the database rolled back the transaction to break a deadlock or a lock wait timeout.
+     *
+     * @param e exception thrown by the query.
+     * @return {@code true} if the transaction can be retried otherwise {@code false}.
+     * @since 1.1.0
+     */
+    private static boolean isDeadlock(SQLException e) {
+        return e.getErrorCode() == GovernmentDatabase.ER_LOCK_DEADLOCK || e.getErrorCode() == GovernmentDatabase.ER_LOCK_WAIT_TIMEOUT ||
+                GovernmentDatabase.SQL_STATE_SERIALIZATION_FAILURE.equals(e.getSQLState());
+    }
+
+    /**
+     * Stores the contact information of many initiators and marks the contacts reported to each initiator
+     * as notified, using the transaction of the {@code connection}.
+     * All the device hashes referenced are inserted and resolved to ids at once, so contacts and positive tests
+     * of all the initiators are inserted with a single batch each instead of looking up both ends of every row.
+     * Device hashes found in the device id cache are neither inserted nor looked up, the ids of the other devices
+     * are stored in {@code resolvedMobileDeviceIds} to be cached once the transaction is committed.
+     *
+     * @param connection              connection to the database with auto commit disabled.
+     * @param initiators              hash value of each caller's device configuration properties.
+     * @param contactBatch            contact information read from the initiators.
+     * @param resolvedMobileDeviceIds stores the ids of the devices not found in the device id cache.
+     * @param trace                   trace timing the stages of the synchronization.
+     * @return for each initiator, {@code true} if it has been near anyone diagnosed with COVID-19 in the 14 days otherwise {@code false}.
+     * @throws SQLException if any query fails.
+     * @since 1.1.0
+     */
+    private boolean[] storeContactInfo(Connection connection, List<String> initiators, ContactBatch contactBatch,
+                                       Map<String, Integer> resolvedMobileDeviceIds, OperationTrace trace) throws SQLException {
+        // Collect all the device hashes, kept sorted so concurrent batches lock devices in the same order.
+        final TreeMap<String, Integer> mobileDeviceIds = new TreeMap<>();
+        for (String initiator : initiators) {
+            mobileDeviceIds.put(initiator, null);
+        }
+        for (int i = 0; i < contactBatch.contactCount; ++i) {
+            mobileDeviceIds.put(contactBatch.contactIndividuals[i], null);
+        }
+
+        // Take the ids of the cached devices, only the other devices are inserted and looked up.
+        final List<String> uncachedMobileDeviceHashes = new ArrayList<>();
+        for (Map.Entry<String, Integer> entry : mobileDeviceIds.entrySet()) {
+            final Integer mobileDeviceId = mobileDeviceIdCache.get(entry.getKey());
+            if (mobileDeviceId == null) {
+                uncachedMobileDeviceHashes.add(entry.getKey());
+            } else {
+                entry.setValue(mobileDeviceId);
+            }
+        }
+
+        if (uncachedMobileDeviceHashes.size() > 0) {
+            // Insert initiators' hashes and contacts hashes if not inserted already.
+            try (final PreparedStatement statement = connection.prepareStatement(GovernmentDatabase.getInsertMobileDeviceQuery())) {
+                for (String mobileDeviceHash : uncachedMobileDeviceHashes) {
+                    statement.setString(1, mobileDeviceHash);
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+            }
+
+            // Resolve the device hashes to ids.
+            try (final PreparedStatement statement = connection.prepareStatement(GovernmentDatabase.getSelectMobileDeviceIdsQuery())) {
+                final Iterator<String> mobileDeviceHashes = uncachedMobileDeviceHashes.iterator();
+                while (mobileDeviceHashes.hasNext()) {
+                    // Fill the unused parameters with the last hash so every chunk uses the same statement.
+                    String mobileDeviceHash = null;
+                    for (int parameter = 1; parameter <= JdbcContactStoreConstant.LOOKUP_CHUNK_SIZE; ++parameter) {
+                        if (mobileDeviceHashes.hasNext()) {
+                            mobileDeviceHash = mobileDeviceHashes.next();
+                        }
+                        statement.setString(parameter, mobileDeviceHash);
+                    }
+                    try (final ResultSet resultSet = statement.executeQuery()) {
+                        while (resultSet.next()) {
+                            final String resolvedMobileDeviceHash = resultSet.getString(GovernmentDatabase.COLUMN_MOBILE_DEVICE_HASH);
+                            final int resolvedMobileDeviceId = resultSet.getInt(GovernmentDatabase.COLUMN_ID);
+                            mobileDeviceIds.put(resolvedMobileDeviceHash, resolvedMobileDeviceId);
+                            resolvedMobileDeviceIds.put(resolvedMobileDeviceHash, resolvedMobileDeviceId);
+                        }
+                    }
+                }
+            }
+        }
+        trace.recordValue("uncachedDevices", uncachedMobileDeviceHashes.size());
+        trace.endStage("resolveDevices");
+
+        // Skip the records of the initiators which were stored already, when a device sends a batch again.
+        final boolean[] storedInitiators = selectStoredInitiators(connection, initiators, contactBatch, mobileDeviceIds);
+        trace.endStage("selectStored");
+
+        // Insert initiators' positive test hashes if any.
+        if (contactBatch.testHashCount > 0) {
+            try (final PreparedStatement statement = connection.prepareStatement(GovernmentDatabase.getInsertMobileDeviceTestResultQuery())) {
+                for (int i = 0; i < contactBatch.testHashCount; ++i) {
+                    if (storedInitiators[contactBatch.testHashInitiators[i]]) {
+                        continue;
+                    }
+                    statement.setInt(1, mobileDeviceIds.get(initiators.get(contactBatch.testHashInitiators[i])));
+                    statement.setString(2, contactBatch.testHashes[i]);
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+            }
+        }
+
+        // Insert contacts made by the initiators if any, contacts inserted have ids greater than lastContactColId.
+        // Contacts merged into an existing contact of the same day keep its exposures, which do not depend on the duration.
+        int lastContactColId = 0;
+        if (contactBatch.contactCount > 0) {
+            try (final PreparedStatement statement = connection.prepareStatement(GovernmentDatabase.getSelectLastContactIdQuery());
+                 final ResultSet resultSet = statement.executeQuery()) {
+                if (resultSet.next()) {
+                    lastContactColId = resultSet.getInt(1);
+                }
+            }
+            try (final PreparedStatement statement = connection.prepareStatement(GovernmentDatabase.getInsertContactQuery())) {
+                for (int i = 0; i < contactBatch.contactCount; ++i) {
+                    if (storedInitiators[contactBatch.contactInitiators[i]]) {
+                        continue;
+                    }
+                    statement.setInt(1, contactBatch.contactDates[i]);
+                    statement.setInt(2, contactBatch.contactDurations[i]);
+                    statement.setInt(3, mobileDeviceIds.get(initiators.get(contactBatch.contactInitiators[i])));
+                    statement.setInt(4, mobileDeviceIds.get(contactBatch.contactIndividuals[i]));
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+            }
+        }
+        trace.endStage("insertRecords");
+
+        // Record the exposures of the devices which reported positive tests.
+        if (contactBatch.testHashCount > 0) {
+            try (final PreparedStatement statement = connection.prepareStatement(GovernmentDatabase.getInsertDeviceTestExposuresQuery())) {
+                for (int i = 0; i < contactBatch.testHashCount; ++i) {
+                    if (storedInitiators[contactBatch.testHashInitiators[i]]) {
+                        continue;
+                    }
+                    statement.setString(1, contactBatch.testHashes[i]);
+                    statement.setInt(2, mobileDeviceIds.get(initiators.get(contactBatch.testHashInitiators[i])));
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+            }
+        }
+
+        final int[] initiatorIds = initiators.stream().mapToInt(mobileDeviceIds::get).distinct().toArray();
+
+        // Record the exposures of the contacts inserted.
+        if (contactBatch.contactCount > 0) {
+            try (final PreparedStatement statement = connection.prepareStatement(GovernmentDatabase.getInsertContactExposuresQuery())) {
+                for (int from = 0; from < initiatorIds.length; from = from + JdbcContactStoreConstant.LOOKUP_CHUNK_SIZE) {
+                    // Fill the unused parameters with the last id so every chunk uses the same statement.
+                    statement.setInt(1, lastContactColId);
+                    for (int parameter = 1; parameter <= JdbcContactStoreConstant.LOOKUP_CHUNK_SIZE; ++parameter) {
+                        statement.setInt(parameter + 1, initiatorIds[Math.min(from + parameter - 1, initiatorIds.length - 1)]);
+                    }
+                    statement.executeUpdate();
+                }
+            }
+        }
+        trace.endStage("recordExposures");
+
+        // Check which initiators have been near anyone diagnosed with COVID-19 in the last 14 days.
+        final Set<Integer> exposedInitiatorIds = new HashSet<>();
+        final List<Integer> contactColIds = new ArrayList<>();
+        try (final PreparedStatement statement = connection.prepareStatement(GovernmentDatabase.getSelectExposuresQuery())) {
+            for (int from = 0; from < initiatorIds.length; from = from + JdbcContactStoreConstant.LOOKUP_CHUNK_SIZE) {
+                // Fill the unused parameters with the last id so every chunk uses the same statement.
+                for (int parameter = 1; parameter <= JdbcContactStoreConstant.LOOKUP_CHUNK_SIZE; ++parameter) {
+                    statement.setInt(parameter, initiatorIds[Math.min(from + parameter - 1, initiatorIds.length - 1)]);
+                }
+                try (final ResultSet resultSet = statement.executeQuery()) {
+                    while (resultSet.next()) {
+                        contactColIds.add(resultSet.getInt(GovernmentDatabase.COLUMN_CONTACT_ID));
+                        exposedInitiatorIds.add(resultSet.getInt(GovernmentDatabase.COLUMN_PERSON_ONE_ID));
+                    }
+                }
+            }
+        }
+        trace.recordValue("exposureRows", contactColIds.size());
+        trace.endStage("selectExposures");
+
+        // Update the notify field of contacts once reported and remove their exposures.
+        if (contactColIds.size() > 0) {
+            try (final PreparedStatement updateStatement = connection.prepareStatement(GovernmentDatabase.updateContactNotifiedForContactsQuery());
+                 final PreparedStatement deleteStatement = connection.prepareStatement(GovernmentDatabase.getDeleteExposuresQuery())) {
+                for (int from = 0; from < contactColIds.size(); from = from + JdbcContactStoreConstant.LOOKUP_CHUNK_SIZE) {
+                    // Fill the unused parameters with the last id so every chunk uses the same statement.
+                    for (int parameter = 1; parameter <= JdbcContactStoreConstant.LOOKUP_CHUNK_SIZE; ++parameter) {
+                        final int contactColId = contactColIds.get(Math.min(from + parameter - 1, contactColIds.size() - 1));
+                        updateStatement.setInt(parameter, contactColId);
+                        deleteStatement.setInt(parameter, contactColId);
+                    }
+                    updateStatement.executeUpdate();
+                    deleteStatement.executeUpdate();
+                }
+            }
+        }
+        trace.endStage("notify");
+
+        // Report true to each initiator who has been near anyone diagnosed with COVID-19 in the 14 days otherwise false.
+        final boolean[] covidContacts = new boolean[initiators.size()];
+        for (int i = 0; i < covidContacts.length; ++i) {
+            covidContacts[i] = exposedInitiatorIds.contains(mobileDeviceIds.get(initiators.get(i)));
+        }
+        return covidContacts;
+    }
+
+    /**
+     * Finds the initiators whose records were stored already and records the sequence number of the others.
+     * Devices number their batches by the sequence number of their last record, a batch not newer than the last one stored
+     * was sent again after a failed synchronization and is skipped. Batches without a sequence number are always stored.
+     * The rows of the initiators are locked until the end of the transaction, so a batch sent twice at once is stored once.
+     *
+     * @param connection      connection to the database with auto commit disabled.
+     * @param initiators      hash value of each caller's device configuration properties.
+     * @param contactBatch    contact information read from the initiators.
+     * @param mobileDeviceIds ids of the device hashes.
+     * @return for each initiator, {@code true} if its records were stored already otherwise {@code false}.
+     * @throws SQLException if any query fails.
+     * @since 1.1.0
+     */
+    private static boolean[] selectStoredInitiators(Connection connection, List<String> initiators, ContactBatch contactBatch,
+                                                    Map<String, Integer> mobileDeviceIds) throws SQLException {
+        final boolean[] storedInitiators = new boolean[initiators.size()];
+
+        // Collect the ids of the initiators which numbered their records, sorted so rows are locked in the same order.
+        final TreeMap<Integer, Long> syncSequences = new TreeMap<>();
+        for (int i = 0; i < initiators.size(); ++i) {
+            if (contactBatch.initiatorSequences[i] > 0) {
+                syncSequences.put(mobileDeviceIds.get(initiators.get(i)), 0L);
+            }
+        }
+        if (syncSequences.isEmpty()) {
+            return storedInitiators;
+        }
+
+        // Lock the rows of the initiators and read the sequence number of the last batch stored.
+        final Integer[] initiatorIds = syncSequences.keySet().toArray(new Integer[0]);
+        try (final PreparedStatement statement = connection.prepareStatement(GovernmentDatabase.getSelectSyncSequencesQuery())) {
+            for (int from = 0; from < initiatorIds.length; from = from + JdbcContactStoreConstant.LOOKUP_CHUNK_SIZE) {
+                // Fill the unused parameters with the last id so every chunk uses the same statement.
+                for (int parameter = 1; parameter <= JdbcContactStoreConstant.LOOKUP_CHUNK_SIZE; ++parameter) {
+                    statement.setInt(parameter, initiatorIds[Math.min(from + parameter - 1, initiatorIds.length - 1)]);
+                }
+                try (final ResultSet resultSet = statement.executeQuery()) {
+                    while (resultSet.next()) {
+                        syncSequences.put(resultSet.getInt(GovernmentDatabase.COLUMN_ID), resultSet.getLong(GovernmentDatabase.COLUMN_SYNC_SEQUENCE));
+                    }
+                }
+            }
+        }
+
+        // Skip the batches already stored, including a batch queued twice in the same request batch.
+        final Map<Integer, Long> newSyncSequences = new TreeMap<>();
+        for (int i = 0; i < initiators.size(); ++i) {
+            final long sequence = contactBatch.initiatorSequences[i];
+            if (sequence == 0) {
+                continue;
+            }
+            final int initiatorId = mobileDeviceIds.get(initiators.get(i));
+            if (sequence <= syncSequences.get(initiatorId)) {
+                storedInitiators[i] = true;
+            } else {
+                syncSequences.put(initiatorId, sequence);
+                newSyncSequences.put(initiatorId, sequence);
+            }
+        }
+
+        // Record the sequence number of the batches stored.
+        if (newSyncSequences.size() > 0) {
+            try (final PreparedStatement statement = connection.prepareStatement(GovernmentDatabase.getUpdateSyncSequenceQuery())) {
+                for (Map.Entry<Integer, Long> entry : newSyncSequences.entrySet()) {
+                    statement.setLong(1, entry.getValue());
+                    statement.setInt(2, entry.getKey());
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+            }
+        }
+        return storedInitiators;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since 1.1.0
+     */
+    @Override
+    public boolean storeTestResult(String testHash, int date, boolean result) {
+        try (final Connection connection = connectionPool.getConnection()) {
+            // Set auto commit to false before queries execution to ensure Atomicity.
+            connection.setAutoCommit(false);
+            try {
+                // Insert COVID report record.
+                final boolean inserted;
+                try (final PreparedStatement statement = connection.prepareStatement(GovernmentDatabase.getInsertTestResultQuery())) {
+                    statement.setString(1, testHash);
+                    statement.setInt(2, date);
+                    statement.setBoolean(3, result);
+                    inserted = statement.executeUpdate() > 0;
+                }
+
+                // Record the exposures of the devices which already reported this test.
+                if (inserted && result) {
+                    try (final PreparedStatement statement = connection.prepareStatement(GovernmentDatabase.getInsertTestResultExposuresQuery())) {
+                        statement.setString(1, testHash);
+                        statement.executeUpdate();
+                    }
+                }
+
+                // Commit when all queries are executed successfully.
+                connection.commit();
+                return inserted;
+            } catch (SQLException e) {
+                // Rollback if any query fails.
+                connection.rollback();
+                throw e;
+            } finally {
+                // Set auto commit to true after execution.
+                connection.setAutoCommit(true);
+            }
+        } catch (SQLException e) {
+            // Throw exception if any error occurs.
+            throw new RuntimeException(e.getMessage());
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * The chunk is stored in a single transaction with multi-row inserts.
+     *
+     * @since 1.1.0
+     */
+    @Override
+    public int storeTestResults(List<TestResult> testResults) {
+        try (final Connection connection = connectionPool.getConnection()) {
+            // Set auto commit to false before queries execution to store the chunk at once.
+            connection.setAutoCommit(false);
+            try {
+                // Insert the test results with multi-row inserts, ignored duplicates are not counted as affected rows.
+                int inserted = 0;
+                for (int from = 0; from < testResults.size(); from = from + JdbcContactStoreConstant.TEST_RESULT_ROWS_PER_INSERT) {
+                    final int rows = Math.min(JdbcContactStoreConstant.TEST_RESULT_ROWS_PER_INSERT, testResults.size() - from);
+                    try (final PreparedStatement statement = connection.prepareStatement(GovernmentDatabase.getInsertTestResultsQuery(rows))) {
+                        for (int row = 0; row < rows; ++row) {
+                            final TestResult testResult = testResults.get(from + row);
+                            statement.setString(row * 3 + 1, testResult.getTestHash());
+                            statement.setInt(row * 3 + 2, testResult.getDate());
+                            statement.setBoolean(row * 3 + 3, testResult.getResult());
+                        }
+                        inserted = inserted + statement.executeUpdate();
+                    }
+                }
+
+                // Record the exposures of the devices which already reported the positive tests.
+                try (final PreparedStatement statement = connection.prepareStatement(GovernmentDatabase.getInsertTestResultExposuresQuery())) {
+                    boolean positive = false;
+                    for (TestResult testResult : testResults) {
+                        if (testResult.getResult()) {
+                            statement.setString(1, testResult.getTestHash());
+                            statement.addBatch();
+                            positive = true;
+                        }
+                    }
+                    if (positive) {
+                        statement.executeBatch();
+                    }
+                }
+
+                // Commit when all queries are executed successfully.
+                connection.commit();
+                return inserted;
+            } catch (SQLException e) {
+                // Rollback if any query fails.
+                connection.rollback();
+                throw e;
+            } finally {
+                // Set auto commit to true after execution.
+                connection.setAutoCommit(true);
+            }
+        } catch (SQLException e) {
+            // Throw exception if any error occurs.
+            throw new RuntimeException(e.getMessage());
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * Pairs of a single date are read with the gathering query, pairs of a range of dates are streamed with a single query.
+     *
+     * @since 1.1.0
+     */
+    @Override
+    public void selectContactPairs(int fromDate, int toDate, int minTime, ContactPairConsumer consumer) {
+        try (final Connection connection = connectionPool.getConnection()) {
+            // Find all the pairs on given date who contacted for at least minTime.
+            if (fromDate == toDate) {
+                try (final PreparedStatement statement = connection.prepareStatement(GovernmentDatabase.getContactGatheringQuery())) {
+                    statement.setInt(1, fromDate);
+                    statement.setInt(2, minTime);
+                    try (final ResultSet resultSet = statement.executeQuery()) {
+                        while (resultSet.next()) {
+                            consumer.accept(fromDate, resultSet.getInt(GovernmentDatabase.COLUMN_PERSON_ONE_ID),
+                                    resultSet.getInt(GovernmentDatabase.COLUMN_PERSON_TWO_ID));
+                        }
+                    }
+                }
+                return;
+            }
+
+            // Stream all the pairs between the dates who contacted for at least minTime, ordered by date.
+            try (final PreparedStatement statement = connection.prepareStatement(GovernmentDatabase.getContactGatheringRangeQuery())) {
+                statement.setInt(1, fromDate);
+                statement.setInt(2, toDate);
+                statement.setInt(3, minTime);
+
+                // Ask the MySQL driver to stream rows instead of loading the whole result set in memory.
+                statement.setFetchSize(Integer.MIN_VALUE);
+                try (final ResultSet resultSet = statement.executeQuery()) {
+                    while (resultSet.next()) {
+                        consumer.accept(resultSet.getInt(GovernmentDatabase.COLUMN_CONTACT_DATE),
+                                resultSet.getInt(GovernmentDatabase.COLUMN_PERSON_ONE_ID),
+                                resultSet.getInt(GovernmentDatabase.COLUMN_PERSON_TWO_ID));
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            // Throw exception if any error occurs.
+            throw new RuntimeException(e.getMessage());
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * Contacts are partitioned by weeks and only whole partitions are dropped.
+     * Dropping a partition neither scans nor locks the contacts of the other partitions.
+     *
+     * @since 1.1.0
+     */
+    @Override
+    public int purgeContactsBefore(int date) {
+        synchronized (contactPartitionLock) {
+            try (final Connection connection = connectionPool.getConnection()) {
+                // Partitions holding only contacts made before date.
+                final List<String> partitions = new ArrayList<>();
+                for (int bound : selectContactPartitionBounds(connection)) {
+                    if (bound <= date) {
+                        partitions.add(GovernmentDatabase.getContactPartitionName(bound));
+                    }
+                }
+                if (partitions.isEmpty()) {
+                    return 0;
+                }
+
+                // Drop the partitions, then the exposures of their contacts.
+                try (final Statement statement = connection.createStatement()) {
+                    statement.execute(GovernmentDatabase.getDropContactPartitionsQuery(partitions));
+                    statement.executeUpdate(GovernmentDatabase.getDeleteOrphanExposuresQuery());
+                }
+                return partitions.size();
+            } catch (SQLException e) {
+                // Throw exception if any error occurs.
+                throw new RuntimeException(e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * It creates the partitions of the contacts up to {@value JdbcContactStoreConstant#CONTACT_PARTITIONS_AHEAD} weeks after
+     * the latest contact date, at most {@value JdbcContactStoreConstant#MAX_NEW_CONTACT_PARTITIONS} partitions per run.
+     *
+     * @since 1.1.0
+     */
+    @Override
+    public void maintainContacts(int retentionDays) {
+        final int lastDate;
+        synchronized (contactPartitionLock) {
+            try (final Connection connection = connectionPool.getConnection()) {
+                // Find the latest contact date, not later than the current date.
+                try (final Statement statement = connection.createStatement();
+                     final ResultSet resultSet = statement.executeQuery(GovernmentDatabase.getSelectLastContactDateQuery())) {
+                    lastDate = resultSet.next() ? Math.max(Math.min(resultSet.getInt(1), ContactStore.getCurrentDate()), 0) : 0;
+                }
+
+                // Split the partition of the future dates so the upcoming weeks have their own partitions.
+                final List<Integer> bounds = selectContactPartitionBounds(connection);
+                final int target = lastDate + CONTACT_PARTITION_DAYS * JdbcContactStoreConstant.CONTACT_PARTITIONS_AHEAD;
+                int bound = bounds.isEmpty() ? 0 : bounds.get(bounds.size() - 1);
+                if (bound <= target) {
+                    final List<Integer> newBounds = new ArrayList<>();
+                    while (bound <= target && newBounds.size() < JdbcContactStoreConstant.MAX_NEW_CONTACT_PARTITIONS) {
+                        bound = bound + CONTACT_PARTITION_DAYS;
+                        newBounds.add(bound);
+                    }
+                    try (final Statement statement = connection.createStatement()) {
+                        statement.execute(GovernmentDatabase.getSplitFutureContactPartitionQuery(newBounds));
+                    }
+                }
+            } catch (SQLException e) {
+                // Throw exception if any error occurs.
+                throw new RuntimeException(e.getMessage());
+            }
+        }
+
+        // Drop the contacts out of the retention window.
+        if (retentionDays > 0 && lastDate > retentionDays) {
+            purgeContactsBefore(lastDate - retentionDays);
+        }
+    }
+
+    /**
+     * Selects the upper bounds of the date partitions of the contacts, excluding the partition of the future dates.
+     *
+     * @param connection connection to the database.
+     * @return number of days since January 1, 2021 before which the contacts of each partition are made, in ascending order.
+     * @throws SQLException if any error occurs while selecting the partitions.
+     * @since 1.1.0
+     */
+    private static List<Integer> selectContactPartitionBounds(Connection connection) throws SQLException {
+        final List<Integer> bounds = new ArrayList<>();
+        try (final Statement statement = connection.createStatement();
+             final ResultSet resultSet = statement.executeQuery(GovernmentDatabase.getSelectContactPartitionsQuery())) {
+            while (resultSet.next()) {
+                final String partition = resultSet.getString(1);
+                if (partition.matches(GovernmentDatabase.CONTACT_PARTITION_PATTERN)) {
+                    bounds.add(Integer.parseInt(partition.substring(1)));
+                }
+            }
+        }
+        Collections.sort(bounds);
+        return bounds;
+    }
+
+    /**
+     * {@code GovernmentDatabase} holds all the database related constants and queries used by {@code JdbcContactStore}.
+     * Query builders are package-private so {@link ContactTracingBenchmark} can measure them.
+     *
+     * @author Dhrumil Amish Shah (B00857606)
+     * created on 2021-04-02
+     * @version 1.0.0
+     * @see JdbcContactStore
+     * @since 1.0.0
+     */
+    static class GovernmentDatabase {
+        private static final int SCHEMA_VERSION = 7;
+        private static final String SCHEMA_LOCK = "covid_tracker_schema";
+        private static final int ER_DUP_KEYNAME = 1061;
+        private static final int ER_LOCK_WAIT_TIMEOUT = 1205;
+        private static final int ER_LOCK_DEADLOCK = 1213;
+        private static final String SQL_STATE_SERIALIZATION_FAILURE = "40001";
+        private static final String CONTACT_PARTITION_FUTURE = "p_future";
+        private static final String CONTACT_PARTITION_PATTERN = "p[0-9]+";
+        private static final String TABLE_SCHEMA_VERSION = "schema_version";
+        private static final String TABLE_MOBILE_DEVICE = "mobile_device";
+        private static final String TABLE_TEST_OUTCOME = "test_outcome";
+        private static final String TABLE_MOBILE_DEVICE_TEST_OUTCOME = "mobile_device_test_outcome";
+        private static final String TABLE_CONTACT = "contact";
+        private static final String TABLE_EXPOSURE = "exposure";
+        private static final String TABLE_CONTACT_MERGE = "contact_merge";
+        private static final String COLUMN_ID = "_id";
+        private static final String COLUMN_MOBILE_DEVICE_HASH = "mobile_device_hash";
+        private static final String COLUMN_SYNC_SEQUENCE = "sync_sequence";
+        private static final String COLUMN_TEST_HASH = "test_hash";
+        private static final String COLUMN_TEST_DATE = "test_date";
+        private static final String COLUMN_TEST_RESULT = "test_result";
+        private static final String COLUMN_MOBILE_DEVICE_ID = "mobile_device_id";
+        private static final String COLUMN_TEST_OUTCOME_ID = "test_outcome_id";
+        private static final String COLUMN_CONTACT_DATE = "contact_date";
+        private static final String COLUMN_CONTACT_DURATION = "contact_duration";
+        private static final String COLUMN_PERSON_ONE_ID = "person_one_id";
+        private static final String COLUMN_PERSON_TWO_ID = "person_two_id";
+        private static final String COLUMN_CONTACT_NOTIFIED = "contact_notified";
+        private static final String COLUMN_CONTACT_ID = "contact_id";
+        private static final String COLUMN_VERSION = "version";
+        private static final String COLUMN_DESCRIPTION = "description";
+        private static final String COLUMN_APPLIED_ON = "applied_on";
+        private static final String INDEX_CONTACT_GATHERING = "idx_contact_gathering";
+        private static final String INDEX_CONTACT_PERSON_ONE = "idx_contact_person_one";
+        private static final String INDEX_CONTACT_PERSON_TWO = "idx_contact_person_two";
+        private static final String INDEX_CONTACT_DAY = "idx_contact_day";
+        private static final String INDEX_MOBILE_DEVICE_TEST_OUTCOME_TEST = "idx_mobile_device_test_outcome_test";
+
+        /**
+         * Gets the query string to create {@value TABLE_SCHEMA_VERSION} table
+         * with columns {@value COLUMN_VERSION}, {@value COLUMN_DESCRIPTION} and {@value COLUMN_APPLIED_ON}.
+         *
+         * @return query string to create {@value TABLE_SCHEMA_VERSION} table.
+         */
+        private static String createTableSchemaVersion() {
+            return "CREATE TABLE IF NOT EXISTS " + TABLE_SCHEMA_VERSION + "(" +
+                    COLUMN_VERSION + " INT PRIMARY KEY," +
+                    COLUMN_DESCRIPTION + " VARCHAR(255) NOT NULL," +
+                    COLUMN_APPLIED_ON + " TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP" +
+                    ");";
+        }
+
+        /**
+         * Gets the parameterized query string to acquire a named lock.
+         * Parameters: 1 - name of the lock, 2 - seconds to wait for the lock.
+         *
+         * @return parameterized query string to acquire a named lock.
+         */
+        static String getLockQuery() {
+            return "SELECT GET_LOCK(?, ?);";
+        }
+
+        /**
+         * Gets the parameterized query string to release a named lock.
+         * Parameters: 1 - name of the lock.
+         *
+         * @return parameterized query string to release a named lock.
+         */
+        static String getReleaseLockQuery() {
+            return "SELECT RELEASE_LOCK(?);";
+        }
+
+        /**
+         * Gets the query string to select the latest version applied from {@value TABLE_SCHEMA_VERSION} table.
+         *
+         * @return query string to select the latest version applied.
+         */
+        static String getSelectSchemaVersionQuery() {
+            return "SELECT COALESCE(MAX(" + COLUMN_VERSION + "), 0) FROM " + TABLE_SCHEMA_VERSION + ";";
+        }
+
+        /**
+         * Gets the parameterized query string to record a version applied in {@value TABLE_SCHEMA_VERSION} table.
+         * Parameters: 1 - version, 2 - description.
+         *
+         * @return parameterized query string to record a version applied.
+         */
+        static String getInsertSchemaVersionQuery() {
+            return "INSERT INTO " + TABLE_SCHEMA_VERSION +
+                    "(" + COLUMN_VERSION + ", " + COLUMN_DESCRIPTION + ") VALUES (?, ?);";
+        }
+
+        /**
+         * Gets the description of the migration to schema {@code version}.
+         *
+         * @param version schema version.
+         * @return description of the migration.
+         */
+        static String getMigrationDescription(int version) {
+            switch (version) {
+                case 1:
+                    return "Create mobile device, test outcome and contact tables";
+                case 2:
+                    return "Create exposure table";
+                case 3:
+                    return "Create covering indexes for gathering and exposure queries";
+                case 4:
+                    return "Partition contact table by contact date";
+                case 5:
+                    return "Store contact and test dates as number of days";
+                case 6:
+                    return "Merge the contacts of a pair on the same day";
+                case 7:
+                    return "Record the last batch synchronized by each mobile device";
+                default:
+                    throw new IllegalArgumentException("Invalid argument \"version\" - " + version + ".");
+            }
+        }
+
+        /**
+         * Gets the query strings migrating the schema from {@code version - 1} to {@code version}.
+         *
+         * @param version            schema version.
+         * @param contactForeignKeys names of the foreign keys of {@value TABLE_CONTACT} table.
+         * @return query strings of the migration.
+         */
+        private static String[] getMigrationQueries(int version, List<String> contactForeignKeys) {
+            switch (version) {
+                case 1:
+                    // Tables may exist already if created before the schema was versioned.
+                    return new String[]{
+                            createTableMobileDevice(),
+                            createTableTestOutcome(),
+                            createTableMobileDeviceTestOutcome(),
+                            createTableContact()
+                    };
+                case 2:
+                    // Fill the exposure table with the pending notifications of the existing contacts.
+                    return new String[]{
+                            createTableExposure(),
+                            getInsertAllExposuresQuery()
+                    };
+                case 3:
+                    // Gathering: contact_date equality, grouped by pair, summing durations.
+                    // Exposures of new contacts: person_one_id and _id range, exposures of a device test: person_two_id.
+                    // Exposures of a test result: test_outcome_id to mobile_device_id.
+                    return new String[]{
+                            "CREATE INDEX " + INDEX_CONTACT_GATHERING + " ON " + TABLE_CONTACT + "(" +
+                                    COLUMN_CONTACT_DATE + ", " + COLUMN_PERSON_ONE_ID + ", " + COLUMN_PERSON_TWO_ID + ", " + COLUMN_CONTACT_DURATION + ");",
+                            "CREATE INDEX " + INDEX_CONTACT_PERSON_ONE + " ON " + TABLE_CONTACT + "(" +
+                                    COLUMN_PERSON_ONE_ID + ", " + COLUMN_CONTACT_NOTIFIED + ", " + COLUMN_PERSON_TWO_ID + ", " + COLUMN_CONTACT_DATE + ");",
+                            "CREATE INDEX " + INDEX_CONTACT_PERSON_TWO + " ON " + TABLE_CONTACT + "(" +
+                                    COLUMN_PERSON_TWO_ID + ", " + COLUMN_CONTACT_NOTIFIED + ", " + COLUMN_CONTACT_DATE + ", " + COLUMN_PERSON_ONE_ID + ");",
+                            "CREATE INDEX " + INDEX_MOBILE_DEVICE_TEST_OUTCOME_TEST + " ON " + TABLE_MOBILE_DEVICE_TEST_OUTCOME + "(" +
+                                    COLUMN_TEST_OUTCOME_ID + ", " + COLUMN_MOBILE_DEVICE_ID + ");"
+                    };
+                case 4:
+                    // Partitioned tables cannot have foreign keys and their primary key must contain the partitioning column.
+                    // Contacts are partitioned in a single partition first, which is split by JdbcContactStore.maintainContacts().
+                    final StringBuilder alterContact = new StringBuilder("ALTER TABLE " + TABLE_CONTACT + " ");
+                    for (String contactForeignKey : contactForeignKeys) {
+                        alterContact.append("DROP FOREIGN KEY ").append(contactForeignKey).append(", ");
+                    }
+                    alterContact.append("DROP PRIMARY KEY, ADD PRIMARY KEY (" + COLUMN_ID + ", " + COLUMN_CONTACT_DATE + ");");
+                    return new String[]{
+                            alterContact.toString(),
+                            "ALTER TABLE " + TABLE_CONTACT + " PARTITION BY RANGE COLUMNS(" + COLUMN_CONTACT_DATE + ") (" +
+                                    "PARTITION " + getContactPartitionName(0) + " VALUES LESS THAN ('" + JdbcContactStoreConstant.EPOCH_DATE + "'), " +
+                                    "PARTITION " + CONTACT_PARTITION_FUTURE + " VALUES LESS THAN (MAXVALUE));"
+                    };
+                case 5:
+                    // Dates become the number of days since January 1, 2021 so date windows are plain integer ranges.
+                    // Converting a DATE column to INT keeps its indexes and yields YYYYMMDD, which is read back as a date.
+                    // The partitioning column cannot change its type, so contacts are partitioned again.
+                    return new String[]{
+                            "ALTER TABLE " + TABLE_CONTACT + " REMOVE PARTITIONING;",
+                            "ALTER TABLE " + TABLE_CONTACT + " MODIFY " + COLUMN_CONTACT_DATE + " INT NOT NULL;",
+                            "UPDATE " + TABLE_CONTACT + " SET " + COLUMN_CONTACT_DATE + " = " +
+                                    "DATEDIFF(CAST(" + COLUMN_CONTACT_DATE + " AS CHAR), '" + JdbcContactStoreConstant.EPOCH_DATE + "');",
+                            "ALTER TABLE " + TABLE_CONTACT + " PARTITION BY RANGE COLUMNS(" + COLUMN_CONTACT_DATE + ") (" +
+                                    getContactPartition(0) + ", " +
+                                    "PARTITION " + CONTACT_PARTITION_FUTURE + " VALUES LESS THAN (MAXVALUE));",
+                            "ALTER TABLE " + TABLE_TEST_OUTCOME + " MODIFY " + COLUMN_TEST_DATE + " INT NOT NULL;",
+                            "UPDATE " + TABLE_TEST_OUTCOME + " SET " + COLUMN_TEST_DATE + " = " +
+                                    "DATEDIFF(CAST(" + COLUMN_TEST_DATE + " AS CHAR), '" + JdbcContactStoreConstant.EPOCH_DATE + "');"
+                    };
+                case 6:
+                    // Contacts of a pair on the same day are merged into the one with the lowest id, summing their durations.
+                    // The merged contact is pending if any of them was, and keeps one of their exposures.
+                    final String mergeJoin = " AS c JOIN " + TABLE_CONTACT_MERGE + " AS m ON c." + COLUMN_PERSON_ONE_ID + " = m." + COLUMN_PERSON_ONE_ID +
+                            " AND c." + COLUMN_PERSON_TWO_ID + " = m." + COLUMN_PERSON_TWO_ID +
+                            " AND c." + COLUMN_CONTACT_DATE + " = m." + COLUMN_CONTACT_DATE;
+                    return new String[]{
+                            "CREATE TEMPORARY TABLE " + TABLE_CONTACT_MERGE + " AS " +
+                                    "SELECT MIN(" + COLUMN_ID + ") AS " + COLUMN_ID + ", " +
+                                    COLUMN_PERSON_ONE_ID + ", " + COLUMN_PERSON_TWO_ID + ", " + COLUMN_CONTACT_DATE + ", " +
+                                    "SUM(" + COLUMN_CONTACT_DURATION + ") AS " + COLUMN_CONTACT_DURATION + ", " +
+                                    "MIN(" + COLUMN_CONTACT_NOTIFIED + ") AS " + COLUMN_CONTACT_NOTIFIED + " " +
+                                    "FROM " + TABLE_CONTACT + " " +
+                                    "GROUP BY " + COLUMN_PERSON_ONE_ID + ", " + COLUMN_PERSON_TWO_ID + ", " + COLUMN_CONTACT_DATE + " " +
+                                    "HAVING COUNT(*) > 1;",
+                            "UPDATE IGNORE " + TABLE_EXPOSURE + " AS e JOIN " + TABLE_CONTACT + mergeJoin +
+                                    " ON c." + COLUMN_ID + " = e." + COLUMN_CONTACT_ID + " " +
+                                    "SET e." + COLUMN_CONTACT_ID + " = m." + COLUMN_ID + ";",
+                            "DELETE c FROM " + TABLE_CONTACT + mergeJoin + " WHERE c." + COLUMN_ID + " <> m." + COLUMN_ID + ";",
+                            "UPDATE " + TABLE_CONTACT + mergeJoin + " AND c." + COLUMN_ID + " = m." + COLUMN_ID + " " +
+                                    "SET c." + COLUMN_CONTACT_DURATION + " = m." + COLUMN_CONTACT_DURATION + ", " +
+                                    "c." + COLUMN_CONTACT_NOTIFIED + " = m." + COLUMN_CONTACT_NOTIFIED + ";",
+                            getDeleteOrphanExposuresQuery(),
+                            "DROP TEMPORARY TABLE " + TABLE_CONTACT_MERGE + ";",
+                            "CREATE UNIQUE INDEX " + INDEX_CONTACT_DAY + " ON " + TABLE_CONTACT + "(" +
+                                    COLUMN_PERSON_ONE_ID + ", " + COLUMN_PERSON_TWO_ID + ", " + COLUMN_CONTACT_DATE + ");"
+                    };
+                case 7:
+                    // Devices which never sent a sequence number have stored nothing yet.
+                    return new String[]{
+                            "ALTER TABLE " + TABLE_MOBILE_DEVICE + " ADD COLUMN " + COLUMN_SYNC_SEQUENCE + " BIGINT NOT NULL DEFAULT 0;"
+                    };
+                default:
+                    throw new IllegalArgumentException("Invalid argument \"version\" - " + version + ".");
+            }
+        }
+
+        /**
+         * Gets the query string to create {@value TABLE_MOBILE_DEVICE} table
+         * with columns {@value COLUMN_ID} and {@value COLUMN_MOBILE_DEVICE_HASH}.
+         *
+         * @return query string to create {@value TABLE_MOBILE_DEVICE} table.
+         */
+        private static String createTableMobileDevice() {
+            return "CREATE TABLE IF NOT EXISTS " + TABLE_MOBILE_DEVICE + "(" +
+                    COLUMN_ID + " INT PRIMARY KEY AUTO_INCREMENT," +
+                    COLUMN_MOBILE_DEVICE_HASH + " VARCHAR(128) UNIQUE NOT NULL" +
+                    ");";
+        }
+
+        /**
+         * Gets the query string to create {@value TABLE_TEST_OUTCOME} table
+         * with columns {@value COLUMN_ID}, {@value COLUMN_TEST_HASH}, {@value COLUMN_TEST_DATE} and {@value COLUMN_TEST_RESULT}.
+         *
+         * @return query string to create {@value TABLE_TEST_OUTCOME} table.
+         */
+        private static String createTableTestOutcome() {
+            return "CREATE TABLE IF NOT EXISTS " + TABLE_TEST_OUTCOME + "(" +
+                    COLUMN_ID + " INT PRIMARY KEY AUTO_INCREMENT," +
+                    COLUMN_TEST_HASH + " VARCHAR(128) UNIQUE NOT NULL," +
+                    COLUMN_TEST_DATE + " DATE NOT NULL," +
+                    COLUMN_TEST_RESULT + " BOOLEAN NOT NULL" +
+                    ");";
+        }
+
+        /**
+         * Gets the query string to create {@value TABLE_MOBILE_DEVICE_TEST_OUTCOME} table
+         * with columns {@value COLUMN_ID}, {@value COLUMN_MOBILE_DEVICE_ID} and {@value COLUMN_TEST_OUTCOME_ID}
+         * which connects {@value TABLE_MOBILE_DEVICE} and {@value TABLE_TEST_OUTCOME} tables.
+         *
+         * @return query string to create {@value TABLE_MOBILE_DEVICE_TEST_OUTCOME} table.
+         */
+        private static String createTableMobileDeviceTestOutcome() {
+            return "CREATE TABLE IF NOT EXISTS " + TABLE_MOBILE_DEVICE_TEST_OUTCOME + "(\n" +
+                    COLUMN_ID + " INT PRIMARY KEY AUTO_INCREMENT," +
+                    COLUMN_MOBILE_DEVICE_ID + " INT NOT NULL," +
+                    COLUMN_TEST_OUTCOME_ID + " INT NOT NULL," +
+                    "FOREIGN KEY(" + COLUMN_MOBILE_DEVICE_ID + ") REFERENCES " + TABLE_MOBILE_DEVICE + "(" + COLUMN_ID + ")," +
+                    "FOREIGN KEY(" + COLUMN_TEST_OUTCOME_ID + ") REFERENCES " + TABLE_TEST_OUTCOME + "(" + COLUMN_ID + ")," +
+                    "UNIQUE(" + COLUMN_MOBILE_DEVICE_ID + ", " + COLUMN_TEST_OUTCOME_ID + ")" +
+                    ");";
+        }
+
+        /**
+         * Gets the query string to create {@value TABLE_CONTACT} table
+         * with columns {@value COLUMN_ID}, {@value COLUMN_CONTACT_DATE}, {@value COLUMN_CONTACT_DURATION},
+         * {@value COLUMN_PERSON_ONE_ID}, {@value COLUMN_PERSON_TWO_ID} and {@value COLUMN_CONTACT_NOTIFIED}.
+         *
+         * @return query string to create {@value TABLE_CONTACT} table.
+         */
+        private static String createTableContact() {
+            return "CREATE TABLE IF NOT EXISTS " + TABLE_CONTACT + "(" +
+                    COLUMN_ID + " INT PRIMARY KEY AUTO_INCREMENT," +
+                    COLUMN_CONTACT_DATE + " DATE NOT NULL," +
+                    COLUMN_CONTACT_DURATION + " INT NOT NULL," +
+                    COLUMN_PERSON_ONE_ID + " INT NOT NULL," +
+                    COLUMN_PERSON_TWO_ID + " INT NOT NULL," +
+                    COLUMN_CONTACT_NOTIFIED + " BOOLEAN NOT NULL," +
+                    "FOREIGN KEY(" + COLUMN_PERSON_ONE_ID + ") REFERENCES " + TABLE_MOBILE_DEVICE + "(" + COLUMN_ID + ")," +
+                    "FOREIGN KEY(" + COLUMN_PERSON_TWO_ID + ") REFERENCES " + TABLE_MOBILE_DEVICE + "(" + COLUMN_ID + ")" +
+                    ");";
+        }
+
+        /**
+         * Gets the query string to create {@value TABLE_EXPOSURE} table
+         * with columns {@value COLUMN_CONTACT_ID} and {@value COLUMN_PERSON_ONE_ID}.
+         * It holds the contacts with someone diagnosed with COVID-19 within 14 days which are not notified yet,
+         * so they can be looked up by the device which made the contact.
+         *
+         * @return query string to create {@value TABLE_EXPOSURE} table.
+         */
+        private static String createTableExposure() {
+            return "CREATE TABLE IF NOT EXISTS " + TABLE_EXPOSURE + "(" +
+                    COLUMN_CONTACT_ID + " INT PRIMARY KEY," +
+                    COLUMN_PERSON_ONE_ID + " INT NOT NULL," +
+                    "INDEX(" + COLUMN_PERSON_ONE_ID + ")" +
+                    ");";
+        }
+
+        /**
+         * Gets the parameterized query string to insert a mobile device configuration hash in {@value TABLE_MOBILE_DEVICE} table.
+         * Hashes already inserted are ignored.
+         * Parameters: 1 - mobile device configuration hash.
+         *
+         * @return parameterized query string to insert a mobile device configuration hash in {@value TABLE_MOBILE_DEVICE} table.
+         */
+        static String getInsertMobileDeviceQuery() {
+            return "INSERT IGNORE INTO " + TABLE_MOBILE_DEVICE +
+                    "(" + COLUMN_MOBILE_DEVICE_HASH + ") VALUES (?);";
+        }
+
+        /**
+         * Gets the parameterized query string to select the ids of {@value JdbcContactStoreConstant#LOOKUP_CHUNK_SIZE}
+         * mobile device configuration hashes from {@value TABLE_MOBILE_DEVICE} table.
+         * Parameters: 1 to {@value JdbcContactStoreConstant#LOOKUP_CHUNK_SIZE} - mobile device configuration hashes.
+         *
+         * @return parameterized query string to select the ids of mobile device configuration hashes.
+         */
+        static String getSelectMobileDeviceIdsQuery() {
+            return "SELECT " + COLUMN_ID + ", " + COLUMN_MOBILE_DEVICE_HASH + " " +
+                    "FROM " + TABLE_MOBILE_DEVICE + " " +
+                    "WHERE " + COLUMN_MOBILE_DEVICE_HASH + " IN (" + getParameters(JdbcContactStoreConstant.LOOKUP_CHUNK_SIZE) + ");";
+        }
+
+        /**
+         * Gets the parameterized query string to select and lock the sequence number of the last batch stored of
+         * {@value JdbcContactStoreConstant#LOOKUP_CHUNK_SIZE} mobile devices from {@value TABLE_MOBILE_DEVICE} table.
+         * Parameters: 1 to {@value JdbcContactStoreConstant#LOOKUP_CHUNK_SIZE} - mobile device ids.
+         *
+         * @return parameterized query string to select and lock the sequence numbers of mobile devices.
+         */
+        static String getSelectSyncSequencesQuery() {
+            return "SELECT " + COLUMN_ID + ", " + COLUMN_SYNC_SEQUENCE + " " +
+                    "FROM " + TABLE_MOBILE_DEVICE + " " +
+                    "WHERE " + COLUMN_ID + " IN (" + getParameters(JdbcContactStoreConstant.LOOKUP_CHUNK_SIZE) + ") FOR UPDATE;";
+        }
+
+        /**
+         * Gets the parameterized query string to update the sequence number of the last batch stored of a mobile device
+         * in {@value TABLE_MOBILE_DEVICE} table.
+         * Parameters: 1 - sequence number, 2 - mobile device id.
+         *
+         * @return parameterized query string to update the sequence number of a mobile device.
+         */
+        static String getUpdateSyncSequenceQuery() {
+            return "UPDATE " + TABLE_MOBILE_DEVICE + " SET " + COLUMN_SYNC_SEQUENCE + " = ? WHERE " + COLUMN_ID + " = ?;";
+        }
+
+        /**
+         * Gets the parameterized query string to select the most recently inserted mobile devices from {@value TABLE_MOBILE_DEVICE} table.
+         * Parameters: 1 - maximum number of mobile devices.
+         *
+         * @return parameterized query string to select the most recently inserted mobile devices.
+         */
+        static String getSelectRecentMobileDevicesQuery() {
+            return "SELECT " + COLUMN_ID + ", " + COLUMN_MOBILE_DEVICE_HASH + " " +
+                    "FROM " + TABLE_MOBILE_DEVICE + " " +
+                    "ORDER BY " + COLUMN_ID + " DESC LIMIT ?;";
+        }
+
+        /**
+         * Gets the parameterized query string to insert a positive test hash of the initiator in {@value TABLE_MOBILE_DEVICE_TEST_OUTCOME} table.
+         * Parameters: 1 - initiator's mobile device id, 2 - positive test hash of the initiator.
+         *
+         * @return parameterized query string to insert a positive test hash of the initiator in {@value TABLE_MOBILE_DEVICE_TEST_OUTCOME} table.
+         */
+        static String getInsertMobileDeviceTestResultQuery() {
+            return "INSERT IGNORE INTO " + TABLE_MOBILE_DEVICE_TEST_OUTCOME +
+                    "(" + COLUMN_MOBILE_DEVICE_ID + ", " + COLUMN_TEST_OUTCOME_ID + ") VALUES (?, " +
+                    "(SELECT " + COLUMN_ID + " FROM " + TABLE_TEST_OUTCOME + " WHERE " + COLUMN_TEST_HASH + " = ?)" +
+                    ");";
+        }
+
+        /**
+         * Gets the parameterized query string to insert a contact made by the initiator in {@value TABLE_CONTACT} table.
+         * The duration of a contact of the same pair on the same day is added to the existing contact instead,
+         * which keeps its id and notification status.
+         * Parameters: 1 - contact date (number of days since January 1, 2021), 2 - contact duration, 3 - initiator's mobile device id,
+         * 4 - mobile device id contacted by the initiator.
+         *
+         * @return parameterized query string to insert a contact made by the initiator in {@value TABLE_CONTACT} table.
+         */
+        static String getInsertContactQuery() {
+            return "INSERT INTO " + TABLE_CONTACT +
+                    "(" + COLUMN_CONTACT_DATE + ", " + COLUMN_CONTACT_DURATION + ", " +
+                    COLUMN_PERSON_ONE_ID + ", " + COLUMN_PERSON_TWO_ID + ", " + COLUMN_CONTACT_NOTIFIED + ") VALUES (?, ?, ?, ?, false) " +
+                    "ON DUPLICATE KEY UPDATE " + COLUMN_CONTACT_DURATION + " = " + COLUMN_CONTACT_DURATION + " + VALUES(" + COLUMN_CONTACT_DURATION + ");";
+        }
+
+        /**
+         * Gets the parameterized query string to insert COVID-19 test result in {@value TABLE_TEST_OUTCOME} table.
+         * Parameters: 1 - report test hash, 2 - report test date (number of days since January 1, 2021), 3 - report result.
+         *
+         * @return parameterized query string to insert COVID-19 test result in {@value TABLE_TEST_OUTCOME} table.
+         */
+        static String getInsertTestResultQuery() {
+            return "INSERT IGNORE INTO " + TABLE_TEST_OUTCOME +
+                    "(" + COLUMN_TEST_HASH + ", " + COLUMN_TEST_DATE + ", " + COLUMN_TEST_RESULT + ") VALUES (?, ?, ?);";
+        }
+
+        /**
+         * Gets the parameterized query string to insert {@code rows} COVID-19 test results in {@value TABLE_TEST_OUTCOME} table.
+         * Test results already inserted are ignored.
+         * Parameters: 3 per row - report test hash, report test date, report result.
+         *
+         * @param rows number of test results.
+         * @return parameterized query string to insert COVID-19 test results in {@value TABLE_TEST_OUTCOME} table.
+         */
+        static String getInsertTestResultsQuery(int rows) {
+            return "INSERT IGNORE INTO " + TABLE_TEST_OUTCOME +
+                    "(" + COLUMN_TEST_HASH + ", " + COLUMN_TEST_DATE + ", " + COLUMN_TEST_RESULT + ") VALUES " +
+                    String.join(", ", Collections.nCopies(rows, "(?, ?, ?)")) + ";";
+        }
+
+        /**
+         * Gets the query string to select the id of the last contact inserted in {@value TABLE_CONTACT} table.
+         *
+         * @return query string to select the id of the last contact inserted.
+         */
+        static String getSelectLastContactIdQuery() {
+            return "SELECT COALESCE(MAX(" + COLUMN_ID + "), 0) FROM " + TABLE_CONTACT + ";";
+        }
+
+        /**
+         * Gets the select query string of the contacts with someone diagnosed with COVID-19 within 14 days
+         * which are not notified yet, returning the columns of {@value TABLE_EXPOSURE} table.
+         *
+         * @param conditions additional conditions on the contact {@code c}, the device test {@code mdtr} and the test {@code tr}.
+         * @return select query string of the exposures.
+         */
+        static String getSelectExposures(String conditions) {
+            return "SELECT c." + COLUMN_ID + ", c." + COLUMN_PERSON_ONE_ID + " " +
+                    "FROM " + TABLE_CONTACT + " AS c, " + TABLE_MOBILE_DEVICE_TEST_OUTCOME + " AS mdtr, " + TABLE_TEST_OUTCOME + " AS tr " +
+                    "WHERE " +
+                    "c." + COLUMN_PERSON_TWO_ID + " = mdtr." + COLUMN_MOBILE_DEVICE_ID + " AND " +
+                    "mdtr." + COLUMN_TEST_OUTCOME_ID + " = tr." + COLUMN_ID + " AND " +
+                    conditions +
+                    "c." + COLUMN_CONTACT_DATE + " BETWEEN tr." + COLUMN_TEST_DATE + " - " + EXPOSURE_DAYS +
+                    " AND tr." + COLUMN_TEST_DATE + " + " + EXPOSURE_DAYS + " AND " +
+                    "tr." + COLUMN_TEST_RESULT + " = true AND " +
+                    "c." + COLUMN_CONTACT_NOTIFIED + " = false";
+        }
+
+        /**
+         * Gets the query string to insert the exposures of all the contacts in {@value TABLE_EXPOSURE} table.
+         *
+         * @return query string to insert the exposures of all the contacts.
+         */
+        static String getInsertAllExposuresQuery() {
+            return "INSERT IGNORE INTO " + TABLE_EXPOSURE + "(" + COLUMN_CONTACT_ID + ", " + COLUMN_PERSON_ONE_ID + ") " +
+                    getSelectExposures("") + ";";
+        }
+
+        /**
+         * Gets the parameterized query string to insert the exposures of the contacts inserted after a contact
+         * by {@value JdbcContactStoreConstant#LOOKUP_CHUNK_SIZE} initiators in {@value TABLE_EXPOSURE} table.
+         * Parameters: 1 - id of the last contact before the insertion,
+         * 2 to {@value JdbcContactStoreConstant#LOOKUP_CHUNK_SIZE} + 1 - initiators' mobile device ids.
+         *
+         * @return parameterized query string to insert the exposures of the contacts inserted by the initiators.
+         */
+        static String getInsertContactExposuresQuery() {
+            return "INSERT IGNORE INTO " + TABLE_EXPOSURE + "(" + COLUMN_CONTACT_ID + ", " + COLUMN_PERSON_ONE_ID + ") " +
+                    getSelectExposures("c." + COLUMN_ID + " > ? AND " +
+                            "c." + COLUMN_PERSON_ONE_ID + " IN (" + getParameters(JdbcContactStoreConstant.LOOKUP_CHUNK_SIZE) + ") AND ") + ";";
+        }
+
+        /**
+         * Gets the parameterized query string to insert the exposures of the contacts with a device
+         * which reported a positive test in {@value TABLE_EXPOSURE} table.
+         * Parameters: 1 - test hash reported, 2 - mobile device id which reported the test.
+         *
+         * @return parameterized query string to insert the exposures of the contacts with a device which reported a positive test.
+         */
+        static String getInsertDeviceTestExposuresQuery() {
+            return "INSERT IGNORE INTO " + TABLE_EXPOSURE + "(" + COLUMN_CONTACT_ID + ", " + COLUMN_PERSON_ONE_ID + ") " +
+                    getSelectExposures("tr." + COLUMN_TEST_HASH + " = ? AND " +
+                            "mdtr." + COLUMN_MOBILE_DEVICE_ID + " = ? AND ") + ";";
+        }
+
+        /**
+         * Gets the parameterized query string to insert the exposures of the contacts with the devices
+         * which reported a positive test in {@value TABLE_EXPOSURE} table, once the result of the test is recorded.
+         * Parameters: 1 - test hash.
+         *
+         * @return parameterized query string to insert the exposures of the contacts with the devices which reported a test.
+         */
+        static String getInsertTestResultExposuresQuery() {
+            return "INSERT IGNORE INTO " + TABLE_EXPOSURE + "(" + COLUMN_CONTACT_ID + ", " + COLUMN_PERSON_ONE_ID + ") " +
+                    getSelectExposures("tr." + COLUMN_TEST_HASH + " = ? AND ") + ";";
+        }
+
+        /**
+         * Gets the parameterized query string to select the exposures of {@value JdbcContactStoreConstant#LOOKUP_CHUNK_SIZE}
+         * initiators from {@value TABLE_EXPOSURE} table.
+         * Parameters: 1 to {@value JdbcContactStoreConstant#LOOKUP_CHUNK_SIZE} - initiators' mobile device ids.
+         *
+         * @return parameterized query string to select the contact ids and initiator ids of the exposures.
+         */
+        static String getSelectExposuresQuery() {
+            return "SELECT " + COLUMN_CONTACT_ID + ", " + COLUMN_PERSON_ONE_ID + " " +
+                    "FROM " + TABLE_EXPOSURE + " " +
+                    "WHERE " + COLUMN_PERSON_ONE_ID + " IN (" + getParameters(JdbcContactStoreConstant.LOOKUP_CHUNK_SIZE) + ");";
+        }
+
+        /**
+         * Gets the parameterized query string to delete the exposures of {@value JdbcContactStoreConstant#LOOKUP_CHUNK_SIZE}
+         * notified contacts from {@value TABLE_EXPOSURE} table.
+         * Parameters: 1 to {@value JdbcContactStoreConstant#LOOKUP_CHUNK_SIZE} - contact ids.
+         *
+         * @return parameterized query string to delete the exposures of notified contacts.
+         */
+        static String getDeleteExposuresQuery() {
+            return "DELETE FROM " + TABLE_EXPOSURE + " " +
+                    "WHERE " + COLUMN_CONTACT_ID + " IN (" + getParameters(JdbcContactStoreConstant.LOOKUP_CHUNK_SIZE) + ");";
+        }
+
+        /**
+         * Gets the parameterized query string to update notify column in {@value TABLE_CONTACT} table
+         * for {@value JdbcContactStoreConstant#LOOKUP_CHUNK_SIZE} contacts which are already considered once to report COVID-19.
+         * Parameters: 1 to {@value JdbcContactStoreConstant#LOOKUP_CHUNK_SIZE} - contact ids.
+         *
+         * @return parameterized query string to update the notify column in {@value TABLE_CONTACT}.
+         */
+        private static String updateContactNotifiedForContactsQuery() {
+            return "UPDATE " + TABLE_CONTACT + " AS c " +
+                    "SET c." + COLUMN_CONTACT_NOTIFIED + " = true " +
+                    "WHERE c." + COLUMN_ID + " IN (" + getParameters(JdbcContactStoreConstant.LOOKUP_CHUNK_SIZE) + ");";
+        }
+
+        /**
+         * Gets the query string to select the names of the foreign keys of {@value TABLE_CONTACT} table.
+         *
+         * @return query string to select the names of the foreign keys of {@value TABLE_CONTACT} table.
+         */
+        static String getSelectContactForeignKeysQuery() {
+            return "SELECT CONSTRAINT_NAME FROM information_schema.REFERENTIAL_CONSTRAINTS " +
+                    "WHERE CONSTRAINT_SCHEMA = DATABASE() AND TABLE_NAME = '" + TABLE_CONTACT + "';";
+        }
+
+        /**
+         * Gets the query string to select the names of the partitions of {@value TABLE_CONTACT} table.
+         *
+         * @return query string to select the names of the partitions of {@value TABLE_CONTACT} table.
+         */
+        static String getSelectContactPartitionsQuery() {
+            return "SELECT PARTITION_NAME FROM information_schema.PARTITIONS " +
+                    "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = '" + TABLE_CONTACT + "' AND PARTITION_NAME IS NOT NULL;";
+        }
+
+        /**
+         * Gets the query string to select the latest contact date from {@value TABLE_CONTACT} table.
+         *
+         * @return query string to select the latest contact date.
+         */
+        static String getSelectLastContactDateQuery() {
+            return "SELECT MAX(" + COLUMN_CONTACT_DATE + ") FROM " + TABLE_CONTACT + ";";
+        }
+
+        /**
+         * Gets the name of the partition of {@value TABLE_CONTACT} table holding the contacts made before {@code bound}.
+         *
+         * @param bound number of days since January 1, 2021.
+         * @return name of the partition.
+         */
+        static String getContactPartitionName(int bound) {
+            return String.format("p%05d", bound);
+        }
+
+        /**
+         * Gets the definition of the partition of {@value TABLE_CONTACT} table holding the contacts made before {@code bound}.
+         *
+         * @param bound number of days since January 1, 2021.
+         * @return definition of the partition.
+         */
+        static String getContactPartition(int bound) {
+            return "PARTITION " + getContactPartitionName(bound) + " VALUES LESS THAN (" + bound + ")";
+        }
+
+        /**
+         * Gets the query string to split the partition of the future dates of {@value TABLE_CONTACT} table
+         * into a partition for each of {@code bounds} followed by the partition of the future dates.
+         *
+         * @param bounds number of days since January 1, 2021 before which the contacts of each new partition are made, in ascending order.
+         * @return query string to split the partition of the future dates.
+         */
+        static String getSplitFutureContactPartitionQuery(List<Integer> bounds) {
+            final StringBuilder query = new StringBuilder("ALTER TABLE " + TABLE_CONTACT +
+                    " REORGANIZE PARTITION " + CONTACT_PARTITION_FUTURE + " INTO (");
+            for (int bound : bounds) {
+                query.append(getContactPartition(bound)).append(", ");
+            }
+            return query.append("PARTITION " + CONTACT_PARTITION_FUTURE + " VALUES LESS THAN (MAXVALUE));").toString();
+        }
+
+        /**
+         * Gets the query string to drop the {@code partitions} of {@value TABLE_CONTACT} table.
+         *
+         * @param partitions names of the partitions.
+         * @return query string to drop the partitions.
+         */
+        static String getDropContactPartitionsQuery(List<String> partitions) {
+            return "ALTER TABLE " + TABLE_CONTACT + " DROP PARTITION " + String.join(", ", partitions) + ";";
+        }
+
+        /**
+         * Gets the query string to delete the exposures of the contacts which are dropped from {@value TABLE_EXPOSURE} table.
+         *
+         * @return query string to delete the exposures of the dropped contacts.
+         */
+        static String getDeleteOrphanExposuresQuery() {
+            return "DELETE e FROM " + TABLE_EXPOSURE + " AS e " +
+                    "LEFT JOIN " + TABLE_CONTACT + " AS c ON c." + COLUMN_ID + " = e." + COLUMN_CONTACT_ID + " " +
+                    "WHERE c." + COLUMN_ID + " IS NULL;";
+        }
+
+        /**
+         * Gets {@code count} comma separated parameter markers.
+         *
+         * @param count number of parameters.
+         * @return comma separated parameter markers.
+         */
+        static String getParameters(int count) {
+            return String.join(", ", Collections.nCopies(count, "?"));
+        }
+
+        /**
+         * Gets the parameterized query string to fetch pairs for calculating gatherings from {@value TABLE_CONTACT} table.
+         * Parameters: 1 - date of gathering, 2 - minimum time of contact for each pair. (i.e., between individuals)
+         *
+         * @return parameterized query string to fetch pairs for calculating gatherings from {@value TABLE_CONTACT} table.
+         */
+        static String getContactGatheringQuery() {
+            return "SELECT c." + COLUMN_PERSON_ONE_ID + ", c." + COLUMN_PERSON_TWO_ID + " " +
+                    "FROM " + TABLE_CONTACT + " AS c " +
+                    "WHERE c." + COLUMN_CONTACT_DATE + " = ? " +
+                    "GROUP BY c." + COLUMN_PERSON_ONE_ID + ", c." + COLUMN_PERSON_TWO_ID + " " +
+                    "HAVING SUM(c." + COLUMN_CONTACT_DURATION + ") >= ? " +
+                    "ORDER BY c." + COLUMN_PERSON_ONE_ID + ", c." + COLUMN_PERSON_TWO_ID + ";";
+        }
+
+        /**
+         * Gets the parameterized query string to fetch pairs for calculating gatherings of a range of dates
+         * from {@value TABLE_CONTACT} table, ordered by date.
+         * Parameters: 1 - first date of gathering, 2 - last date of gathering,
+         * 3 - minimum time of contact for each pair. (i.e., between individuals)
+         *
+         * @return parameterized query string to fetch pairs for calculating gatherings of a range of dates.
+         */
+        static String getContactGatheringRangeQuery() {
+            return "SELECT c." + COLUMN_CONTACT_DATE + ", c." + COLUMN_PERSON_ONE_ID + ", c." + COLUMN_PERSON_TWO_ID + " " +
+                    "FROM " + TABLE_CONTACT + " AS c " +
+                    "WHERE c." + COLUMN_CONTACT_DATE + " BETWEEN ? AND ? " +
+                    "GROUP BY c." + COLUMN_CONTACT_DATE + ", c." + COLUMN_PERSON_ONE_ID + ", c." + COLUMN_PERSON_TWO_ID + " " +
+                    "HAVING SUM(c." + COLUMN_CONTACT_DURATION + ") >= ? " +
+                    "ORDER BY c." + COLUMN_CONTACT_DATE + ", c." + COLUMN_PERSON_ONE_ID + ", c." + COLUMN_PERSON_TWO_ID + ";";
+        }
+    }
+
+    /**
+     * {@code JdbcContactStoreConstant} holds all the constants used by {@code JdbcContactStore}.
+     *
+     * @author Dhrumil Amish Shah (B00857606)
+     * created on 2026-10-17
+     * @version 1.1.0
+     * @see JdbcContactStore
+     * @since 1.1.0
+     */
+    private static class JdbcContactStoreConstant {
+        private static final int TEST_RESULT_ROWS_PER_INSERT = 500;
+        private static final int SCHEMA_LOCK_TIMEOUT = 60;
+        private static final LocalDate EPOCH_DATE = LocalDate.of(2021, 1, 1);
+        private static final int LOOKUP_CHUNK_SIZE = 128;
+        private static final int CONTACT_PARTITIONS_AHEAD = 4;
+        private static final int MAX_NEW_CONTACT_PARTITIONS = 520;
+        private static final int DEADLOCK_RETRIES = 3;
+        private static final String STORE_CONTACT_INFO_METRIC = "store.storeContactInfo";
+    }
+}
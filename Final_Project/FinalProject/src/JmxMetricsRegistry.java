@@ -0,0 +1,217 @@
+import javax.management.Attribute;
+import javax.management.AttributeList;
+import javax.management.AttributeNotFoundException;
+import javax.management.DynamicMBean;
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.MBeanAttributeInfo;
+import javax.management.MBeanInfo;
+import javax.management.MBeanOperationInfo;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.ReflectionException;
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * {@code JmxMetricsRegistry} keeps the metrics in memory like {@link InMemoryMetricsRegistry} and publishes them as
+ * the attributes of an MBean of the platform MBean server, so they can be watched with JConsole or any JMX client.
+ * <p>
+ * Counters and gauges are published under their name, values as {@code name.count}, {@code name.mean},
+ * {@code name.p50}, {@code name.p90}, {@code name.p99} and {@code name.max} and timers the same way in milliseconds.
+ * The {@code reset} operation clears the counters, values and timers.
+ *
+ * @author Dhrumil Amish Shah (B00857606)
+ * created on 2026-10-17
+ * @version 1.1.0
+ * @see MetricsRegistry
+ * @since 1.1.0
+ */
+public class JmxMetricsRegistry extends InMemoryMetricsRegistry implements DynamicMBean {
+    // objectName holds the name this registry is registered under.
+    private final ObjectName objectName;
+
+    /**
+     * Constructs this {@code JmxMetricsRegistry} and registers it under the default name
+     * {@code CovidTracker:type=Metrics,name=government}.
+     *
+     * @throws RuntimeException if the MBean cannot be registered.
+     * @since 1.1.0
+     */
+    public JmxMetricsRegistry() {
+        this(JmxMetricsRegistryConstant.DEFAULT_OBJECT_NAME);
+    }
+
+    /**
+     * Constructs this {@code JmxMetricsRegistry} and registers it under {@code objectName}.
+     * If the name is taken, e.g., by another {@code Government} of the same JVM, an {@code instance} key is added to it.
+     *
+     * @param objectName name of the MBean.
+     * @throws IllegalArgumentException if arguments passed are illegal or inappropriate.
+     * @throws RuntimeException         if the MBean cannot be registered.
+     * @since 1.1.0
+     */
+    public JmxMetricsRegistry(String objectName) {
+        // Throw exception if objectName is invalid.
+        if (objectName == null || objectName.trim().isEmpty()) {
+            throw new IllegalArgumentException("Invalid argument \"objectName\". - \"" + objectName + "\".");
+        }
+
+        // Register under the first name not taken.
+        final MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+        try {
+            ObjectName registeredName = null;
+            for (int instance = 1; registeredName == null; ++instance) {
+                final ObjectName candidateName = new ObjectName(instance == 1 ? objectName.trim() : objectName.trim() + ",instance=" + instance);
+                try {
+                    registeredName = mBeanServer.registerMBean(this, candidateName).getObjectName();
+                } catch (InstanceAlreadyExistsException ignored) {
+                    // Try the next instance.
+                }
+            }
+            this.objectName = registeredName;
+        } catch (Exception e) {
+            // Throw exception if error occurs.
+            throw new RuntimeException(e.getMessage());
+        }
+    }
+
+    /**
+     * Gets the name this registry is registered under.
+     *
+     * @return name of the MBean.
+     * @since 1.1.0
+     */
+    public ObjectName getObjectName() {
+        return objectName;
+    }
+
+    /**
+     * Unregisters this registry from the platform MBean server, metrics are still recorded in memory.
+     *
+     * @since 1.1.0
+     */
+    public void unregister() {
+        try {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(objectName);
+        } catch (Exception ignored) {
+            // Already unregistered.
+        }
+    }
+
+    @Override
+    public Object getAttribute(String attribute) throws AttributeNotFoundException {
+        final Object value = getAttributeValues().get(attribute);
+        if (value == null) {
+            throw new AttributeNotFoundException(attribute);
+        }
+        return value;
+    }
+
+    @Override
+    public void setAttribute(Attribute attribute) throws AttributeNotFoundException {
+        // Metrics are read-only.
+        throw new AttributeNotFoundException(attribute.getName());
+    }
+
+    @Override
+    public AttributeList getAttributes(String[] attributes) {
+        final Map<String, Object> attributeValues = getAttributeValues();
+        final AttributeList attributeList = new AttributeList();
+        for (String attribute : attributes) {
+            if (attributeValues.containsKey(attribute)) {
+                attributeList.add(new Attribute(attribute, attributeValues.get(attribute)));
+            }
+        }
+        return attributeList;
+    }
+
+    @Override
+    public AttributeList setAttributes(AttributeList attributes) {
+        // Metrics are read-only.
+        return new AttributeList();
+    }
+
+    @Override
+    public Object invoke(String actionName, Object[] params, String[] signature) throws ReflectionException {
+        if (JmxMetricsRegistryConstant.RESET_OPERATION.equals(actionName) && (params == null || params.length == 0)) {
+            reset();
+            return null;
+        }
+        throw new ReflectionException(new NoSuchMethodException(actionName));
+    }
+
+    @Override
+    public MBeanInfo getMBeanInfo() {
+        // Describe the metrics recorded so far.
+        final Map<String, Object> attributeValues = getAttributeValues();
+        final MBeanAttributeInfo[] attributeInfos = new MBeanAttributeInfo[attributeValues.size()];
+        int i = 0;
+        for (Map.Entry<String, Object> attributeValue : attributeValues.entrySet()) {
+            attributeInfos[i] = new MBeanAttributeInfo(attributeValue.getKey(), attributeValue.getValue().getClass().getName(),
+                    attributeValue.getKey(), true, false, false);
+            i = i + 1;
+        }
+        final MBeanOperationInfo[] operationInfos = {new MBeanOperationInfo(JmxMetricsRegistryConstant.RESET_OPERATION,
+                "Clears the counters, values and timers.", null, "void", MBeanOperationInfo.ACTION)};
+        return new MBeanInfo(getClass().getName(), "Metrics of the contact tracing operations.", attributeInfos, null, operationInfos, null);
+    }
+
+    /**
+     * Gets the current value of every attribute, in the order of their names.
+     *
+     * @return value of each attribute by name.
+     */
+    private Map<String, Object> getAttributeValues() {
+        final Map<String, Object> attributeValues = new LinkedHashMap<>();
+
+        // Publish the counters and gauges as they are.
+        for (String name : getCounterNames()) {
+            attributeValues.put(name, getCounter(name));
+        }
+        for (String name : getGaugeNames()) {
+            attributeValues.put(name, getGauge(name));
+        }
+
+        // Publish the summary of the values and of the timers in milliseconds.
+        for (String name : getValueNames()) {
+            putHistogram(attributeValues, name, getValues(name), 1);
+        }
+        for (String name : getTimerNames()) {
+            putHistogram(attributeValues, name, getTimer(name), JmxMetricsRegistryConstant.NANOS_PER_MILLI);
+        }
+        return attributeValues;
+    }
+
+    /**
+     * Puts the count, mean, percentiles and max of {@code histogram}, its values divided by {@code divisor}.
+     *
+     * @param attributeValues value of each attribute by name.
+     * @param name            name of the histogram.
+     * @param histogram       histogram of the metric.
+     * @param divisor         divisor converting the values to the unit published.
+     */
+    private static void putHistogram(Map<String, Object> attributeValues, String name, LatencyHistogram histogram, double divisor) {
+        attributeValues.put(name + ".count", histogram.getCount());
+        attributeValues.put(name + ".mean", histogram.getMean() / divisor);
+        attributeValues.put(name + ".p50", histogram.getPercentile(50) / divisor);
+        attributeValues.put(name + ".p90", histogram.getPercentile(90) / divisor);
+        attributeValues.put(name + ".p99", histogram.getPercentile(99) / divisor);
+        attributeValues.put(name + ".max", histogram.getMax() / divisor);
+    }
+
+    /**
+     * {@code JmxMetricsRegistryConstant} holds all the constants used by {@code JmxMetricsRegistry}.
+     *
+     * @author Dhrumil Amish Shah (B00857606)
+     * created on 2026-10-17
+     * @version 1.1.0
+     * @see JmxMetricsRegistry
+     * @since 1.1.0
+     */
+    private static class JmxMetricsRegistryConstant {
+        private static final String DEFAULT_OBJECT_NAME = "CovidTracker:type=Metrics,name=government";
+        private static final String RESET_OPERATION = "reset";
+        private static final double NANOS_PER_MILLI = 1_000_000d;
+    }
+}
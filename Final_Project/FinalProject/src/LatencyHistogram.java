@@ -0,0 +1,164 @@
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@code LatencyHistogram} records non-negative values, typically latencies in nanoseconds, from many threads at once
+ * and reports their percentiles.
+ * Values are counted in log-linear buckets of 16 sub-buckets per power of two, so percentiles are reported with
+ * a relative error of at most 1/16 while the histogram keeps a fixed size whatever the number of values.
+ *
+ * @author Dhrumil Amish Shah (B00857606)
+ * created on 2026-10-17
+ * @version 1.1.0
+ * @see FleetSimulator
+ * @since 1.1.0
+ */
+public class LatencyHistogram {
+    // buckets holds the number of values recorded in each bucket.
+    private final AtomicLongArray buckets = new AtomicLongArray(LatencyHistogramConstant.BUCKET_COUNT);
+
+    // count and sum hold the number and the sum of the values recorded.
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+
+    // max holds the largest value recorded.
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Records {@code value}, negative values are recorded as 0.
+     *
+     * @param value value to be recorded.
+     * @since 1.1.0
+     */
+    public void record(long value) {
+        final long recordedValue = Math.max(value, 0);
+        buckets.incrementAndGet(getBucket(recordedValue));
+        count.increment();
+        sum.add(recordedValue);
+        max.accumulateAndGet(recordedValue, Math::max);
+    }
+
+    /**
+     * Gets the number of values recorded.
+     *
+     * @return number of values recorded.
+     * @since 1.1.0
+     */
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * Gets the largest value recorded.
+     *
+     * @return largest value recorded, 0 if none.
+     * @since 1.1.0
+     */
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * Gets the mean of the values recorded.
+     *
+     * @return mean of the values recorded, 0 if none.
+     * @since 1.1.0
+     */
+    public double getMean() {
+        final long valueCount = count.sum();
+        return valueCount == 0 ? 0 : (double) sum.sum() / valueCount;
+    }
+
+    /**
+     * Gets the value below or at which {@code percentile} percent of the values recorded are.
+     * The upper bound of the bucket holding the value is returned, never more than the largest value recorded.
+     *
+     * @param percentile percentile from 0 to 100.
+     * @return value of the percentile, 0 if no value is recorded.
+     * @throws IllegalArgumentException if arguments passed are illegal or inappropriate.
+     * @since 1.1.0
+     */
+    public long getPercentile(double percentile) {
+        // Throw exception if percentile is invalid.
+        if (!(percentile >= 0 && percentile <= 100)) {
+            throw new IllegalArgumentException("Invalid argument \"percentile\" - " + percentile + ".");
+        }
+
+        // Find the bucket holding the value ranked at the percentile.
+        final long valueCount = count.sum();
+        if (valueCount == 0) {
+            return 0;
+        }
+        final long rank = Math.max(1, (long) Math.ceil(percentile / 100 * valueCount));
+        long seen = 0;
+        for (int i = 0; i < LatencyHistogramConstant.BUCKET_COUNT; ++i) {
+            seen = seen + buckets.get(i);
+            if (seen >= rank) {
+                return Math.min(getUpperBound(i), max.get());
+            }
+        }
+        return max.get();
+    }
+
+    /**
+     * Clears the values recorded.
+     * Values recorded while clearing may be partially kept.
+     *
+     * @since 1.1.0
+     */
+    public void reset() {
+        for (int i = 0; i < LatencyHistogramConstant.BUCKET_COUNT; ++i) {
+            buckets.set(i, 0);
+        }
+        count.reset();
+        sum.reset();
+        max.set(0);
+    }
+
+    /**
+     * Gets the bucket of {@code value}.
+     * Values below 16 have a bucket each, larger values are split by their highest bit and the 4 bits following it.
+     *
+     * @param value non-negative value.
+     * @return bucket of the value.
+     */
+    private static int getBucket(long value) {
+        if (value < LatencyHistogramConstant.SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        final int highestBit = 63 - Long.numberOfLeadingZeros(value);
+        final int subBucket = (int) (value >>> (highestBit - LatencyHistogramConstant.SUB_BUCKET_BITS)) & (LatencyHistogramConstant.SUB_BUCKET_COUNT - 1);
+        return (highestBit - LatencyHistogramConstant.SUB_BUCKET_BITS + 1) * LatencyHistogramConstant.SUB_BUCKET_COUNT + subBucket;
+    }
+
+    /**
+     * Gets the largest value counted in {@code bucket}.
+     *
+     * @param bucket bucket of the values.
+     * @return largest value of the bucket.
+     */
+    private static long getUpperBound(int bucket) {
+        if (bucket < LatencyHistogramConstant.SUB_BUCKET_COUNT) {
+            return bucket;
+        }
+        final int shift = bucket / LatencyHistogramConstant.SUB_BUCKET_COUNT - 1;
+        final long lowerBound = (long) (LatencyHistogramConstant.SUB_BUCKET_COUNT + bucket % LatencyHistogramConstant.SUB_BUCKET_COUNT) << shift;
+        return lowerBound + (1L << shift) - 1;
+    }
+
+    /**
+     * {@code LatencyHistogramConstant} holds all the constants used by {@code LatencyHistogram}.
+     *
+     * @author Dhrumil Amish Shah (B00857606)
+     * created on 2026-10-17
+     * @version 1.1.0
+     * @see LatencyHistogram
+     * @since 1.1.0
+     */
+    private static class LatencyHistogramConstant {
+        private static final int SUB_BUCKET_BITS = 4;
+        private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+        private static final int BUCKET_COUNT = (64 - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT;
+    }
+}
@@ -0,0 +1,35 @@
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Latency histogram test")
+public class LatencyHistogramTest {
+    @DisplayName("Report percentiles within the bucket precision")
+    @Test
+    public void percentiles() {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        Assertions.assertEquals(0, histogram.getPercentile(99));
+        for (int value = 1; value <= 10000; ++value) {
+            histogram.record(value);
+        }
+        Assertions.assertEquals(10000, histogram.getCount());
+        Assertions.assertEquals(10000, histogram.getMax());
+        Assertions.assertEquals(5000.5, histogram.getMean(), 1e-9);
+        Assertions.assertEquals(1, histogram.getPercentile(0));
+        Assertions.assertEquals(10000, histogram.getPercentile(100));
+        for (double percentile : new double[]{50, 90, 99, 99.9}) {
+            final double expected = percentile * 100;
+            Assertions.assertTrue(Math.abs(histogram.getPercentile(percentile) - expected) <= expected / 16, String.valueOf(percentile));
+        }
+
+        // Small values are exact, large ones are kept.
+        histogram.reset();
+        histogram.record(-5);
+        histogram.record(7);
+        histogram.record(Long.MAX_VALUE);
+        Assertions.assertEquals(0, histogram.getPercentile(30));
+        Assertions.assertEquals(7, histogram.getPercentile(60));
+        Assertions.assertEquals(Long.MAX_VALUE, histogram.getPercentile(100));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> histogram.getPercentile(101));
+    }
+}
@@ -0,0 +1,203 @@
+import java.util.ArrayDeque;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+
+/**
+ * {@code LinkedListGatheringEngine} is the original gathering algorithm of {@code Government.findGatherings}.
+ * It keeps pairs in a {@code LinkedList} and scans every individual and every pair for each queued pair.
+ * It is kept as the reference implementation the other {@code GatheringEngine}s are verified against.
+ *
+ * @author Dhrumil Amish Shah (B00857606)
+ * created on 2021-04-02
+ * @version 1.1.0
+ * @see AdjacencyGatheringEngine
+ * @since 1.0.0
+ */
+public class LinkedListGatheringEngine implements GatheringEngine {
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since 1.1.0
+     */
+    @Override
+    public int countGatherings(int[] personOneIds, int[] personTwoIds, int pairCount, int minSize, float density) {
+        // List of all the pairs.
+        final LinkedList<Pair> allContacts = new LinkedList<>();
+
+        // List of all the individuals.
+        final LinkedHashSet<Integer> allIndividuals = new LinkedHashSet<>();
+
+        for (int row = 0; row < pairCount; ++row) {
+            final int personOneId = personOneIds[row];
+            final int personTwoId = personTwoIds[row];
+
+            // Remove duplicate pairs. (i.e., pairs with same individuals)
+            boolean isSimilarPairPresent = false;
+            for (Pair p : allContacts) {
+                if (p.personOneId == personTwoId && p.personTwoId == personOneId) {
+                    isSimilarPairPresent = true;
+                    break;
+                }
+            }
+
+            if (!isSimilarPairPresent) {
+                allContacts.add(new Pair(personOneId, personTwoId));
+            }
+
+            allIndividuals.add(personOneId);
+            allIndividuals.add(personTwoId);
+        }
+
+        // List of all the gatherings.
+        final LinkedList<Gathering> gatherings = new LinkedList<>();
+
+        // Logic to find all the gatherings.
+        for (int i = 0; i < allContacts.size(); ++i) {
+            final Pair currentContact = allContacts.get(i);
+
+            // Ignore the pair if it is grouped already. (i.e., already part of a gathering)
+            if (currentContact.isInGathering) {
+                continue;
+            }
+
+            final LinkedList<Pair> currentGatheringPairs = new LinkedList<>();
+            final LinkedHashSet<Integer> currentGatheringIndividuals = new LinkedHashSet<>();
+            final ArrayDeque<Pair> currentGatheringsQueue = new ArrayDeque<>();
+
+            currentGatheringPairs.addLast(currentContact);
+            currentGatheringsQueue.addLast(currentContact);
+            currentGatheringIndividuals.add(currentContact.personOneId);
+            currentGatheringIndividuals.add(currentContact.personTwoId);
+            currentContact.isInGathering = true;
+
+            Pair curGatheringPair;
+            while ((curGatheringPair = currentGatheringsQueue.pollFirst()) != null) {
+                for (Integer individual : allIndividuals) {
+                    if (individual == curGatheringPair.personOneId || individual == curGatheringPair.personTwoId) {
+                        continue;
+                    }
+
+                    int pair1Index = -1;
+                    for (int j = i + 1; j < allContacts.size(); ++j) {
+                        if ((curGatheringPair.personOneId == allContacts.get(j).personOneId && individual == allContacts.get(j).personTwoId) ||
+                                curGatheringPair.personOneId == allContacts.get(j).personTwoId && individual == allContacts.get(j).personOneId) {
+                            pair1Index = j;
+                            break;
+                        }
+                    }
+
+                    int pair2Index = -1;
+                    for (int j = i + 1; j < allContacts.size(); ++j) {
+                        if ((curGatheringPair.personTwoId == allContacts.get(j).personOneId && individual == allContacts.get(j).personTwoId) ||
+                                curGatheringPair.personTwoId == allContacts.get(j).personTwoId && individual == allContacts.get(j).personOneId) {
+                            pair2Index = j;
+                            break;
+                        }
+                    }
+
+                    // Add selected individuals and pairs in the gathering
+                    if (pair1Index != -1 && pair2Index != -1) {
+                        if (!allContacts.get(pair1Index).isInGathering && !allContacts.get(pair2Index).isInGathering) {
+                            currentGatheringPairs.addLast(allContacts.get(pair1Index));
+                            currentGatheringPairs.addLast(allContacts.get(pair2Index));
+                            currentGatheringsQueue.addLast(allContacts.get(pair1Index));
+                            currentGatheringsQueue.addLast(allContacts.get(pair2Index));
+                            currentGatheringIndividuals.add(individual);
+                            allContacts.get(pair1Index).isInGathering = true;
+                            allContacts.get(pair2Index).isInGathering = true;
+                        } else if (allContacts.get(pair1Index).isInGathering && !allContacts.get(pair2Index).isInGathering) {
+                            currentGatheringPairs.addLast(allContacts.get(pair2Index));
+                            currentGatheringsQueue.addLast(allContacts.get(pair2Index));
+                            allContacts.get(pair2Index).isInGathering = true;
+                        } else if (!allContacts.get(pair1Index).isInGathering && allContacts.get(pair2Index).isInGathering) {
+                            currentGatheringPairs.addLast(allContacts.get(pair1Index));
+                            currentGatheringsQueue.addLast(allContacts.get(pair1Index));
+                            allContacts.get(pair1Index).isInGathering = true;
+                        }
+                    }
+                }
+            }
+
+            // Add current gathering pairs and individuals in list of all the gatherings.
+            gatherings.add(new Gathering(currentGatheringPairs, currentGatheringIndividuals));
+        }
+
+        int totalGatherings = 0;
+
+        // Logic to find worthy gatherings from all the gatherings.
+        for (Gathering gathering : gatherings) {
+            if (gathering.individuals.size() >= minSize) {
+                final int totalPairsInGathering = gathering.pairs.size();
+                final int totalIndividualsInGathering = gathering.individuals.size();
+                final int totalPossiblePairsInGathering = (totalIndividualsInGathering * (totalIndividualsInGathering - 1)) / 2;
+                if (((float) totalPairsInGathering) / totalPossiblePairsInGathering >= density) {
+                    totalGatherings = totalGatherings + 1;
+                }
+            }
+        }
+
+        // Return total gatherings found.
+        return totalGatherings;
+    }
+
+    /**
+     * {@code Pair} holds two individuals as a pair.
+     *
+     * @author Dhrumil Amish Shah (B00857606)
+     * created on 2021-04-02
+     * @version 1.0.0
+     * @see Gathering
+     * @since 1.0.0
+     */
+    private static class Pair {
+        // personOneId holds id of person one in this pair.
+        final int personOneId;
+
+        // personTwoId holds id of person two in this pair.
+        final int personTwoId;
+
+        // isInGathering holds boolean to indicate whether this pair is grouped in a gathering or not. (Initial value if false)
+        boolean isInGathering;
+
+        /**
+         * Constructs this {@code Pair} with {@code personOneId} and {@code personTwoId}.
+         *
+         * @param personOneId id of person one in this pair.
+         * @param personTwoId id of person two in this pair.
+         */
+        private Pair(int personOneId, int personTwoId) {
+            this.personOneId = personOneId;
+            this.personTwoId = personTwoId;
+            this.isInGathering = false;
+        }
+    }
+
+    /**
+     * {@code Gathering} holds all pairs and individuals of a gathering.
+     *
+     * @author Dhrumil Amish Shah (B00857606)
+     * created on 2021-04-02
+     * @version 1.0.0
+     * @see Pair
+     * @since 1.0.0
+     */
+    private static class Gathering {
+        // pairs holds all the pairs in this gathering.
+        private final LinkedList<Pair> pairs;
+
+        // individuals holds all the individuals in this gathering.
+        private final LinkedHashSet<Integer> individuals;
+
+        /**
+         * Constructs this {@code Gathering} with {@code pairs} and {@code individual}.
+         *
+         * @param pairs       all pairs in this gathering.
+         * @param individuals all individuals in this gathering.
+         */
+        private Gathering(LinkedList<Pair> pairs, LinkedHashSet<Integer> individuals) {
+            this.pairs = pairs;
+            this.individuals = individuals;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+import java.util.function.LongSupplier;
+
+/**
+ * {@code MetricsRegistry} receives the counters, values and timers recorded by {@code Government} and {@code MobileDevice}
+ * so the time spent in each stage of their operations can be diagnosed.
+ * <p>
+ * Metrics are named after the operation and the stage or value recorded, e.g., {@code government.mobileContact.parse}.
+ * Implementations must be safe for use by many threads at once and cheap enough to be called on every operation.
+ * {@link #NONE} records nothing and lets the instrumented code skip measuring.
+ *
+ * @author Dhrumil Amish Shah (B00857606)
+ * created on 2026-10-17
+ * @version 1.1.0
+ * @see InMemoryMetricsRegistry
+ * @see JmxMetricsRegistry
+ * @see OperationTrace
+ * @since 1.1.0
+ */
+public interface MetricsRegistry {
+    /**
+     * Registry recording nothing, used when metrics are disabled.
+     */
+    MetricsRegistry NONE = new MetricsRegistry() {
+        @Override
+        public void increment(String name, long delta) {
+        }
+
+        @Override
+        public void recordValue(String name, long value) {
+        }
+
+        @Override
+        public void recordNanos(String name, long nanos) {
+        }
+
+        @Override
+        public void registerGauge(String name, LongSupplier gauge) {
+        }
+
+        @Override
+        public boolean isEnabled() {
+            return false;
+        }
+    };
+
+    /**
+     * Adds {@code delta} to the counter {@code name}.
+     *
+     * @param name  name of the counter.
+     * @param delta amount added.
+     * @since 1.1.0
+     */
+    void increment(String name, long delta);
+
+    /**
+     * Records {@code value} in the histogram {@code name}, e.g., a payload size or a number of rows.
+     *
+     * @param name  name of the histogram.
+     * @param value value recorded.
+     * @since 1.1.0
+     */
+    void recordValue(String name, long value);
+
+    /**
+     * Records the duration {@code nanos} in the timer {@code name}.
+     *
+     * @param name  name of the timer.
+     * @param nanos duration in nanoseconds.
+     * @since 1.1.0
+     */
+    void recordNanos(String name, long nanos);
+
+    /**
+     * Registers the gauge {@code name} whose value is read from {@code gauge} whenever the metrics are reported.
+     *
+     * @param name  name of the gauge.
+     * @param gauge supplier of the current value.
+     * @since 1.1.0
+     */
+    void registerGauge(String name, LongSupplier gauge);
+
+    /**
+     * Checks whether this registry records metrics, callers skip measuring otherwise.
+     *
+     * @return {@code true} if metrics are recorded otherwise {@code false}.
+     * @since 1.1.0
+     */
+    default boolean isEnabled() {
+        return true;
+    }
+}
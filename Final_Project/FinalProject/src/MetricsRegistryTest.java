@@ -0,0 +1,189 @@
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@DisplayName("Metrics registry test")
+public class MetricsRegistryTest {
+    @DisplayName("Record counters, values, timers and gauges and dump them as CSV")
+    @Test
+    public void inMemoryRegistry() throws IOException {
+        final InMemoryMetricsRegistry metricsRegistry = new InMemoryMetricsRegistry();
+        metricsRegistry.increment("op.errors", 2);
+        metricsRegistry.increment("op.errors", 3);
+        metricsRegistry.recordValue("op.contacts", 10);
+        metricsRegistry.recordValue("op.contacts", 30);
+        metricsRegistry.registerGauge("op.queued", () -> 7);
+        final OperationTrace trace = new OperationTrace(metricsRegistry, "op");
+        trace.endStage("parse");
+        trace.end();
+
+        Assertions.assertEquals(5, metricsRegistry.getCounter("op.errors"));
+        Assertions.assertEquals(0, metricsRegistry.getCounter("op.unknown"));
+        Assertions.assertEquals(20, metricsRegistry.getValues("op.contacts").getMean(), 1e-9);
+        Assertions.assertEquals(1, metricsRegistry.getTimer("op.parse").getCount());
+        Assertions.assertEquals(1, metricsRegistry.getTimer("op.total").getCount());
+        Assertions.assertEquals(7, metricsRegistry.getGauge("op.queued"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> metricsRegistry.getGauge("op.unknown"));
+
+        final StringBuilder csv = new StringBuilder();
+        InMemoryMetricsRegistry.writeCsvHeader(csv);
+        metricsRegistry.writeCsv(csv, 1000);
+        final List<String> lines = csv.toString().lines().collect(Collectors.toList());
+        Assertions.assertEquals("timestamp,type,name,count,mean,p50,p90,p99,max", lines.get(0));
+        Assertions.assertEquals("1000,counter,op.errors,5,,,,,", lines.get(1));
+        Assertions.assertEquals("1000,gauge,op.queued,7,,,,,", lines.get(2));
+        Assertions.assertEquals("1000,value,op.contacts,2,20.000,10.000,30.000,30.000,30.000", lines.get(3));
+        Assertions.assertTrue(lines.get(4).startsWith("1000,timer_ms,op.parse,1,"));
+        Assertions.assertTrue(lines.get(5).startsWith("1000,timer_ms,op.total,1,"));
+
+        // Gauges are kept by a reset.
+        metricsRegistry.reset();
+        Assertions.assertEquals(0, metricsRegistry.getCounter("op.errors"));
+        Assertions.assertEquals(0, metricsRegistry.getTimer("op.total").getCount());
+        Assertions.assertEquals(7, metricsRegistry.getGauge("op.queued"));
+    }
+
+    @DisplayName("Publish the metrics as MBean attributes")
+    @Test
+    public void jmxRegistry() throws Exception {
+        final JmxMetricsRegistry metricsRegistry = new JmxMetricsRegistry("CovidTracker:type=Metrics,name=test");
+        final JmxMetricsRegistry otherMetricsRegistry = new JmxMetricsRegistry("CovidTracker:type=Metrics,name=test");
+        try {
+            Assertions.assertEquals("2", otherMetricsRegistry.getObjectName().getKeyProperty("instance"));
+
+            metricsRegistry.increment("op.errors", 4);
+            metricsRegistry.recordNanos("op.total", 3_000_000);
+            final MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+            Assertions.assertEquals(4L, mBeanServer.getAttribute(metricsRegistry.getObjectName(), "op.errors"));
+            Assertions.assertEquals(1L, mBeanServer.getAttribute(metricsRegistry.getObjectName(), "op.total.count"));
+            Assertions.assertEquals(3.0, (Double) mBeanServer.getAttribute(metricsRegistry.getObjectName(), "op.total.max"), 1e-9);
+            Assertions.assertEquals(7, mBeanServer.getMBeanInfo(metricsRegistry.getObjectName()).getAttributes().length);
+
+            mBeanServer.invoke(metricsRegistry.getObjectName(), "reset", null, null);
+            Assertions.assertEquals(0L, mBeanServer.getAttribute(metricsRegistry.getObjectName(), "op.errors"));
+        } finally {
+            metricsRegistry.unregister();
+            otherMetricsRegistry.unregister();
+        }
+        Assertions.assertFalse(ManagementFactory.getPlatformMBeanServer().isRegistered(metricsRegistry.getObjectName()));
+    }
+
+    @DisplayName("Government and mobile devices record the stages of their operations")
+    @Test
+    public void governmentMetrics() throws IOException {
+        final Path configFile = Files.createTempFile("metrics_government", ".properties");
+        final Path csvFile = Files.createTempFile("metrics", ".csv");
+        final Path journalDirectory = Files.createTempDirectory("metrics_journal");
+        Files.delete(csvFile);
+        Files.writeString(configFile, "contactStore=memory\nmetricsRegistry=memory\nmetricsCsvFile=" +
+                csvFile.toString().replace("\\", "\\\\") + "\n", StandardCharsets.UTF_8);
+        try {
+            try (final Government government = new Government(configFile.toString())) {
+                final InMemoryMetricsRegistry metricsRegistry = (InMemoryMetricsRegistry) government.getMetricsRegistry();
+
+                final Properties mobileDeviceProperties = new Properties();
+                mobileDeviceProperties.setProperty("address", "metrics-address");
+                mobileDeviceProperties.setProperty("deviceName", "metrics-device");
+                try (final MobileDevice mobileDevice = new MobileDevice(mobileDeviceProperties, journalDirectory, government)) {
+                    Assertions.assertTrue(mobileDevice.recordContact("other", 3, 20));
+                    Assertions.assertFalse(mobileDevice.synchronizeData());
+                }
+                Assertions.assertFalse(government.mobileContact("other", "<MobileDevice><ContactsList><Contact><Individual>third</Individual>" +
+                        "<Date>3</Date><Duration>20</Duration></Contact></ContactsList></MobileDevice>"));
+                Assertions.assertThrows(RuntimeException.class, () -> government.mobileContact("other", "<MobileDevice>"));
+                Assertions.assertEquals(0, government.findGatherings(3, 3, 10, 0.5f));
+
+                Assertions.assertEquals(1, metricsRegistry.getTimer("device.recordContact.total").getCount());
+                Assertions.assertEquals(1, metricsRegistry.getTimer("device.synchronizeData.total").getCount());
+                Assertions.assertEquals(1, metricsRegistry.getCounter("device.synchronizeData.batches"));
+                Assertions.assertEquals(2, metricsRegistry.getTimer("government.mobileContact.total").getCount());
+                Assertions.assertEquals(2, metricsRegistry.getTimer("government.mobileContact.lockWait").getCount());
+                Assertions.assertEquals(1, metricsRegistry.getCounter("government.mobileContact.errors"));
+                Assertions.assertEquals(1, metricsRegistry.getValues("government.mobileContact.contacts").getMax());
+                Assertions.assertEquals(2, metricsRegistry.getValues("government.findGatherings.rows").getMax());
+                Assertions.assertEquals(1, metricsRegistry.getTimer("government.findGatherings.count").getCount());
+                Assertions.assertEquals(0, metricsRegistry.getGauge("government.ingestion.queuedRequests"));
+
+                government.dumpMetrics();
+                government.dumpMetrics();
+                final List<String> lines = Files.readAllLines(csvFile, StandardCharsets.UTF_8);
+                Assertions.assertEquals(1, lines.stream().filter(line -> line.startsWith("timestamp,")).count());
+                Assertions.assertTrue(lines.stream().anyMatch(line -> line.contains(",timer_ms,government.mobileContact.parse,2,")));
+            }
+        } finally {
+            Files.deleteIfExists(configFile);
+            Files.deleteIfExists(csvFile);
+            try (final Stream<Path> journalFiles = Files.list(journalDirectory)) {
+                for (Path journalFile : journalFiles.collect(Collectors.toList())) {
+                    Files.delete(journalFile);
+                }
+            }
+            Files.delete(journalDirectory);
+        }
+    }
+
+    @DisplayName("Asynchronous batches whose requests all fail are recorded")
+    @Test
+    public void failedBatchMetrics() throws IOException, InterruptedException {
+        final Path configFile = Files.createTempFile("metrics_government", ".properties");
+        Files.writeString(configFile, "contactStore=memory\nmetricsRegistry=memory\n", StandardCharsets.UTF_8);
+        try (final Government government = new Government(configFile.toString())) {
+            final InMemoryMetricsRegistry metricsRegistry = (InMemoryMetricsRegistry) government.getMetricsRegistry();
+            final CompletableFuture<Boolean> first = government.mobileContactAsync("first", "<MobileDevice>");
+            final CompletableFuture<Boolean> second = government.mobileContactBinaryAsync("second", new byte[]{1, 2, 3});
+            Assertions.assertThrows(CompletionException.class, first::join);
+            Assertions.assertThrows(CompletionException.class, second::join);
+
+            Assertions.assertEquals(2, metricsRegistry.getCounter("government.mobileContactBatch.errors"));
+
+            // The batch ends once its requests are completed.
+            final long deadline = System.currentTimeMillis() + 5000;
+            while (metricsRegistry.getTimer("government.mobileContactBatch.total") == null && System.currentTimeMillis() < deadline) {
+                Thread.sleep(1);
+            }
+            Assertions.assertTrue(metricsRegistry.getTimer("government.mobileContactBatch.total").getCount() >= 1);
+        } finally {
+            Files.deleteIfExists(configFile);
+        }
+    }
+
+    @DisplayName("Closing the government or failing to construct it unregisters its metrics")
+    @Test
+    public void governmentUnregistersMetrics() throws Exception {
+        final Path configFile = Files.createTempFile("metrics_government", ".properties");
+        final MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+        final ObjectName objectNames = new ObjectName("CovidTracker:type=Metrics,name=closeTest,*");
+        try {
+            Files.writeString(configFile, "contactStore=memory\nmetricsRegistry=jmx\nmetricsJmxName=CovidTracker:type=Metrics,name=closeTest\n" +
+                    "gatheringParallel=true\n", StandardCharsets.UTF_8);
+            final Government government = new Government(configFile.toString());
+            final ObjectName objectName = ((JmxMetricsRegistry) government.getMetricsRegistry()).getObjectName();
+            Assertions.assertTrue(mBeanServer.isRegistered(objectName));
+            government.close();
+            Assertions.assertFalse(mBeanServer.isRegistered(objectName));
+            Assertions.assertThrows(RuntimeException.class, () -> government.mobileContactAsync("first", "<MobileDevice></MobileDevice>").join());
+
+            // Registry created before an invalid key is unregistered.
+            Files.writeString(configFile, "contactStore=memory\nmetricsRegistry=jmx\nmetricsJmxName=CovidTracker:type=Metrics,name=closeTest\n" +
+                    "ingestionWorkers=0\n", StandardCharsets.UTF_8);
+            Assertions.assertThrows(RuntimeException.class, () -> new Government(configFile.toString()));
+            Assertions.assertTrue(mBeanServer.queryNames(objectNames, null).isEmpty());
+        } finally {
+            Files.deleteIfExists(configFile);
+        }
+    }
+}
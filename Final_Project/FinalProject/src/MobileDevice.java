@@ -1,29 +1,23 @@
-import org.w3c.dom.Document;
-import org.w3c.dom.Element;
-import org.w3c.dom.NodeList;
-
-import javax.xml.parsers.DocumentBuilderFactory;
-import javax.xml.parsers.ParserConfigurationException;
-import javax.xml.transform.OutputKeys;
-import javax.xml.transform.Transformer;
-import javax.xml.transform.TransformerException;
-import javax.xml.transform.TransformerFactory;
-import javax.xml.transform.dom.DOMSource;
-import javax.xml.transform.stream.StreamResult;
-import java.io.File;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
 import java.io.FileInputStream;
-import java.io.FileOutputStream;
-import java.io.InputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringWriter;
 import java.math.BigInteger;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
-import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Properties;
+import java.util.Set;
 
 /**
  * {@code MobileDevice} performs all functions that a mobile phone would typically do.
@@ -37,23 +31,52 @@ import java.util.Properties;
  * @see Government
  * @since 1.0.0
  */
-public class MobileDevice {
+public class MobileDevice implements AutoCloseable {
     // mobileDeviceProperties holds the configuration properties of this mobile device.
     private final Properties mobileDeviceProperties;
 
     // contactTracer holds the Government instance to perform typical database operations.
     private final Government contactTracer;
 
+    // metricsRegistry holds the registry of the government the operations of this mobile device are timed in.
+    private final MetricsRegistry metricsRegistry;
+
     // mobileDeviceHash holds the device configuration hash of this mobile device.
     private final String mobileDeviceHash;
 
-    // mobileDeviceXMLFile holds the XML file name associated with this mobile device.
-    private final String mobileDeviceXMLFile;
+    // contactJournal holds the local store of the contacts and test hashes waiting to be synchronized.
+    private final ContactJournal contactJournal;
+
+    // testHashes holds the test hashes in the journal, loaded from the journal on the first positive test.
+    private Set<String> testHashes;
+
+    // binarySync holds whether the data is sent to the government in the binary format instead of the XML string.
+    private final boolean binarySync;
+
+    // flushRecords holds the number of pending records which triggers a flush of the journal.
+    private final int flushRecords;
+
+    // flushIntervalNanos holds the age of the oldest pending record which triggers a flush of the journal.
+    private final long flushIntervalNanos;
+
+    // forceJournal holds whether a flush waits until the records reach the storage device.
+    private final boolean forceJournal;
+
+    // firstPendingNanos holds the time at which the oldest pending record was recorded.
+    private long firstPendingNanos;
+
+    // closed holds whether this mobile device has been closed.
+    private boolean closed;
 
     /**
      * Constructs this {@code MobileDevice} with given configuration file {@code configFile}.
      * Configuration file contains this device network address - {@code address} and device name - {@code deviceName}.
      * Each line in configuration file is formatted as key=value where key is either {@code address} or {@code deviceName}.
+     * Configuration file may also contain the optional key {@code syncFormat}, either {@code xml} (default) or {@code binary}.
+     * The optional key {@code durability} sets when recorded data is written to the local journal:
+     * {@code write} (default) writes every record, {@code sync} also waits until every record reaches the storage device and
+     * {@code buffered} keeps records in memory until {@code flushRecords} (default 256) are pending,
+     * the oldest one is {@code flushInterval} (default 1000) milliseconds old, the data is synchronized or this device is closed.
      *
      * @param configFile    configuration file that contains this device configuration details.
      * @param contactTracer contactTracer is the government instance to perform typical database operations.
@@ -62,24 +85,35 @@ public class MobileDevice {
      * @since 1.0.0
      */
     public MobileDevice(String configFile, Government contactTracer) {
-        // Throw exception if configuration file name is invalid.
-        if (configFile == null || configFile.trim().isEmpty()) {
-            throw new IllegalArgumentException("Invalid argument \"configFile\". - \"" + configFile + "\".");
-        }
+        this(loadConfigFile(configFile), Path.of(""), contactTracer);
+    }
 
+    /**
+     * Constructs this {@code MobileDevice} with the configuration properties {@code mobileDeviceProperties}
+     * keeping its journal in {@code journalDirectory}.
+     * It lets simulations create many devices without a configuration file for each of them.
+     *
+     * @param mobileDeviceProperties configuration properties of this device, as in the configuration file.
+     * @param journalDirectory       directory of the journal of this device.
+     * @param contactTracer          contactTracer is the government instance to perform typical database operations.
+     * @throws IllegalArgumentException if arguments passed are illegal or inappropriate.
+     * @throws RuntimeException         if any error occurs while instantiating this mobile device.
+     * @since 1.1.0
+     */
+    MobileDevice(Properties mobileDeviceProperties, Path journalDirectory, Government contactTracer) {
         // Throw exception if government instance is invalid.
         if (contactTracer == null) {
             throw new IllegalArgumentException("Invalid argument \"contactTracer\" - \"null\".");
         }
 
-        // Load configuration file in mobileDeviceProperties.
-        try (final InputStream inputStream = new FileInputStream(configFile)) {
-            mobileDeviceProperties = new Properties();
-            mobileDeviceProperties.load(inputStream);
-        } catch (Exception e) {
-            // Throw exception if error occurs while loading configuration file.
-            throw new RuntimeException(e.getMessage());
+        // Throw exception if configuration properties or journal directory are invalid.
+        if (mobileDeviceProperties == null) {
+            throw new IllegalArgumentException("Invalid argument \"mobileDeviceProperties\" - \"null\".");
         }
+        if (journalDirectory == null) {
+            throw new IllegalArgumentException("Invalid argument \"journalDirectory\" - \"null\".");
+        }
+        this.mobileDeviceProperties = mobileDeviceProperties;
 
         // Throw exception if content in the configuration file is not proper.
         if (!mobileDeviceProperties.containsKey(MobileDeviceConstant.ADDRESS_KEY)) {
@@ -98,15 +132,36 @@ public class MobileDevice {
             throw new RuntimeException("Invalid value for the key \"" + MobileDeviceConstant.DEVICE_NAME_KEY + "\".");
         }
 
+        // Throw exception if the synchronization format is not supported.
+        final String syncFormat = mobileDeviceProperties.getProperty(MobileDeviceConstant.SYNC_FORMAT_KEY, MobileDeviceConstant.SYNC_FORMAT_XML).trim();
+        if (!syncFormat.equals(MobileDeviceConstant.SYNC_FORMAT_XML) && !syncFormat.equals(MobileDeviceConstant.SYNC_FORMAT_BINARY)) {
+            throw new RuntimeException("Invalid value for the key \"" + MobileDeviceConstant.SYNC_FORMAT_KEY + "\".");
+        }
+        binarySync = syncFormat.equals(MobileDeviceConstant.SYNC_FORMAT_BINARY);
+
+        // Throw exception if the durability level is not supported.
+        final String durability = mobileDeviceProperties.getProperty(MobileDeviceConstant.DURABILITY_KEY, MobileDeviceConstant.DURABILITY_WRITE).trim();
+        if (durability.equals(MobileDeviceConstant.DURABILITY_BUFFERED)) {
+            flushRecords = getIntProperty(MobileDeviceConstant.FLUSH_RECORDS_KEY, MobileDeviceConstant.DEFAULT_FLUSH_RECORDS, 1);
+            flushIntervalNanos = getIntProperty(MobileDeviceConstant.FLUSH_INTERVAL_KEY, MobileDeviceConstant.DEFAULT_FLUSH_INTERVAL, 0) * 1_000_000L;
+        } else if (durability.equals(MobileDeviceConstant.DURABILITY_WRITE) || durability.equals(MobileDeviceConstant.DURABILITY_SYNC)) {
+            // Every record is flushed as soon as it is recorded.
+            flushRecords = 1;
+            flushIntervalNanos = 0;
+        } else {
+            throw new RuntimeException("Invalid value for the key \"" + MobileDeviceConstant.DURABILITY_KEY + "\".");
+        }
+        forceJournal = durability.equals(MobileDeviceConstant.DURABILITY_SYNC);
+
         try {
             // Store device hash of this mobile device in mobileDeviceHash.
             mobileDeviceHash = getMobileDeviceHash();
 
-            // Store file name associated to this mobile device in mobileDeviceXMLFile.
-            mobileDeviceXMLFile = mobileDeviceHash + ".xml";
+            // Open the journal associated to this mobile device, truncating a record left partial by a crash.
+            contactJournal = new ContactJournal(journalDirectory.resolve(mobileDeviceHash + MobileDeviceConstant.JOURNAL_FILE_EXTENSION));
 
-            // Create an xml file for with this mobile device.
-            createMobileDeviceXMLFile();
+            // Move the records of the XML file used by previous versions to the journal.
+            importXMLFile(journalDirectory.resolve(mobileDeviceHash + MobileDeviceConstant.XML_FILE_EXTENSION));
         } catch (Exception e) {
             // Throw exception if any error occurs.
             throw new RuntimeException(e.getMessage());
@@ -114,6 +169,33 @@ public class MobileDevice {
 
         // Store government instance in the contactTracer.
         this.contactTracer = contactTracer;
+        this.metricsRegistry = contactTracer.getMetricsRegistry();
+    }
+
+    /**
+     * Loads the configuration properties of a mobile device from {@code configFile}.
+     *
+     * @param configFile configuration file that contains the device configuration details.
+     * @return configuration properties of the device.
+     * @throws IllegalArgumentException if arguments passed are illegal or inappropriate.
+     * @throws RuntimeException         if any error occurs while loading the configuration file.
+     * @since 1.1.0
+     */
+    private static Properties loadConfigFile(String configFile) {
+        // Throw exception if configuration file name is invalid.
+        if (configFile == null || configFile.trim().isEmpty()) {
+            throw new IllegalArgumentException("Invalid argument \"configFile\". - \"" + configFile + "\".");
+        }
+
+        // Load configuration file in mobileDeviceProperties.
+        try (final InputStream inputStream = new FileInputStream(configFile)) {
+            final Properties mobileDeviceProperties = new Properties();
+            mobileDeviceProperties.load(inputStream);
+            return mobileDeviceProperties;
+        } catch (Exception e) {
+            // Throw exception if error occurs while loading configuration file.
+            throw new RuntimeException(e.getMessage());
+        }
     }
 
     /**
@@ -143,54 +225,56 @@ public class MobileDevice {
     }
 
     /**
-     * Stores the XML document into the XML file associated with this mobile device.
+     * Gets the optional integer property {@code key} from the configuration properties.
      *
-     * @param xmlDoc XML document to be stored in file.
-     * @throws TransformerException if any error occurs during the transformation process.
-     * @throws IOException          if any I/O error occurs.
-     * @since 1.0.0
+     * @param key          key of the property.
+     * @param defaultValue value returned if the key is not present.
+     * @param minValue     minimum valid value.
+     * @return value of the property or {@code defaultValue} if the key is not present.
+     * @throws RuntimeException if the value of the property is not an integer greater than or equal to {@code minValue}.
+     * @since 1.1.0
      */
-    private void saveXMLDocInXMLFile(Document xmlDoc) throws TransformerException, IOException {
-        final Transformer tr = TransformerFactory.newInstance().newTransformer();
-        tr.setOutputProperty(OutputKeys.METHOD, "xml");
-        tr.setOutputProperty(OutputKeys.ENCODING, "UTF-8");
-        try (final FileOutputStream fileOutputStream = new FileOutputStream(mobileDeviceXMLFile)) {
-            tr.transform(new DOMSource(xmlDoc), new StreamResult(fileOutputStream));
+    private int getIntProperty(String key, int defaultValue, int minValue) {
+        final String value = mobileDeviceProperties.getProperty(key);
+        if (value == null || value.trim().isEmpty()) {
+            return defaultValue;
         }
+        try {
+            final int intValue = Integer.parseInt(value.trim());
+            if (intValue >= minValue) {
+                return intValue;
+            }
+        } catch (NumberFormatException ignored) {
+        }
+        throw new RuntimeException("Invalid value for the key \"" + key + "\".");
     }
 
     /**
-     * Creates an XML file associated with this mobile device if not exists already.
-     * It stores the contacts made with other mobile devices and positive COVID-19 tests reported in this mobile device.
+     * Moves the contacts and test hashes of the XML file used by previous versions into the journal and deletes the file.
      *
-     * @throws ParserConfigurationException if any error occurs while parsing.
-     * @throws TransformerException         if any error occurs during the transformation process.
-     * @throws IOException                  if any I/O error occurs.
-     * @since 1.0.0
+     * @param xmlFile XML file associated with this mobile device.
+     * @throws IOException        if any I/O error occurs.
+     * @throws XMLStreamException if XML file is invalid.
+     * @since 1.1.0
      */
-    private void createMobileDeviceXMLFile() throws ParserConfigurationException, TransformerException, IOException {
-        // File instance.
-        final File file = new File(mobileDeviceXMLFile);
-
-        // Return if file exists already.
-        if (file.exists() && file.isFile()) {
+    private void importXMLFile(Path xmlFile) throws IOException, XMLStreamException {
+        // Return if there is no XML file.
+        if (!Files.isRegularFile(xmlFile)) {
             return;
         }
 
-        // Create a new XML document.
-        final Document xmlDoc = DocumentBuilderFactory.newInstance().newDocumentBuilder().newDocument();
-
-        final Element mobileDeviceEle = xmlDoc.createElement(MobileDeviceConstant.MOBILE_DEVICE);
-        final Element contactsListEle = xmlDoc.createElement(MobileDeviceConstant.CONTACTS_LIST);
-        final Element testHashesListEle = xmlDoc.createElement(MobileDeviceConstant.TEST_HASHES_LIST);
-
-        mobileDeviceEle.appendChild(contactsListEle);
-        mobileDeviceEle.appendChild(testHashesListEle);
-
-        xmlDoc.appendChild(mobileDeviceEle);
-
-        // Store the XML document in the file associated with this mobile device.
-        saveXMLDocInXMLFile(xmlDoc);
+        try (final ContactInfoReader contactInfoReader = new ContactInfoReader(Files.readString(xmlFile, StandardCharsets.UTF_8))) {
+            int record;
+            while ((record = contactInfoReader.next()) != ContactInfoReader.END) {
+                if (record == ContactInfoReader.TEST_HASH) {
+                    contactJournal.appendTestHash(contactInfoReader.getTestHash());
+                } else {
+                    contactJournal.appendContact(contactInfoReader.getIndividual(), contactInfoReader.getDate(), contactInfoReader.getDuration());
+                }
+            }
+        }
+        contactJournal.flush(true);
+        Files.delete(xmlFile);
     }
 
     /**
@@ -212,7 +296,7 @@ public class MobileDevice {
         }
 
         // Throw exception if date is invalid.
-        if (date < 0) {
+        if (date < 0 || date > ContactStore.MAX_CONTACT_DATE) {
             throw new IllegalArgumentException("Invalid argument \"date\" - " + date + ".");
         }
 
@@ -221,52 +305,25 @@ public class MobileDevice {
             throw new IllegalArgumentException("Invalid argument \"duration\" - " + duration + ".");
         }
 
+        // Throw exception if this mobile device is closed.
+        checkNotClosed();
+
         // Return false if individual is same as this mobile device hash
         if (mobileDeviceHash.equals(individual)) {
             return false;
         }
 
-        // Calculate date (YYYY-MM-DD) from number of days.
-        final String onDate = LocalDate.of(2021, 1, 1)
-                .plusDays(date)
-                .format(DateTimeFormatter.ofPattern("yyyy-MM-dd"));
-
-
-        // Read the XML file associated with this mobile device and parse it into a XML document.
-        final Document xmlDoc;
-        try {
-            xmlDoc = DocumentBuilderFactory.newInstance().newDocumentBuilder().parse(mobileDeviceXMLFile);
-        } catch (Exception e) {
-            throw new RuntimeException(e.getMessage());
-        }
-
-        // Create a new contact, individual, date and duration element.
-        final Element contactEle = xmlDoc.createElement(MobileDeviceConstant.CONTACT);
-
-        final Element individualEle = xmlDoc.createElement(MobileDeviceConstant.INDIVIDUAL);
-        final Element dateEle = xmlDoc.createElement(MobileDeviceConstant.DATE);
-        final Element durationEle = xmlDoc.createElement(MobileDeviceConstant.DURATION);
-
-        individualEle.appendChild(xmlDoc.createTextNode(individual));
-        dateEle.appendChild(xmlDoc.createTextNode(onDate));
-        durationEle.appendChild(xmlDoc.createTextNode(String.valueOf(duration)));
-
-        // Append individual, date and duration to the contact element.
-        contactEle.appendChild(individualEle);
-        contactEle.appendChild(dateEle);
-        contactEle.appendChild(durationEle);
-
-        // Append the contact element to the existing XML document.
-        final NodeList contactsNodeList = xmlDoc.getElementsByTagName(MobileDeviceConstant.CONTACTS_LIST);
-        contactsNodeList.item(0).appendChild(contactEle);
-
-        // Store the XML document in the file associated with this mobile device.
+        // Append the contact to the journal associated with this mobile device.
+        final OperationTrace trace = new OperationTrace(metricsRegistry, MobileDeviceConstant.RECORD_CONTACT_METRIC);
         try {
-            saveXMLDocInXMLFile(xmlDoc);
+            contactJournal.appendContact(individual, date, duration);
+            flushIfDue();
         } catch (Exception e) {
             // Throw exception if any error occurs.
+            trace.fail();
             throw new RuntimeException(e.getMessage());
         }
+        trace.end();
 
         // Return true, contact stored successfully.
         return true;
@@ -288,39 +345,28 @@ public class MobileDevice {
             throw new IllegalArgumentException("Invalid argument \"testHash\". - \"" + testHash + "\".");
         }
 
-        // Read the XML file associated with this mobile device and parse it into a XML document.
-        final Document xmlDoc;
-        try {
-            xmlDoc = DocumentBuilderFactory.newInstance().newDocumentBuilder().parse(mobileDeviceXMLFile);
-        } catch (Exception e) {
-            throw new RuntimeException(e.getMessage());
-        }
-
-        // Check if the testHash is unique.
-        final NodeList existingTestHashesNodeList = xmlDoc.getElementsByTagName(MobileDeviceConstant.TEST_HASH);
-        if (existingTestHashesNodeList != null && existingTestHashesNodeList.getLength() > 0) {
-            for (int i = 0; i < existingTestHashesNodeList.getLength(); ++i) {
-                if (testHash.equals(existingTestHashesNodeList.item(i).getTextContent())) {
-                    // Return false, testHash is not unique
-                    return false;
-                }
-            }
-        }
-
-        // Create a new test hash element.
-        final Element testHashEle = xmlDoc.createElement(MobileDeviceConstant.TEST_HASH);
-        testHashEle.appendChild(xmlDoc.createTextNode(testHash));
-
-        // Append the test hash element to the existing XML document.
-        final NodeList testHashesNodeList = xmlDoc.getElementsByTagName(MobileDeviceConstant.TEST_HASHES_LIST);
-        testHashesNodeList.item(0).appendChild(testHashEle);
+        // Throw exception if this mobile device is closed.
+        checkNotClosed();
 
-        // Store the XML document in the file associated with this mobile device.
+        // Append the test hash to the journal associated with this mobile device if it is unique.
+        final OperationTrace trace = new OperationTrace(metricsRegistry, MobileDeviceConstant.POSITIVE_TEST_METRIC);
         try {
-            saveXMLDocInXMLFile(xmlDoc);
+            if (testHashes == null) {
+                testHashes = loadTestHashes();
+                trace.endStage("loadTestHashes");
+            }
+            if (testHashes.contains(testHash)) {
+                // Return false, testHash is not unique
+                return false;
+            }
+            contactJournal.appendTestHash(testHash);
+            testHashes.add(testHash);
+            flushIfDue();
         } catch (Exception e) {
+            trace.fail();
             throw new RuntimeException(e.getMessage());
         }
+        trace.end();
 
         // Return true, test hash stored successfully.
         return true;
@@ -328,32 +374,292 @@ public class MobileDevice {
 
     /**
      * Synchronizes this mobile device data with the government database periodically.
-     * All information is packaged in an XML string and sent to the government.
+     * All information is packaged in an XML string, or in the binary format if configured, and sent to the government.
+     * Records are sent in batches numbered by the sequence number of their last record and removed once acknowledged.
+     * Batches left by failed synchronizations are sent again first, the government skips those it already stored.
      *
      * @return {@code true} if this mobile device has been near anyone diagnosed with COVID-19 in the 14 days otherwise {@code false}.
      * @throws RuntimeException if any error occurs during execution of this method.
      * @since 1.0.0
      */
     public boolean synchronizeData() {
+        // Throw exception if this mobile device is closed.
+        checkNotClosed();
+
+        final OperationTrace trace = new OperationTrace(metricsRegistry, MobileDeviceConstant.SYNCHRONIZE_DATA_METRIC);
         try {
-            // Read the XML into string.
-            final String contactInfoXML = Files.readString(Path.of(mobileDeviceXMLFile), StandardCharsets.UTF_8);
+            // End the batch of the records recorded since the last synchronization and write it.
+            contactJournal.endBatch();
+            flush();
+
+            // Send the batches in the order they were ended, the government is called even if there are none.
+            boolean covidContact = false;
+            SyncBatch syncBatch = readFirstBatch();
+            trace.endStage("readBatch");
+            do {
+                trace.recordValue("contacts", syncBatch.dailyContacts.size());
+                if (binarySync) {
+                    final byte[] contactInfo = toBinaryContactInfo(syncBatch);
+                    trace.recordValue("payloadBytes", contactInfo.length);
+                    trace.endStage("encode");
+                    covidContact = contactTracer.mobileContactBinary(mobileDeviceHash, contactInfo) || covidContact;
+                } else {
+                    final String contactInfo = toContactInfoXML(syncBatch);
+                    trace.recordValue("payloadChars", contactInfo.length());
+                    trace.endStage("encode");
+                    covidContact = contactTracer.mobileContact(mobileDeviceHash, contactInfo) || covidContact;
+                }
+                trace.endStage("send");
+                trace.increment("batches", 1);
+
+                // Remove the batch acknowledged from the journal, the test hashes are loaded again when needed.
+                if (syncBatch.ended) {
+                    contactJournal.removeFirstBatch();
+                    testHashes = null;
+                    syncBatch = readFirstBatch();
+                    trace.endStage("readBatch");
+                }
+            } while (syncBatch.ended);
 
-            // Synchronize this mobile device data with the government database.
-            final boolean covidContact = contactTracer.mobileContact(mobileDeviceHash, contactInfoXML);
+            // Return true if this mobile device has been near anyone diagnosed with COVID-19 in the 14 days otherwise false.
+            trace.end();
+            return covidContact;
+        } catch (Exception e) {
+            trace.fail();
+            throw new RuntimeException(e.getMessage());
+        }
+    }
 
-            final boolean isFileDeleted = new File(mobileDeviceXMLFile).delete();
-            if (isFileDeleted) {
-                createMobileDeviceXMLFile();
+    /**
+     * Reads the test hashes in the journal.
+     *
+     * @return test hashes in the journal.
+     * @throws IOException if the journal cannot be read.
+     * @since 1.1.0
+     */
+    private Set<String> loadTestHashes() throws IOException {
+        final Set<String> journalTestHashes = new HashSet<>();
+        try (final ContactJournal.Reader reader = contactJournal.read()) {
+            int record;
+            while ((record = reader.next()) != ContactInfoReader.END) {
+                if (record == ContactInfoReader.TEST_HASH) {
+                    journalTestHashes.add(reader.getTestHash());
+                }
             }
+        }
+        return journalTestHashes;
+    }
 
-            // Return true if this mobile device has been near anyone diagnosed with COVID-19 in the 14 days otherwise false.
-            return covidContact;
+    /**
+     * Writes the records pending in memory to the local journal.
+     *
+     * @throws RuntimeException if the records cannot be written.
+     * @since 1.1.0
+     */
+    public void flush() {
+        try {
+            contactJournal.flush(forceJournal);
         } catch (Exception e) {
             throw new RuntimeException(e.getMessage());
         }
     }
 
+    /**
+     * Flushes the records pending in memory and closes this mobile device.
+     * Closing a closed mobile device has no effect.
+     *
+     * @throws RuntimeException if the records cannot be written.
+     * @since 1.1.0
+     */
+    @Override
+    public void close() {
+        if (!closed) {
+            flush();
+            closed = true;
+        }
+    }
+
+    /**
+     * Flushes the pending records once there are {@code flushRecords} of them or the oldest one is older than {@code flushInterval}.
+     *
+     * @throws IOException if the records cannot be written.
+     * @since 1.1.0
+     */
+    private void flushIfDue() throws IOException {
+        final int pendingCount = contactJournal.getPendingCount();
+        if (pendingCount == 1) {
+            firstPendingNanos = System.nanoTime();
+        }
+        if (pendingCount >= flushRecords || System.nanoTime() - firstPendingNanos >= flushIntervalNanos) {
+            contactJournal.flush(forceJournal);
+        }
+    }
+
+    /**
+     * Throws an exception if this mobile device has been closed.
+     *
+     * @throws RuntimeException if this mobile device is closed.
+     * @since 1.1.0
+     */
+    private void checkNotClosed() {
+        if (closed) {
+            throw new RuntimeException("Mobile device is closed.");
+        }
+    }
+
+    /**
+     * Compacts a batch of records of the journal into the XML string of this mobile device data.
+     *
+     * @param syncBatch batch of records to be sent.
+     * @return XML string of this mobile device data.
+     * @throws IOException        if the journal cannot be read.
+     * @throws XMLStreamException if XML string cannot be written.
+     * @since 1.1.0
+     */
+    private static String toContactInfoXML(SyncBatch syncBatch) throws XMLStreamException {
+        final StringWriter contactInfoXML = new StringWriter();
+        final XMLStreamWriter xmlWriter = XMLOutputFactory.newInstance().createXMLStreamWriter(contactInfoXML);
+        xmlWriter.writeStartDocument();
+        xmlWriter.writeStartElement(MobileDeviceConstant.MOBILE_DEVICE);
+        if (syncBatch.sequence > 0) {
+            xmlWriter.writeAttribute(MobileDeviceConstant.SEQUENCE, String.valueOf(syncBatch.sequence));
+        }
+
+        // Write the contacts of each individual and day.
+        xmlWriter.writeStartElement(MobileDeviceConstant.CONTACTS_LIST);
+        for (DailyContact dailyContact : syncBatch.dailyContacts.values()) {
+            xmlWriter.writeStartElement(MobileDeviceConstant.CONTACT);
+            writeElement(xmlWriter, MobileDeviceConstant.INDIVIDUAL, dailyContact.individual);
+            // Date is sent as the number of days since January 1, 2021.
+            writeElement(xmlWriter, MobileDeviceConstant.DATE, String.valueOf(dailyContact.date));
+            writeElement(xmlWriter, MobileDeviceConstant.DURATION, String.valueOf(dailyContact.duration));
+            xmlWriter.writeEndElement();
+        }
+        xmlWriter.writeEndElement();
+
+        // Write the test hashes in the order they were recorded.
+        xmlWriter.writeStartElement(MobileDeviceConstant.TEST_HASHES_LIST);
+        for (String testHash : syncBatch.testHashes) {
+            writeElement(xmlWriter, MobileDeviceConstant.TEST_HASH, testHash);
+        }
+        xmlWriter.writeEndElement();
+
+        xmlWriter.writeEndElement();
+        xmlWriter.writeEndDocument();
+        xmlWriter.close();
+        return contactInfoXML.toString();
+    }
+
+    /**
+     * Writes an element holding only {@code text}.
+     *
+     * @param xmlWriter writer of the XML string.
+     * @param name      name of the element.
+     * @param text      text of the element.
+     * @throws XMLStreamException if element cannot be written.
+     * @since 1.1.0
+     */
+    private static void writeElement(XMLStreamWriter xmlWriter, String name, String text) throws XMLStreamException {
+        xmlWriter.writeStartElement(name);
+        xmlWriter.writeCharacters(text);
+        xmlWriter.writeEndElement();
+    }
+
+    /**
+     * Compacts a batch of records of the journal into the binary format of this mobile device data.
+     *
+     * @param syncBatch batch of records to be sent.
+     * @return binary contact information.
+     * @since 1.1.0
+     */
+    private static byte[] toBinaryContactInfo(SyncBatch syncBatch) {
+        final BinaryContactInfo.Writer writer = new BinaryContactInfo.Writer().setSequence(syncBatch.sequence);
+        for (DailyContact dailyContact : syncBatch.dailyContacts.values()) {
+            writer.addContact(dailyContact.individual, dailyContact.date, dailyContact.duration);
+        }
+        for (String testHash : syncBatch.testHashes) {
+            writer.addTestHash(testHash);
+        }
+        return writer.toByteArray();
+    }
+
+    /**
+     * Reads the records of the first batch of the journal, summing the durations of the contacts with the same individual on the same day.
+     * A device seeing the same individual many times a day sends a single contact for them.
+     *
+     * @return first batch of the journal, empty if there is none.
+     * @throws IOException if the journal cannot be read.
+     * @since 1.1.0
+     */
+    private SyncBatch readFirstBatch() throws IOException {
+        final SyncBatch syncBatch = new SyncBatch();
+        try (final ContactJournal.Reader reader = contactJournal.read()) {
+            int record;
+            while ((record = reader.next()) != ContactInfoReader.END) {
+                if (record == ContactJournal.BATCH_END) {
+                    syncBatch.sequence = reader.getSequence();
+                    syncBatch.ended = true;
+                    break;
+                }
+                if (record == ContactInfoReader.TEST_HASH) {
+                    syncBatch.testHashes.add(reader.getTestHash());
+                } else {
+                    final DailyContact dailyContact = syncBatch.dailyContacts.computeIfAbsent(reader.getDate() + " " + reader.getIndividual(),
+                            key -> new DailyContact(reader.getIndividual(), reader.getDate()));
+                    // Saturate instead of overflowing, durations are minutes so this is never reached in practice.
+                    dailyContact.duration = (int) Math.min(Integer.MAX_VALUE, (long) dailyContact.duration + reader.getDuration());
+                }
+            }
+        }
+
+        // Records without the end of their batch are sent with the next synchronization.
+        if (!syncBatch.ended) {
+            return new SyncBatch();
+        }
+        return syncBatch;
+    }
+
+    /**
+     * {@code SyncBatch} holds a batch of records of the journal to be sent to the government.
+     *
+     * @author Dhrumil Amish Shah (B00857606)
+     * created on 2026-10-17
+     * @version 1.1.0
+     * @see MobileDevice
+     * @since 1.1.0
+     */
+    private static class SyncBatch {
+        // Contacts of each individual and day in the order they were first recorded.
+        private final Map<String, DailyContact> dailyContacts = new LinkedHashMap<>();
+        private final List<String> testHashes = new ArrayList<>();
+
+        // sequence holds the sequence number of the last record of the batch, 0 if the batch is empty.
+        private long sequence;
+
+        // ended holds whether the batch was read up to its end, so it can be removed once acknowledged.
+        private boolean ended;
+    }
+
+    /**
+     * {@code DailyContact} holds the total duration of the contacts with an individual on a day.
+     *
+     * @author Dhrumil Amish Shah (B00857606)
+     * created on 2026-10-17
+     * @version 1.1.0
+     * @see MobileDevice
+     * @since 1.1.0
+     */
+    private static class DailyContact {
+        private final String individual;
+        private final int date;
+        private int duration;
+
+        private DailyContact(String individual, int date) {
+            this.individual = individual;
+            this.date = date;
+        }
+    }
+
     /**
      * {@code MobileDeviceConstant} holds all the constants used by {@code MobileDevice}.
      *
@@ -367,7 +673,21 @@ public class MobileDevice {
     private static class MobileDeviceConstant {
         private static final String ADDRESS_KEY = "address";
         private static final String DEVICE_NAME_KEY = "deviceName";
+        private static final String SYNC_FORMAT_KEY = "syncFormat";
+        private static final String SYNC_FORMAT_XML = "xml";
+        private static final String SYNC_FORMAT_BINARY = "binary";
+        private static final String DURABILITY_KEY = "durability";
+        private static final String DURABILITY_BUFFERED = "buffered";
+        private static final String DURABILITY_WRITE = "write";
+        private static final String DURABILITY_SYNC = "sync";
+        private static final String FLUSH_RECORDS_KEY = "flushRecords";
+        private static final String FLUSH_INTERVAL_KEY = "flushInterval";
+        private static final int DEFAULT_FLUSH_RECORDS = 256;
+        private static final int DEFAULT_FLUSH_INTERVAL = 1000;
+        private static final String JOURNAL_FILE_EXTENSION = ".journal";
+        private static final String XML_FILE_EXTENSION = ".xml";
         private static final String MOBILE_DEVICE = "MobileDevice";
+        private static final String SEQUENCE = "Sequence";
         private static final String CONTACTS_LIST = "ContactsList";
         private static final String TEST_HASHES_LIST = "TestHashesList";
         private static final String CONTACT = "Contact";
@@ -375,5 +695,8 @@ public class MobileDevice {
         private static final String DATE = "Date";
         private static final String DURATION = "Duration";
         private static final String TEST_HASH = "TestHash";
+        private static final String RECORD_CONTACT_METRIC = "device.recordContact";
+        private static final String POSITIVE_TEST_METRIC = "device.positiveTest";
+        private static final String SYNCHRONIZE_DATA_METRIC = "device.synchronizeData";
     }
 }
\ No newline at end of file
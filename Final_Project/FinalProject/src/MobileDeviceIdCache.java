@@ -0,0 +1,186 @@
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * {@code MobileDeviceIdCache} keeps the ids of the most recently used mobile device configuration hashes.
+ * It is a least recently used cache bounded to {@code capacity} entries, a capacity of 0 disables it.
+ * Entries must only be added once the rows they refer to are committed.
+ *
+ * @author Dhrumil Amish Shah (B00857606)
+ * created on 2026-10-17
+ * @version 1.1.0
+ * @see Government
+ * @since 1.1.0
+ */
+public class MobileDeviceIdCache {
+    // capacity holds the maximum number of cached ids.
+    private final int capacity;
+
+    // mobileDeviceIds holds the cached ids by device hash in access order.
+    private final LinkedHashMap<String, Integer> mobileDeviceIds;
+
+    // Counters of the lookups.
+    private long hits;
+    private long misses;
+
+    /**
+     * Constructs this {@code MobileDeviceIdCache} holding at most {@code capacity} ids.
+     *
+     * @param capacity maximum number of cached ids. (0 to disable the cache)
+     * @throws IllegalArgumentException if arguments passed are illegal or inappropriate.
+     * @since 1.1.0
+     */
+    public MobileDeviceIdCache(int capacity) {
+        // Throw exception if capacity is invalid.
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Invalid argument \"capacity\" - " + capacity + ".");
+        }
+        this.capacity = capacity;
+        this.mobileDeviceIds = new LinkedHashMap<>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Integer> eldest) {
+                return size() > MobileDeviceIdCache.this.capacity;
+            }
+        };
+    }
+
+    /**
+     * Gets the cached id of {@code mobileDeviceHash}.
+     *
+     * @param mobileDeviceHash mobile device configuration hash.
+     * @return id of the mobile device or {@code null} if it is not cached.
+     * @since 1.1.0
+     */
+    public synchronized Integer get(String mobileDeviceHash) {
+        final Integer mobileDeviceId = mobileDeviceIds.get(mobileDeviceHash);
+        if (mobileDeviceId == null) {
+            misses = misses + 1;
+        } else {
+            hits = hits + 1;
+        }
+        return mobileDeviceId;
+    }
+
+    /**
+     * Caches the id of {@code mobileDeviceHash}, evicting the least recently used id if the cache is full.
+     *
+     * @param mobileDeviceHash mobile device configuration hash.
+     * @param mobileDeviceId   id of the mobile device.
+     * @since 1.1.0
+     */
+    public synchronized void put(String mobileDeviceHash, int mobileDeviceId) {
+        if (capacity > 0) {
+            mobileDeviceIds.put(mobileDeviceHash, mobileDeviceId);
+        }
+    }
+
+    /**
+     * Caches all the ids of {@code mobileDeviceIds}.
+     *
+     * @param mobileDeviceIds ids of the mobile devices by device hash.
+     * @since 1.1.0
+     */
+    public synchronized void putAll(Map<String, Integer> mobileDeviceIds) {
+        for (Map.Entry<String, Integer> entry : mobileDeviceIds.entrySet()) {
+            put(entry.getKey(), entry.getValue());
+        }
+    }
+
+    /**
+     * Removes all the cached ids.
+     *
+     * @since 1.1.0
+     */
+    public synchronized void clear() {
+        mobileDeviceIds.clear();
+    }
+
+    /**
+     * Gets the maximum number of cached ids.
+     *
+     * @return maximum number of cached ids.
+     * @since 1.1.0
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Gets a snapshot of the cache metrics.
+     *
+     * @return cache metrics.
+     * @since 1.1.0
+     */
+    public synchronized Metrics getMetrics() {
+        return new Metrics(mobileDeviceIds.size(), capacity, hits, misses);
+    }
+
+    /**
+     * {@code Metrics} holds a point in time snapshot of the {@code MobileDeviceIdCache} metrics.
+     *
+     * @author Dhrumil Amish Shah (B00857606)
+     * created on 2026-10-17
+     * @version 1.1.0
+     * @see MobileDeviceIdCache
+     * @since 1.1.0
+     */
+    public static class Metrics {
+        private final int size;
+        private final int capacity;
+        private final long hits;
+        private final long misses;
+
+        private Metrics(int size, int capacity, long hits, long misses) {
+            this.size = size;
+            this.capacity = capacity;
+            this.hits = hits;
+            this.misses = misses;
+        }
+
+        /**
+         * @return number of cached ids.
+         */
+        public int getSize() {
+            return size;
+        }
+
+        /**
+         * @return maximum number of cached ids.
+         */
+        public int getCapacity() {
+            return capacity;
+        }
+
+        /**
+         * @return number of lookups served from the cache.
+         */
+        public long getHits() {
+            return hits;
+        }
+
+        /**
+         * @return number of lookups not found in the cache.
+         */
+        public long getMisses() {
+            return misses;
+        }
+
+        /**
+         * @return fraction of lookups served from the cache.
+         */
+        public double getHitRatio() {
+            return hits + misses == 0 ? 0 : (double) hits / (hits + misses);
+        }
+
+        @Override
+        public String toString() {
+            return "size=" + size +
+                    ", capacity=" + capacity +
+                    ", hits=" + hits +
+                    ", misses=" + misses +
+                    ", hitRatio=" + getHitRatio();
+        }
+    }
+}
@@ -0,0 +1,42 @@
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+@DisplayName("Mobile device id cache test")
+public class MobileDeviceIdCacheTest {
+    @DisplayName("Least recently used ids are evicted and lookups are counted")
+    @Test
+    public void evictLeastRecentlyUsed() {
+        final MobileDeviceIdCache cache = new MobileDeviceIdCache(2);
+        cache.put("a", 1);
+        cache.put("b", 2);
+
+        // "a" is used so "b" is the least recently used when "c" is added.
+        Assertions.assertEquals(1, cache.get("a"));
+        cache.putAll(Map.of("c", 3));
+        Assertions.assertNull(cache.get("b"));
+        Assertions.assertEquals(1, cache.get("a"));
+        Assertions.assertEquals(3, cache.get("c"));
+
+        final MobileDeviceIdCache.Metrics metrics = cache.getMetrics();
+        Assertions.assertEquals(2, metrics.getSize());
+        Assertions.assertEquals(3, metrics.getHits());
+        Assertions.assertEquals(1, metrics.getMisses());
+
+        cache.clear();
+        Assertions.assertNull(cache.get("a"));
+        Assertions.assertEquals(0, cache.getMetrics().getSize());
+    }
+
+    @DisplayName("Cache of capacity 0 stores nothing")
+    @Test
+    public void disabledCache() {
+        final MobileDeviceIdCache cache = new MobileDeviceIdCache(0);
+        cache.put("a", 1);
+        Assertions.assertNull(cache.get("a"));
+        Assertions.assertEquals(1, cache.getMetrics().getMisses());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new MobileDeviceIdCache(-1));
+    }
+}
@@ -0,0 +1,102 @@
+/**
+ * {@code OperationTrace} times the stages of one operation and records them in a {@link MetricsRegistry}.
+ * Each stage is timed from the end of the previous stage, or from the start of the operation, and recorded as
+ * {@code operation.stage}, the whole operation being recorded as {@code operation.total} when it ends.
+ * <p>
+ * Nothing is measured when the registry is disabled. A trace is used by a single thread.
+ *
+ * @author Dhrumil Amish Shah (B00857606)
+ * created on 2026-10-17
+ * @version 1.1.0
+ * @see MetricsRegistry
+ * @since 1.1.0
+ */
+public class OperationTrace {
+    // metricsRegistry holds the registry the metrics are recorded in.
+    private final MetricsRegistry metricsRegistry;
+
+    // operation holds the name prefixing the metrics of the operation.
+    private final String operation;
+
+    // enabled holds whether the metrics are recorded.
+    private final boolean enabled;
+
+    // startNanos and stageStartNanos hold when the operation and the current stage started.
+    private final long startNanos;
+    private long stageStartNanos;
+
+    /**
+     * Constructs and starts this {@code OperationTrace} of {@code operation}.
+     *
+     * @param metricsRegistry registry the metrics are recorded in.
+     * @param operation       name prefixing the metrics of the operation.
+     * @since 1.1.0
+     */
+    public OperationTrace(MetricsRegistry metricsRegistry, String operation) {
+        this.metricsRegistry = metricsRegistry;
+        this.operation = operation;
+        this.enabled = metricsRegistry.isEnabled();
+        this.startNanos = enabled ? System.nanoTime() : 0;
+        this.stageStartNanos = startNanos;
+    }
+
+    /**
+     * Records the time spent since the previous stage as {@code operation.stage}.
+     *
+     * @param stage name of the stage ended.
+     * @since 1.1.0
+     */
+    public void endStage(String stage) {
+        if (enabled) {
+            final long now = System.nanoTime();
+            metricsRegistry.recordNanos(operation + "." + stage, now - stageStartNanos);
+            stageStartNanos = now;
+        }
+    }
+
+    /**
+     * Records {@code value} as {@code operation.name}, e.g., the size of the payload handled by the operation.
+     *
+     * @param name  name of the value.
+     * @param value value recorded.
+     * @since 1.1.0
+     */
+    public void recordValue(String name, long value) {
+        if (enabled) {
+            metricsRegistry.recordValue(operation + "." + name, value);
+        }
+    }
+
+    /**
+     * Adds {@code delta} to the counter {@code operation.name}.
+     *
+     * @param name  name of the counter.
+     * @param delta amount added.
+     * @since 1.1.0
+     */
+    public void increment(String name, long delta) {
+        if (enabled) {
+            metricsRegistry.increment(operation + "." + name, delta);
+        }
+    }
+
+    /**
+     * Ends the operation, recording the time spent since it started as {@code operation.total}.
+     *
+     * @since 1.1.0
+     */
+    public void end() {
+        if (enabled) {
+            metricsRegistry.recordNanos(operation + ".total", System.nanoTime() - startNanos);
+        }
+    }
+
+    /**
+     * Ends the operation as failed, counting it in {@code operation.errors}.
+     *
+     * @since 1.1.0
+     */
+    public void fail() {
+        increment("errors", 1);
+    }
+}
@@ -0,0 +1,122 @@
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * {@code ParallelGatheringEngine} splits the contact graph of a date into connected components and
+ * expands the gatherings of different components in parallel on a {@code ForkJoinPool}.
+ * A gathering never spans two components and the pairs of a component keep their relative order,
+ * so it counts the same gatherings as {@link AdjacencyGatheringEngine}.
+ * Small graphs are counted on the calling thread.
+ *
+ * @author Dhrumil Amish Shah (B00857606)
+ * created on 2026-10-17
+ * @version 1.1.0
+ * @see AdjacencyGatheringEngine
+ * @since 1.1.0
+ */
+public class ParallelGatheringEngine implements GatheringEngine {
+    // Graphs or groups of components with fewer pairs than this are counted without forking.
+    private static final int SEQUENTIAL_THRESHOLD = 2048;
+
+    // forkJoinPool holds the pool running the component tasks.
+    private final ForkJoinPool forkJoinPool;
+
+    /**
+     * Constructs this {@code ParallelGatheringEngine} running on {@code forkJoinPool}.
+     *
+     * @param forkJoinPool pool running the component tasks.
+     * @throws IllegalArgumentException if arguments passed are illegal or inappropriate.
+     * @since 1.1.0
+     */
+    public ParallelGatheringEngine(ForkJoinPool forkJoinPool) {
+        if (forkJoinPool == null) {
+            throw new IllegalArgumentException("Invalid argument \"forkJoinPool\" - \"null\".");
+        }
+        this.forkJoinPool = forkJoinPool;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since 1.1.0
+     */
+    @Override
+    public int countGatherings(int[] personOneIds, int[] personTwoIds, int pairCount, int minSize, float density) {
+        final AdjacencyGatheringEngine.ContactGraph graph = new AdjacencyGatheringEngine.ContactGraph(personOneIds, personTwoIds, pairCount);
+        if (graph.pairCount < SEQUENTIAL_THRESHOLD) {
+            return graph.countGatherings(graph.allPairs(), 0, graph.pairCount, minSize, density);
+        }
+
+        final int[][] pairsByComponent = graph.pairsByComponent();
+        return forkJoinPool.invoke(new ComponentTask(graph, pairsByComponent[0], pairsByComponent[1],
+                0, pairsByComponent[1].length - 1, minSize, density));
+    }
+
+    /**
+     * {@code ComponentTask} counts the gatherings of a range of components, splitting the range in two
+     * while it holds more pairs than {@value SEQUENTIAL_THRESHOLD}.
+     *
+     * @author Dhrumil Amish Shah (B00857606)
+     * created on 2026-10-17
+     * @version 1.1.0
+     * @see ParallelGatheringEngine
+     * @since 1.1.0
+     */
+    private static class ComponentTask extends RecursiveTask<Integer> {
+        private static final long serialVersionUID = 1L;
+
+        private final AdjacencyGatheringEngine.ContactGraph graph;
+        private final int[] pairs;
+        private final int[] offsets;
+        private final int fromComponent;
+        private final int toComponent;
+        private final int minSize;
+        private final float density;
+
+        /**
+         * Constructs this {@code ComponentTask} for components {@code [fromComponent, toComponent)}.
+         *
+         * @param graph         contact graph.
+         * @param pairs         pair indices grouped by component.
+         * @param offsets       offset of each component in {@code pairs}.
+         * @param fromComponent first component. (inclusive)
+         * @param toComponent   last component. (exclusive)
+         * @param minSize       minimum number of individuals in a gathering.
+         * @param density       gathering density.
+         */
+        private ComponentTask(AdjacencyGatheringEngine.ContactGraph graph, int[] pairs, int[] offsets,
+                              int fromComponent, int toComponent, int minSize, float density) {
+            this.graph = graph;
+            this.pairs = pairs;
+            this.offsets = offsets;
+            this.fromComponent = fromComponent;
+            this.toComponent = toComponent;
+            this.minSize = minSize;
+            this.density = density;
+        }
+
+        @Override
+        protected Integer compute() {
+            // Count small ranges and single components on this thread.
+            if (toComponent - fromComponent == 1 || offsets[toComponent] - offsets[fromComponent] < SEQUENTIAL_THRESHOLD) {
+                int totalGatherings = 0;
+                for (int c = fromComponent; c < toComponent; ++c) {
+                    totalGatherings = totalGatherings + graph.countGatherings(pairs, offsets[c], offsets[c + 1], minSize, density);
+                }
+                return totalGatherings;
+            }
+
+            // Split the range where it holds about half of the pairs.
+            final int half = offsets[fromComponent] + (offsets[toComponent] - offsets[fromComponent]) / 2;
+            int middle = fromComponent + 1;
+            while (middle < toComponent - 1 && offsets[middle + 1] <= half) {
+                middle = middle + 1;
+            }
+
+            final ComponentTask left = new ComponentTask(graph, pairs, offsets, fromComponent, middle, minSize, density);
+            final ComponentTask right = new ComponentTask(graph, pairs, offsets, middle, toComponent, minSize, density);
+            left.fork();
+            return right.compute() + left.join();
+        }
+    }
+}
@@ -0,0 +1,109 @@
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * {@code StripedLock} guards keys with a fixed number of locks, each key being guarded by the lock of its hash.
+ * Threads working on different keys rarely wait for each other while threads working on the same key are serialized.
+ * <p>
+ * Locks of many keys are always taken in ascending order of their stripe, so two threads locking overlapping keys
+ * in any order cannot deadlock.
+ *
+ * @author Dhrumil Amish Shah (B00857606)
+ * created on 2026-10-17
+ * @version 1.1.0
+ * @see Government
+ * @since 1.1.0
+ */
+public class StripedLock {
+    // locks holds the lock of each stripe.
+    private final ReentrantLock[] locks;
+
+    /**
+     * Constructs this {@code StripedLock} with {@code stripes} locks.
+     *
+     * @param stripes number of locks.
+     * @throws IllegalArgumentException if arguments passed are illegal or inappropriate.
+     * @since 1.1.0
+     */
+    public StripedLock(int stripes) {
+        // Throw exception if stripes is invalid.
+        if (stripes < 1) {
+            throw new IllegalArgumentException("Invalid argument \"stripes\" - " + stripes + ".");
+        }
+
+        locks = new ReentrantLock[stripes];
+        for (int i = 0; i < stripes; ++i) {
+            locks[i] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * Locks the stripes of all the {@code keys} in ascending order, each stripe once.
+     *
+     * @param keys keys to be locked.
+     * @return stripes locked, to be given to {@link #unlock(int[])}.
+     * @since 1.1.0
+     */
+    public int[] lock(List<String> keys) {
+        // Find the distinct stripes in ascending order.
+        final int[] stripes = new int[keys.size()];
+        for (int i = 0; i < stripes.length; ++i) {
+            stripes[i] = getStripe(keys.get(i));
+        }
+        Arrays.sort(stripes);
+        int stripeCount = 0;
+        for (int i = 0; i < stripes.length; ++i) {
+            if (i == 0 || stripes[i] != stripes[i - 1]) {
+                stripes[stripeCount] = stripes[i];
+                stripeCount = stripeCount + 1;
+            }
+        }
+        final int[] lockedStripes = Arrays.copyOf(stripes, stripeCount);
+
+        // Lock the stripes in ascending order, releasing the ones locked already if interrupted.
+        for (int i = 0; i < lockedStripes.length; ++i) {
+            try {
+                locks[lockedStripes[i]].lockInterruptibly();
+            } catch (InterruptedException e) {
+                unlock(Arrays.copyOf(lockedStripes, i));
+                Thread.currentThread().interrupt();
+                throw new RuntimeException("Interrupted while waiting for a device lock.");
+            }
+        }
+        return lockedStripes;
+    }
+
+    /**
+     * Unlocks the {@code stripes} locked by {@link #lock(List)} in descending order.
+     *
+     * @param stripes stripes locked.
+     * @since 1.1.0
+     */
+    public void unlock(int[] stripes) {
+        for (int i = stripes.length - 1; i >= 0; --i) {
+            locks[stripes[i]].unlock();
+        }
+    }
+
+    /**
+     * Gets the number of locks.
+     *
+     * @return number of locks.
+     * @since 1.1.0
+     */
+    public int getStripeCount() {
+        return locks.length;
+    }
+
+    /**
+     * Gets the stripe guarding {@code key}.
+     *
+     * @param key key to be locked.
+     * @return stripe of the key.
+     */
+    private int getStripe(String key) {
+        final int hash = key.hashCode();
+        return Math.floorMod(hash ^ (hash >>> 16), locks.length);
+    }
+}
@@ -0,0 +1,70 @@
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+@DisplayName("Striped lock test")
+public class StripedLockTest {
+    @DisplayName("Lock each stripe once and in ascending order")
+    @Test
+    public void lockStripes() {
+        final StripedLock stripedLock = new StripedLock(4);
+        final int[] stripes = stripedLock.lock(List.of("d", "c", "b", "a", "d", "c", "b", "a"));
+        Assertions.assertTrue(stripes.length <= 4);
+        for (int i = 1; i < stripes.length; ++i) {
+            Assertions.assertTrue(stripes[i - 1] < stripes[i]);
+        }
+        stripedLock.unlock(stripes);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new StripedLock(0));
+    }
+
+    @DisplayName("Overlapping keys locked in any order by many threads neither deadlock nor run at once")
+    @Test
+    public void overlappingKeys() throws Exception {
+        final StripedLock stripedLock = new StripedLock(16);
+        final int[] counters = new int[32];
+        final ExecutorService executor = Executors.newFixedThreadPool(16);
+        final List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < 16; ++t) {
+            final Random random = new Random(t);
+            futures.add(executor.submit(() -> {
+                for (int i = 0; i < 2000; ++i) {
+                    // Lock a few random keys in random order and increment their counters without atomics.
+                    final List<String> keys = new ArrayList<>();
+                    for (int k = 0; k < 4; ++k) {
+                        keys.add("key" + random.nextInt(counters.length));
+                    }
+                    Collections.shuffle(keys, random);
+                    final int[] stripes = stripedLock.lock(keys);
+                    try {
+                        for (String key : keys) {
+                            final int index = Integer.parseInt(key.substring(3));
+                            counters[index] = counters[index] + 1;
+                        }
+                    } finally {
+                        stripedLock.unlock(stripes);
+                    }
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // Every increment is kept.
+        int total = 0;
+        for (int counter : counters) {
+            total = total + counter;
+        }
+        Assertions.assertEquals(16 * 2000 * 4, total);
+    }
+}
@@ -0,0 +1,126 @@
+/**
+ * {@code TestResult} holds a COVID-19 test result delivered by a lab, identified by the alphanumeric string {@code testHash},
+ * which had a collection taken up on {@code date} and {@code result} positive or negative.
+ *
+ * @author Dhrumil Amish Shah (B00857606)
+ * created on 2026-10-17
+ * @version 1.1.0
+ * @see Government#recordTestResults(java.util.Iterator)
+ * @since 1.1.0
+ */
+public class TestResult {
+    private final String testHash;
+    private final int date;
+    private final boolean result;
+
+    /**
+     * Constructs this {@code TestResult}.
+     *
+     * @param testHash alphanumeric string that identifies the COVID-19 test.
+     * @param date     number of days since January 1, 2021.
+     * @param result   positive or negative COVID-19 test.
+     * @throws IllegalArgumentException if arguments passed are illegal or inappropriate.
+     * @since 1.1.0
+     */
+    public TestResult(String testHash, int date, boolean result) {
+        // Throw exception if testHash is invalid.
+        if (testHash == null || testHash.trim().isEmpty()) {
+            throw new IllegalArgumentException("Invalid argument \"testHash\". - \"" + testHash + "\".");
+        }
+
+        // Throw exception if date is invalid.
+        if (date < 0) {
+            throw new IllegalArgumentException("Invalid argument \"date\" - " + date + ".");
+        }
+
+        this.testHash = testHash;
+        this.date = date;
+        this.result = result;
+    }
+
+    /**
+     * Parses a {@code TestResult} from a CSV line formatted as testHash,date,result
+     * where date is the number of days since January 1, 2021 and result is either {@code true} or {@code false}.
+     *
+     * @param line CSV line to be parsed.
+     * @return test result of the line.
+     * @throws IllegalArgumentException if the line is not a valid test result.
+     * @since 1.1.0
+     */
+    public static TestResult parseCsv(String line) {
+        final String[] fields = line.split(",", -1);
+        if (fields.length != 3) {
+            throw new IllegalArgumentException("Invalid test result - \"" + line + "\".");
+        }
+
+        final int date;
+        try {
+            date = Integer.parseInt(fields[1].trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid test result date - \"" + line + "\".");
+        }
+
+        final String result = fields[2].trim();
+        if (!result.equalsIgnoreCase("true") && !result.equalsIgnoreCase("false")) {
+            throw new IllegalArgumentException("Invalid test result - \"" + line + "\".");
+        }
+        return new TestResult(fields[0].trim(), date, result.equalsIgnoreCase("true"));
+    }
+
+    public String getTestHash() {
+        return testHash;
+    }
+
+    public int getDate() {
+        return date;
+    }
+
+    public boolean getResult() {
+        return result;
+    }
+
+    /**
+     * {@code LoadReport} holds the number of test results inserted and ignored by a bulk load.
+     *
+     * @author Dhrumil Amish Shah (B00857606)
+     * created on 2026-10-17
+     * @version 1.1.0
+     * @see Government#recordTestResults(java.util.Iterator)
+     * @since 1.1.0
+     */
+    public static class LoadReport {
+        private final long inserted;
+        private final long ignored;
+
+        /**
+         * Constructs this {@code LoadReport}.
+         *
+         * @param inserted number of test results inserted.
+         * @param ignored  number of test results ignored as duplicates.
+         * @since 1.1.0
+         */
+        public LoadReport(long inserted, long ignored) {
+            this.inserted = inserted;
+            this.ignored = ignored;
+        }
+
+        /**
+         * @return number of test results inserted.
+         */
+        public long getInserted() {
+            return inserted;
+        }
+
+        /**
+         * @return number of test results ignored as duplicates.
+         */
+        public long getIgnored() {
+            return ignored;
+        }
+
+        @Override
+        public String toString() {
+            return "inserted=" + inserted + ", ignored=" + ignored;
+        }
+    }
+}
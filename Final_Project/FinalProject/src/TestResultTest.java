@@ -0,0 +1,31 @@
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Test result CSV parsing test")
+public class TestResultTest {
+    @DisplayName("Parse valid CSV lines")
+    @Test
+    public void parseValidLines() {
+        final TestResult positive = TestResult.parseCsv("t1,12,true");
+        Assertions.assertEquals("t1", positive.getTestHash());
+        Assertions.assertEquals(12, positive.getDate());
+        Assertions.assertTrue(positive.getResult());
+
+        final TestResult negative = TestResult.parseCsv(" t2 , 0 , FALSE ");
+        Assertions.assertEquals("t2", negative.getTestHash());
+        Assertions.assertEquals(0, negative.getDate());
+        Assertions.assertFalse(negative.getResult());
+    }
+
+    @DisplayName("Reject invalid CSV lines")
+    @Test
+    public void rejectInvalidLines() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> TestResult.parseCsv("t1,12"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> TestResult.parseCsv("t1,12,true,extra"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> TestResult.parseCsv(",12,true"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> TestResult.parseCsv("t1,-1,true"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> TestResult.parseCsv("t1,day,true"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> TestResult.parseCsv("t1,12,yes"));
+    }
+}
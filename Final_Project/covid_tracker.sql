@@ -41,13 +41,37 @@ _id INT PRIMARY KEY AUTO_INCREMENT,
     FOREIGN KEY(person_two_id) REFERENCES mobile_device(_id)
 );
 
+# CREATES "exposure" TABLE.
+# HOLDS CONTACTS WITH SOMEONE DIAGNOSED WITH COVID-19 WITHIN 14 DAYS WHICH ARE NOT NOTIFIED YET.
+CREATE TABLE IF NOT EXISTS exposure(
+	contact_id INT PRIMARY KEY,
+    person_one_id INT NOT NULL,
+    INDEX(person_one_id)
+);
+
+# CREATES COVERING INDEXES FOR THE GATHERING AND EXPOSURE QUERIES.
+CREATE INDEX idx_contact_gathering ON contact(contact_date, person_one_id, person_two_id, contact_duration);
+CREATE INDEX idx_contact_person_one ON contact(person_one_id, contact_notified, person_two_id, contact_date);
+CREATE INDEX idx_contact_person_two ON contact(person_two_id, contact_notified, contact_date, person_one_id);
+CREATE INDEX idx_mobile_device_test_outcome_test ON mobile_device_test_outcome(test_outcome_id, mobile_device_id);
+
+# NOTE: Government migrates the schema on startup and records the versions applied in "schema_version" table.
+# NOTE: Government also partitions "contact" table by weeks of "contact_date" (dropping its foreign keys),
+#       creates the partitions of the upcoming weeks and drops the partitions out of the retention window.
+# NOTE: Government then converts "contact_date" and "test_date" to the number of days since 2021-01-01 (INT).
+# NOTE: Government then merges the contacts of a pair on the same day, summing their durations, and adds
+#       UNIQUE INDEX idx_contact_day ON contact(person_one_id, person_two_id, contact_date) so later ones are merged on insert.
+# NOTE: Government then adds "sync_sequence" BIGINT to "mobile_device", the last batch of records stored for each device.
+
 # DROP ALL TABLES
+# DROP TABLE exposure;
 # DROP TABLE contact;
 # DROP TABLE mobile_device_test_outcome;
 # DROP TABLE test_outcome;
 # DROP TABLE mobile_device;
 
 # TRUNCATE ALL TABLES TO REMOVE ALL RECORDS
+# TRUNCATE TABLE exposure;
 # TRUNCATE TABLE contact;
 # TRUNCATE TABLE mobile_device_test_outcome;
 # TRUNCATE TABLE test_outcome;